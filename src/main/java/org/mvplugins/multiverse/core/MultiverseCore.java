@@ -27,6 +27,7 @@ import org.mvplugins.multiverse.core.economy.MVEconomist;
 import org.mvplugins.multiverse.core.listeners.CoreListener;
 import org.mvplugins.multiverse.core.inject.PluginServiceLocatorFactory;
 import org.mvplugins.multiverse.core.module.MultiverseModule;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
 import org.mvplugins.multiverse.core.utils.StringFormatter;
 import org.mvplugins.multiverse.core.world.WorldManager;
 import org.mvplugins.multiverse.core.world.location.NullSpawnLocation;
@@ -63,6 +64,7 @@ public class MultiverseCore extends MultiverseModule {
     public void onLoad() {
         // Setup our Logging
         Logging.init(this);
+        LazyLogging.refreshDebugLevel();
 
         // Create our DataFolder
         if (!getDataFolder().exists() && !getDataFolder().mkdirs()) {
@@ -1,35 +1,25 @@
 package org.mvplugins.multiverse.core;
 
-import io.vavr.control.Option;
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.OfflinePlayer;
-import org.bukkit.World;
-import org.bukkit.entity.Player;
-import org.bukkit.entity.SpawnCategory;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jvnet.hk2.annotations.Service;
 
-import org.mvplugins.multiverse.core.economy.MVEconomist;
-import org.mvplugins.multiverse.core.utils.REPatterns;
 import org.mvplugins.multiverse.core.utils.StringFormatter;
-import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
-import org.mvplugins.multiverse.core.world.WorldManager;
 
 @Service
 final class PlaceholderExpansionHook extends PlaceholderExpansion {
 
     private final MultiverseCore plugin;
-    private final WorldManager worldManager;
-    private final MVEconomist economist;
+    private final WorldPlaceholderResolver placeholderResolver;
 
     @Inject
-    public PlaceholderExpansionHook(MultiverseCore plugin, WorldManager worldManager, MVEconomist economist) {
+    public PlaceholderExpansionHook(MultiverseCore plugin, WorldPlaceholderResolver placeholderResolver) {
         this.plugin = plugin;
-        this.worldManager = worldManager;
-        this.economist = economist;
+        this.placeholderResolver = placeholderResolver;
     }
 
     @PostConstruct
@@ -67,102 +57,6 @@ final class PlaceholderExpansionHook extends PlaceholderExpansion {
      */
     @Override
     public @Nullable String onRequest(OfflinePlayer offlinePlayer, @NotNull String params) {
-        // Split string in to an Array with underscores
-        String[] paramsArray = REPatterns.UNDERSCORE.split(params, 2);
-
-        // No placeholder defined
-        if (paramsArray.length < 1) {
-            warning("No placeholder defined");
-            return null;
-        }
-
-        final var placeholder = paramsArray[0];
-        Option<LoadedMultiverseWorld> targetWorld;
-
-        // If no world is defined, use the player's world
-        if (paramsArray.length == 1) {
-            if (!offlinePlayer.isOnline()) {
-                return null;
-            }
-            targetWorld = worldManager.getLoadedWorld(((Player)offlinePlayer).getWorld());
-        } else {
-            targetWorld = worldManager.getLoadedWorld(paramsArray[1]);
-        }
-
-        // Fail if world is null
-        return targetWorld.map(world -> getWorldPlaceHolderValue(placeholder, world)).getOrNull();
-    }
-
-    private @Nullable String getWorldPlaceHolderValue(@NotNull String placeholder, @NotNull LoadedMultiverseWorld world) {
-        // Switch to find what specific placeholder we want
-        switch (placeholder.toLowerCase()) {
-            case "alias" -> {
-                return world.getAliasOrName();
-            }
-            case "animalspawn" -> {
-                return String.valueOf(world.getEntitySpawnConfig().getSpawnCategoryConfig(SpawnCategory.ANIMAL).isSpawn());
-            }
-            case "autoheal" -> {
-                return String.valueOf(world.getAutoHeal());
-            }
-            case "blacklist" -> {
-                return String.join(", ", world.getWorldBlacklist());
-            }
-            case "currency" -> {
-                return String.valueOf(world.getCurrency());
-            }
-            case "difficulty" -> {
-                return world.getDifficulty().toString();
-            }
-            case "entryfee" -> {
-                return economist.formatPrice(world.getPrice(), world.getCurrency());
-            }
-            case "environment" -> {
-                return world.getEnvironment().toString().toLowerCase();
-            }
-            case "flight" -> {
-                return String.valueOf(world.isAllowFlight());
-            }
-            case "gamemode" -> {
-                return world.getGameMode().toString().toLowerCase();
-            }
-            case "generator" -> {
-                return world.getGenerator();
-            }
-            case "hunger" -> {
-                return String.valueOf(world.isHunger());
-            }
-            case "monstersspawn" -> {
-                return String.valueOf(world.getEntitySpawnConfig().getSpawnCategoryConfig(SpawnCategory.MONSTER).isSpawn());
-            }
-            case "name" -> {
-                return world.getName();
-            }
-            case "playerlimit" -> {
-                return String.valueOf(world.getPlayerLimit());
-            }
-            case "price" -> {
-                return String.valueOf(world.getPrice());
-            }
-            case "pvp" -> {
-                return String.valueOf(world.getPvp());
-            }
-            case "seed" -> {
-                return String.valueOf(world.getSeed());
-            }
-            case "time" -> {
-                return String.valueOf(world.getBukkitWorld().map(World::getTime).getOrElse(0L));
-            }
-            case "type" -> {
-                return world.getBukkitWorld().map(World::getWorldType).map(Enum::name).getOrElse("null");
-            }
-            case "weather" -> {
-                return String.valueOf(world.isAllowWeather());
-            }
-            default -> {
-                warning("Unknown placeholder: " + placeholder);
-                return null;
-            }
-        }
+        return placeholderResolver.resolve(offlinePlayer, params);
     }
 }
@@ -0,0 +1,204 @@
+package org.mvplugins.multiverse.core;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Option;
+import jakarta.inject.Inject;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.SpawnCategory;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.economy.MVEconomist;
+import org.mvplugins.multiverse.core.utils.REPatterns;
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
+import org.mvplugins.multiverse.core.world.WorldManager;
+
+/**
+ * Resolves the world placeholders of {@link PlaceholderExpansionHook}.
+ * <br/>
+ * Each distinct params string is parsed once into a placeholder and an optional world name. Values that only change
+ * through world properties are cached per world. The listeners drop them when a property of the world changes, when
+ * the world is loaded, unloaded or removed, when the config is reloaded, or when the economy provider changes.
+ */
+@ApiStatus.Internal
+@Service
+public final class WorldPlaceholderResolver {
+
+    private static final int MAX_CACHED_PARAMS = 1024;
+    private static final Object NULL_VALUE = new Object();
+
+    private final WorldManager worldManager;
+    private final MVEconomist economist;
+    private final Map<String, ParsedParams> parsedParams = new ConcurrentHashMap<>();
+    private final Map<String, AtomicReferenceArray<Object>> worldValues = new ConcurrentHashMap<>();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
+    @Inject
+    WorldPlaceholderResolver(WorldManager worldManager, MVEconomist economist) {
+        this.worldManager = worldManager;
+        this.economist = economist;
+    }
+
+    /**
+     * Resolves a placeholder, format: &lt;placeholder&gt;_[world] world is optional.
+     *
+     * @param offlinePlayer Player to get the placeholder for
+     * @param params        Placeholder to get
+     * @return Placeholder value
+     */
+    @Nullable String resolve(@Nullable OfflinePlayer offlinePlayer, @NotNull String params) {
+        ParsedParams parsed = getParsedParams(params);
+        Option<LoadedMultiverseWorld> targetWorld;
+        // If no world is defined, use the player's world
+        if (parsed.worldName() == null) {
+            if (offlinePlayer == null || !offlinePlayer.isOnline()) {
+                return null;
+            }
+            targetWorld = worldManager.getLoadedWorld(((Player) offlinePlayer).getWorld());
+        } else {
+            targetWorld = worldManager.getLoadedWorld(parsed.worldName());
+        }
+        if (targetWorld.isEmpty()) {
+            return null;
+        }
+        if (parsed.placeholder() == null) {
+            Logging.warning("Unknown placeholder: " + parsed.rawPlaceholder());
+            return null;
+        }
+        return getValue(targetWorld.get(), parsed.placeholder());
+    }
+
+    private ParsedParams getParsedParams(String params) {
+        ParsedParams parsed = parsedParams.get(params);
+        if (parsed != null) {
+            return parsed;
+        }
+        if (parsedParams.size() >= MAX_CACHED_PARAMS) {
+            parsedParams.clear();
+        }
+        return parsedParams.computeIfAbsent(params, WorldPlaceholderResolver::parseParams);
+    }
+
+    private static ParsedParams parseParams(String params) {
+        // Split string in to an Array with underscores
+        String[] paramsArray = REPatterns.UNDERSCORE.split(params, 2);
+        return new ParsedParams(
+                Placeholder.fromKey(paramsArray[0]),
+                paramsArray[0],
+                paramsArray.length > 1 ? paramsArray[1] : null);
+    }
+
+    private @Nullable String getValue(LoadedMultiverseWorld world, Placeholder placeholder) {
+        if (!placeholder.cacheable) {
+            return placeholder.getter.get(this, world);
+        }
+        AtomicReferenceArray<Object> values = worldValues.computeIfAbsent(world.getName(),
+                worldName -> new AtomicReferenceArray<>(Placeholder.VALUES.length));
+        Object value = values.get(placeholder.ordinal());
+        if (value == null) {
+            cacheMisses.incrementAndGet();
+            value = Option.<Object>of(placeholder.getter.get(this, world)).getOrElse(NULL_VALUE);
+            values.set(placeholder.ordinal(), value);
+        }
+        return value == NULL_VALUE ? null : (String) value;
+    }
+
+    /**
+     * Drops the cached values of a world.
+     *
+     * @param worldName The name of the world.
+     */
+    public void invalidate(@NotNull String worldName) {
+        worldValues.remove(worldName);
+    }
+
+    /**
+     * Drops the cached values of all worlds.
+     */
+    public void invalidateAll() {
+        worldValues.clear();
+    }
+
+    /**
+     * Gets the number of times a cacheable placeholder value had to be computed because it was not cached. Mainly
+     * for debugging.
+     *
+     * @return The number of cache misses.
+     */
+    long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    private record ParsedParams(
+            @Nullable Placeholder placeholder,
+            @NotNull String rawPlaceholder,
+            @Nullable String worldName) {
+    }
+
+    @FunctionalInterface
+    private interface ValueGetter {
+        @Nullable String get(WorldPlaceholderResolver resolver, LoadedMultiverseWorld world);
+    }
+
+    private enum Placeholder {
+        ALIAS("alias", true, (resolver, world) -> world.getAliasOrName()),
+        ANIMALSPAWN("animalspawn", false, (resolver, world) -> String.valueOf(
+                world.getEntitySpawnConfig().getSpawnCategoryConfig(SpawnCategory.ANIMAL).isSpawn())),
+        AUTOHEAL("autoheal", true, (resolver, world) -> String.valueOf(world.getAutoHeal())),
+        BLACKLIST("blacklist", true, (resolver, world) -> String.join(", ", world.getWorldBlacklist())),
+        CURRENCY("currency", true, (resolver, world) -> String.valueOf(world.getCurrency())),
+        DIFFICULTY("difficulty", true, (resolver, world) -> world.getDifficulty().toString()),
+        ENTRYFEE("entryfee", true, (resolver, world) ->
+                resolver.economist.formatPrice(world.getPrice(), world.getCurrency())),
+        ENVIRONMENT("environment", true, (resolver, world) ->
+                world.getEnvironment().toString().toLowerCase()),
+        FLIGHT("flight", true, (resolver, world) -> String.valueOf(world.isAllowFlight())),
+        GAMEMODE("gamemode", true, (resolver, world) -> world.getGameMode().toString().toLowerCase()),
+        GENERATOR("generator", true, (resolver, world) -> world.getGenerator()),
+        HUNGER("hunger", true, (resolver, world) -> String.valueOf(world.isHunger())),
+        MONSTERSSPAWN("monstersspawn", false, (resolver, world) -> String.valueOf(
+                world.getEntitySpawnConfig().getSpawnCategoryConfig(SpawnCategory.MONSTER).isSpawn())),
+        NAME("name", true, (resolver, world) -> world.getName()),
+        PLAYERLIMIT("playerlimit", true, (resolver, world) -> String.valueOf(world.getPlayerLimit())),
+        PRICE("price", true, (resolver, world) -> String.valueOf(world.getPrice())),
+        PVP("pvp", true, (resolver, world) -> String.valueOf(world.getPvp())),
+        SEED("seed", true, (resolver, world) -> String.valueOf(world.getSeed())),
+        TIME("time", false, (resolver, world) ->
+                String.valueOf(world.getBukkitWorld().map(World::getTime).getOrElse(0L))),
+        TYPE("type", true, (resolver, world) ->
+                world.getBukkitWorld().map(World::getWorldType).map(Enum::name).getOrElse("null")),
+        WEATHER("weather", true, (resolver, world) -> String.valueOf(world.isAllowWeather())),
+        ;
+
+        private static final Placeholder[] VALUES = values();
+        private static final Map<String, Placeholder> BY_KEY = Arrays.stream(VALUES)
+                .collect(Collectors.toUnmodifiableMap(placeholder -> placeholder.key, Function.identity()));
+
+        private final String key;
+        private final boolean cacheable;
+        private final ValueGetter getter;
+
+        Placeholder(String key, boolean cacheable, ValueGetter getter) {
+            this.key = key;
+            this.cacheable = cacheable;
+            this.getter = getter;
+        }
+
+        static @Nullable Placeholder fromKey(String key) {
+            return BY_KEY.get(key.toLowerCase(Locale.ROOT));
+        }
+    }
+}
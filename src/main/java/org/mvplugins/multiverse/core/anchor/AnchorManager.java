@@ -7,17 +7,20 @@
 
 package org.mvplugins.multiverse.core.anchor;
 
-import java.io.File;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import com.dumptruckman.minecraft.util.Logging;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -28,7 +31,10 @@ import org.jetbrains.annotations.Nullable;
 import org.jvnet.hk2.annotations.Service;
 
 import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.destination.DestinationsProvider;
 import org.mvplugins.multiverse.core.teleportation.LocationManipulation;
+import org.mvplugins.multiverse.core.utils.file.AtomicFileWriter;
+import org.mvplugins.multiverse.core.utils.file.WriteBehindSaver;
 import org.mvplugins.multiverse.core.utils.result.Result;
 import org.mvplugins.multiverse.core.world.WorldManager;
 import org.mvplugins.multiverse.core.world.entrycheck.WorldEntryCheckerProvider;
@@ -36,45 +42,70 @@ import org.mvplugins.multiverse.core.world.location.UnloadedWorldLocation;
 
 /**
  * Manages anchors and it's location.
+ * <br/>
+ * Changes to anchors are saved to anchors.yml in the background. Changes made in quick succession are merged into a
+ * single write, and {@link #saveAllAnchors()} writes any pending change right away.
+ * <br/>
+ * Anchors are also indexed by world and position, so location based lookups such as
+ * {@link #getNearestAnchor(Location, Predicate)} only look at anchors near the given location.
  */
 @Service
 public final class AnchorManager {
 
     private static final String ANCHORS_FILE = "anchors.yml";
     private static final String ANCHORS_CONFIG_SECTION = "anchors";
+    private static final long SAVE_DELAY_TICKS = 20;
 
     private final Map<String, MultiverseAnchor> anchors;
+    private final AnchorSpatialIndex anchorIndex;
+    private final Path anchorsFile;
+    private final WriteBehindSaver anchorsSaver;
     private FileConfiguration anchorConfig;
 
     private final Plugin plugin;
     private final LocationManipulation locationManipulation;
     private final WorldEntryCheckerProvider entryCheckerProvider;
     private final WorldManager worldManager;
+    private final Provider<DestinationsProvider> destinationsProvider;
 
     @Inject
     AnchorManager(
             MultiverseCore plugin,
             LocationManipulation locationManipulation,
             WorldEntryCheckerProvider entryCheckerProvider,
-            WorldManager worldManager
+            WorldManager worldManager,
+            Provider<DestinationsProvider> destinationsProvider
     ) {
         this.plugin = plugin;
         this.locationManipulation = locationManipulation;
         this.entryCheckerProvider = entryCheckerProvider;
         this.worldManager = worldManager;
+        this.destinationsProvider = destinationsProvider;
 
         this.anchors = new HashMap<>();
+        this.anchorIndex = new AnchorSpatialIndex();
+        this.anchorsFile = plugin.getDataFolder().toPath().resolve(ANCHORS_FILE);
+        this.anchorsSaver = new WriteBehindSaver(plugin, anchorsFile, this::serializeAnchors, SAVE_DELAY_TICKS);
     }
 
     /**
      * Loads all anchors.
      */
     public Try<Void> loadAnchors() {
+        // Changes not written yet would otherwise be lost, or written over the reloaded file later
+        anchorsSaver.flushPending().onFailure(e ->
+                Logging.warning("Failed to write pending anchor changes before loading: %s", e.getMessage()));
         anchors.clear();
+        anchorIndex.clear();
         return Try.run(() -> {
-            anchorConfig = YamlConfiguration.loadConfiguration(new File(plugin.getDataFolder(), ANCHORS_FILE));
+            AtomicFileWriter.deleteStaleTempFile(anchorsFile);
+            anchorConfig = YamlConfiguration.loadConfiguration(anchorsFile.toFile());
             parseAnchorsFromConfig();
-        });
+        }).andFinally(this::invalidateAnchorDestinations);
+    }
+
+    private void invalidateAnchorDestinations() {
+        destinationsProvider.get().invalidateParsedDestinations();
     }
 
     private void parseAnchorsFromConfig() {
@@ -85,7 +116,9 @@ public final class AnchorManager {
             Location anchorLocation = locationManipulation.stringToLocation(anchorsSection.getString(key, ""));
             if (anchorLocation != null) {
                 Logging.config("Loading anchor:  '%s'...", key);
-                anchors.put(key, new MultiverseAnchor(key, UnloadedWorldLocation.fromLocation(anchorLocation)));
+                MultiverseAnchor anchor = new MultiverseAnchor(key, toAnchorLocation(anchorLocation));
+                anchors.put(key, anchor);
+                anchorIndex.add(anchor);
             } else {
                 Logging.warning("The location for anchor '%s' is INVALID.", key);
             }
@@ -101,16 +134,45 @@ public final class AnchorManager {
     }
 
     /**
-     * Saves all anchors.
+     * Saves all anchors immediately, after any background save that is still being written. Must be called from the
+     * main thread.
      *
      * @return True if all anchors were successfully saved.
      */
     public Try<Void> saveAllAnchors() {
-        return Try.run(() -> anchorConfig.save(new File(plugin.getDataFolder(), ANCHORS_FILE)))
+        return anchorsSaver.flush()
                 .onFailure(failure ->
                         Logging.severe("Failed to save anchors.yml. Please check your file permissions."));
     }
 
+    /**
+     * Requests anchors.yml to be saved in the background.
+     */
+    private void requestSave() {
+        anchorsSaver.requestSave();
+    }
+
+    /**
+     * Serializes the current anchors. Called on the main thread, so the writer thread only sees the returned text.
+     *
+     * @return The content of anchors.yml.
+     */
+    private String serializeAnchors() {
+        if (anchorConfig == null) {
+            throw new IllegalStateException("Anchors are not loaded!");
+        }
+        return anchorConfig.saveToString();
+    }
+
+    /**
+     * Gets the saver that writes anchors.yml. Only for internal use.
+     *
+     * @return The anchors.yml saver.
+     */
+    WriteBehindSaver getAnchorsSaver() {
+        return anchorsSaver;
+    }
+
     /**
      * Gets the {@link Location} associated with an anchor.
      *
@@ -126,7 +188,7 @@ public final class AnchorManager {
      *
      * @param anchorName The name of the anchor.
      * @param location The location of the anchor as string (world:x,y,z:pitch:yaw).
-     * @return True if the anchor was successfully saved.
+     * @return True if the anchor was set. It is saved to anchors.yml in the background.
      */
     public Try<Void> setAnchor(@NotNull String anchorName, @NotNull String location) {
         Location parsed = locationManipulation.stringToLocation(location);
@@ -141,14 +203,22 @@ public final class AnchorManager {
      *
      * @param anchorName The name of the anchor.
      * @param location The {@link Location} of the anchor.
-     * @return True if the anchor was successfully saved.
+     * @return True if the anchor was set. It is saved to anchors.yml in the background.
      */
     public Try<Void> setAnchor(@NotNull String anchorName, @NotNull Location location) {
-        Option.of(anchors.get(anchorName))
-                .peek(anchor -> anchor.setLocation(UnloadedWorldLocation.fromLocation(location)))
-                .onEmpty(() -> anchors.put(anchorName, new MultiverseAnchor(anchorName, UnloadedWorldLocation.fromLocation(location))));
+        MultiverseAnchor anchor = anchors.get(anchorName);
+        if (anchor != null) {
+            anchorIndex.remove(anchor);
+            anchor.setLocation(toAnchorLocation(location));
+        } else {
+            anchor = new MultiverseAnchor(anchorName, toAnchorLocation(location));
+            anchors.put(anchorName, anchor);
+        }
+        anchorIndex.add(anchor);
+        invalidateAnchorDestinations();
         getAnchorsConfigSection().set(anchorName, locationManipulation.locationToString(location));
-        return saveAllAnchors();
+        requestSave();
+        return Try.success(null);
     }
 
     /**
@@ -174,6 +244,105 @@ public final class AnchorManager {
         }
     }
 
+    /**
+     * Gets all anchors in a world. The world does not need to be loaded.
+     *
+     * @param worldName The name of the world.
+     * @return A {@link List} containing the anchors in the world, in no particular order.
+     */
+    public List<MultiverseAnchor> getAnchorsInWorld(@NotNull String worldName) {
+        return anchorIndex.inWorld(worldName);
+    }
+
+    /**
+     * Gets the anchor closest to a location, only considering anchors in the same world.
+     *
+     * @param location  The location to search from.
+     * @param filter    Anchors that do not match are skipped.
+     * @return The closest anchor matching the filter, if any.
+     */
+    public Option<MultiverseAnchor> getNearestAnchor(
+            @NotNull Location location, @NotNull Predicate<MultiverseAnchor> filter) {
+        return Option.of(getWorldName(location))
+                .flatMap(worldName -> anchorIndex.nearest(
+                        worldName, location.getX(), location.getY(), location.getZ(), filter));
+    }
+
+    /**
+     * Gets the anchor closest to a location that the specified {@link Player} can access.
+     *
+     * @param location  The location to search from.
+     * @param player    The {@link Player}, or null to consider all anchors.
+     * @return The closest anchor, if any.
+     */
+    public Option<MultiverseAnchor> getNearestAnchor(@NotNull Location location, @Nullable Player player) {
+        return getNearestAnchor(location, accessFilter(player));
+    }
+
+    /**
+     * Gets the anchor closest to a location that the specified {@link Player} can access and that matches a filter.
+     *
+     * @param location  The location to search from.
+     * @param player    The {@link Player}, or null to consider all anchors.
+     * @param filter    Anchors that do not match are skipped.
+     * @return The closest anchor, if any.
+     */
+    public Option<MultiverseAnchor> getNearestAnchor(
+            @NotNull Location location, @Nullable Player player, @NotNull Predicate<MultiverseAnchor> filter) {
+        return getNearestAnchor(location, accessFilter(player).and(filter));
+    }
+
+    /**
+     * Gets the anchors within a distance of a location, only considering anchors in the same world.
+     *
+     * @param location  The location to search from.
+     * @param radius    The maximum distance from the location.
+     * @param filter    Anchors that do not match are left out.
+     * @return A {@link List} containing the anchors, closest first.
+     */
+    public List<MultiverseAnchor> getAnchorsWithinRadius(
+            @NotNull Location location, double radius, @NotNull Predicate<MultiverseAnchor> filter) {
+        String worldName = getWorldName(location);
+        if (worldName == null) {
+            return List.of();
+        }
+        return anchorIndex.withinRadius(worldName, location.getX(), location.getY(), location.getZ(), radius, filter);
+    }
+
+    /**
+     * Gets the anchors within a distance of a location that the specified {@link Player} can access.
+     *
+     * @param location  The location to search from.
+     * @param radius    The maximum distance from the location.
+     * @param player    The {@link Player}, or null to consider all anchors.
+     * @return A {@link List} containing the anchors, closest first.
+     */
+    public List<MultiverseAnchor> getAnchorsWithinRadius(
+            @NotNull Location location, double radius, @Nullable Player player) {
+        return getAnchorsWithinRadius(location, radius, accessFilter(player));
+    }
+
+    private Predicate<MultiverseAnchor> accessFilter(@Nullable Player player) {
+        if (player == null) {
+            return anchor -> true;
+        }
+        return anchor -> shouldIncludeAnchorForPlayer(anchor, player);
+    }
+
+    private @Nullable String getWorldName(@NotNull Location location) {
+        if (location instanceof UnloadedWorldLocation unloadedWorldLocation) {
+            return unloadedWorldLocation.getWorldName();
+        }
+        World world = location.getWorld();
+        return world == null ? null : world.getName();
+    }
+
+    private UnloadedWorldLocation toAnchorLocation(@NotNull Location location) {
+        // Keep the world name even if the world is not loaded
+        return new UnloadedWorldLocation(getWorldName(location),
+                location.getX(), location.getY(), location.getZ(), location.getYaw(), location.getPitch());
+    }
+
     private List<MultiverseAnchor> getAnchorsForPlayer(@NotNull Player player) {
         return anchors.values().stream()
                 .filter(anchor -> shouldIncludeAnchorForPlayer(anchor, player))
@@ -192,13 +361,16 @@ public final class AnchorManager {
      * Deletes the specified anchor.
      *
      * @param anchor The anchor to delete.
-     * @return True if the anchor was successfully deleted.
+     * @return True if the anchor was deleted. The change is saved to anchors.yml in the background.
      */
     public Try<Void> deleteAnchor(@NotNull MultiverseAnchor anchor) {
-        if (anchors.containsKey(anchor.getName())) {
-            anchors.remove(anchor.getName());
+        MultiverseAnchor removed = anchors.remove(anchor.getName());
+        if (removed != null) {
+            anchorIndex.remove(removed);
+            invalidateAnchorDestinations();
             getAnchorsConfigSection().set(anchor.getName(), null);
-            return saveAllAnchors();
+            requestSave();
+            return Try.success(null);
         }
         return Try.failure(new IllegalArgumentException("Anchor does not exist"));
     }
@@ -0,0 +1,304 @@
+package org.mvplugins.multiverse.core.anchor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import io.vavr.control.Option;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Groups anchors by world and by square grid cell, so location based lookups only look at anchors close to the
+ * query point instead of every anchor.
+ * <br/>
+ * Cells are indexed by the anchor's location when it is added, so anchors must be removed before their location
+ * is changed and added again after.
+ */
+final class AnchorSpatialIndex {
+
+    private static final int CELL_SHIFT = 6;
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    private final Map<String, WorldGrid> worlds = new HashMap<>();
+    private final AtomicLong nearestAnchorsChecked = new AtomicLong();
+
+    /**
+     * Adds an anchor to the index. Anchors without a world are not indexed.
+     *
+     * @param anchor The anchor to add.
+     */
+    void add(@NotNull MultiverseAnchor anchor) {
+        String worldName = anchor.getLocationWorldName();
+        if (worldName == null) {
+            return;
+        }
+        worlds.computeIfAbsent(worldName, ignore -> new WorldGrid()).add(anchor);
+    }
+
+    /**
+     * Removes an anchor from the index, using its current location to find its cell.
+     *
+     * @param anchor The anchor to remove.
+     */
+    void remove(@NotNull MultiverseAnchor anchor) {
+        String worldName = anchor.getLocationWorldName();
+        if (worldName == null) {
+            return;
+        }
+        WorldGrid grid = worlds.get(worldName);
+        if (grid != null && grid.remove(anchor) && grid.size == 0) {
+            worlds.remove(worldName);
+        }
+    }
+
+    /**
+     * Removes all anchors from the index.
+     */
+    void clear() {
+        worlds.clear();
+    }
+
+    /**
+     * Gets all indexed anchors in a world.
+     *
+     * @param worldName The name of the world.
+     * @return A new list with the anchors, in no particular order.
+     */
+    @NotNull List<MultiverseAnchor> inWorld(@NotNull String worldName) {
+        WorldGrid grid = worlds.get(worldName);
+        if (grid == null) {
+            return List.of();
+        }
+        List<MultiverseAnchor> result = new ArrayList<>(grid.size);
+        grid.cells.values().forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Gets the anchors within a radius of a point, closest first.
+     *
+     * @param worldName The name of the world.
+     * @param x         The x coordinate of the point.
+     * @param y         The y coordinate of the point.
+     * @param z         The z coordinate of the point.
+     * @param radius    The maximum distance from the point.
+     * @param filter    Anchors that do not match are left out.
+     * @return A new list with the anchors, sorted by distance.
+     */
+    @NotNull List<MultiverseAnchor> withinRadius(
+            @NotNull String worldName,
+            double x,
+            double y,
+            double z,
+            double radius,
+            @NotNull Predicate<MultiverseAnchor> filter) {
+        WorldGrid grid = worlds.get(worldName);
+        if (grid == null || radius < 0) {
+            return List.of();
+        }
+        double radiusSquared = radius * radius;
+        List<MultiverseAnchor> result = new ArrayList<>();
+        Predicate<MultiverseAnchor> matcher = anchor ->
+                anchor.distanceSquared(x, y, z) <= radiusSquared && filter.test(anchor);
+
+        int minCellX = toCell(x - radius);
+        int maxCellX = toCell(x + radius);
+        int minCellZ = toCell(z - radius);
+        int maxCellZ = toCell(z + radius);
+        long cellsInRange = ((long) maxCellX - minCellX + 1) * ((long) maxCellZ - minCellZ + 1);
+        if (cellsInRange > grid.cells.size()) {
+            // Fewer occupied cells than cells in range, so going through the occupied ones is cheaper
+            grid.cells.values().forEach(cell -> addMatching(cell, matcher, result));
+        } else {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                    List<MultiverseAnchor> cell = grid.cells.get(cellKey(cellX, cellZ));
+                    if (cell != null) {
+                        addMatching(cell, matcher, result);
+                    }
+                }
+            }
+        }
+        result.sort(Comparator.comparingDouble(anchor -> anchor.distanceSquared(x, y, z)));
+        return result;
+    }
+
+    private static void addMatching(
+            List<MultiverseAnchor> cell, Predicate<MultiverseAnchor> matcher, List<MultiverseAnchor> result) {
+        for (MultiverseAnchor anchor : cell) {
+            if (matcher.test(anchor)) {
+                result.add(anchor);
+            }
+        }
+    }
+
+    /**
+     * Gets the anchor closest to a point. Cells are searched in growing rings around the point, stopping once no
+     * cell left can hold an anchor closer than the best one found.
+     *
+     * @param worldName The name of the world.
+     * @param x         The x coordinate of the point.
+     * @param y         The y coordinate of the point.
+     * @param z         The z coordinate of the point.
+     * @param filter    Anchors that do not match are skipped.
+     * @return The closest matching anchor, if any.
+     */
+    @NotNull Option<MultiverseAnchor> nearest(
+            @NotNull String worldName,
+            double x,
+            double y,
+            double z,
+            @NotNull Predicate<MultiverseAnchor> filter) {
+        WorldGrid grid = worlds.get(worldName);
+        if (grid == null) {
+            return Option.none();
+        }
+        int centerX = toCell(x);
+        int centerZ = toCell(z);
+        int maxRing = Math.max(
+                Math.max(centerX - grid.minCellX, grid.maxCellX - centerX),
+                Math.max(centerZ - grid.minCellZ, grid.maxCellZ - centerZ));
+        int firstRing = Math.max(0, Math.max(
+                Math.max(grid.minCellX - centerX, centerX - grid.maxCellX),
+                Math.max(grid.minCellZ - centerZ, centerZ - grid.maxCellZ)));
+
+        Nearest nearest = new Nearest(x, y, z, filter);
+        for (int ring = firstRing; ring <= maxRing; ring++) {
+            if (nearest.anchor != null) {
+                // Every cell in this ring is at least (ring - 1) cells away from the point
+                double minDistance = (double) (ring - 1) * CELL_SIZE;
+                if (minDistance > 0 && minDistance * minDistance >= nearest.distanceSquared) {
+                    break;
+                }
+            }
+            if (8L * ring > grid.cells.size()) {
+                // The ring has more cells than are occupied, so check the remaining occupied cells directly
+                int skipBelow = ring;
+                grid.cells.forEach((key, cell) -> {
+                    if (ringOf(key, centerX, centerZ) >= skipBelow) {
+                        nearest.offerAll(cell);
+                    }
+                });
+                break;
+            }
+            searchRing(grid, centerX, centerZ, ring, nearest);
+        }
+        nearestAnchorsChecked.addAndGet(nearest.checked);
+        return Option.of(nearest.anchor);
+    }
+
+    /**
+     * Gets the number of anchors {@link #nearest(String, double, double, double, Predicate)} compared against the
+     * query point. Mainly for debugging.
+     *
+     * @return The number of anchors checked.
+     */
+    long getNearestAnchorsChecked() {
+        return nearestAnchorsChecked.get();
+    }
+
+    private static void searchRing(WorldGrid grid, int centerX, int centerZ, int ring, Nearest nearest) {
+        if (ring == 0) {
+            nearest.offerAll(grid.cells.get(cellKey(centerX, centerZ)));
+            return;
+        }
+        for (int cellX = centerX - ring; cellX <= centerX + ring; cellX++) {
+            nearest.offerAll(grid.cells.get(cellKey(cellX, centerZ - ring)));
+            nearest.offerAll(grid.cells.get(cellKey(cellX, centerZ + ring)));
+        }
+        for (int cellZ = centerZ - ring + 1; cellZ <= centerZ + ring - 1; cellZ++) {
+            nearest.offerAll(grid.cells.get(cellKey(centerX - ring, cellZ)));
+            nearest.offerAll(grid.cells.get(cellKey(centerX + ring, cellZ)));
+        }
+    }
+
+    private static int ringOf(long key, int centerX, int centerZ) {
+        return Math.max(Math.abs(cellXOf(key) - centerX), Math.abs(cellZOf(key) - centerZ));
+    }
+
+    private static int toCell(double coordinate) {
+        return (int) Math.floor(coordinate) >> CELL_SHIFT;
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static int cellXOf(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int cellZOf(long key) {
+        return (int) key;
+    }
+
+    private static final class WorldGrid {
+        private final Map<Long, List<MultiverseAnchor>> cells = new HashMap<>();
+        private int size;
+        // Bounds only grow until the grid is emptied; they are used to end searches early
+        private int minCellX = Integer.MAX_VALUE;
+        private int maxCellX = Integer.MIN_VALUE;
+        private int minCellZ = Integer.MAX_VALUE;
+        private int maxCellZ = Integer.MIN_VALUE;
+
+        void add(MultiverseAnchor anchor) {
+            int cellX = toCell(anchor.getX());
+            int cellZ = toCell(anchor.getZ());
+            cells.computeIfAbsent(cellKey(cellX, cellZ), ignore -> new ArrayList<>(1)).add(anchor);
+            size++;
+            minCellX = Math.min(minCellX, cellX);
+            maxCellX = Math.max(maxCellX, cellX);
+            minCellZ = Math.min(minCellZ, cellZ);
+            maxCellZ = Math.max(maxCellZ, cellZ);
+        }
+
+        boolean remove(MultiverseAnchor anchor) {
+            long key = cellKey(toCell(anchor.getX()), toCell(anchor.getZ()));
+            List<MultiverseAnchor> cell = cells.get(key);
+            if (cell == null || !cell.remove(anchor)) {
+                return false;
+            }
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+            size--;
+            return true;
+        }
+    }
+
+    private static final class Nearest {
+        private final double x;
+        private final double y;
+        private final double z;
+        private final Predicate<MultiverseAnchor> filter;
+        private @Nullable MultiverseAnchor anchor;
+        private double distanceSquared = Double.MAX_VALUE;
+        private int checked;
+
+        Nearest(double x, double y, double z, Predicate<MultiverseAnchor> filter) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.filter = filter;
+        }
+
+        void offerAll(@Nullable List<MultiverseAnchor> cell) {
+            if (cell == null) {
+                return;
+            }
+            checked += cell.size();
+            for (MultiverseAnchor candidate : cell) {
+                double candidateDistance = candidate.distanceSquared(x, y, z);
+                if (candidateDistance < distanceSquared && filter.test(candidate)) {
+                    anchor = candidate;
+                    distanceSquared = candidateDistance;
+                }
+            }
+        }
+    }
+}
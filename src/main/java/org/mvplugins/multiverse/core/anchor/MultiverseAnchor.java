@@ -36,8 +36,8 @@ public final class MultiverseAnchor {
         return location.toBukkitLocation();
     }
 
-    void setLocation(Location location) {
-        this.location = new UnloadedWorldLocation(location);
+    void setLocation(UnloadedWorldLocation location) {
+        this.location = location;
     }
 
     /**
@@ -51,4 +51,39 @@ public final class MultiverseAnchor {
         }
         return location.getWorld();
     }
+
+    /**
+     * Gets the name of the world of the anchor's location, even if the world is not loaded.
+     *
+     * @return The world name.
+     */
+    @Nullable String getLocationWorldName() {
+        if (location == null) {
+            return null;
+        }
+        return location.getWorldName();
+    }
+
+    double getX() {
+        return location.getX();
+    }
+
+    double getZ() {
+        return location.getZ();
+    }
+
+    /**
+     * Gets the squared distance from the anchor's location to a point, ignoring worlds.
+     *
+     * @param x The x coordinate of the point.
+     * @param y The y coordinate of the point.
+     * @param z The z coordinate of the point.
+     * @return The squared distance.
+     */
+    double distanceSquared(double x, double y, double z) {
+        double dx = location.getX() - x;
+        double dy = location.getY() - y;
+        double dz = location.getZ() - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
 }
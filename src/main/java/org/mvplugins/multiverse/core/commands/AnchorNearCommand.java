@@ -0,0 +1,95 @@
+package org.mvplugins.multiverse.core.commands;
+
+import java.util.List;
+
+import co.aikar.commands.annotation.CommandCompletion;
+import co.aikar.commands.annotation.CommandPermission;
+import co.aikar.commands.annotation.Default;
+import co.aikar.commands.annotation.Description;
+import co.aikar.commands.annotation.Flags;
+import co.aikar.commands.annotation.Optional;
+import co.aikar.commands.annotation.Subcommand;
+import co.aikar.commands.annotation.Syntax;
+import jakarta.inject.Inject;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.anchor.AnchorManager;
+import org.mvplugins.multiverse.core.command.MVCommandIssuer;
+import org.mvplugins.multiverse.core.command.flag.ParsedCommandFlags;
+import org.mvplugins.multiverse.core.command.flags.PageFilterFlags;
+import org.mvplugins.multiverse.core.display.ContentDisplay;
+import org.mvplugins.multiverse.core.display.filters.DefaultContentFilter;
+import org.mvplugins.multiverse.core.display.handlers.PagedSendHandler;
+import org.mvplugins.multiverse.core.display.parsers.ListContentProvider;
+import org.mvplugins.multiverse.core.locale.MVCorei18n;
+import org.mvplugins.multiverse.core.locale.message.Message;
+import org.mvplugins.multiverse.core.teleportation.LocationManipulation;
+
+import static org.mvplugins.multiverse.core.locale.message.MessageReplacement.replace;
+
+@Service
+final class AnchorNearCommand extends CoreCommand {
+
+    private final AnchorManager anchorManager;
+    private final LocationManipulation locationManipulation;
+    private final PageFilterFlags flags;
+
+    @Inject
+    AnchorNearCommand(
+            @NotNull AnchorManager anchorManager,
+            @NotNull LocationManipulation locationManipulation,
+            @NotNull PageFilterFlags flags
+    ) {
+        this.anchorManager = anchorManager;
+        this.locationManipulation = locationManipulation;
+        this.flags = flags;
+    }
+
+    @Subcommand("anchor near")
+    @CommandPermission("multiverse.core.anchor.list")
+    @CommandCompletion("@empty @flags:groupName=" + PageFilterFlags.NAME)
+    @Syntax("[radius] [--page <page>] [--filter <filter>]")
+    @Description("{@@mv-core.anchor.near.description}")
+    void onAnchorNearCommand(
+            MVCommandIssuer issuer,
+
+            @Flags("resolve=issuerOnly")
+            Player player,
+
+            @Optional
+            @Default("100")
+            @Syntax("[radius]")
+            @Description("{@@mv-core.anchor.near.radius.description}")
+            double radius,
+
+            @Optional
+            @Syntax("[--page <page>] [--filter <filter>]")
+            @Description("{@@mv-core.anchor.near.flags.description}")
+            String[] flagArray) {
+        ParsedCommandFlags parsedFlags = flags.parse(flagArray);
+        ContentDisplay.create()
+                .addContent(ListContentProvider.forContent(getAnchorsNear(player, radius)))
+                .withSendHandler(PagedSendHandler.create()
+                        .withHeader(Message.of(MVCorei18n.ANCHOR_NEAR_HEADER, replace("{radius}").with(radius)))
+                        .doPagination(true)
+                        .withTargetPage(parsedFlags.flagValue(flags.page, 1))
+                        .withFilter(parsedFlags.flagValue(flags.filter, DefaultContentFilter.get())))
+                .send(issuer);
+    }
+
+    private List<String> getAnchorsNear(Player player, double radius) {
+        Location location = player.getLocation();
+        return anchorManager.getAnchorsWithinRadius(location, radius, player).stream()
+                .map(anchor -> {
+                    Location anchorLocation = anchor.getLocation();
+                    return "&a%s&7 - &f%s &7(%.1f blocks)".formatted(
+                            anchor.getName(),
+                            locationManipulation.locationToString(anchorLocation),
+                            anchorLocation.distance(location));
+                })
+                .toList();
+    }
+}
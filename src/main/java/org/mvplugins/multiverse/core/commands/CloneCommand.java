@@ -20,6 +20,7 @@ import org.mvplugins.multiverse.core.command.flag.FlagBuilder;
 import org.mvplugins.multiverse.core.command.flag.ParsedCommandFlags;
 import org.mvplugins.multiverse.core.locale.MVCorei18n;
 import org.mvplugins.multiverse.core.locale.message.MessageReplacement.Replace;
+import org.mvplugins.multiverse.core.utils.file.FolderCopier;
 import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
 import org.mvplugins.multiverse.core.world.WorldManager;
 import org.mvplugins.multiverse.core.world.options.CloneWorldOptions;
@@ -68,7 +69,7 @@ class CloneCommand extends CoreCommand {
                 .keepGameRule(!parsedFlags.hasFlag(flags.resetGamerules))
                 .keepWorldBorder(!parsedFlags.hasFlag(flags.resetWorldBorder))
                 .saveBukkitWorld(!parsedFlags.hasFlag(flags.noSave));
-        worldManager.cloneWorld(cloneWorldOptions)
+        worldManager.cloneWorldAsync(cloneWorldOptions, progress -> logCopyProgress(newWorldName, progress))
                 .onSuccess(newWorld -> {
                     Logging.fine("World clone success: " + newWorld);
                     issuer.sendInfo(MVCorei18n.CLONE_SUCCESS, Replace.WORLD.with(newWorld.getName()));
@@ -78,6 +79,14 @@ class CloneCommand extends CoreCommand {
                 });
     }
 
+    private void logCopyProgress(String newWorldName, FolderCopier.CopyProgress progress) {
+        if (progress.filesCopied() % 100 == 0 || progress.filesCopied() == progress.totalFiles()) {
+            Logging.fine("Copied %d/%d files (%d/%d bytes) for world clone %s",
+                    progress.filesCopied(), progress.totalFiles(),
+                    progress.bytesCopied(), progress.totalBytes(), newWorldName);
+        }
+    }
+
     @Service
     private static final class Flags extends FlagBuilder {
 
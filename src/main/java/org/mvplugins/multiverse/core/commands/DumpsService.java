@@ -20,6 +20,7 @@ import org.mvplugins.multiverse.core.command.MVCommandIssuer;
 import org.mvplugins.multiverse.core.event.MVDumpsDebugInfoEvent;
 import org.mvplugins.multiverse.core.utils.FileUtils;
 import org.mvplugins.multiverse.core.utils.StringFormatter;
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
 import org.mvplugins.multiverse.core.world.WorldManager;
 
 @Service
@@ -96,6 +97,9 @@ final class DumpsService {
                 + " - Multiverse-Core Version: " + this.plugin.getDescription().getVersion() + '\n'
                 + " - Bukkit Version: " + this.plugin.getServer().getVersion() + '\n'
                 + " - Loaded Worlds: " + worldManager.getLoadedWorlds() + '\n'
+                + " - Bukkit World Cache Misses: " + worldManager.getLoadedWorlds().stream()
+                        .mapToLong(LoadedMultiverseWorld::getBukkitWorldCacheMisses)
+                        .sum() + '\n'
                 + " - Multiverse Plugins Loaded: " + StringFormatter.joinAnd(MultiverseModulesRegistry.get().getRegisteredPlugins()) + '\n'
                 + " - Multiverse Plugins Count: " + MultiverseModulesRegistry.get().getPluginCount() + '\n';
     }
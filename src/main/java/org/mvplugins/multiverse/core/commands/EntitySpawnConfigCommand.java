@@ -118,6 +118,6 @@ final class EntitySpawnConfigCommand extends CoreCommand {
                 .onFailure(e -> issuer.sendMessage("Unable to set " + property + " to " + value
                         + " for " + spawnCategory.name() + " in " + world.getName() + ": " + e.getMessage()));
 
-        worldManager.saveWorldsConfig();
+        worldManager.requestWorldsConfigSave();
     }
 }
@@ -83,7 +83,7 @@ class ModifyCommand extends CoreCommand {
                     replace("{property}").with(propertyName),
                     Replace.VALUE.with(worldPropertyHandle.getProperty(propertyName).getOrNull()),
                     Replace.WORLD.with(world.getName()));
-            worldManager.saveWorldsConfig();
+            worldManager.requestWorldsConfigSave();
         }).onFailure(exception -> {
             if (propertyValue == null) {
                 issuer.sendMessage(MVCorei18n.MODIFY_FAILURE_NOVALUE,
@@ -42,13 +42,17 @@ final class PurgeAllEntitiesCommand extends CoreCommand {
             SpawnCategory[] spawnCategories
     ) {
         if (spawnCategories == null || spawnCategories.length == 0) {
-            int purgeCount = entityPurger.purgeAllEntities(world);
-            issuer.sendMessage("Successfully purged " + purgeCount + " entities in world " + world.getName() + ".");
+            entityPurger.purgeAllEntitiesIncrementally(world, null).getResult()
+                    .onSuccess(result -> issuer.sendMessage("Successfully purged " + result.entitiesPurged()
+                            + " entities in world " + world.getName() + "."))
+                    .onFailure(failure -> issuer.sendError(failure.getFailureMessage()));
             return;
         }
 
-        int purgeCount = entityPurger.purgeEntities(world, spawnCategories);
-        issuer.sendMessage("Successfully purged " + purgeCount + " entities in world " + world.getName() +
-                " for spawn categories " + StringFormatter.join(List.of(spawnCategories), ", ") + ".");
+        entityPurger.purgeEntitiesIncrementally(world, spawnCategories, null).getResult()
+                .onSuccess(result -> issuer.sendMessage("Successfully purged " + result.entitiesPurged()
+                        + " entities in world " + world.getName() + " for spawn categories "
+                        + StringFormatter.join(List.of(spawnCategories), ", ") + "."))
+                .onFailure(failure -> issuer.sendError(failure.getFailureMessage()));
     }
 }
@@ -32,7 +32,9 @@ final class PurgeEntitiesCommand extends CoreCommand {
             @Syntax("[world]")
             LoadedMultiverseWorld world
     ) {
-        int purgeCount = entityPurger.purgeEntities(world);
-        issuer.sendMessage("Successfully purged " + purgeCount + " entities in world " + world.getName() + ".");
+        entityPurger.purgeEntitiesIncrementally(world, null).getResult()
+                .onSuccess(result -> issuer.sendMessage("Successfully purged " + result.entitiesPurged()
+                        + " entities in world " + world.getName() + "."))
+                .onFailure(failure -> issuer.sendError(failure.getFailureMessage()));
     }
 }
@@ -24,7 +24,6 @@ import org.mvplugins.multiverse.core.command.MVCommandManager;
 import org.mvplugins.multiverse.core.command.flag.CommandFlag;
 import org.mvplugins.multiverse.core.command.flag.ParsedCommandFlags;
 import org.mvplugins.multiverse.core.command.flags.UnsafeFlags;
-import org.mvplugins.multiverse.core.config.CoreConfig;
 import org.mvplugins.multiverse.core.destination.DestinationInstance;
 import org.mvplugins.multiverse.core.locale.MVCorei18n;
 import org.mvplugins.multiverse.core.locale.message.Message;
@@ -36,19 +35,16 @@ import org.mvplugins.multiverse.core.teleportation.TeleportFailureReason;
 @Service
 final class TeleportCommand extends CoreCommand {
 
-    private final CoreConfig config;
     private final CorePermissionsChecker permissionsChecker;
     private final AsyncSafetyTeleporter safetyTeleporter;
     private final UnsafeFlags flags;
 
     @Inject
     TeleportCommand(
-            @NotNull CoreConfig config,
             @NotNull CorePermissionsChecker permissionsChecker,
             @NotNull AsyncSafetyTeleporter safetyTeleporter,
             @NotNull UnsafeFlags flags
     ) {
-        this.config = config;
         this.permissionsChecker = permissionsChecker;
         this.safetyTeleporter = safetyTeleporter;
         this.flags = flags;
@@ -83,9 +79,6 @@ final class TeleportCommand extends CoreCommand {
 
         if (players.length == 1) {
             teleportSinglePlayer(issuer, players[0], destination, parsedFlags);
-        } else if (players.length > config.getConcurrentTeleportLimit()) {
-            issuer.sendError(MVCorei18n.TELEPORT_TOOMANYPLAYERS,
-                    Replace.COUNT.with(config.getConcurrentTeleportLimit()));
         } else {
             teleportMultiplePlayers(issuer, players, destination, parsedFlags);
         }
@@ -3,7 +3,6 @@ package org.mvplugins.multiverse.core.commands;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -18,7 +17,6 @@ import co.aikar.commands.annotation.Syntax;
 import jakarta.inject.Inject;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 import org.jvnet.hk2.annotations.Service;
 
 import org.mvplugins.multiverse.core.command.LegacyAliasCommand;
@@ -97,7 +95,7 @@ class WhoCommand extends CoreCommand {
                 .send(issuer);
     }
 
-    private Message phrasePlayerList(List<Player> players) {
+    private Message phrasePlayerList(Collection<Player> players) {
         return Message.of(players.stream().map(Player::getName).collect(Collectors.joining(", ")));
     }
 
@@ -114,9 +112,9 @@ class WhoCommand extends CoreCommand {
 
         // Add all the worlds to our hashmap
         for (LoadedMultiverseWorld world : worlds) {
-            @Nullable List<Player> players = world.getPlayers().getOrNull();
+            Collection<Player> players = world.getOnlinePlayers();
 
-            if (players != null && !players.isEmpty()) {
+            if (!players.isEmpty()) {
                 outMap.put(world.getAliasOrName(), phrasePlayerList(players));
             } else if (!ignoreEmptyWorlds) {
                 // If the world has 0 players in it, say that it is empty
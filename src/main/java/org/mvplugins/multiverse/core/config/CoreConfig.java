@@ -140,7 +140,7 @@ public final class CoreConfig {
     }
 
     public boolean getAutoImportDefaultWorlds() {
-        return configHandle.get(configNodes.autoImportDefaultWorlds);
+        return configHandle.getBoolean(configNodes.autoImportDefaultWorlds);
     }
 
     public Try<Void> setAutoImport3rdPartyWorlds(boolean autoImport3rdPartyWorlds) {
@@ -148,7 +148,7 @@ public final class CoreConfig {
     }
 
     public boolean getAutoImport3rdPartyWorlds() {
-        return configHandle.get(configNodes.autoImport3rdPartyWorlds);
+        return configHandle.getBoolean(configNodes.autoImport3rdPartyWorlds);
     }
 
     /**
@@ -162,7 +162,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean getEnforceAccess() {
-        return configHandle.get(configNodes.enforceAccess);
+        return configHandle.getBoolean(configNodes.enforceAccess);
     }
 
     /**
@@ -176,7 +176,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean getEnforceGameMode() {
-        return configHandle.get(configNodes.enforceGamemode);
+        return configHandle.getBoolean(configNodes.enforceGamemode);
     }
 
     public Try<Void> setEnforceFlight(boolean enforceFlight) {
@@ -184,7 +184,7 @@ public final class CoreConfig {
     }
 
     public boolean getEnforceFlight() {
-        return configHandle.get(configNodes.enforceFlight);
+        return configHandle.getBoolean(configNodes.enforceFlight);
     }
 
     /**
@@ -198,7 +198,15 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean isAutoPurgeEntities() {
-        return configHandle.get(configNodes.autoPurgeEntities);
+        return configHandle.getBoolean(configNodes.autoPurgeEntities);
+    }
+
+    public Try<Void> setEntityPurgeTickBudget(int entityPurgeTickBudget) {
+        return configHandle.set(configNodes.entityPurgeTickBudget, entityPurgeTickBudget);
+    }
+
+    public int getEntityPurgeTickBudget() {
+        return configHandle.getInt(configNodes.entityPurgeTickBudget);
     }
 
     public Try<Void> setNetherWorldNameFormat(DimensionFormat netherWorldNameFormat) {
@@ -228,7 +236,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean getUseFinerTeleportPermissions() {
-        return configHandle.get(configNodes.useFinerTeleportPermissions);
+        return configHandle.getBoolean(configNodes.useFinerTeleportPermissions);
     }
 
     /**
@@ -242,7 +250,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public int getConcurrentTeleportLimit() {
-        return configHandle.get(configNodes.concurrentTeleportLimit);
+        return configHandle.getInt(configNodes.concurrentTeleportLimit);
     }
 
     /**
@@ -256,7 +264,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean getTeleportIntercept() {
-        return configHandle.get(configNodes.teleportIntercept);
+        return configHandle.getBoolean(configNodes.teleportIntercept);
     }
 
     /**
@@ -277,7 +285,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public int getSafeLocationHorizontalSearchRadius() {
-        return configHandle.get(configNodes.safeLocationHorizontalSearchRadius);
+        return configHandle.getInt(configNodes.safeLocationHorizontalSearchRadius);
     }
 
     /**
@@ -291,14 +299,14 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public int getSafeLocationVerticalSearchRadius() {
-        return configHandle.get(configNodes.safeLocationVerticalSearchRadius);
+        return configHandle.getInt(configNodes.safeLocationVerticalSearchRadius);
     }
 
     /**
      * {@inheritDoc}
      */
     public boolean getFirstSpawnOverride() {
-        return configHandle.get(configNodes.firstSpawnOverride);
+        return configHandle.getBoolean(configNodes.firstSpawnOverride);
     }
 
     /**
@@ -348,7 +356,7 @@ public final class CoreConfig {
     }
 
     public boolean getDefaultRespawnInOverworld() {
-        return configHandle.get(configNodes.defaultRespawnInOverworld);
+        return configHandle.getBoolean(configNodes.defaultRespawnInOverworld);
     }
 
     /**
@@ -362,7 +370,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean getDefaultRespawnWithinSameWorld() {
-        return configHandle.get(configNodes.defaultRespawnWithinSameWorld);
+        return configHandle.getBoolean(configNodes.defaultRespawnWithinSameWorld);
     }
 
     /**
@@ -376,7 +384,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean getEnforceRespawnAtWorldSpawn() {
-        return configHandle.get(configNodes.enforceRespawnAtWorldSpawn);
+        return configHandle.getBoolean(configNodes.enforceRespawnAtWorldSpawn);
     }
 
     /**
@@ -390,7 +398,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean isUsingCustomPortalSearch() {
-        return configHandle.get(configNodes.useCustomPortalSearch);
+        return configHandle.getBoolean(configNodes.useCustomPortalSearch);
     }
 
     /**
@@ -404,7 +412,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public int getCustomPortalSearchRadius() {
-        return configHandle.get(configNodes.customPortalSearchRadius);
+        return configHandle.getInt(configNodes.customPortalSearchRadius);
     }
 
     /**
@@ -418,7 +426,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean isEnablePrefixChat() {
-        return configHandle.get(configNodes.enableChatPrefix);
+        return configHandle.getBoolean(configNodes.enableChatPrefix);
     }
 
     /**
@@ -446,7 +454,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean isRegisterPapiHook() {
-        return configHandle.get(configNodes.registerPapiHook);
+        return configHandle.getBoolean(configNodes.registerPapiHook);
     }
 
     /**
@@ -474,7 +482,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean getPerPlayerLocale() {
-        return configHandle.get(configNodes.perPlayerLocale);
+        return configHandle.getBoolean(configNodes.perPlayerLocale);
     }
 
     /**
@@ -488,7 +496,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean getResolveAliasName() {
-        return configHandle.get(configNodes.resolveAliasName);
+        return configHandle.getBoolean(configNodes.resolveAliasName);
     }
 
     /**
@@ -516,7 +524,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean getUseConfirmOtp() {
-        return configHandle.get(configNodes.useConfirmOtp);
+        return configHandle.getBoolean(configNodes.useConfirmOtp);
     }
 
     public Integer getConfirmTimeout() {
@@ -528,7 +536,7 @@ public final class CoreConfig {
     }
 
     public boolean getShowLegacyAliases() {
-        return configHandle.get(configNodes.showLegacyAliases);
+        return configHandle.getBoolean(configNodes.showLegacyAliases);
     }
 
     public Try<Void> setShowLegacyAliases(boolean showLegacyAliases) {
@@ -586,7 +594,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public int getGlobalDebug() {
-        return configHandle.get(configNodes.globalDebug);
+        return configHandle.getInt(configNodes.globalDebug);
     }
 
     /**
@@ -600,7 +608,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean getDebugPermissions() {
-        return configHandle.get(configNodes.debugPermissions);
+        return configHandle.getBoolean(configNodes.debugPermissions);
     }
 
     /**
@@ -614,7 +622,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean getSilentStart() {
-        return configHandle.get(configNodes.silentStart);
+        return configHandle.getBoolean(configNodes.silentStart);
     }
 
     /**
@@ -628,7 +636,7 @@ public final class CoreConfig {
      * {@inheritDoc}
      */
     public boolean isShowingDonateMessage() {
-        return configHandle.get(configNodes.showDonationMessage);
+        return configHandle.getBoolean(configNodes.showDonationMessage);
     }
 
     /**
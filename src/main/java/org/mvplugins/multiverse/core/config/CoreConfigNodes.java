@@ -25,6 +25,7 @@ import org.mvplugins.multiverse.core.dynamiclistener.EventPriorityMapper;
 import org.mvplugins.multiverse.core.event.MVDebugModeEvent;
 import org.mvplugins.multiverse.core.exceptions.MultiverseException;
 import org.mvplugins.multiverse.core.permissions.PermissionUtils;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
 import org.mvplugins.multiverse.core.world.helpers.DimensionFinder.DimensionFormat;
 
 import java.util.Collection;
@@ -143,6 +144,17 @@ final class CoreConfigNodes {
             .name("auto-purge-entities")
             .build());
 
+    final ConfigNode<Integer> entityPurgeTickBudget = node(ConfigNode.builder("world.entity-purge-tick-budget", Integer.class)
+            .comment("")
+            .comment("The amount of time in milliseconds that purging entities may take each tick.")
+            .comment("Purging a world with many entities is spread over several ticks to avoid lag spikes.")
+            .defaultValue(5)
+            .name("entity-purge-tick-budget")
+            .validator(value -> (value <= 0)
+                    ? Try.failure(new MultiverseException("Entity purge tick budget must be a positive number!"))
+                    : Try.success(null))
+            .build());
+
     private final ConfigHeaderNode worldNameFormat = node(ConfigHeaderNode.builder("world.world-name-format")
             .comment("")
             .comment("Format for world names for multiverse to automatically detect a world group consist of overworld, nether and end.")
@@ -185,9 +197,14 @@ final class CoreConfigNodes {
 
     final ConfigNode<Integer> concurrentTeleportLimit = node(ConfigNode.builder("teleport.concurrent-teleport-limit", Integer.class)
             .comment("")
-            .comment("Sets the maximum number of players allowed to be teleported at once with `/mv teleport` command")
-            .defaultValue(50)
+            .comment("Sets the maximum number of destination chunks loaded at once when teleporting many players,")
+            .comment("e.g. with `/mv teleport` or when unloading a world. Further teleports are queued, and players")
+            .comment("going to the same chunk are teleported together once it has loaded.")
+            .defaultValue(10)
             .name("concurrent-teleport-limit")
+            .validator(value -> (value <= 0)
+                    ? Try.failure(new MultiverseException("Concurrent teleport limit must be a positive number!"))
+                    : Try.success(null))
             .build());
 
     final ConfigNode<Boolean> teleportIntercept = node(ConfigNode.builder("teleport.teleport-intercept", Boolean.class)
@@ -379,6 +396,7 @@ final class CoreConfigNodes {
             .comment("In the event you have multiple worlds with the same alias name, the first world found will be used.")
             .defaultValue(true)
             .name("resolve-alias-name")
+            .onSetValue((oldValue, newValue) -> destinationsProvider.get().invalidateParsedDestinations())
             .build());
 
     final ConfigNode<ConfirmMode> confirmMode = node(ConfigNode.builder("command.confirm-mode", ConfirmMode.class)
@@ -494,7 +512,7 @@ final class CoreConfigNodes {
                     : Try.success(null))
             .onSetValue((oldValue, newValue) -> {
                 if (newValue != Logging.getDebugLevel()) {
-                    Logging.setDebugLevel(newValue);
+                    LazyLogging.setDebugLevel(newValue);
                     pluginManager.callEvent(new MVDebugModeEvent(newValue));
                 }
             })
@@ -1,8 +1,15 @@
 package org.mvplugins.multiverse.core.config.handle;
 
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.dumptruckman.minecraft.util.Logging;
@@ -21,6 +28,15 @@ import org.mvplugins.multiverse.core.config.node.ValueNode;
 
 /**
  * Generic configuration handle for all ConfigurationSection types.
+ * <br/>
+ * Values are stored in arrays indexed by the slot {@link NodeGroup} gives each node. Boolean, int and double values
+ * are also kept in primitive arrays, so {@link #getBoolean(ValueNode)}, {@link #getInt(ValueNode)} and
+ * {@link #getDouble(ValueNode)} can read them without unboxing.
+ * <br/>
+ * Nodes changed through the handle are marked dirty, and {@link #save()} only serializes the dirty nodes into the
+ * configuration. Lists of list nodes mark their node dirty when they are changed in place, other mutable values are
+ * serialized on every save as their changes cannot be seen. After a load everything is serialized once, as
+ * migrations and defaults may have changed the configuration.
  *
  * @param <C>   The configuration type.
  */
@@ -30,18 +46,96 @@ public abstract class BaseConfigurationHandle<C extends ConfigurationSection> {
     protected final @Nullable Logger logger;
     protected final @NotNull NodeGroup nodes;
     protected final @Nullable ConfigMigrator migrator;
-    protected final @NotNull Map<ValueNode, Object> nodeValueMap;
+    protected final @Nullable ValueChangeListener valueChangeListener;
+    protected final @Nullable DefaultValueProvider defaultValueProvider;
+
+    /**
+     * View of the node values of this handle. Putting a value marks the node dirty like
+     * {@link #set(ValueNode, Object)}, but does not validate it or notify anyone.
+     *
+     * @deprecated Values are no longer kept in a map, use {@link #get(ValueNode)} and {@link #set(ValueNode, Object)}.
+     */
+    @Deprecated
+    protected final @NotNull Map<ValueNode, Object> nodeValueMap = new NodeValueMap();
+
+    private Object[] values;
+    private boolean[] booleanValues;
+    private int[] intValues;
+    private double[] doubleValues;
+    private boolean loaded;
+    private final BitSet dirtySlots = new BitSet();
+    private boolean fullSaveNeeded = true;
+    private int lastSavedNodeCount;
 
     protected C config;
 
     protected BaseConfigurationHandle(
             @Nullable Logger logger,
             @NotNull NodeGroup nodes,
-            @Nullable ConfigMigrator migrator) {
+            @Nullable ConfigMigrator migrator,
+            @Nullable ValueChangeListener valueChangeListener,
+            @Nullable DefaultValueProvider defaultValueProvider) {
         this.logger = logger;
         this.nodes = nodes;
         this.migrator = migrator;
-        this.nodeValueMap = new HashMap<>(nodes.size());
+        this.valueChangeListener = valueChangeListener;
+        this.defaultValueProvider = defaultValueProvider;
+        allocateSlots(nodes.getSlotCount());
+    }
+
+    /**
+     * Creates a handle without a {@link ValueChangeListener} or {@link DefaultValueProvider}.
+     *
+     * @deprecated Use the builder, or the constructor that also takes a {@link ValueChangeListener} and a
+     * {@link DefaultValueProvider}.
+     */
+    @Deprecated
+    protected BaseConfigurationHandle(
+            @Nullable Logger logger,
+            @NotNull NodeGroup nodes,
+            @Nullable ConfigMigrator migrator) {
+        this(logger, nodes, migrator, null, null);
+    }
+
+    private void allocateSlots(int slotCount) {
+        this.values = new Object[slotCount];
+        this.booleanValues = new boolean[slotCount];
+        this.intValues = new int[slotCount];
+        this.doubleValues = new double[slotCount];
+    }
+
+    private void ensureSlot(int slot) {
+        if (slot < values.length) {
+            return;
+        }
+        // Nodes were added to the group after the handle was created
+        int slotCount = Math.max(slot + 1, nodes.getSlotCount());
+        values = Arrays.copyOf(values, slotCount);
+        booleanValues = Arrays.copyOf(booleanValues, slotCount);
+        intValues = Arrays.copyOf(intValues, slotCount);
+        doubleValues = Arrays.copyOf(doubleValues, slotCount);
+    }
+
+    private void store(int slot, Object value) {
+        ensureSlot(slot);
+        values[slot] = value;
+        booleanValues[slot] = value instanceof Boolean booleanValue && booleanValue;
+        intValues[slot] = value instanceof Integer intValue ? intValue : 0;
+        doubleValues[slot] = value instanceof Double doubleValue ? doubleValue : 0D;
+    }
+
+    private Object trackChanges(ValueNode node, int slot, Object value) {
+        if (node instanceof ListValueNode && value instanceof List list) {
+            // Lists handed out may be changed in place, which has to mark the node of this handle dirty to be saved
+            List items = list instanceof ChangeTrackingList tracked ? tracked.getDelegate() : list;
+            return new ChangeTrackingList<>(items, () -> dirtySlots.set(slot));
+        }
+        return value;
+    }
+
+    private int slotOf(ValueNode node) {
+        int slot = nodes.getSlot(node);
+        return slot < values.length ? slot : -1;
     }
 
     /**
@@ -71,58 +165,186 @@ public abstract class BaseConfigurationHandle<C extends ConfigurationSection> {
      * Sets up the nodes.
      */
     protected void setUpNodes() {
-        nodeValueMap.clear();
+        allocateSlots(nodes.getSlotCount());
+        loaded = false;
+        requireFullSave();
         if (nodes.isEmpty()) {
             return;
         }
 
-        nodes.forEach(node -> {
-            if (node instanceof ValueNode valueNode) {
-                var value = deserializeNodeFromConfig(valueNode);
-                nodeValueMap.put(valueNode, value);
-            }
+        List<ValueNode> valueNodes = nodes.stream()
+                .filter(ValueNode.class::isInstance)
+                .map(ValueNode.class::cast)
+                .toList();
+        valueNodes.forEach(valueNode -> {
+            int slot = nodes.getSlot(valueNode);
+            store(slot, trackChanges(valueNode, slot, deserializeNodeFromConfig(valueNode)));
         });
+        loaded = !valueNodes.isEmpty();
 
-        nodeValueMap.forEach((valueNode, value) -> {
+        valueNodes.forEach(valueNode -> {
+            var value = get(valueNode);
             valueNode.onSetValue(value, value);
+            notifyValueChangeListener(valueNode, value, value);
         });
     }
 
+    private void notifyValueChangeListener(ValueNode node, Object oldValue, Object newValue) {
+        if (valueChangeListener != null) {
+            valueChangeListener.onSetValue(node, oldValue, newValue);
+        }
+    }
+
+    /**
+     * Gets the default value of a node, asking the {@link DefaultValueProvider} of this handle if there is one.
+     *
+     * @param node  The node to get the default value of.
+     * @param <T>   The type of the node value.
+     * @return The default value.
+     */
+    protected <T> @Nullable T getDefaultValue(@NotNull ValueNode<T> node) {
+        if (defaultValueProvider == null) {
+            return node.getDefaultValue();
+        }
+        return (T) defaultValueProvider.getDefaultValue(node);
+    }
+
     protected <T> T deserializeNodeFromConfig(ValueNode<T> node) {
         if (node.getSerializer() == null) {
-            return Option.of(config.getObject(node.getPath(), node.getType())).getOrElse(node::getDefaultValue);
+            return Option.of(config.getObject(node.getPath(), node.getType()))
+                    .getOrElse(() -> getDefaultValue(node));
         }
         return Try.of(() -> {
                     var value = config.get(node.getPath());
                     if (value == null) {
-                        return node.getDefaultValue();
+                        return getDefaultValue(node);
                     }
                     return node.getSerializer().deserialize(value, node.getType());
                 }).flatMap(value -> node.validate(value).map(ignore -> value))
                 .onFailure(e -> Logging.warning("Failed to deserialize node %s: %s", node.getPath(), e.getMessage()))
-                .getOrElse(node::getDefaultValue);
+                .getOrElse(() -> getDefaultValue(node));
     }
 
     /**
-     * Saves the configuration.
+     * Saves the configuration, serializing only the nodes that changed since the last save.
      */
     public Try<Void> save() {
-        return Try.run(() -> nodes.forEach(node -> {
-            if (!(node instanceof ValueNode valueNode)) {
-                return;
+        return Try.run(() -> {
+            long startTime = System.nanoTime();
+            if (!fullSaveNeeded && addsMissingKey()) {
+                // Keys added in place would end up out of order, so the whole section is written again
+                requireFullSave();
+            }
+            boolean fullSave = fullSaveNeeded;
+            if (fullSave) {
+                prepareFullSave();
             }
-            serializeNodeToConfig(valueNode);
-        }));
+            int written = 0;
+            for (Node node : nodes) {
+                if (node instanceof ValueNode valueNode && (fullSave || needsSerializing(valueNode))) {
+                    serializeNodeToConfig(valueNode);
+                    written++;
+                }
+            }
+            markSaved(written);
+            Logging.finest("Saved %d of %d config nodes (%s) in %d us", written, nodes.getSlotCount(),
+                    fullSave ? "full" : "incremental",
+                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+        });
+    }
+
+    private boolean needsSerializing(ValueNode node) {
+        int slot = slotOf(node);
+        return slot < 0 || dirtySlots.get(slot)
+                || !(isImmutableValue(values[slot]) || values[slot] instanceof ChangeTrackingList);
+    }
+
+    private boolean addsMissingKey() {
+        for (Node node : nodes) {
+            if (node instanceof ValueNode valueNode && needsSerializing(valueNode)
+                    && !config.contains(valueNode.getPath())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Called before a save that serializes every node, e.g. to start from an empty configuration.
+     */
+    protected void prepareFullSave() {
+    }
+
+    private static boolean isImmutableValue(@Nullable Object value) {
+        return value == null
+                || value instanceof String
+                || value instanceof Boolean
+                || value instanceof Number
+                || value instanceof Enum;
+    }
+
+    /**
+     * Makes the next save serialize every node, e.g. when the configuration was replaced.
+     */
+    protected void requireFullSave() {
+        fullSaveNeeded = true;
+    }
+
+    /**
+     * Gets whether the next save has to serialize every node.
+     *
+     * @return Whether a full save is needed.
+     */
+    protected boolean isFullSaveNeeded() {
+        return fullSaveNeeded;
+    }
+
+    /**
+     * Clears the dirty nodes after a successful save.
+     *
+     * @param written   The number of nodes that were serialized.
+     */
+    protected void markSaved(int written) {
+        dirtySlots.clear();
+        fullSaveNeeded = false;
+        lastSavedNodeCount = written;
+    }
+
+    private void markDirty(ValueNode node) {
+        int slot = nodes.getSlot(node);
+        if (slot >= 0) {
+            dirtySlots.set(slot);
+        }
+    }
+
+    /**
+     * Gets whether any node changed since the last save, so saving would change the configuration.
+     *
+     * @return Whether the configuration has unsaved changes.
+     */
+    public boolean isDirty() {
+        return fullSaveNeeded || !dirtySlots.isEmpty();
+    }
+
+    /**
+     * Gets the number of nodes serialized by the last save.
+     *
+     * @return The number of nodes.
+     */
+    public int getLastSavedNodeCount() {
+        return lastSavedNodeCount;
     }
 
     protected void serializeNodeToConfig(ValueNode node) {
-        var value = nodeValueMap.get(node);
+        var value = get(node);
         if (value == null) {
-            value = node.getDefaultValue();
+            value = getDefaultValue(node);
         }
         if (node.getSerializer() != null) {
             var serialized = node.getSerializer().serialize(value, node.getType());
             config.set(node.getPath(), serialized);
+        } else if (value instanceof ChangeTrackingList list) {
+            config.set(node.getPath(), new ArrayList<>(list));
         } else {
             config.set(node.getPath(), value);
         }
@@ -134,7 +356,7 @@ public abstract class BaseConfigurationHandle<C extends ConfigurationSection> {
      * @return Whether the configuration is loaded.
      */
     public boolean isLoaded() {
-        return !nodeValueMap.isEmpty();
+        return loaded;
     }
 
     /**
@@ -144,7 +366,41 @@ public abstract class BaseConfigurationHandle<C extends ConfigurationSection> {
      * @return The value of the node.
      */
     public <T> T get(@NotNull ValueNode<T> node) {
-        return (T) nodeValueMap.get(node);
+        int slot = slotOf(node);
+        return slot < 0 ? null : (T) values[slot];
+    }
+
+    /**
+     * Gets the value of a boolean node without boxing.
+     *
+     * @param node The node to get the value of.
+     * @return The value of the node, or false if it has no value.
+     */
+    public boolean getBoolean(@NotNull ValueNode<Boolean> node) {
+        int slot = slotOf(node);
+        return slot >= 0 && booleanValues[slot];
+    }
+
+    /**
+     * Gets the value of an int node without boxing.
+     *
+     * @param node The node to get the value of.
+     * @return The value of the node, or 0 if it has no value.
+     */
+    public int getInt(@NotNull ValueNode<Integer> node) {
+        int slot = slotOf(node);
+        return slot < 0 ? 0 : intValues[slot];
+    }
+
+    /**
+     * Gets the value of a double node without boxing.
+     *
+     * @param node The node to get the value of.
+     * @return The value of the node, or 0 if it has no value.
+     */
+    public double getDouble(@NotNull ValueNode<Double> node) {
+        int slot = slotOf(node);
+        return slot < 0 ? 0D : doubleValues[slot];
     }
 
     /**
@@ -156,10 +412,17 @@ public abstract class BaseConfigurationHandle<C extends ConfigurationSection> {
      * @return Empty try if the value was set, try containing an error otherwise.
      */
     public <T> Try<Void> set(@NotNull ValueNode<T> node, T value) {
+        int slot = nodes.getSlot(node);
+        if (slot < 0) {
+            return Try.failure(new IllegalArgumentException(
+                    "Node " + node.getPath() + " is not part of this configuration"));
+        }
         return node.validate(value).map(ignore -> {
             T oldValue = get(node);
-            nodeValueMap.put(node, value);
+            store(slot, trackChanges(node, slot, value));
+            dirtySlots.set(slot);
             node.onSetValue(oldValue, get(node));
+            notifyValueChangeListener(node, oldValue, get(node));
             return null;
         });
     }
@@ -175,8 +438,11 @@ public abstract class BaseConfigurationHandle<C extends ConfigurationSection> {
     public <I> Try<Void> add(@NotNull ListValueNode<I> node, I itemValue) {
         return node.validateItem(itemValue).map(ignore -> {
             List<I> list = get(node);
+            List<I> oldList = new ArrayList<>(list);
             list.add(itemValue);
+            markDirty(node);
             node.onSetItemValue(null, itemValue);
+            notifyValueChangeListener(node, oldList, list);
             return null;
         });
     }
@@ -192,10 +458,13 @@ public abstract class BaseConfigurationHandle<C extends ConfigurationSection> {
     public <I> Try<Void> remove(@NotNull ListValueNode<I> node, I itemValue) {
         return node.validateItem(itemValue).map(ignore -> {
             List<I> list = get(node);
+            List<I> oldList = new ArrayList<>(list);
             if (!list.remove(itemValue)) {
                 throw new IllegalArgumentException("Cannot remove item as it is already not in the list!");
             }
+            markDirty(node);
             node.onSetItemValue(itemValue, null);
+            notifyValueChangeListener(node, oldList, list);
             return null;
         });
     }
@@ -208,7 +477,7 @@ public abstract class BaseConfigurationHandle<C extends ConfigurationSection> {
      * @return Empty try if the value was set, try containing an error otherwise.
      */
     public <T> Try<Void> reset(@NotNull ValueNode<T> node) {
-        return set(node, node.getDefaultValue());
+        return set(node, getDefaultValue(node));
     }
 
     /**
@@ -229,6 +498,48 @@ public abstract class BaseConfigurationHandle<C extends ConfigurationSection> {
         return nodes;
     }
 
+    /**
+     * Map view over the value slots, backing {@link #nodeValueMap}.
+     */
+    private final class NodeValueMap extends AbstractMap<ValueNode, Object> {
+
+        @Override
+        public Object get(Object key) {
+            return key instanceof ValueNode node ? BaseConfigurationHandle.this.get(node) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Object put(ValueNode key, Object value) {
+            int slot = nodes.getSlot(key);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Node " + key.getPath() + " is not part of this configuration");
+            }
+            Object oldValue = get(key);
+            store(slot, trackChanges(key, slot, value));
+            dirtySlots.set(slot);
+            return oldValue;
+        }
+
+        @Override
+        public @NotNull Set<Entry<ValueNode, Object>> entrySet() {
+            List<Entry<ValueNode, Object>> entries = new ArrayList<>();
+            for (Node node : nodes) {
+                if (node instanceof ValueNode valueNode) {
+                    Object value = BaseConfigurationHandle.this.get(valueNode);
+                    if (value != null) {
+                        entries.add(new SimpleImmutableEntry<>(valueNode, value));
+                    }
+                }
+            }
+            return Collections.unmodifiableSet(new LinkedHashSet<>(entries));
+        }
+    }
+
     /**
      * Abstract builder for {@link BaseConfigurationHandle}.
      *
@@ -240,6 +551,8 @@ public abstract class BaseConfigurationHandle<C extends ConfigurationSection> {
         protected final @NotNull NodeGroup nodes;
         protected @Nullable Logger logger;
         protected @Nullable ConfigMigrator migrator;
+        protected @Nullable ValueChangeListener valueChangeListener;
+        protected @Nullable DefaultValueProvider defaultValueProvider;
 
         protected Builder(@NotNull NodeGroup nodes) {
             this.nodes = nodes;
@@ -278,6 +591,28 @@ public abstract class BaseConfigurationHandle<C extends ConfigurationSection> {
             return self();
         }
 
+        /**
+         * Sets the listener notified whenever a value is set in this handle.
+         *
+         * @param valueChangeListener The listener.
+         * @return The builder.
+         */
+        public B valueChangeListener(@Nullable ValueChangeListener valueChangeListener) {
+            this.valueChangeListener = valueChangeListener;
+            return self();
+        }
+
+        /**
+         * Sets the provider of default values for this handle, used instead of the node defaults.
+         *
+         * @param defaultValueProvider The provider.
+         * @return The builder.
+         */
+        public B defaultValueProvider(@Nullable DefaultValueProvider defaultValueProvider) {
+            this.defaultValueProvider = defaultValueProvider;
+            return self();
+        }
+
         /**
          * Builds the configuration handle.
          *
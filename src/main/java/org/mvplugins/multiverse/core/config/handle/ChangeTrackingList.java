@@ -0,0 +1,60 @@
+package org.mvplugins.multiverse.core.config.handle;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * List value of a list node, which tells the handle when it is changed in place so the node is saved again. Reading
+ * the list does not count as a change.
+ *
+ * @param <E>   The type of the list items.
+ */
+final class ChangeTrackingList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final List<E> delegate;
+    private final Runnable onChange;
+
+    ChangeTrackingList(@NotNull List<E> delegate, @NotNull Runnable onChange) {
+        this.delegate = delegate;
+        this.onChange = onChange;
+    }
+
+    @NotNull List<E> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public E get(int index) {
+        return delegate.get(index);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E previous = delegate.set(index, element);
+        onChange.run();
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        delegate.add(index, element);
+        modCount++;
+        onChange.run();
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = delegate.remove(index);
+        modCount++;
+        onChange.run();
+        return removed;
+    }
+}
@@ -30,12 +30,29 @@ public class CommentedConfigurationHandle extends FileConfigurationHandle<Commen
         return new Builder(configPath, nodes);
     }
 
+    protected CommentedConfigurationHandle(
+            @NotNull Path configPath,
+            @Nullable Logger logger,
+            @NotNull NodeGroup nodes,
+            @Nullable ConfigMigrator migrator,
+            @Nullable ValueChangeListener valueChangeListener,
+            @Nullable DefaultValueProvider defaultValueProvider) {
+        super(configPath, logger, nodes, migrator, valueChangeListener, defaultValueProvider);
+    }
+
+    /**
+     * Creates a handle without a {@link ValueChangeListener} or {@link DefaultValueProvider}.
+     *
+     * @deprecated Use the builder, or the constructor that also takes a {@link ValueChangeListener} and a
+     * {@link DefaultValueProvider}.
+     */
+    @Deprecated
     protected CommentedConfigurationHandle(
             @NotNull Path configPath,
             @Nullable Logger logger,
             @NotNull NodeGroup nodes,
             @Nullable ConfigMigrator migrator) {
-        super(configPath, logger, nodes, migrator);
+        this(configPath, logger, nodes, migrator, null, null);
     }
 
     /**
@@ -57,6 +74,8 @@ public class CommentedConfigurationHandle extends FileConfigurationHandle<Commen
     public Try<Void> save() {
         return Try.run(() -> {
             config = new CommentedConfiguration(configPath, logger);
+            // The file is rewritten with its comments, so every node is serialized
+            int[] written = {0};
             nodes.forEach(node -> {
                 if (node instanceof CommentedNode typedNode) {
                     if (typedNode.getComments().length > 0) {
@@ -65,9 +84,11 @@ public class CommentedConfigurationHandle extends FileConfigurationHandle<Commen
                 }
                 if (node instanceof ValueNode valueNode) {
                     serializeNodeToConfig(valueNode);
+                    written[0]++;
                 }
             });
             config.save();
+            markSaved(written[0]);
         });
     }
 
@@ -85,7 +106,8 @@ public class CommentedConfigurationHandle extends FileConfigurationHandle<Commen
          */
         @Override
         public @NotNull CommentedConfigurationHandle build() {
-            return new CommentedConfigurationHandle(configPath, logger, nodes, migrator);
+            return new CommentedConfigurationHandle(
+                    configPath, logger, nodes, migrator, valueChangeListener, defaultValueProvider);
         }
     }
 }
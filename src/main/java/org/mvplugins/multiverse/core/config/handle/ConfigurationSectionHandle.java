@@ -30,11 +30,28 @@ public class ConfigurationSectionHandle<C extends ConfigurationSection> extends
             @NotNull C configurationSection,
             @Nullable Logger logger,
             @NotNull NodeGroup nodes,
-            @Nullable ConfigMigrator migrator) {
-        super(logger, nodes, migrator);
+            @Nullable ConfigMigrator migrator,
+            @Nullable ValueChangeListener valueChangeListener,
+            @Nullable DefaultValueProvider defaultValueProvider) {
+        super(logger, nodes, migrator, valueChangeListener, defaultValueProvider);
         this.config = configurationSection;
     }
 
+    /**
+     * Creates a handle without a {@link ValueChangeListener} or {@link DefaultValueProvider}.
+     *
+     * @deprecated Use the builder, or the constructor that also takes a {@link ValueChangeListener} and a
+     * {@link DefaultValueProvider}.
+     */
+    @Deprecated
+    protected ConfigurationSectionHandle(
+            @NotNull C configurationSection,
+            @Nullable Logger logger,
+            @NotNull NodeGroup nodes,
+            @Nullable ConfigMigrator migrator) {
+        this(configurationSection, logger, nodes, migrator, null, null);
+    }
+
     /**
      * Loads the configuration with a new configuration section.
      *
@@ -64,7 +81,8 @@ public class ConfigurationSectionHandle<C extends ConfigurationSection> extends
          */
         @Override
         public @NotNull ConfigurationSectionHandle<C> build() {
-            return new ConfigurationSectionHandle<>(configurationSection, logger, nodes, migrator);
+            return new ConfigurationSectionHandle<>(
+                    configurationSection, logger, nodes, migrator, valueChangeListener, defaultValueProvider);
         }
     }
 }
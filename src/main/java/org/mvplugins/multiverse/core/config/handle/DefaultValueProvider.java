@@ -0,0 +1,25 @@
+package org.mvplugins.multiverse.core.config.handle;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.mvplugins.multiverse.core.config.node.ValueNode;
+
+/**
+ * Provides the default values of a single configuration handle.
+ * <br/>
+ * Unlike {@link ValueNode#getDefaultValue()}, the provider belongs to the handle and not the node, so a
+ * {@link org.mvplugins.multiverse.core.config.node.NodeGroup} can be shared by many handles while each handle still
+ * gets defaults that depend on its own values.
+ */
+@FunctionalInterface
+public interface DefaultValueProvider {
+    /**
+     * Gets the default value of a node in the handle.
+     *
+     * @param node  The node to get the default value of.
+     * @return The default value, which must be of the node type. Return {@link ValueNode#getDefaultValue()} to keep
+     *         the node default.
+     */
+    @Nullable Object getDefaultValue(@NotNull ValueNode<?> node);
+}
@@ -30,12 +30,29 @@ public abstract class FileConfigurationHandle<C extends FileConfiguration> exten
             @NotNull Path configPath,
             @Nullable Logger logger,
             @NotNull NodeGroup nodes,
-            @Nullable ConfigMigrator migrator) {
-        super(logger, nodes, migrator);
+            @Nullable ConfigMigrator migrator,
+            @Nullable ValueChangeListener valueChangeListener,
+            @Nullable DefaultValueProvider defaultValueProvider) {
+        super(logger, nodes, migrator, valueChangeListener, defaultValueProvider);
         this.configPath = configPath;
         this.configFile = configPath.toFile();
     }
 
+    /**
+     * Creates a handle without a {@link ValueChangeListener} or {@link DefaultValueProvider}.
+     *
+     * @deprecated Use the builder, or the constructor that also takes a {@link ValueChangeListener} and a
+     * {@link DefaultValueProvider}.
+     */
+    @Deprecated
+    protected FileConfigurationHandle(
+            @NotNull Path configPath,
+            @Nullable Logger logger,
+            @NotNull NodeGroup nodes,
+            @Nullable ConfigMigrator migrator) {
+        this(configPath, logger, nodes, migrator, null, null);
+    }
+
     /**
      * {@inheritDoc}
      */
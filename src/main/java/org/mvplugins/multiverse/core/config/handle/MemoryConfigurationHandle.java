@@ -1,6 +1,5 @@
 package org.mvplugins.multiverse.core.config.handle;
 
-import io.vavr.control.Try;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.MemoryConfiguration;
 import org.jetbrains.annotations.NotNull;
@@ -24,18 +23,38 @@ public class MemoryConfigurationHandle extends ConfigurationSectionHandle<Config
         return new MemoryConfigurationHandle.Builder<>(configurationSection, nodes);
     }
 
+    protected MemoryConfigurationHandle(
+            @NotNull ConfigurationSection configurationSection,
+            @Nullable Logger logger,
+            @NotNull NodeGroup nodes,
+            @Nullable ConfigMigrator migrator,
+            @Nullable ValueChangeListener valueChangeListener,
+            @Nullable DefaultValueProvider defaultValueProvider) {
+        super(configurationSection, logger, nodes, migrator, valueChangeListener, defaultValueProvider);
+    }
+
+    /**
+     * Creates a handle without a {@link ValueChangeListener} or {@link DefaultValueProvider}.
+     *
+     * @deprecated Use the builder, or the constructor that also takes a {@link ValueChangeListener} and a
+     * {@link DefaultValueProvider}.
+     */
+    @Deprecated
     protected MemoryConfigurationHandle(
             @NotNull ConfigurationSection configurationSection,
             @Nullable Logger logger,
             @NotNull NodeGroup nodes,
             @Nullable ConfigMigrator migrator) {
-        super(configurationSection, logger, nodes, migrator);
+        this(configurationSection, logger, nodes, migrator, null, null);
     }
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public Try<Void> save() {
-        return Try.run(() -> config = new MemoryConfiguration())
-                .flatMap(ignore -> super.save());
+    protected void prepareFullSave() {
+        // Start from an empty section so keys of removed or migrated nodes are dropped
+        config = new MemoryConfiguration();
     }
 
     /**
@@ -54,7 +73,8 @@ public class MemoryConfigurationHandle extends ConfigurationSectionHandle<Config
          */
         @Override
         public @NotNull MemoryConfigurationHandle build() {
-            return new MemoryConfigurationHandle(configurationSection, logger, nodes, migrator);
+            return new MemoryConfigurationHandle(
+                    configurationSection, logger, nodes, migrator, valueChangeListener, defaultValueProvider);
         }
     }
 }
@@ -0,0 +1,26 @@
+package org.mvplugins.multiverse.core.config.handle;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.mvplugins.multiverse.core.config.node.ValueNode;
+
+/**
+ * Listens to value changes of a single configuration handle.
+ * <br/>
+ * Unlike {@link ValueNode#onSetValue(Object, Object)}, the listener belongs to the handle and not the node, so a
+ * {@link org.mvplugins.multiverse.core.config.node.NodeGroup} can be shared by many handles while each handle still
+ * reacts to its own changes.
+ */
+@FunctionalInterface
+public interface ValueChangeListener {
+    /**
+     * Called after the value of a node is set in the handle, including when the handle is loaded and when an item is
+     * added to or removed from a list node.
+     *
+     * @param node      The node whose value was set.
+     * @param oldValue  The previous value.
+     * @param newValue  The new value.
+     */
+    void onSetValue(@NotNull ValueNode<?> node, @Nullable Object oldValue, @Nullable Object newValue);
+}
@@ -29,12 +29,29 @@ public class YamlConfigurationHandle extends FileConfigurationHandle<YamlConfigu
         return new Builder<>(configPath, nodes);
     }
 
+    protected YamlConfigurationHandle(
+            @NotNull Path configPath,
+            @Nullable Logger logger,
+            @NotNull NodeGroup nodes,
+            @Nullable ConfigMigrator migrator,
+            @Nullable ValueChangeListener valueChangeListener,
+            @Nullable DefaultValueProvider defaultValueProvider) {
+        super(configPath, logger, nodes, migrator, valueChangeListener, defaultValueProvider);
+    }
+
+    /**
+     * Creates a handle without a {@link ValueChangeListener} or {@link DefaultValueProvider}.
+     *
+     * @deprecated Use the builder, or the constructor that also takes a {@link ValueChangeListener} and a
+     * {@link DefaultValueProvider}.
+     */
+    @Deprecated
     protected YamlConfigurationHandle(
             @NotNull Path configPath,
             @Nullable Logger logger,
             @NotNull NodeGroup nodes,
             @Nullable ConfigMigrator migrator) {
-        super(configPath, logger, nodes, migrator);
+        this(configPath, logger, nodes, migrator, null, null);
     }
 
     /**
@@ -51,9 +68,15 @@ public class YamlConfigurationHandle extends FileConfigurationHandle<YamlConfigu
      */
     @Override
     public Try<Void> save() {
-        return Try.run(() -> config = new YamlConfiguration())
-                .flatMap(ignore -> super.save())
-                .andThenTry(ignore -> config.save(configFile));
+        return super.save().andThenTry(ignore -> config.save(configFile));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void prepareFullSave() {
+        config = new YamlConfiguration();
     }
 
     /**
@@ -72,7 +95,8 @@ public class YamlConfigurationHandle extends FileConfigurationHandle<YamlConfigu
          */
         @Override
         public @NotNull YamlConfigurationHandle build() {
-            return new YamlConfigurationHandle(configPath, logger, nodes, migrator);
+            return new YamlConfigurationHandle(
+                    configPath, logger, nodes, migrator, valueChangeListener, defaultValueProvider);
         }
     }
 }
@@ -49,6 +49,12 @@ public class ConfigNode<T> extends ConfigHeaderNode implements ValueNode<T> {
     protected @Nullable Function<T, Try<Void>> validator;
     protected @Nullable BiConsumer<T, T> onSetValue;
 
+    /**
+     * The group that assigned {@link #slot}, set when the node is first added to a {@link NodeGroup}.
+     */
+    @Nullable NodeGroup slotGroup;
+    int slot = -1;
+
     protected ConfigNode(
             @NotNull String path,
             @NotNull String[] comments,
@@ -3,6 +3,7 @@ package org.mvplugins.multiverse.core.config.node;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -13,10 +14,15 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * A collection of {@link CommentedNode}s, with mappings to nodes by name.
+ * <br/>
+ * Each {@link ValueNode} added to the group is given a slot, a dense index that configuration handles use to store
+ * the node's value in an array instead of a map. Slots are never reused, so a removed node leaves a gap.
  */
 public class NodeGroup implements Collection<Node> {
     private final Collection<Node> nodes;
     private final Map<String, Node> nodesMap;
+    private final Map<ValueNode<?>, Integer> foreignSlots = new IdentityHashMap<>();
+    private int slotCount;
 
     /**
      * Creates a new empty node group.
@@ -40,6 +46,20 @@ public class NodeGroup implements Collection<Node> {
     private void addNodeIndex(@NotNull Node node) {
         if (node instanceof ValueNode) {
             ((ValueNode<?>) node).getName().peek(name -> nodesMap.put(name, node));
+            assignSlot((ValueNode<?>) node);
+        }
+    }
+
+    private void assignSlot(@NotNull ValueNode<?> node) {
+        if (getSlot(node) >= 0) {
+            return;
+        }
+        if (node instanceof ConfigNode<?> configNode && configNode.slotGroup == null) {
+            configNode.slotGroup = this;
+            configNode.slot = slotCount++;
+        } else {
+            // Node already has a slot in another group, or is not a ConfigNode
+            foreignSlots.put(node, slotCount++);
         }
     }
 
@@ -49,6 +69,29 @@ public class NodeGroup implements Collection<Node> {
         }
     }
 
+    /**
+     * Gets the slot of a value node in this group.
+     *
+     * @param node  The value node.
+     * @return The slot of the node, or -1 if the node is not in this group.
+     */
+    public int getSlot(@NotNull ValueNode<?> node) {
+        if (node instanceof ConfigNode<?> configNode && configNode.slotGroup == this) {
+            return configNode.slot;
+        }
+        Integer slot = foreignSlots.get(node);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * Gets the number of slots given out by this group, which is one more than the highest slot.
+     *
+     * @return The number of slots.
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
     /**
      * Gets the names of all nodes in this group.
      *
@@ -136,7 +179,11 @@ public class NodeGroup implements Collection<Node> {
 
     @Override
     public boolean addAll(@NotNull Collection<? extends Node> collection) {
-        return nodes.addAll(collection);
+        boolean changed = false;
+        for (Node node : collection) {
+            changed |= add(node);
+        }
+        return changed;
     }
 
     @Override
@@ -36,6 +36,19 @@ public interface Destination<D extends Destination<D, T, F>, T extends Destinati
      */
     @NotNull Attempt<T, F> getDestinationInstance(@NotNull String destinationParams);
 
+    /**
+     * Returns whether instances of this destination can be reused for the same destination parameters.
+     *
+     * <p>Parsed instances are cached by {@link DestinationsProvider} until worlds or anchors change. Destinations
+     * whose instances depend on the sender, online players, or other state that changes without notice should
+     * return false.</p>
+     *
+     * @return True if parsed instances can be cached.
+     */
+    default boolean isCacheable() {
+        return true;
+    }
+
     /**
      * Returns a list of possible destinations for the given destination parameters. This packet's destination
      * should be this instance and not other destinations.
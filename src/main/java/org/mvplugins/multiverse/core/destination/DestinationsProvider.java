@@ -2,7 +2,9 @@ package org.mvplugins.multiverse.core.destination;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import co.aikar.locales.MessageKey;
 import co.aikar.locales.MessageKeyProvider;
@@ -24,14 +26,24 @@ import static org.mvplugins.multiverse.core.locale.message.MessageReplacement.re
 @Service
 public final class DestinationsProvider {
     private static final String SEPARATOR = ":";
+    private static final int PARSED_DESTINATIONS_CACHE_SIZE = 256;
 
     private final Map<String, Destination<?, ?, ?>> destinationMap;
+    private final Map<String, DestinationInstance<?, ?>> parsedDestinations;
+    private final AtomicLong parsedDestinationCacheMisses;
     private final CorePermissions corePermissions;
 
     @Inject
     DestinationsProvider(@NotNull CorePermissions corePermissions) {
         this.corePermissions = corePermissions;
         this.destinationMap = new HashMap<>();
+        this.parsedDestinations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DestinationInstance<?, ?>> eldest) {
+                return size() > PARSED_DESTINATIONS_CACHE_SIZE;
+            }
+        };
+        this.parsedDestinationCacheMisses = new AtomicLong();
     }
 
     /**
@@ -42,16 +54,37 @@ public final class DestinationsProvider {
     public void registerDestination(@NotNull Destination<?, ?, ?> destination) {
         this.destinationMap.put(destination.getIdentifier(), destination);
         this.corePermissions.addDestinationPermissions(destination);
+        invalidateParsedDestinations();
     }
 
     /**
-     * Converts a destination string to a destination object.
+     * Clears the cache of parsed destinations. Called when worlds or anchors change, and should be called by
+     * destinations whose instances are cached when their underlying data changes.
+     */
+    public void invalidateParsedDestinations() {
+        synchronized (parsedDestinations) {
+            parsedDestinations.clear();
+        }
+    }
+
+    /**
+     * Converts a destination string to a destination object. Instances of cacheable destinations are reused until
+     * worlds or anchors change, see {@link Destination#isCacheable()}.
      *
      * @param destinationString The destination string.
      * @return The destination object, or null if invalid format.
      */
     @SuppressWarnings("unchecked,rawtypes")
     public @NotNull Attempt<DestinationInstance<?, ?>, FailureReason> parseDestination(@NotNull String destinationString) {
+        DestinationInstance<?, ?> cachedInstance;
+        synchronized (parsedDestinations) {
+            cachedInstance = parsedDestinations.get(destinationString);
+        }
+        if (cachedInstance != null) {
+            return Attempt.success(cachedInstance);
+        }
+        parsedDestinationCacheMisses.incrementAndGet();
+
         String[] items = destinationString.split(SEPARATOR, 2);
 
         String idString = items[0];
@@ -73,7 +106,25 @@ public final class DestinationsProvider {
                     replace("{ids}").with(String.join(", ", this.destinationMap.keySet())));
         }
 
-        return destination.getDestinationInstance(destinationParams);
+        Attempt<DestinationInstance<?, ?>, FailureReason> attempt = destination.getDestinationInstance(destinationParams);
+        if (destination.isCacheable()) {
+            attempt.peek(instance -> {
+                synchronized (parsedDestinations) {
+                    parsedDestinations.put(destinationString, instance);
+                }
+            });
+        }
+        return attempt;
+    }
+
+    /**
+     * Gets the number of times {@link #parseDestination(String)} had to parse the destination string because no
+     * cached instance was found. Mainly for debugging.
+     *
+     * @return The number of cache misses.
+     */
+    public long getParsedDestinationCacheMisses() {
+        return parsedDestinationCacheMisses.get();
     }
 
     /**
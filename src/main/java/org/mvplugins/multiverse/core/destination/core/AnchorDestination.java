@@ -1,36 +1,48 @@
 package org.mvplugins.multiverse.core.destination.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import co.aikar.locales.MessageKey;
 import co.aikar.locales.MessageKeyProvider;
+import io.vavr.control.Option;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import org.bukkit.Location;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jvnet.hk2.annotations.Service;
 
 import org.mvplugins.multiverse.core.anchor.AnchorManager;
+import org.mvplugins.multiverse.core.anchor.MultiverseAnchor;
 import org.mvplugins.multiverse.core.destination.Destination;
 import org.mvplugins.multiverse.core.destination.DestinationSuggestionPacket;
 import org.mvplugins.multiverse.core.locale.MVCorei18n;
+import org.mvplugins.multiverse.core.permissions.CorePermissionsChecker;
 import org.mvplugins.multiverse.core.utils.result.Attempt;
 import org.mvplugins.multiverse.core.utils.result.FailureReason;
 
 import static org.mvplugins.multiverse.core.locale.message.MessageReplacement.replace;
 
 /**
- * {@link Destination} implementation for anchors.
+ * {@link Destination} implementation for anchors. Use {@value #NEAREST_ANCHOR_STRING} as the anchor name to go to the
+ * anchor closest to the teleportee.
  */
 @Service
 public final class AnchorDestination implements Destination<AnchorDestination, AnchorDestinationInstance, AnchorDestination.InstanceFailureReason> {
+    static final String NEAREST_ANCHOR_STRING = "@nearest";
 
     private final AnchorManager anchorManager;
+    private final Provider<CorePermissionsChecker> permissionsChecker;
 
     @Inject
-    AnchorDestination(AnchorManager anchorManager) {
+    AnchorDestination(AnchorManager anchorManager, Provider<CorePermissionsChecker> permissionsChecker) {
         this.anchorManager = anchorManager;
+        this.permissionsChecker = permissionsChecker;
     }
 
     /**
@@ -46,6 +58,11 @@ public final class AnchorDestination implements Destination<AnchorDestination, A
      */
     @Override
     public @NotNull Attempt<AnchorDestinationInstance, InstanceFailureReason> getDestinationInstance(@NotNull String destinationParams) {
+        if (NEAREST_ANCHOR_STRING.equals(destinationParams)
+                && this.anchorManager.getAnchor(destinationParams).isEmpty()) {
+            // An anchor actually named like this still takes precedence
+            return Attempt.success(new AnchorDestinationInstance(this, destinationParams, null));
+        }
         return this.anchorManager.getAnchor(destinationParams)
                 .fold(
                         () -> Attempt.failure(InstanceFailureReason.ANCHOR_NOT_FOUND, replace("{anchor}").with(destinationParams)),
@@ -54,16 +71,41 @@ public final class AnchorDestination implements Destination<AnchorDestination, A
                 );
     }
 
+    /**
+     * Gets the location of the anchor closest to an entity, in the entity's world. Players only get anchors they can
+     * access, and with finer teleport permissions only the anchors they have the teleport permission of, so
+     * {@value #NEAREST_ANCHOR_STRING} cannot lead to an anchor they could not teleport to by name.
+     *
+     * @param teleportee The entity to teleport.
+     * @return The location of the closest anchor, if any.
+     */
+    @NotNull Option<Location> getNearestAnchorLocation(@NotNull Entity teleportee) {
+        if (!(teleportee instanceof Player player)) {
+            return this.anchorManager.getNearestAnchor(teleportee.getLocation(), (Player) null)
+                    .map(MultiverseAnchor::getLocation);
+        }
+        CorePermissionsChecker checker = permissionsChecker.get();
+        return this.anchorManager.getNearestAnchor(teleportee.getLocation(), player, anchor ->
+                        checker.checkDestinationPacketPermission(player, CorePermissionsChecker.Scope.SELF,
+                                new DestinationSuggestionPacket(this, anchor.getName(), anchor.getName())))
+                .map(MultiverseAnchor::getLocation);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public @NotNull Collection<DestinationSuggestionPacket> suggestDestinations(
             @NotNull CommandSender sender, @Nullable String destinationParams) {
-        return this.anchorManager.getAnchors(sender instanceof Player ? (Player)sender : null)
-                .stream()
-                .map(anchor -> new DestinationSuggestionPacket(this, anchor.getName(), anchor.getName()))
-                .toList();
+        List<DestinationSuggestionPacket> suggestions = new ArrayList<>(
+                this.anchorManager.getAnchors(sender instanceof Player ? (Player)sender : null)
+                        .stream()
+                        .map(anchor -> new DestinationSuggestionPacket(this, anchor.getName(), anchor.getName()))
+                        .toList());
+        if (sender instanceof Player) {
+            suggestions.add(new DestinationSuggestionPacket(this, NEAREST_ANCHOR_STRING, NEAREST_ANCHOR_STRING));
+        }
+        return suggestions;
     }
 
     public enum InstanceFailureReason implements FailureReason {
@@ -5,6 +5,7 @@ import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import org.mvplugins.multiverse.core.destination.DestinationInstance;
 
@@ -19,12 +20,12 @@ public final class AnchorDestinationInstance extends DestinationInstance<AnchorD
      * Constructor.
      *
      * @param anchorName        The name of the anchor.
-     * @param anchorLocation    The location of the anchor.
+     * @param anchorLocation    The location of the anchor, or null to use the anchor closest to the teleportee.
      */
     AnchorDestinationInstance(
             @NotNull AnchorDestination destination,
             @NotNull String anchorName,
-            @NotNull Location anchorLocation
+            @Nullable Location anchorLocation
     ) {
         super(destination);
         this.anchorName = anchorName;
@@ -36,6 +37,9 @@ public final class AnchorDestinationInstance extends DestinationInstance<AnchorD
      */
     @Override
     public @NotNull Option<Location> getLocation(@NotNull Entity teleportee) {
+        if (anchorLocation == null) {
+            return destination.getNearestAnchorLocation(teleportee);
+        }
         return Option.of(anchorLocation.clone());
     }
 
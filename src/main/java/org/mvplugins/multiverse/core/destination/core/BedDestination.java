@@ -53,6 +53,15 @@ public final class BedDestination implements Destination<BedDestination, BedDest
         return Attempt.success(new BedDestinationInstance(this, player));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        // Instances hold the player found when parsing, who may go offline
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -51,6 +51,15 @@ public final class PlayerDestination implements Destination<PlayerDestination, P
         return Attempt.success(new PlayerDestinationInstance(this, player));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isCacheable() {
+        // Instances hold the player found when parsing, who may go offline
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
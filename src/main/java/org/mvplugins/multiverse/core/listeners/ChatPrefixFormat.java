@@ -0,0 +1,210 @@
+package org.mvplugins.multiverse.core.listeners;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.text.serializer.legacy.LegacyFormat;
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The chat prefix format from the config, compiled once into literal segments with slots for the world and the chat
+ * message, so that chat lines do not need to parse the format again.
+ * <br/>
+ * A slot takes the legacy colour and decorations that are active at its position in the format, the same as when the
+ * whole format is deserialized and the placeholder is replaced.
+ */
+final class ChatPrefixFormat {
+
+    static final String WORLD_PLACEHOLDER = "%world%";
+    static final String CHAT_PLACEHOLDER = "%chat%";
+
+    private static final int MAX_CACHED_WORLD_NAMES = 256;
+    private static final LegacyComponentSerializer SERIALIZER = LegacyComponentSerializer.legacyAmpersand();
+
+    private final String format;
+    private final List<Segment> segments;
+    private final String legacyFormat;
+    private final Map<String, Component> worldNameComponents = new ConcurrentHashMap<>();
+    private final Map<String, String> legacyWorldNames = new ConcurrentHashMap<>();
+
+    private ChatPrefixFormat(String format, List<Segment> segments, String legacyFormat) {
+        this.format = format;
+        this.segments = segments;
+        this.legacyFormat = legacyFormat;
+    }
+
+    /**
+     * Compiles the chat prefix format.
+     *
+     * @param format    The format with legacy '&amp;' colour codes, and %world% and %chat% placeholders.
+     * @return The compiled format.
+     */
+    static @NotNull ChatPrefixFormat compile(@NotNull String format) {
+        List<Segment> segments = new ArrayList<>();
+        LegacyState state = new LegacyState();
+        int index = 0;
+        while (index < format.length()) {
+            int worldIndex = format.indexOf(WORLD_PLACEHOLDER, index);
+            int chatIndex = format.indexOf(CHAT_PLACEHOLDER, index);
+            int next = nextPlaceholder(worldIndex, chatIndex);
+            String literal = next < 0 ? format.substring(index) : format.substring(index, next);
+            if (!literal.isEmpty()) {
+                segments.add(new Segment(SERIALIZER.deserialize(state.toCodes() + literal), null));
+                state.apply(literal);
+            }
+            if (next < 0) {
+                break;
+            }
+            boolean isWorld = next == worldIndex;
+            segments.add(new Segment(null, new Slot(isWorld, state.toStyle())));
+            index = next + (isWorld ? WORLD_PLACEHOLDER : CHAT_PLACEHOLDER).length();
+        }
+        return new ChatPrefixFormat(format, Collections.unmodifiableList(segments),
+                ChatColor.translateAlternateColorCodes('&', format));
+    }
+
+    private static int nextPlaceholder(int worldIndex, int chatIndex) {
+        if (worldIndex < 0) {
+            return chatIndex;
+        }
+        if (chatIndex < 0) {
+            return worldIndex;
+        }
+        return Math.min(worldIndex, chatIndex);
+    }
+
+    /**
+     * Gets the raw format this was compiled from.
+     *
+     * @return The format.
+     */
+    @NotNull String getFormat() {
+        return format;
+    }
+
+    /**
+     * Gets the rendered component for a world name or alias. Rendered names are cached by the raw name, so a changed
+     * alias or colour is rendered again.
+     *
+     * @param worldName The world name or alias with legacy '&amp;' colour codes.
+     * @return The rendered world name.
+     */
+    @NotNull Component worldNameComponent(@NotNull String worldName) {
+        if (worldName.isEmpty()) {
+            return Component.empty();
+        }
+        trimCache(worldNameComponents);
+        return worldNameComponents.computeIfAbsent(worldName, SERIALIZER::deserialize);
+    }
+
+    /**
+     * Renders a chat line.
+     *
+     * @param world The rendered world name.
+     * @param chat  The rendered chat message.
+     * @return The chat line.
+     */
+    @NotNull Component render(@NotNull Component world, @NotNull Component chat) {
+        TextComponent.Builder builder = Component.text();
+        for (Segment segment : segments) {
+            if (segment.literal() != null) {
+                builder.append(segment.literal());
+                continue;
+            }
+            Slot slot = segment.slot();
+            Component value = slot.isWorld() ? world : chat;
+            builder.append(slot.style().isEmpty() ? value : Component.text("", slot.style()).append(value));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Renders the format of a legacy chat event.
+     *
+     * @param worldName The world name or alias with legacy '&amp;' colour codes.
+     * @param chat      The chat format of the event.
+     * @return The new chat format.
+     */
+    @NotNull String renderLegacy(@NotNull String worldName, @NotNull String chat) {
+        trimCache(legacyWorldNames);
+        String world = legacyWorldNames.computeIfAbsent(worldName,
+                name -> ChatColor.translateAlternateColorCodes('&', name));
+        if (chat.indexOf('&') >= 0) {
+            // Colour codes in the event format were translated along with the prefix format before
+            chat = ChatColor.translateAlternateColorCodes('&', chat);
+        }
+        return legacyFormat.replace(WORLD_PLACEHOLDER, world).replace(CHAT_PLACEHOLDER, chat);
+    }
+
+    private static void trimCache(Map<String, ?> cache) {
+        if (cache.size() > MAX_CACHED_WORLD_NAMES) {
+            cache.clear();
+        }
+    }
+
+    private record Segment(@Nullable Component literal, @Nullable Slot slot) {
+    }
+
+    private record Slot(boolean isWorld, Style style) {
+    }
+
+    /**
+     * Tracks the legacy colour and decorations that are active after a part of the format.
+     */
+    private static final class LegacyState {
+        private @Nullable TextColor color;
+        private @Nullable Character colorCode;
+        private final List<Character> decorationCodes = new ArrayList<>();
+        private final List<TextDecoration> decorations = new ArrayList<>();
+
+        void apply(String literal) {
+            for (int i = 0; i < literal.length() - 1; i++) {
+                if (literal.charAt(i) != '&') {
+                    continue;
+                }
+                char code = literal.charAt(i + 1);
+                LegacyFormat legacyFormat = LegacyComponentSerializer.parseChar(code);
+                if (legacyFormat == null) {
+                    continue;
+                }
+                if (legacyFormat.reset() || legacyFormat.color() != null) {
+                    // A colour or reset clears all decorations
+                    color = legacyFormat.color();
+                    colorCode = legacyFormat.color() == null ? null : code;
+                    decorationCodes.clear();
+                    decorations.clear();
+                } else if (legacyFormat.decoration() != null && !decorations.contains(legacyFormat.decoration())) {
+                    decorationCodes.add(code);
+                    decorations.add(legacyFormat.decoration());
+                }
+                i++;
+            }
+        }
+
+        String toCodes() {
+            StringBuilder codes = new StringBuilder();
+            if (colorCode != null) {
+                codes.append('&').append(colorCode);
+            }
+            decorationCodes.forEach(code -> codes.append('&').append(code));
+            return codes.toString();
+        }
+
+        Style toStyle() {
+            Style.Builder style = Style.style().color(color);
+            decorations.forEach(decoration -> style.decoration(decoration, true));
+            return style.build();
+        }
+    }
+}
@@ -7,7 +7,9 @@ import org.mvplugins.multiverse.core.dynamiclistener.DynamicListener;
 public sealed interface CoreListener extends DynamicListener permits
         MVAdvancementListener,
         MVChatListener,
+        MVDestinationListener,
         MVEntityListener,
+        MVPlaceholderListener,
         MVPlayerListener,
         MVPortalListener,
         MVWeatherListener,
@@ -3,11 +3,12 @@ package org.mvplugins.multiverse.core.listeners;
 import io.papermc.paper.chat.ChatRenderer;
 import io.papermc.paper.event.player.AsyncChatEvent;
 import jakarta.inject.Inject;
-import net.kyori.adventure.text.TextReplacementConfig;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
-import org.bukkit.ChatColor;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jvnet.hk2.annotations.Service;
 import org.mvplugins.multiverse.core.config.CoreConfig;
 import org.mvplugins.multiverse.core.dynamiclistener.EventRunnable;
@@ -25,6 +26,7 @@ final class MVChatListener implements CoreListener {
     private final CoreConfig config;
     private final WorldManager worldManager;
     private final MVPlayerListener playerListener;
+    private volatile @Nullable ChatPrefixFormat prefixFormat;
 
     @Inject
     MVChatListener(
@@ -45,25 +47,43 @@ final class MVChatListener implements CoreListener {
                 if (!config.isEnablePrefixChat()) {
                     return;
                 }
-                ChatRenderer currentRenderer = event.renderer();
-                ChatRenderer chatRenderer = getPrefixedChatRenderer(currentRenderer);
-                event.renderer(chatRenderer);
+                ChatPrefixFormat prefixFormat = getPrefixFormat();
+                Component world = prefixFormat.worldNameComponent(getWorldName(event.getPlayer()));
+                event.renderer(new PrefixedChatRenderer(event.renderer(), prefixFormat, world));
             }
+        };
+    }
+
+    /**
+     * Renders the chat line with the world prefix. The world is rendered once per message, and viewers that get the
+     * same message from the wrapped renderer share the same chat line.
+     */
+    private static final class PrefixedChatRenderer implements ChatRenderer {
+        private final ChatRenderer currentRenderer;
+        private final ChatPrefixFormat prefixFormat;
+        private final Component world;
+        private @Nullable Component lastChat;
+        private @Nullable Component lastRendered;
+
+        private PrefixedChatRenderer(ChatRenderer currentRenderer, ChatPrefixFormat prefixFormat, Component world) {
+            this.currentRenderer = currentRenderer;
+            this.prefixFormat = prefixFormat;
+            this.world = world;
+        }
 
-            private ChatRenderer getPrefixedChatRenderer(ChatRenderer currentRenderer) {
-                return (source, sourceDisplayName, message, viewer) ->
-                        LegacyComponentSerializer.legacyAmpersand()
-                                .deserialize(config.getPrefixChatFormat())
-                                .replaceText(TextReplacementConfig.builder()
-                                        .matchLiteral("%world%")
-                                        .replacement(MVChatListener.this.getWorldName(source))
-                                        .build())
-                                .replaceText(TextReplacementConfig.builder()
-                                        .matchLiteral("%chat%")
-                                        .replacement(currentRenderer.render(source, sourceDisplayName, message, viewer))
-                                        .build());
+        @Override
+        public synchronized @NotNull Component render(
+                @NotNull Player source,
+                @NotNull Component sourceDisplayName,
+                @NotNull Component message,
+                @NotNull Audience viewer) {
+            Component chat = currentRenderer.render(source, sourceDisplayName, message, viewer);
+            if (lastRendered == null || !chat.equals(lastChat)) {
+                lastChat = chat;
+                lastRendered = prefixFormat.render(world, chat);
             }
-        };
+            return lastRendered;
+        }
     }
 
     /**
@@ -80,15 +100,20 @@ final class MVChatListener implements CoreListener {
         if (!config.isEnablePrefixChat()) {
             return;
         }
+        event.setFormat(getPrefixFormat().renderLegacy(getWorldName(event.getPlayer()), event.getFormat()));
+    }
 
-        String worldName = getWorldName(event.getPlayer());
-        String chat = event.getFormat();
-
-        String prefixChatFormat = config.getPrefixChatFormat();
-        prefixChatFormat = prefixChatFormat.replace("%world%", worldName).replace("%chat%", chat);
-        prefixChatFormat = ChatColor.translateAlternateColorCodes('&', prefixChatFormat);
-
-        event.setFormat(prefixChatFormat);
+    /**
+     * Gets the compiled chat prefix format, compiling it again if the format in config has changed.
+     */
+    private ChatPrefixFormat getPrefixFormat() {
+        String format = config.getPrefixChatFormat();
+        ChatPrefixFormat current = prefixFormat;
+        if (current == null || !current.getFormat().equals(format)) {
+            current = ChatPrefixFormat.compile(format);
+            prefixFormat = current;
+        }
+        return current;
     }
 
     private String getWorldName(Player player) {
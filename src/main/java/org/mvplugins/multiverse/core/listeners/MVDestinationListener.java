@@ -0,0 +1,32 @@
+package org.mvplugins.multiverse.core.listeners;
+
+import jakarta.inject.Inject;
+import org.bukkit.event.EventPriority;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.destination.DestinationsProvider;
+import org.mvplugins.multiverse.core.dynamiclistener.annotations.DefaultEventPriority;
+import org.mvplugins.multiverse.core.dynamiclistener.annotations.EventMethod;
+import org.mvplugins.multiverse.core.event.MVConfigReloadEvent;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
+
+/**
+ * Drops destinations cached by {@link DestinationsProvider} when the config they were parsed with is reloaded.
+ */
+@Service
+final class MVDestinationListener implements CoreListener {
+
+    private final DestinationsProvider destinationsProvider;
+
+    @Inject
+    MVDestinationListener(DestinationsProvider destinationsProvider) {
+        this.destinationsProvider = destinationsProvider;
+    }
+
+    @EventMethod
+    @DefaultEventPriority(EventPriority.MONITOR)
+    void configReloaded(MVConfigReloadEvent event) {
+        LazyLogging.finer("Config reloaded, dropping parsed destinations");
+        destinationsProvider.invalidateParsedDestinations();
+    }
+}
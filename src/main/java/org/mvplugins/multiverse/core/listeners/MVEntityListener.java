@@ -7,8 +7,8 @@
 
 package org.mvplugins.multiverse.core.listeners;
 
-import com.dumptruckman.minecraft.util.Logging;
 import jakarta.inject.Inject;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -23,6 +23,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jvnet.hk2.annotations.Service;
 
 import org.mvplugins.multiverse.core.dynamiclistener.annotations.EventMethod;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
 import org.mvplugins.multiverse.core.world.WorldManager;
 
 /**
@@ -96,13 +98,10 @@ final class MVEntityListener implements CoreListener {
             return;
         }
 
-        worldManager.getLoadedWorld(event.getEntity().getWorld())
-                .peek(world -> {
-                    if (!world.getEntitySpawnConfig().shouldAllowSpawn(event.getEntity())) {
-                        Logging.finest("Cancelling Creature Spawn Event for: " + event.getEntity());
-                        event.setCancelled(true);
-                    }
-                });
+        if (!shouldAllowSpawn(event.getEntity())) {
+            LazyLogging.finest("Cancelling Creature Spawn Event for: %s", event.getEntity());
+            event.setCancelled(true);
+        }
     }
 
     /**
@@ -115,12 +114,15 @@ final class MVEntityListener implements CoreListener {
             return;
         }
 
-        worldManager.getLoadedWorld(event.getEntity().getWorld())
-                .peek(world -> {
-                    if (!world.getEntitySpawnConfig().shouldAllowSpawn(event.getEntity())) {
-                        Logging.finest("Cancelling Entity Spawn Event for: " + event.getEntity());
-                        event.setCancelled(true);
-                    }
-                });
+        if (!shouldAllowSpawn(event.getEntity())) {
+            LazyLogging.finest("Cancelling Entity Spawn Event for: %s", event.getEntity());
+            event.setCancelled(true);
+        }
+    }
+
+    private boolean shouldAllowSpawn(Entity entity) {
+        // Spawn events are very frequent, so this avoids the Option and lambda of the usual world lookup
+        LoadedMultiverseWorld world = worldManager.getLoadedWorldOrNull(entity.getWorld());
+        return world == null || world.getEntitySpawnConfig().shouldAllowSpawn(entity);
     }
 }
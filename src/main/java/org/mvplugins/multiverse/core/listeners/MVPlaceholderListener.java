@@ -0,0 +1,114 @@
+package org.mvplugins.multiverse.core.listeners;
+
+import jakarta.inject.Inject;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.event.server.PluginEnableEvent;
+import org.bukkit.event.server.ServiceEvent;
+import org.bukkit.event.server.ServiceRegisterEvent;
+import org.bukkit.event.server.ServiceUnregisterEvent;
+import org.bukkit.plugin.Plugin;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.WorldPlaceholderResolver;
+import org.mvplugins.multiverse.core.dynamiclistener.annotations.DefaultEventPriority;
+import org.mvplugins.multiverse.core.dynamiclistener.annotations.EventMethod;
+import org.mvplugins.multiverse.core.event.MVConfigReloadEvent;
+import org.mvplugins.multiverse.core.event.world.MVWorldDeleteEvent;
+import org.mvplugins.multiverse.core.event.world.MVWorldLoadedEvent;
+import org.mvplugins.multiverse.core.event.world.MVWorldPropertyChangedEvent;
+import org.mvplugins.multiverse.core.event.world.MVWorldRemovedEvent;
+import org.mvplugins.multiverse.core.event.world.MVWorldUnloadedEvent;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
+
+/**
+ * Drops cached world placeholder values of {@link WorldPlaceholderResolver} when they may have changed.
+ */
+@Service
+final class MVPlaceholderListener implements CoreListener {
+
+    // Entry fees are formatted by the Vault economy, named so the class is not loaded when Vault is missing
+    private static final String VAULT_PLUGIN_NAME = "Vault";
+    private static final String VAULT_ECONOMY_CLASS = "net.milkbowl.vault.economy.Economy";
+
+    private final WorldPlaceholderResolver placeholderResolver;
+
+    @Inject
+    MVPlaceholderListener(WorldPlaceholderResolver placeholderResolver) {
+        this.placeholderResolver = placeholderResolver;
+    }
+
+    @EventMethod
+    @DefaultEventPriority(EventPriority.MONITOR)
+    void worldPropertyChanged(MVWorldPropertyChangedEvent<?> event) {
+        placeholderResolver.invalidate(event.getWorld().getName());
+    }
+
+    @EventMethod
+    @DefaultEventPriority(EventPriority.MONITOR)
+    void worldLoaded(MVWorldLoadedEvent event) {
+        placeholderResolver.invalidate(event.getWorld().getName());
+    }
+
+    @EventMethod
+    @DefaultEventPriority(EventPriority.MONITOR)
+    void worldUnloaded(MVWorldUnloadedEvent event) {
+        placeholderResolver.invalidate(event.getWorld().getName());
+    }
+
+    @EventMethod
+    @DefaultEventPriority(EventPriority.MONITOR)
+    void worldRemoved(MVWorldRemovedEvent event) {
+        placeholderResolver.invalidate(event.getWorld().getName());
+    }
+
+    @EventMethod
+    @DefaultEventPriority(EventPriority.MONITOR)
+    void worldDeleted(MVWorldDeleteEvent event) {
+        placeholderResolver.invalidate(event.getWorld().getName());
+    }
+
+    @EventMethod
+    @DefaultEventPriority(EventPriority.MONITOR)
+    void configReloaded(MVConfigReloadEvent event) {
+        placeholderResolver.invalidateAll();
+    }
+
+    @EventMethod
+    @DefaultEventPriority(EventPriority.MONITOR)
+    void pluginEnabled(PluginEnableEvent event) {
+        invalidateIfVault(event.getPlugin());
+    }
+
+    @EventMethod
+    @DefaultEventPriority(EventPriority.MONITOR)
+    void pluginDisabled(PluginDisableEvent event) {
+        invalidateIfVault(event.getPlugin());
+    }
+
+    @EventMethod
+    @DefaultEventPriority(EventPriority.MONITOR)
+    void serviceRegistered(ServiceRegisterEvent event) {
+        invalidateIfEconomy(event);
+    }
+
+    @EventMethod
+    @DefaultEventPriority(EventPriority.MONITOR)
+    void serviceUnregistered(ServiceUnregisterEvent event) {
+        invalidateIfEconomy(event);
+    }
+
+    private void invalidateIfVault(Plugin plugin) {
+        if (plugin.getName().equals(VAULT_PLUGIN_NAME)) {
+            LazyLogging.finer("Vault changed, dropping cached world placeholders");
+            placeholderResolver.invalidateAll();
+        }
+    }
+
+    private void invalidateIfEconomy(ServiceEvent event) {
+        if (event.getProvider().getService().getName().equals(VAULT_ECONOMY_CLASS)) {
+            LazyLogging.finer("Economy provider changed, dropping cached world placeholders");
+            placeholderResolver.invalidateAll();
+        }
+    }
+}
@@ -23,7 +23,9 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerPortalEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.plugin.Plugin;
@@ -36,11 +38,14 @@ import org.mvplugins.multiverse.core.destination.DestinationsProvider;
 import org.mvplugins.multiverse.core.dynamiclistener.annotations.DefaultEventPriority;
 import org.mvplugins.multiverse.core.dynamiclistener.annotations.EventMethod;
 import org.mvplugins.multiverse.core.dynamiclistener.annotations.EventPriorityKey;
+import org.mvplugins.multiverse.core.dynamiclistener.annotations.IgnoreIfCancelled;
 import org.mvplugins.multiverse.core.economy.MVEconomist;
 import org.mvplugins.multiverse.core.event.MVRespawnEvent;
 import org.mvplugins.multiverse.core.locale.PluginLocales;
+import org.mvplugins.multiverse.core.permissions.PermissionDecisionCache;
 import org.mvplugins.multiverse.core.teleportation.BlockSafety;
 import org.mvplugins.multiverse.core.teleportation.TeleportQueue;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
 import org.mvplugins.multiverse.core.utils.result.ResultChain;
 import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
 import org.mvplugins.multiverse.core.world.MultiverseWorld;
@@ -49,6 +54,7 @@ import org.mvplugins.multiverse.core.world.entrycheck.EntryFeeResult;
 import org.mvplugins.multiverse.core.world.entrycheck.WorldEntryCheckerProvider;
 import org.mvplugins.multiverse.core.world.helpers.DimensionFinder;
 import org.mvplugins.multiverse.core.world.helpers.EnforcementHandler;
+import org.mvplugins.multiverse.core.world.helpers.WorldPlayerTracker;
 import org.spigotmc.event.player.PlayerSpawnLocationEvent;
 
 /**
@@ -68,6 +74,8 @@ final class MVPlayerListener implements CoreListener {
     private final DestinationsProvider destinationsProvider;
     private final EnforcementHandler enforcementHandler;
     private final DimensionFinder dimensionFinder;
+    private final PermissionDecisionCache permissionDecisionCache;
+    private final WorldPlayerTracker worldPlayerTracker;
 
     private final Map<String, String> playerWorld = new ConcurrentHashMap<>();
 
@@ -84,7 +92,9 @@ final class MVPlayerListener implements CoreListener {
             Provider<MVCommandManager> commandManagerProvider,
             DestinationsProvider destinationsProvider,
             EnforcementHandler enforcementHandler,
-            DimensionFinder dimensionFinder) {
+            DimensionFinder dimensionFinder,
+            PermissionDecisionCache permissionDecisionCache,
+            WorldPlayerTracker worldPlayerTracker) {
         this.plugin = plugin;
         this.config = config;
         this.worldManagerProvider = worldManagerProvider;
@@ -97,6 +107,8 @@ final class MVPlayerListener implements CoreListener {
         this.destinationsProvider = destinationsProvider;
         this.enforcementHandler = enforcementHandler;
         this.dimensionFinder = dimensionFinder;
+        this.permissionDecisionCache = permissionDecisionCache;
+        this.worldPlayerTracker = worldPlayerTracker;
     }
 
     private WorldManager getWorldManager() {
@@ -132,56 +144,58 @@ final class MVPlayerListener implements CoreListener {
         Player player = event.getPlayer();
         LoadedMultiverseWorld mvWorld = getWorldManager().getLoadedWorld(player.getWorld()).getOrNull();
         if (mvWorld == null) {
-            Logging.finer("Player '%s' died in a world that is not managed by Multiverse.", player.getName());
+            LazyLogging.finer("Player '%s' died in a world that is not managed by Multiverse.", player.getName());
             return;
         }
 
         if (mvWorld.getBedRespawn() && event.isBedSpawn()) {
-            Logging.fine("Spawning %s at their bed.", player.getName());
+            LazyLogging.fine("Spawning %s at their bed.", player.getName());
             return;
         }
         if (mvWorld.getAnchorRespawn() && event.isAnchorSpawn()) {
-            Logging.fine("Spawning %s at their anchor.", player.getName());
+            LazyLogging.fine("Spawning %s at their anchor.", player.getName());
             return;
         }
 
         getRespawnWorld(mvWorld)
-                .onEmpty(() -> Logging.fine("No respawn-world determined for world '%s'.", mvWorld.getName()))
+                .onEmpty(() -> LazyLogging.fine("No respawn-world determined for world '%s'.", mvWorld.getName()))
                 .flatMap(respawnWorld -> {
-                    Logging.finer("Using respawn-world '%s' for world '%s'.", respawnWorld.getName(), mvWorld.getName());
+                    LazyLogging.finer("Using respawn-world '%s' for world '%s'.",
+                            respawnWorld.getName(), mvWorld.getName());
                     return getMostAccurateRespawnLocation(respawnWorld, event.getRespawnLocation())
-                            .onEmpty(() -> Logging.finer("No accurate respawn-location determined for world '%s'.",
+                            .onEmpty(() -> LazyLogging.finer("No accurate respawn-location determined for world '%s'.",
                                     mvWorld.getName()));
                 })
                 .peek(newRespawnLocation -> {
                     MVRespawnEvent respawnEvent = new MVRespawnEvent(newRespawnLocation, event.getPlayer());
                     this.server.getPluginManager().callEvent(respawnEvent);
                     if (respawnEvent.isCancelled()) {
-                        Logging.fine("Player '%s' cancelled their respawn event.", player.getName());
+                        LazyLogging.fine("Player '%s' cancelled their respawn event.", player.getName());
                         return;
                     }
-                    Logging.fine("Overriding respawn location for player '%s' to '%s'.", player.getName(), respawnEvent.getRespawnLocation());
+                    LazyLogging.fine("Overriding respawn location for player '%s' to '%s'.",
+                            player.getName(), respawnEvent.getRespawnLocation());
                     event.setRespawnLocation(respawnEvent.getRespawnLocation());
                 });
     }
 
     private Option<LoadedMultiverseWorld> getRespawnWorld(LoadedMultiverseWorld mvWorld) {
         if (!mvWorld.getRespawnWorldName().isEmpty()) {
-            Logging.finer("Using configured respawn-world for world '%s'.", mvWorld.getName());
+            LazyLogging.finer("Using configured respawn-world for world '%s'.", mvWorld.getName());
             return getWorldManager().getLoadedWorld(mvWorld.getRespawnWorldName())
                     .onEmpty(() -> {
                         Logging.warning("World '%s' has respawn-world property of '%s' that does not exist!",
                                 mvWorld.getName(), mvWorld.getRespawnWorldName());
                     });
         } else if (!dimensionFinder.isOverworld(mvWorld) && config.getDefaultRespawnInOverworld()) {
-            Logging.finer("Defaulting to overworld for world '%s'.", mvWorld.getName());
+            LazyLogging.finer("Defaulting to overworld for world '%s'.", mvWorld.getName());
             return dimensionFinder.getOverworldWorld(mvWorld).flatMap(getWorldManager()::getLoadedWorld)
                     .onEmpty(() -> {
                         Logging.warning("World '%s' has no overworld to teleport to!",
                                 mvWorld.getName());
                     });
         } else if (config.getDefaultRespawnWithinSameWorld()) {
-            Logging.finer("Defaulting to same world for world '%s'.", mvWorld.getName());
+            LazyLogging.finer("Defaulting to same world for world '%s'.", mvWorld.getName());
             return Option.of(mvWorld);
         }
         return Option.none();
@@ -189,19 +203,43 @@ final class MVPlayerListener implements CoreListener {
 
     private Option<Location> getMostAccurateRespawnLocation(LoadedMultiverseWorld mvWorld, Location defaultRespawnLocation) {
         if (!config.getEnforceRespawnAtWorldSpawn() && Objects.equals(defaultRespawnLocation.getWorld(), mvWorld.getBukkitWorld().getOrNull())) {
-            Logging.fine("Respawn location is within same world as respawn-world, not overriding.");
+            LazyLogging.fine("Respawn location is within same world as respawn-world, not overriding.");
             return Option.none();
         }
         return Option.of(mvWorld.getSpawnLocation());
     }
 
+    /**
+     * This method is called when a player joins, before any other plugin handles the join.
+     *
+     * @param event The Event that was fired.
+     */
+    @EventMethod
+    @DefaultEventPriority(EventPriority.LOWEST)
+    public void playerJoin(PlayerJoinEvent event) {
+        permissionDecisionCache.invalidate(event.getPlayer());
+        worldPlayerTracker.trackPlayer(event.getPlayer(), event.getPlayer().getWorld());
+    }
+
+    /**
+     * This method is called when a player quits.
+     *
+     * @param event The Event that was fired.
+     */
+    @EventMethod
+    @DefaultEventPriority(EventPriority.MONITOR)
+    public void playerQuit(PlayerQuitEvent event) {
+        permissionDecisionCache.invalidate(event.getPlayer());
+        worldPlayerTracker.untrackPlayer(event.getPlayer());
+    }
+
     @EventMethod
     @EventPriorityKey("mvcore-player-spawn-location")
     void playerSpawnLocation(PlayerSpawnLocationEvent event) {
         Player player = event.getPlayer();
         MultiverseWorld world = getWorldManager().getLoadedWorld(player.getWorld()).getOrNull();
         if (world == null) {
-            Logging.finer("Player joined in a world that is not managed by Multiverse.");
+            LazyLogging.finer("Player joined in a world that is not managed by Multiverse.");
             return;
         }
         if (!player.hasPlayedBefore()) {
@@ -214,11 +252,11 @@ final class MVPlayerListener implements CoreListener {
 
     private void handleFirstSpawn(PlayerSpawnLocationEvent event) {
         if (!config.getFirstSpawnOverride()) {
-            Logging.finer("FirstSpawnOverride is disabled");
+            LazyLogging.finer("FirstSpawnOverride is disabled");
             // User has disabled the feature in config
             return;
         }
-        Logging.fine("Moving NEW player to(firstspawnoverride): %s", config.getFirstSpawnLocation());
+        LazyLogging.fine("Moving NEW player to(firstspawnoverride): %s", config.getFirstSpawnLocation());
         destinationsProvider.parseDestination(config.getFirstSpawnLocation())
                 .map(destination -> destination.getLocation(event.getPlayer())
                         .peek(event::setSpawnLocation)
@@ -231,7 +269,7 @@ final class MVPlayerListener implements CoreListener {
 
     private void handleJoinLocation(PlayerSpawnLocationEvent event) {
         if (!config.getEnableJoinDestination()) {
-            Logging.finer("JoinDestination is disabled");
+            LazyLogging.finer("JoinDestination is disabled");
             // User has disabled the feature in config
             return;
         }
@@ -239,7 +277,7 @@ final class MVPlayerListener implements CoreListener {
             Logging.warning("Joindestination is enabled but no destination has been specified in config!");
             return;
         }
-        Logging.finer("JoinDestination is " + config.getJoinDestination());
+        LazyLogging.finer("JoinDestination is %s", config.getJoinDestination());
         destinationsProvider.parseDestination(config.getJoinDestination())
                 .map(destination -> destination.getLocation(event.getPlayer())
                     .peek(event::setSpawnLocation)
@@ -257,6 +295,9 @@ final class MVPlayerListener implements CoreListener {
     @EventMethod
     @DefaultEventPriority(EventPriority.MONITOR)
     public void playerChangedWorld(PlayerChangedWorldEvent event) {
+        // Permission plugins may grant different permissions per world
+        permissionDecisionCache.invalidate(event.getPlayer());
+        worldPlayerTracker.trackPlayer(event.getPlayer(), event.getPlayer().getWorld());
         // Permissions now determine whether or not to handle a gamemode.
         this.handleGameModeAndFlight(event.getPlayer(), event.getPlayer().getWorld());
         playerWorld.put(event.getPlayer().getName(), event.getPlayer().getWorld().getName());
@@ -270,8 +311,8 @@ final class MVPlayerListener implements CoreListener {
     @EventPriorityKey("mvcore-player-teleport")
     @DefaultEventPriority(EventPriority.HIGHEST)
     public void playerTeleport(PlayerTeleportEvent event) {
-        Logging.finer("Got teleport event for player '"
-                + event.getPlayer().getName() + "' with cause '" + event.getCause() + "'");
+        LazyLogging.finer("Got teleport event for player '%s' with cause '%s'",
+                event.getPlayer().getName(), event.getCause());
         if (event.isCancelled()) {
             return;
         }
@@ -279,7 +320,7 @@ final class MVPlayerListener implements CoreListener {
         Option<String> teleporterName = teleportQueue.popFromQueue(teleportee.getName());
         CommandSender teleporter = teleporterName.map(name -> {
             if (name.equalsIgnoreCase("CONSOLE")) {
-                Logging.finer("We know the teleporter is the console! Magical!");
+                LazyLogging.finer("We know the teleporter is the console! Magical!");
                 return this.server.getConsoleSender();
             }
             return this.server.getPlayerExact(teleporterName.get());
@@ -287,28 +328,29 @@ final class MVPlayerListener implements CoreListener {
 
         if (teleporter == null) {
             if (!config.getTeleportIntercept()) {
-                Logging.finer("Teleport for %s was not initiated by multiverse and " +
+                LazyLogging.finer("Teleport for %s was not initiated by multiverse and " +
                         "teleport intercept is disabled. Ignoring...", teleportee.getName());
                 return;
             }
-            Logging.finer("Unknown teleporter for teleport for %s. Using player as teleporter.", teleportee.getName());
+            LazyLogging.finer("Unknown teleporter for teleport for %s. Using player as teleporter.",
+                    teleportee.getName());
             teleporter = teleportee;
         }
 
-        Logging.finer("Teleporter %s is teleporting %s from %s to %s", teleporter.getName(), teleportee.getName(),
+        LazyLogging.finer("Teleporter %s is teleporting %s from %s to %s", teleporter.getName(), teleportee.getName(),
                 event.getFrom(), event.getTo());
 
         MultiverseWorld fromWorld = getWorldManager().getLoadedWorld(event.getFrom().getWorld()).getOrNull();
         LoadedMultiverseWorld toWorld = getWorldManager().getLoadedWorld(event.getTo().getWorld()).getOrNull();
         if (toWorld == null) {
-            Logging.fine("Player '" + teleportee.getName() + "' is teleporting to world '"
-                    + event.getTo().getWorld().getName() + "' which is not managed by Multiverse-Core.  No further "
-                    + "actions will be taken by Multiverse-Core.");
+            LazyLogging.fine("Player '%s' is teleporting to world '%s' which is not managed by Multiverse-Core.  "
+                    + "No further actions will be taken by Multiverse-Core.",
+                    teleportee.getName(), event.getTo().getWorld().getName());
             return;
         }
         if (event.getFrom().getWorld().equals(event.getTo().getWorld())) {
             // The player is Teleporting to the same world.
-            Logging.finer("Player '" + teleportee.getName() + "' is teleporting to the same world.");
+            LazyLogging.finer("Player '%s' is teleporting to the same world.", teleportee.getName());
             this.stateSuccess(teleportee.getName(), toWorld.getName());
             return;
         }
@@ -326,12 +368,27 @@ final class MVPlayerListener implements CoreListener {
                     getCommandManager().getCommandIssuer(finalTeleporter).sendError(results.getLastResultMessage());
                 });
 
-        Logging.fine("Teleport result: %s", entryResult);
+        LazyLogging.fine("Teleport result: %s", entryResult);
+    }
+
+    /**
+     * This method is called after a teleport has gone through every other plugin. Players teleporting to another
+     * world are counted in the target world straight away, so that player limits hold for teleports in the same tick.
+     *
+     * @param event The Event that was fired.
+     */
+    @EventMethod
+    @IgnoreIfCancelled
+    @DefaultEventPriority(EventPriority.MONITOR)
+    void playerTeleportTrack(PlayerTeleportEvent event) {
+        World toWorld = event.getTo().getWorld();
+        if (toWorld != null && !toWorld.equals(event.getFrom().getWorld())) {
+            worldPlayerTracker.trackPlayer(event.getPlayer(), toWorld);
+        }
     }
 
     private void stateSuccess(String playerName, String worldName) {
-        Logging.fine("MV-Core is allowing Player '" + playerName
-                + "' to go to '" + worldName + "'.");
+        LazyLogging.fine("MV-Core is allowing Player '%s' to go to '%s'.", playerName, worldName);
     }
 
     /**
@@ -372,7 +429,7 @@ final class MVPlayerListener implements CoreListener {
             return;
         }
         if (event.getTo() == null || event.getTo().getWorld() == null) {
-            Logging.finer("PlayerPortalEvent's to world is null!");
+            LazyLogging.finer("PlayerPortalEvent's to world is null!");
             return;
         }
         if (config.isUsingCustomPortalSearch()) {
@@ -380,16 +437,16 @@ final class MVPlayerListener implements CoreListener {
         }
         if (Objects.equals(event.getFrom().getWorld(), event.getTo().getWorld())) {
             // The player is Portaling to the same world.
-            Logging.finer("Player '" + event.getPlayer().getName() + "' is portaling to the same world.");
+            LazyLogging.finer("Player '%s' is portaling to the same world.", event.getPlayer().getName());
             return;
         }
 
         MultiverseWorld fromWorld = getWorldManager().getLoadedWorld(event.getFrom().getWorld()).getOrNull();
         LoadedMultiverseWorld toWorld = getWorldManager().getLoadedWorld(event.getTo().getWorld()).getOrNull();
         if (toWorld == null) {
-            Logging.fine("Player '" + event.getPlayer().getName() + "' is portaling to world '"
-                    + event.getTo().getWorld().getName() + "' which is not managed by Multiverse-Core.  No further "
-                    + "actions will be taken by Multiverse-Core.");
+            LazyLogging.fine("Player '%s' is portaling to world '%s' which is not managed by Multiverse-Core.  "
+                    + "No further actions will be taken by Multiverse-Core.",
+                    event.getPlayer().getName(), event.getTo().getWorld().getName());
             return;
         }
         ResultChain entryResult = worldEntryCheckerProvider.forSender(event.getPlayer()).canEnterWorld(fromWorld, toWorld)
@@ -398,7 +455,7 @@ final class MVPlayerListener implements CoreListener {
                     getCommandManager().getCommandIssuer(event.getPlayer()).sendError(results.getLastResultMessage());
                 });
 
-        Logging.fine("Teleport result: %s", entryResult);
+        LazyLogging.fine("Teleport result: %s", entryResult);
     }
 
     /**
@@ -414,7 +471,8 @@ final class MVPlayerListener implements CoreListener {
             if (!player.isOnline() || !player.getWorld().equals(world)) {
                 return;
             }
-            Logging.finer("Handling gamemode and flight for player %s in world '%s'", player.getName(), world.getName());
+            LazyLogging.finer("Handling gamemode and flight for player %s in world '%s'",
+                    player.getName(), world.getName());
             enforcementHandler.handleFlightEnforcement(player);
             enforcementHandler.handleGameModeEnforcement(player);
         }, 1L);
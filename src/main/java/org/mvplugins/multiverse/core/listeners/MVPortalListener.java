@@ -7,7 +7,6 @@
 
 package org.mvplugins.multiverse.core.listeners;
 
-import com.dumptruckman.minecraft.util.Logging;
 import jakarta.inject.Inject;
 import org.bukkit.Material;
 import org.bukkit.PortalType;
@@ -22,6 +21,7 @@ import org.jvnet.hk2.annotations.Service;
 import org.mvplugins.multiverse.core.config.CoreConfig;
 import org.mvplugins.multiverse.core.dynamiclistener.annotations.EventMethod;
 import org.mvplugins.multiverse.core.dynamiclistener.annotations.IgnoreIfCancelled;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
 import org.mvplugins.multiverse.core.world.WorldManager;
 
 import static org.bukkit.PortalType.CUSTOM;
@@ -49,7 +49,7 @@ final class MVPortalListener implements CoreListener {
     @EventMethod
     @IgnoreIfCancelled
     public void portalCreate(PortalCreateEvent event) {
-        Logging.fine("Attempting to create portal at '%s' with reason: %s",
+        LazyLogging.fine("Attempting to create portal at '%s' with reason: %s",
                 event.getWorld().getName(), event.getReason());
 
         this.worldManager.getLoadedWorld(event.getWorld()).peek(world -> {
@@ -58,11 +58,11 @@ final class MVPortalListener implements CoreListener {
                 return;
             }
             if (!world.getPortalForm().isPortalAllowed(targetType)) {
-                Logging.fine("Cancelling creation of %s portal because portalForm disallows.", targetType);
+                LazyLogging.fine("Cancelling creation of %s portal because portalForm disallows.", targetType);
                 event.setCancelled(true);
             }
         }).onEmpty(() ->
-                Logging.fine("World '%s' is not managed by Multiverse! Ignoring at PortalCreateEvent.",
+                LazyLogging.fine("World '%s' is not managed by Multiverse! Ignoring at PortalCreateEvent.",
                         event.getWorld().getName()));
     }
 
@@ -80,7 +80,7 @@ final class MVPortalListener implements CoreListener {
             case NETHER_PAIR -> PortalType.NETHER;
             case END_PLATFORM -> PortalType.ENDER;
             default -> {
-                Logging.fine("Portal created is not NETHER or ENDER type. Ignoring...");
+                LazyLogging.fine("Portal created is not NETHER or ENDER type. Ignoring...");
                 yield CUSTOM;
             }
         };
@@ -100,11 +100,11 @@ final class MVPortalListener implements CoreListener {
 
         this.worldManager.getLoadedWorld(event.getPlayer().getWorld()).peek(world -> {
             if (!world.getPortalForm().isPortalAllowed(PortalType.ENDER)) {
-                Logging.fine("Cancelling creation of ENDER portal because portalForm disallows.");
+                LazyLogging.fine("Cancelling creation of ENDER portal because portalForm disallows.");
                 event.setCancelled(true);
             }
         }).onEmpty(() ->
-                Logging.fine("World '%s' is not managed by Multiverse! Ignoring at PlayerInteractEvent.",
+                LazyLogging.fine("World '%s' is not managed by Multiverse! Ignoring at PlayerInteractEvent.",
                         event.getPlayer().getWorld().getName()));
     }
 
@@ -7,13 +7,13 @@
 
 package org.mvplugins.multiverse.core.listeners;
 
-import com.dumptruckman.minecraft.util.Logging;
 import jakarta.inject.Inject;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.weather.ThunderChangeEvent;
 import org.bukkit.event.weather.WeatherChangeEvent;
 import org.jvnet.hk2.annotations.Service;
 import org.mvplugins.multiverse.core.dynamiclistener.annotations.EventMethod;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
 import org.mvplugins.multiverse.core.world.WorldManager;
 
 /**
@@ -42,7 +42,7 @@ final class MVWeatherListener implements CoreListener {
         worldManager.getLoadedWorld(event.getWorld())
                 .peek(world -> {
                     if (!world.isAllowWeather()) {
-                        Logging.fine("Cancelling weather for %s as getAllowWeather is false", world.getName());
+                        LazyLogging.fine("Cancelling weather for %s as getAllowWeather is false", world.getName());
                         event.setCancelled(true);
                     }
                 });
@@ -61,7 +61,7 @@ final class MVWeatherListener implements CoreListener {
         worldManager.getLoadedWorld(event.getWorld())
                 .peek(world -> {
                     if (!world.isAllowWeather()) {
-                        Logging.fine("Cancelling thunder for %s as getAllowWeather is false", world.getName());
+                        LazyLogging.fine("Cancelling thunder for %s as getAllowWeather is false", world.getName());
                         event.setCancelled(true);
                     }
                 });
@@ -17,6 +17,7 @@ import org.jvnet.hk2.annotations.Service;
 
 import org.mvplugins.multiverse.core.dynamiclistener.annotations.DefaultEventPriority;
 import org.mvplugins.multiverse.core.dynamiclistener.annotations.EventMethod;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
 import org.mvplugins.multiverse.core.world.WorldManager;
 import org.mvplugins.multiverse.core.world.options.UnloadWorldOptions;
 import org.mvplugins.multiverse.core.world.reasons.LoadFailureReason;
@@ -67,7 +68,7 @@ final class MVWorldListener implements CoreListener {
     void worldLoad(WorldLoadEvent event) {
         worldManager.getUnloadedWorld(event.getWorld().getName())
                 .peek(world -> {
-                    Logging.fine("Loading world: " + world.getName());
+                    LazyLogging.fine("Loading world: %s", world.getName());
                     worldManager.loadWorld(world).onFailure(failure -> {
                         if (failure.getFailureReason() != LoadFailureReason.WORLD_ALREADY_LOADING) {
                             Logging.severe("Failed to load world: " + failure);
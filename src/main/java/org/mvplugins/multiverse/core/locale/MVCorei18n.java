@@ -19,6 +19,12 @@ public enum MVCorei18n implements MessageKeyProvider {
     CONFIG_SAVE_FAILED,
     CONFIG_NODE_NOTFOUND,
 
+    // /mv anchor near
+    ANCHOR_NEAR_DESCRIPTION,
+    ANCHOR_NEAR_RADIUS_DESCRIPTION,
+    ANCHOR_NEAR_FLAGS_DESCRIPTION,
+    ANCHOR_NEAR_HEADER,
+
     // /mv check
     CHECK_DESCRIPTION,
     CHECK_PLAYER_DESCRIPTION,
@@ -192,7 +198,6 @@ public enum MVCorei18n implements MessageKeyProvider {
     TELEPORT_DESCRIPTION,
     TELEPORT_PLAYER_DESCRIPTION,
     TELEPORT_DESTINATION_DESCRIPTION,
-    TELEPORT_TOOMANYPLAYERS,
     TELEPORT_SUCCESS,
     TELEPORT_FAILED,
 
@@ -301,6 +306,9 @@ public enum MVCorei18n implements MessageKeyProvider {
     LOADWORLD_WORLDEXISTFOLDER,
     LOADWORLD_WORLDEXISTLOADED,
 
+    PURGEENTITIES_WORLDNOTLOADED,
+    PURGEENTITIES_CANCELLED,
+
     REMOVEWORLD_WORLDNONEXISTENT,
 
     UNLOADWORLD_WORLDALREADYUNLOADING,
@@ -1,5 +1,8 @@
 package org.mvplugins.multiverse.core.permissions;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.dumptruckman.minecraft.util.Logging;
 import io.vavr.control.Try;
 import jakarta.inject.Inject;
@@ -46,59 +49,127 @@ public final class CorePermissions {
     static final String SPAWN = "multiverse.core.spawn";
 
     private final PluginManager pluginManager;
+    private final PermissionDecisionCache decisionCache;
+    private final Map<String, WorldNodes> worldNodes = new ConcurrentHashMap<>();
+    private final Map<String, DestinationNodes> destinationNodes = new ConcurrentHashMap<>();
 
     @Inject
-    CorePermissions(PluginManager pluginManager) {
+    CorePermissions(PluginManager pluginManager, PermissionDecisionCache decisionCache) {
         this.pluginManager = pluginManager;
+        this.decisionCache = decisionCache;
     }
 
     public Try<Void> addWorldPermissions(@NotNull MultiverseWorld world) {
         return Try.run(() -> {
-            pluginManager.addPermission(new Permission(
-                    concatPermission(WORLD_ACCESS, world.getName()), PermissionDefault.OP));
-            pluginManager.addPermission(new Permission(
-                    concatPermission(WORLD_EXEMPT, world.getName()), PermissionDefault.OP));
-            pluginManager.addPermission(new Permission(
-                    concatPermission(GAMEMODE_BYPASS, world.getName()), PermissionDefault.FALSE));
-            pluginManager.addPermission(new Permission(
-                    concatPermission(PLAYERLIMIT_BYPASS, world.getName()), PermissionDefault.FALSE));
+            WorldNodes nodes = getWorldNodes(world.getName());
+            pluginManager.addPermission(new Permission(nodes.access(), PermissionDefault.OP));
+            pluginManager.addPermission(new Permission(nodes.exempt(), PermissionDefault.OP));
+            pluginManager.addPermission(new Permission(nodes.gameModeBypass(), PermissionDefault.FALSE));
+            pluginManager.addPermission(new Permission(nodes.playerLimitBypass(), PermissionDefault.FALSE));
             pluginManager.addPermission(new Permission(
                     concatPermission(SPAWN, world.getName()), PermissionDefault.OP));
-            pluginManager.addPermission(new Permission(
-                    concatPermission(SPAWN, "self", world.getName()), PermissionDefault.OP));
-            pluginManager.addPermission(new Permission(
-                    concatPermission(SPAWN, "other", world.getName()), PermissionDefault.OP));
+            pluginManager.addPermission(new Permission(nodes.spawnSelf(), PermissionDefault.OP));
+            pluginManager.addPermission(new Permission(nodes.spawnOther(), PermissionDefault.OP));
+            decisionCache.invalidateAll();
             Logging.fine("Successfully registered permissions for world %s", world.getName());
         });
     }
 
     public Try<Void> removeWorldPermissions(@NotNull MultiverseWorld world) {
         return Try.run(() -> {
-            pluginManager.removePermission(concatPermission(WORLD_ACCESS, world.getName()));
-            pluginManager.removePermission(concatPermission(WORLD_EXEMPT, world.getName()));
-            pluginManager.removePermission(concatPermission(GAMEMODE_BYPASS, world.getName()));
-            pluginManager.removePermission(concatPermission(PLAYERLIMIT_BYPASS, world.getName()));
-            pluginManager.removePermission(concatPermission(SPAWN, "self", world.getName()));
-            pluginManager.removePermission(concatPermission(SPAWN, "other", world.getName()));
+            WorldNodes nodes = getWorldNodes(world.getName());
+            pluginManager.removePermission(nodes.access());
+            pluginManager.removePermission(nodes.exempt());
+            pluginManager.removePermission(nodes.gameModeBypass());
+            pluginManager.removePermission(nodes.playerLimitBypass());
+            pluginManager.removePermission(nodes.spawnSelf());
+            pluginManager.removePermission(nodes.spawnOther());
+            worldNodes.remove(world.getName());
+            decisionCache.invalidateAll();
             Logging.fine("Successfully removed permissions for world %s", world.getName());
         });
     }
 
     public Try<Void> addDestinationPermissions(@NotNull Destination destination) {
         return Try.run(() -> {
-            pluginManager.addPermission(new Permission(
-                    concatPermission(TELEPORT, "self", destination.getIdentifier()), PermissionDefault.OP));
-            pluginManager.addPermission(new Permission(
-                    concatPermission(TELEPORT, "other", destination.getIdentifier()), PermissionDefault.OP));
+            DestinationNodes nodes = getDestinationNodes(destination.getIdentifier());
+            pluginManager.addPermission(new Permission(nodes.teleportSelf(), PermissionDefault.OP));
+            pluginManager.addPermission(new Permission(nodes.teleportOther(), PermissionDefault.OP));
             Logging.fine("Successfully registered permissions for destination %s", destination.getIdentifier());
         });
     }
 
     public Try<Void> removeDestinationPermissions(@NotNull Destination destination) {
         return Try.run(() -> {
-            pluginManager.removePermission(concatPermission(TELEPORT, "self", destination.getIdentifier()));
-            pluginManager.removePermission(concatPermission(TELEPORT, "other", destination.getIdentifier()));
+            DestinationNodes nodes = getDestinationNodes(destination.getIdentifier());
+            pluginManager.removePermission(nodes.teleportSelf());
+            pluginManager.removePermission(nodes.teleportOther());
+            destinationNodes.remove(destination.getIdentifier());
             Logging.fine("Successfully removed permissions for destination %s", destination.getIdentifier());
         });
     }
+
+    /**
+     * Gets the precomputed permission nodes of a world. Nodes are computed once when the world's permissions are
+     * registered, and on first use for worlds that are not registered.
+     *
+     * @param worldName The name of the world.
+     * @return The permission nodes of the world.
+     */
+    @NotNull WorldNodes getWorldNodes(@NotNull String worldName) {
+        return worldNodes.computeIfAbsent(worldName, WorldNodes::new);
+    }
+
+    /**
+     * Gets the precomputed teleport permission nodes of a destination.
+     *
+     * @param identifier    The identifier of the destination.
+     * @return The permission nodes of the destination.
+     */
+    @NotNull DestinationNodes getDestinationNodes(@NotNull String identifier) {
+        return destinationNodes.computeIfAbsent(identifier, DestinationNodes::new);
+    }
+
+    /**
+     * Permission nodes of a world.
+     */
+    record WorldNodes(
+            String access,
+            String exempt,
+            String gameModeBypass,
+            String playerLimitBypass,
+            String spawnSelf,
+            String spawnOther) {
+
+        WorldNodes(String worldName) {
+            this(
+                    concatPermission(WORLD_ACCESS, worldName),
+                    concatPermission(WORLD_EXEMPT, worldName),
+                    concatPermission(GAMEMODE_BYPASS, worldName),
+                    concatPermission(PLAYERLIMIT_BYPASS, worldName),
+                    concatPermission(SPAWN, CorePermissionsChecker.Scope.SELF.getScope(), worldName),
+                    concatPermission(SPAWN, CorePermissionsChecker.Scope.OTHER.getScope(), worldName));
+        }
+
+        String spawn(@NotNull CorePermissionsChecker.Scope scope) {
+            return scope == CorePermissionsChecker.Scope.SELF ? spawnSelf : spawnOther;
+        }
+    }
+
+    /**
+     * Teleport permission nodes of a destination.
+     */
+    record DestinationNodes(String identifier, String teleportSelf, String teleportOther) {
+
+        DestinationNodes(String identifier) {
+            this(
+                    identifier,
+                    concatPermission(TELEPORT, CorePermissionsChecker.Scope.SELF.getScope(), identifier),
+                    concatPermission(TELEPORT, CorePermissionsChecker.Scope.OTHER.getScope(), identifier));
+        }
+
+        String teleport(@NotNull CorePermissionsChecker.Scope scope) {
+            return scope == CorePermissionsChecker.Scope.SELF ? teleportSelf : teleportOther;
+        }
+    }
 }
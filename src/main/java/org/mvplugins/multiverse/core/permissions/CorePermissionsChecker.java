@@ -20,7 +20,6 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mvplugins.multiverse.core.permissions.PermissionUtils.concatPermission;
-import static org.mvplugins.multiverse.core.permissions.PermissionUtils.hasPermission;
 
 /**
  * Handles permission checks for Multiverse features, including world access,
@@ -29,9 +28,16 @@ import static org.mvplugins.multiverse.core.permissions.PermissionUtils.hasPermi
 @Service
 public final class CorePermissionsChecker {
 
+    private static final String[] BASE_SPAWN_NODES = {
+            concatPermission(CorePermissions.SPAWN, Scope.SELF.getScope()),
+            concatPermission(CorePermissions.SPAWN, Scope.OTHER.getScope()),
+    };
+
     private final CoreConfig config;
     private final DestinationsProvider destinationsProvider;
     private final WorldManager worldManager;
+    private final CorePermissions corePermissions;
+    private final PermissionDecisionCache decisionCache;
 
     /**
      * Creates a CorePermissionsChecker instance with the required dependencies.
@@ -39,15 +45,21 @@ public final class CorePermissionsChecker {
      * @param config The core configuration.
      * @param destinationsProvider The provider for destinations.
      * @param worldManager The manager for Multiverse worlds.
+     * @param corePermissions The registry of precomputed permission nodes.
+     * @param decisionCache The cache of permission decisions.
      */
     @Inject
     CorePermissionsChecker(
             @NotNull CoreConfig config,
             @NotNull DestinationsProvider destinationsProvider,
-            @NotNull WorldManager worldManager) {
+            @NotNull WorldManager worldManager,
+            @NotNull CorePermissions corePermissions,
+            @NotNull PermissionDecisionCache decisionCache) {
         this.config = config;
         this.destinationsProvider = destinationsProvider;
         this.worldManager = worldManager;
+        this.corePermissions = corePermissions;
+        this.decisionCache = decisionCache;
     }
 
     /**
@@ -58,7 +70,7 @@ public final class CorePermissionsChecker {
      * @return True if the sender has access, false otherwise.
      */
     public boolean hasWorldAccessPermission(@NotNull CommandSender sender, @NotNull MultiverseWorld world) {
-        return hasPermission(sender, concatPermission(CorePermissions.WORLD_ACCESS, world.getName()));
+        return hasPermission(sender, corePermissions.getWorldNodes(world.getName()).access());
     }
 
     /**
@@ -69,7 +81,7 @@ public final class CorePermissionsChecker {
      * @return True if the sender is exempt, false otherwise.
      */
     public boolean hasWorldExemptPermission(@NotNull CommandSender sender, @NotNull MultiverseWorld world) {
-        return hasPermission(sender, concatPermission(CorePermissions.WORLD_EXEMPT, world.getName()));
+        return hasPermission(sender, corePermissions.getWorldNodes(world.getName()).exempt());
     }
 
     /**
@@ -80,7 +92,7 @@ public final class CorePermissionsChecker {
      * @return True if the sender can bypass the limit, false otherwise.
      */
     public boolean hasPlayerLimitBypassPermission(@NotNull CommandSender sender, @NotNull MultiverseWorld world) {
-        return hasPermission(sender, concatPermission(CorePermissions.PLAYERLIMIT_BYPASS, world.getName()));
+        return hasPermission(sender, corePermissions.getWorldNodes(world.getName()).playerLimitBypass());
     }
 
     /**
@@ -91,7 +103,7 @@ public final class CorePermissionsChecker {
      * @return True if the sender can bypass the game mode restriction, false otherwise.
      */
     public boolean hasGameModeBypassPermission(@NotNull CommandSender sender, @NotNull MultiverseWorld world) {
-        return hasPermission(sender, concatPermission(CorePermissions.GAMEMODE_BYPASS, world.getName()));
+        return hasPermission(sender, corePermissions.getWorldNodes(world.getName()).gameModeBypass());
     }
 
     /**
@@ -174,9 +186,9 @@ public final class CorePermissionsChecker {
 
     private boolean hasSpawnPermission(@NotNull CommandSender sender, @NotNull Scope scope, @Nullable MultiverseWorld world) {
         if (world == null) {
-            return hasPermission(sender, concatPermission(CorePermissions.SPAWN, scope.getScope()));
+            return hasPermission(sender, BASE_SPAWN_NODES[scope.ordinal()]);
         }
-        return hasPermission(sender, concatPermission(CorePermissions.SPAWN, scope.getScope(), world.getName()));
+        return hasPermission(sender, corePermissions.getWorldNodes(world.getName()).spawn(scope));
     }
 
     /**
@@ -323,10 +335,15 @@ public final class CorePermissionsChecker {
     }
 
     private boolean hasTeleportPermission(@NotNull CommandSender sender, @NotNull Scope scope, @NotNull String identifier, @Nullable String finerPermissionSuffix) {
+        CorePermissions.DestinationNodes nodes = corePermissions.getDestinationNodes(identifier);
         if (finerPermissionSuffix == null) {
-            return hasPermission(sender, concatPermission(CorePermissions.TELEPORT, scope.getScope(), identifier));
+            return hasPermission(sender, nodes.teleport(scope));
         }
-        return hasPermission(sender, concatPermission(CorePermissions.TELEPORT, scope.getScope(), identifier, finerPermissionSuffix));
+        return hasPermission(sender, concatPermission(nodes.teleport(scope), finerPermissionSuffix));
+    }
+
+    private boolean hasPermission(@NotNull CommandSender sender, @NotNull String permission) {
+        return decisionCache.hasPermission(sender, permission);
     }
 
     public enum Scope {
@@ -0,0 +1,134 @@
+package org.mvplugins.multiverse.core.permissions;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+/**
+ * Caches the permission decisions of each online player, so that repeated checks of the same node, such as world
+ * access for every world or teleport permission for every destination, do not query the player's attachments again.
+ * <br/>
+ * Decisions of a player are dropped when they join, quit or change world, when a world is added or removed, and after
+ * {@link #DECISION_TTL_MILLIS} so that changes made by permission plugins are picked up. Permission plugins or addons
+ * that know a player's permissions have changed can call {@link #invalidate(Player)} or {@link #invalidateAll()}.
+ * <br/>
+ * Other senders such as the console are never cached, and caching is bypassed while permission debugging is enabled
+ * so that every check is still logged.
+ */
+@Service
+public final class PermissionDecisionCache {
+
+    /**
+     * How long the decisions of a player are kept before they are checked against the player's attachments again.
+     */
+    static final long DECISION_TTL_MILLIS = 5000;
+
+    /**
+     * Upper bound of cached decisions per player, as finer teleport permissions can create an unbounded set of nodes.
+     */
+    static final int MAX_DECISIONS_PER_PLAYER = 1024;
+
+    private final Map<UUID, PlayerDecisions> decisions = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Checks if the sender has the permission, using the cached decision if there is one.
+     *
+     * @param sender        The sender
+     * @param permission    The permission
+     * @return True if the sender has the permission, else false.
+     */
+    public boolean hasPermission(@NotNull CommandSender sender, @NotNull String permission) {
+        if (!(sender instanceof Player player) || PermissionUtils.isDebugPermissions()) {
+            return PermissionUtils.hasPermission(sender, permission);
+        }
+        long now = System.nanoTime();
+        PlayerDecisions playerDecisions = decisions.compute(player.getUniqueId(), (uuid, current) ->
+                current == null || current.isExpired(now) ? new PlayerDecisions(now) : current);
+        Boolean decision = playerDecisions.nodes.get(permission);
+        if (decision != null) {
+            hits.increment();
+            return decision;
+        }
+        misses.increment();
+        boolean result = player.hasPermission(permission);
+        if (playerDecisions.nodes.size() >= MAX_DECISIONS_PER_PLAYER) {
+            playerDecisions.nodes.clear();
+        }
+        playerDecisions.nodes.put(permission, result);
+        return result;
+    }
+
+    /**
+     * Drops all cached decisions of a player.
+     *
+     * @param player    The player
+     */
+    public void invalidate(@NotNull Player player) {
+        invalidate(player.getUniqueId());
+    }
+
+    /**
+     * Drops all cached decisions of a player.
+     *
+     * @param playerUuid    The uuid of the player
+     */
+    public void invalidate(@NotNull UUID playerUuid) {
+        decisions.remove(playerUuid);
+    }
+
+    /**
+     * Drops all cached decisions of every player.
+     */
+    public void invalidateAll() {
+        decisions.clear();
+    }
+
+    /**
+     * Gets the number of checks answered from the cache.
+     *
+     * @return The number of cache hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of checks that had to query the player's attachments.
+     *
+     * @return The number of cache misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of players with cached decisions.
+     *
+     * @return The number of cached players.
+     */
+    public int getCachedPlayerCount() {
+        return decisions.size();
+    }
+
+    private static final class PlayerDecisions {
+        private final long createdAt;
+        private final Map<String, Boolean> nodes = new ConcurrentHashMap<>();
+
+        private PlayerDecisions(long createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - createdAt > TimeUnit.MILLISECONDS.toNanos(DECISION_TTL_MILLIS);
+        }
+    }
+}
@@ -21,17 +21,20 @@ public final class AsyncSafetyTeleporter {
     private final BlockSafety blockSafety;
     private final TeleportQueue teleportQueue;
     private final PluginManager pluginManager;
+    private final TeleportScheduler teleportScheduler;
 
     @Inject
     AsyncSafetyTeleporter(
             @NotNull MultiverseCore multiverseCore,
             @NotNull BlockSafety blockSafety,
             @NotNull TeleportQueue teleportQueue,
-            @NotNull PluginManager pluginManager) {
+            @NotNull PluginManager pluginManager,
+            @NotNull TeleportScheduler teleportScheduler) {
         this.multiverseCore = multiverseCore;
         this.blockSafety = blockSafety;
         this.teleportQueue = teleportQueue;
         this.pluginManager = pluginManager;
+        this.teleportScheduler = teleportScheduler;
     }
 
     /**
@@ -46,6 +49,7 @@ public final class AsyncSafetyTeleporter {
                 blockSafety,
                 teleportQueue,
                 pluginManager,
+                teleportScheduler,
                 Either.left(location)
         );
     }
@@ -62,6 +66,7 @@ public final class AsyncSafetyTeleporter {
                 blockSafety,
                 teleportQueue,
                 pluginManager,
+                teleportScheduler,
                 Either.right(destination)
         );
     }
@@ -16,11 +16,13 @@ import org.jetbrains.annotations.Nullable;
 import org.mvplugins.multiverse.core.MultiverseCore;
 import org.mvplugins.multiverse.core.destination.DestinationInstance;
 import org.mvplugins.multiverse.core.event.MVTeleportDestinationEvent;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
 import org.mvplugins.multiverse.core.utils.result.AsyncAttempt;
 import org.mvplugins.multiverse.core.utils.result.AsyncAttemptsAggregate;
 import org.mvplugins.multiverse.core.utils.result.Attempt;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Teleports one or more entity safely to a location.
@@ -32,6 +34,7 @@ public final class AsyncSafetyTeleporterAction {
     private final BlockSafety blockSafety;
     private final TeleportQueue teleportQueue;
     private final PluginManager pluginManager;
+    private final TeleportScheduler teleportScheduler;
 
     private final @NotNull Either<Location, DestinationInstance<?, ?>> locationOrDestination;
     private boolean checkSafety;
@@ -42,11 +45,13 @@ public final class AsyncSafetyTeleporterAction {
             @NotNull BlockSafety blockSafety,
             @NotNull TeleportQueue teleportQueue,
             @NotNull PluginManager pluginManager,
+            @NotNull TeleportScheduler teleportScheduler,
             @NotNull Either<Location, DestinationInstance<?, ?>> locationOrDestination) {
         this.multiverseCore = multiverseCore;
         this.blockSafety = blockSafety;
         this.teleportQueue = teleportQueue;
         this.pluginManager = pluginManager;
+        this.teleportScheduler = teleportScheduler;
         this.locationOrDestination = locationOrDestination;
         this.checkSafety = locationOrDestination.fold(
                 location -> true,
@@ -87,7 +92,8 @@ public final class AsyncSafetyTeleporterAction {
     }
 
     /**
-     * Teleport multiple entities
+     * Teleport multiple entities. The teleports are queued by {@link TeleportScheduler}, so that a large group does
+     * not load all their destination chunks at once.
      *
      * @param teleportees The entities to teleport
      * @param <T>   The entity type
@@ -105,13 +111,23 @@ public final class AsyncSafetyTeleporterAction {
      */
     public AsyncAttempt<Void, TeleportFailureReason> teleport(@NotNull Entity teleportee) {
         var localTeleporter = this.teleporter == null ? teleportee : this.teleporter;
-        return AsyncAttempt.fromAttempt(getLocation(teleportee).mapAttempt(this::doSafetyCheck))
+        return AsyncAttempt.fromAttempt(getLocation(teleportee))
+                .mapAsyncAttempt(location -> teleportScheduler.schedule(location,
+                        () -> teleportTo(teleportee, localTeleporter, location)));
+    }
+
+    private AsyncAttempt<Void, TeleportFailureReason> teleportTo(
+            @NotNull Entity teleportee,
+            @NotNull CommandSender localTeleporter,
+            @NotNull Location location) {
+        return doSafetyCheck(location)
+                .mapAsyncAttempt(this::toMainThread)
                 .onSuccess(() -> {
                     if (teleportee instanceof Player player) {
                         this.teleportQueue.addToQueue(localTeleporter, player);
                     }
                 })
-                .mapAsyncAttempt(location -> doAsyncTeleport(teleportee, location))
+                .mapAsyncAttempt(safeLocation -> doAsyncTeleport(teleportee, safeLocation))
                 .thenRun(() -> {
                     if (teleportee instanceof Player player) {
                         this.teleportQueue.popFromQueue(player.getName());
@@ -149,15 +165,28 @@ public final class AsyncSafetyTeleporterAction {
         return parseLocation(destination.getLocation(teleportee).getOrNull());
     }
 
-    private Attempt<Location, TeleportFailureReason> doSafetyCheck(@NotNull Location location) {
+    private AsyncAttempt<Location, TeleportFailureReason> doSafetyCheck(@NotNull Location location) {
         if (!this.checkSafety) {
-            return Attempt.success(location);
+            return AsyncAttempt.fromAttempt(Attempt.success(location));
         }
-        Location safeLocation = blockSafety.findSafeSpawnLocation(location);
-        if (safeLocation == null) {
-            return Attempt.failure(TeleportFailureReason.UNSAFE_LOCATION);
+        return blockSafety.findSafeSpawnLocationAsync(location);
+    }
+
+    /**
+     * The safe location search may complete on a worker thread, while the teleport itself must start on the main
+     * thread.
+     */
+    private AsyncAttempt<Location, TeleportFailureReason> toMainThread(@NotNull Location location) {
+        if (Bukkit.isPrimaryThread()) {
+            return AsyncAttempt.fromAttempt(Attempt.success(location));
         }
-        return Attempt.success(safeLocation);
+        CompletableFuture<Location> future = new CompletableFuture<>();
+        Try.run(() -> Bukkit.getScheduler().runTask(multiverseCore, () -> future.complete(location)))
+                .onFailure(future::completeExceptionally);
+        return AsyncAttempt.of(future, exception -> {
+            Logging.warning("Failed to schedule teleport to %s: %s", location, exception.getMessage());
+            return Attempt.failure(TeleportFailureReason.TELEPORT_FAILED_EXCEPTION);
+        });
     }
 
     private AsyncAttempt<Void, TeleportFailureReason> doAsyncTeleport(
@@ -170,7 +199,7 @@ public final class AsyncSafetyTeleporterAction {
         }).mapAttempt(success -> {
             if (success) {
                 applyPostTeleportVelocity(teleportee);
-                Logging.finer("Teleported async %s to %s", teleportee.getName(), location);
+                LazyLogging.finer("Teleported async %s to %s", teleportee.getName(), location);
                 return Attempt.success(null);
             }
             Logging.warning("Failed to async teleport %s to %s", teleportee.getName(), location);
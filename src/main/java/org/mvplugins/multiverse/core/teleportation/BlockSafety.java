@@ -1,7 +1,14 @@
 package org.mvplugins.multiverse.core.teleportation;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 import com.dumptruckman.minecraft.util.Logging;
 import io.vavr.control.Option;
+import io.vavr.control.Try;
 import jakarta.inject.Inject;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -15,6 +22,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jvnet.hk2.annotations.Service;
 import org.mvplugins.multiverse.core.config.CoreConfig;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
+import org.mvplugins.multiverse.core.utils.result.AsyncAttempt;
+import org.mvplugins.multiverse.core.utils.result.Attempt;
 
 /**
  * Used to check get or find block/location-related information.
@@ -22,8 +32,11 @@ import org.mvplugins.multiverse.core.config.CoreConfig;
 @Service
 public final class BlockSafety {
 
+    private static final int MAX_SEARCH_THREADS = 4;
+
     private final CoreConfig config;
     private final LocationManipulation locationManipulation;
+    private @Nullable ThreadPoolExecutor searchExecutor;
 
     @Inject
     BlockSafety(@NotNull CoreConfig config, @NotNull LocationManipulation locationManipulation) {
@@ -131,25 +144,25 @@ public final class BlockSafety {
      * @return Whether the player can spawn safely at the given {@link Location}
      */
     public boolean canSpawnAtBlockSafely(@NotNull Block block) {
-        Logging.finest("Checking spawn safety for location: %s, %s, %s", block.getX(), block.getY(), block.getZ());
+        LazyLogging.finest("Checking spawn safety for location: %s, %s, %s", block.getX(), block.getY(), block.getZ());
         if (isUnsafeSpawnBody(block)) {
             // Player body will be stuck in solid
-            Logging.finest("Unsafe location for player's body: " + block);
+            LazyLogging.finest("Unsafe location for player's body: %s", block);
             return false;
         }
         Block airBlockForHead = block.getRelative(0, 1, 0);
         if (isUnsafeSpawnBody(airBlockForHead)) {
             // Player's head will be stuck in solid
-            Logging.finest("Unsafe location for player's head: " + airBlockForHead);
+            LazyLogging.finest("Unsafe location for player's head: %s", airBlockForHead);
             return false;
         }
         Block standingOnBlock = block.getRelative(0, -1, 0);
         if (isUnsafeSpawnPlatform(standingOnBlock)) {
             // Player will drop down
-            Logging.finest("Unsafe location due to invalid platform: " + standingOnBlock);
+            LazyLogging.finest("Unsafe location due to invalid platform: %s", standingOnBlock);
             return false;
         }
-        Logging.finest("Location is safe.");
+        LazyLogging.finest("Location is safe.");
         return true;
     }
 
@@ -213,6 +226,10 @@ public final class BlockSafety {
         if (safeBlock == null) {
             return null;
         }
+        return toSpawnLocation(location, safeBlock);
+    }
+
+    private Location toSpawnLocation(@NotNull Location location, @NotNull Block safeBlock) {
         return new Location(
                 location.getWorld(),
                 safeBlock.getX() + 0.5,
@@ -222,6 +239,84 @@ public final class BlockSafety {
                 location.getPitch());
     }
 
+    /**
+     * Finds the closest possible safe location around the given location with the configured search radius, without
+     * blocking the main thread on the search.
+     *
+     * @param location  The target location to find
+     * @return An async attempt with the safe location, or {@link TeleportFailureReason#UNSAFE_LOCATION} if not found.
+     * @see #findSafeSpawnLocationAsync(Location, int, int)
+     */
+    public @NotNull AsyncAttempt<Location, TeleportFailureReason> findSafeSpawnLocationAsync(
+            @NotNull Location location) {
+        return findSafeSpawnLocationAsync(
+                location,
+                config.getSafeLocationHorizontalSearchRadius(),
+                config.getSafeLocationVerticalSearchRadius());
+    }
+
+    /**
+     * Finds the closest possible safe location around the given location, without blocking the main thread on the
+     * search. Must be called on the main thread.
+     * <br/>
+     * If the given location is already safe, the attempt completes immediately. Otherwise, snapshots of the chunks
+     * around the location are taken and searched on a worker thread, so the returned attempt may complete on that
+     * thread. The search order is the same as {@link #findSafeSpawnLocation(Location, int, int)}.
+     *
+     * @param location          The target location to find
+     * @param horizontalRange   The radius around x,z of given location to search.
+     * @param verticalRange     The height of how far up and down to search.
+     * @return An async attempt with the safe location, or {@link TeleportFailureReason#UNSAFE_LOCATION} if not found.
+     */
+    public @NotNull AsyncAttempt<Location, TeleportFailureReason> findSafeSpawnLocationAsync(
+            @NotNull Location location, int horizontalRange, int verticalRange) {
+        if (location.getWorld() == null) {
+            return AsyncAttempt.fromAttempt(Attempt.failure(TeleportFailureReason.NULL_WORLD));
+        }
+        if (canSpawnAtLocationSafely(location)) {
+            return AsyncAttempt.fromAttempt(Attempt.success(toSpawnLocation(location, location.getBlock())));
+        }
+        SafeLocationSearch search = Try.of(() -> SafeLocationSearch.capture(location, horizontalRange, verticalRange))
+                .onFailure(throwable -> LazyLogging.finer("Unable to snapshot chunks for safe location search, "
+                        + "searching on main thread instead: %s", throwable.getMessage()))
+                .getOrNull();
+        if (search == null) {
+            return AsyncAttempt.fromAttempt(
+                    toSafeLocationAttempt(findSafeSpawnLocation(location, horizontalRange, verticalRange)));
+        }
+        return AsyncAttempt.of(
+                CompletableFuture.supplyAsync(search::find, getSearchExecutor()),
+                (safeLocation, throwable) -> {
+                    if (throwable != null) {
+                        Logging.warning("Failed to search for safe location around %s: %s",
+                                location, throwable.getMessage());
+                        return Attempt.<Location, TeleportFailureReason>failure(TeleportFailureReason.UNSAFE_LOCATION);
+                    }
+                    return toSafeLocationAttempt(safeLocation);
+                });
+    }
+
+    private Attempt<Location, TeleportFailureReason> toSafeLocationAttempt(@Nullable Location safeLocation) {
+        return safeLocation == null
+                ? Attempt.failure(TeleportFailureReason.UNSAFE_LOCATION)
+                : Attempt.success(safeLocation);
+    }
+
+    private synchronized Executor getSearchExecutor() {
+        if (searchExecutor == null) {
+            int threads = Math.max(1, Math.min(MAX_SEARCH_THREADS, Runtime.getRuntime().availableProcessors() / 2));
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "Multiverse-SafeLocationSearch");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            searchExecutor = executor;
+        }
+        return searchExecutor;
+    }
+
     /**
      * Finds the closest possible location around the given block with the configured search radius.
      *
@@ -0,0 +1,245 @@
+package org.mvplugins.multiverse.core.teleportation;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Searches for a safe spawn location using chunk snapshots, so that the search itself can run off the main thread.
+ * <br/>
+ * {@link #capture(Location, int, int)} must be called on the main thread. It takes a {@link ChunkSnapshot} of every
+ * chunk in the search area. {@link #find()} only reads these snapshots and can run on any thread. The search order
+ * and safety rules are the same as {@link BlockSafety#findSafeSpawnBlock(org.bukkit.block.Block, int, int)}.
+ */
+final class SafeLocationSearch {
+
+    private static final byte SOLID = 1;
+    private static final byte FIRE = 1 << 1;
+    private static final byte WATER = 1 << 2;
+
+    private final Location origin;
+    private final int horizontalRange;
+    private final int verticalRange;
+    private final int worldMinHeight;
+    private final int worldMaxHeight;
+    private final int bitmapMinY;
+    private final int bitmapHeight;
+    private final Map<Long, ChunkSnapshot> snapshots;
+    private final Map<Long, byte[]> bitmaps = new HashMap<>();
+
+    private SafeLocationSearch(
+            Location origin,
+            int horizontalRange,
+            int verticalRange,
+            int worldMinHeight,
+            int worldMaxHeight,
+            Map<Long, ChunkSnapshot> snapshots) {
+        this.origin = origin;
+        this.horizontalRange = horizontalRange;
+        this.verticalRange = verticalRange;
+        this.worldMinHeight = worldMinHeight;
+        this.worldMaxHeight = worldMaxHeight;
+        this.snapshots = snapshots;
+        // Platform checks look up to 2 blocks below a candidate and head checks 1 block above
+        this.bitmapMinY = Math.max(worldMinHeight, origin.getBlockY() - verticalRange - 2);
+        int bitmapMaxY = Math.min(worldMaxHeight - 1, origin.getBlockY() + verticalRange + 1);
+        this.bitmapHeight = Math.max(0, bitmapMaxY - bitmapMinY + 1);
+    }
+
+    /**
+     * Captures the chunks around the location needed for the search. Must be called on the main thread.
+     *
+     * @param location          The location to search around. Its world must not be null.
+     * @param horizontalRange   The radius around x,z of given location to search.
+     * @param verticalRange     The height of how far up and down to search.
+     * @return The search, ready to run on any thread.
+     */
+    static @NotNull SafeLocationSearch capture(@NotNull Location location, int horizontalRange, int verticalRange) {
+        World world = location.getWorld();
+        int minChunkX = (location.getBlockX() - horizontalRange) >> 4;
+        int maxChunkX = (location.getBlockX() + horizontalRange) >> 4;
+        int minChunkZ = (location.getBlockZ() - horizontalRange) >> 4;
+        int maxChunkZ = (location.getBlockZ() + horizontalRange) >> 4;
+        Map<Long, ChunkSnapshot> snapshots = new HashMap<>();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                snapshots.put(chunkKey(chunkX, chunkZ),
+                        world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false));
+            }
+        }
+        return new SafeLocationSearch(location.clone(), horizontalRange, verticalRange,
+                world.getMinHeight(), world.getMaxHeight(), snapshots);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Finds the closest safe location around the captured location.
+     *
+     * @return The safe location if found, otherwise null.
+     */
+    @Nullable Location find() {
+        int x = origin.getBlockX();
+        int y = origin.getBlockY();
+        int z = origin.getBlockZ();
+        long found = searchAroundXZ(x, y, z);
+        for (int i = 1; i <= verticalRange && found == NOT_FOUND; i++) {
+            if (y + i < worldMaxHeight) {
+                found = searchAroundXZ(x, y + i, z);
+            }
+            if (found == NOT_FOUND && y - i >= worldMinHeight) {
+                found = searchAroundXZ(x, y - i, z);
+            }
+        }
+        if (found == NOT_FOUND) {
+            return null;
+        }
+        return new Location(
+                origin.getWorld(),
+                unpackX(found) + 0.5,
+                unpackY(found),
+                unpackZ(found) + 0.5,
+                origin.getYaw(),
+                origin.getPitch());
+    }
+
+    private static final long NOT_FOUND = Long.MIN_VALUE;
+
+    private static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private static int unpackX(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    private static int unpackY(long packed) {
+        return (int) (packed << 52 >> 52);
+    }
+
+    private static int unpackZ(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+
+    private long searchAroundXZ(int x, int y, int z) {
+        if (canSpawnSafely(x, y, z)) {
+            return pack(x, y, z);
+        }
+        for (int r = 1; r <= horizontalRange; r++) {
+            boolean radiusX = true;
+            boolean incrementOffset = false;
+            int offset = 0;
+            int noOfIterations = r * 2 + 1;
+            for (int i = 0; i < noOfIterations; i++) {
+                long found = radiusX
+                        ? searchPlusMinusPermutation(x, y, z, r, offset)
+                        : searchPlusMinusPermutation(x, y, z, offset, r);
+                if (found != NOT_FOUND) {
+                    return found;
+                }
+                if (incrementOffset) {
+                    offset++;
+                }
+                radiusX = !radiusX;
+                incrementOffset = !incrementOffset;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private long searchPlusMinusPermutation(int x, int y, int z, int offsetX, int offsetZ) {
+        if (canSpawnSafely(x - offsetX, y, z - offsetZ)) {
+            return pack(x - offsetX, y, z - offsetZ);
+        }
+        if (offsetZ != 0 && canSpawnSafely(x - offsetX, y, z + offsetZ)) {
+            return pack(x - offsetX, y, z + offsetZ);
+        }
+        if (offsetX != 0) {
+            if (canSpawnSafely(x + offsetX, y, z - offsetZ)) {
+                return pack(x + offsetX, y, z - offsetZ);
+            }
+            if (offsetZ != 0 && canSpawnSafely(x + offsetX, y, z + offsetZ)) {
+                return pack(x + offsetX, y, z + offsetZ);
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private boolean canSpawnSafely(int x, int y, int z) {
+        if ((flagsAt(x, y, z) & (SOLID | FIRE)) != 0) {
+            // Player body will be stuck in solid
+            return false;
+        }
+        if ((flagsAt(x, y + 1, z) & (SOLID | FIRE)) != 0) {
+            // Player's head will be stuck in solid
+            return false;
+        }
+        byte platform = flagsAt(x, y - 1, z);
+        if ((platform & SOLID) == 0) {
+            // Player will drop down
+            return false;
+        }
+        // Water that is 2 or more block deep
+        return (platform & WATER) == 0 || (flagsAt(x, y - 2, z) & WATER) == 0;
+    }
+
+    private byte flagsAt(int x, int y, int z) {
+        if (y < bitmapMinY || y >= bitmapMinY + bitmapHeight) {
+            // Outside the world, treated as air like bukkit does
+            return 0;
+        }
+        byte[] bitmap = getBitmap(x >> 4, z >> 4);
+        if (bitmap == null) {
+            return 0;
+        }
+        return bitmap[((y - bitmapMinY) << 8) | ((z & 15) << 4) | (x & 15)];
+    }
+
+    /**
+     * Gets the material bitmap of a chunk, building it from the snapshot on first use.
+     */
+    private byte @Nullable [] getBitmap(int chunkX, int chunkZ) {
+        long key = chunkKey(chunkX, chunkZ);
+        byte[] bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            return bitmap;
+        }
+        ChunkSnapshot snapshot = snapshots.get(key);
+        if (snapshot == null) {
+            return null;
+        }
+        bitmap = new byte[bitmapHeight << 8];
+        for (int dy = 0; dy < bitmapHeight; dy++) {
+            for (int localZ = 0; localZ < 16; localZ++) {
+                for (int localX = 0; localX < 16; localX++) {
+                    bitmap[(dy << 8) | (localZ << 4) | localX] =
+                            toFlags(snapshot.getBlockType(localX, bitmapMinY + dy, localZ));
+                }
+            }
+        }
+        bitmaps.put(key, bitmap);
+        return bitmap;
+    }
+
+    private static byte toFlags(Material material) {
+        byte flags = 0;
+        if (material.isSolid()) {
+            flags |= SOLID;
+        }
+        if (material == Material.FIRE) {
+            flags |= FIRE;
+        }
+        if (material == Material.WATER) {
+            flags |= WATER;
+        }
+        return flags;
+    }
+}
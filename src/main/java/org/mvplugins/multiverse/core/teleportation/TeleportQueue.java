@@ -3,12 +3,13 @@ package org.mvplugins.multiverse.core.teleportation;
 import java.util.HashMap;
 import java.util.Map;
 
-import com.dumptruckman.minecraft.util.Logging;
 import io.vavr.control.Option;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jvnet.hk2.annotations.Service;
 
+import org.mvplugins.multiverse.core.utils.LazyLogging;
+
 @Service
 public final class TeleportQueue {
 
@@ -35,7 +36,7 @@ public final class TeleportQueue {
      * @param teleportee The name of the player that will be teleported.
      */
     public void addToQueue(String teleporter, String teleportee) {
-        Logging.finest("Adding mapping '%s' => '%s' to teleport queue", teleporter, teleportee);
+        LazyLogging.finest("Adding mapping '%s' => '%s' to teleport queue", teleporter, teleportee);
         teleportQueueMap.put(teleportee, teleporter);
     }
 
@@ -0,0 +1,207 @@
+package org.mvplugins.multiverse.core.teleportation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Try;
+import jakarta.inject.Inject;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.jetbrains.annotations.NotNull;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.config.CoreConfig;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
+import org.mvplugins.multiverse.core.utils.result.AsyncAttempt;
+import org.mvplugins.multiverse.core.utils.result.Attempt;
+
+/**
+ * Queues teleports so that only a limited number of destination chunks are loaded at once.
+ * <br/>
+ * Teleports are grouped by the chunk of their destination. The first teleport of a group loads the chunk, and once it
+ * is done the rest of the group starts together, as the chunk is already loaded for them. At most
+ * {@link CoreConfig#getConcurrentTeleportLimit()} groups load their chunk at the same time, the others wait in the
+ * order they were queued.
+ */
+@Service
+public final class TeleportScheduler {
+
+    private final MultiverseCore plugin;
+    private final CoreConfig config;
+    private final Map<ChunkKey, ChunkGroup> groups = new LinkedHashMap<>();
+    private int loadingGroups;
+
+    @Inject
+    TeleportScheduler(@NotNull MultiverseCore plugin, @NotNull CoreConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+    }
+
+    /**
+     * Schedules a teleport to the given destination. The teleport is started when its destination chunk may be
+     * loaded, which is right away unless too many chunks are already loading.
+     *
+     * @param destination   The location the teleport goes to.
+     * @param teleport      Starts the teleport, called on the main thread when it is the teleport's turn.
+     * @return The result of the teleport.
+     */
+    public AsyncAttempt<Void, TeleportFailureReason> schedule(
+            @NotNull Location destination,
+            @NotNull Supplier<AsyncAttempt<Void, TeleportFailureReason>> teleport) {
+        Slot slot = acquire(ChunkKey.of(destination));
+        return AsyncAttempt.of(slot.started, exception -> {
+                    Logging.warning("Failed to start teleport to %s: %s", destination, exception.getMessage());
+                    return Attempt.<Void, TeleportFailureReason>failure(TeleportFailureReason.TELEPORT_FAILED_EXCEPTION);
+                })
+                .mapAsyncAttempt(ignore -> teleport.get())
+                .whenComplete(() -> release(slot));
+    }
+
+    /**
+     * Gets the number of teleports that are waiting for their turn.
+     *
+     * @return The number of queued teleports.
+     */
+    public synchronized int getQueuedCount() {
+        return groups.values().stream().mapToInt(group -> group.waiting.size()).sum();
+    }
+
+    private Slot acquire(ChunkKey key) {
+        Slot slot = new Slot(key);
+        List<Slot> toStart;
+        synchronized (this) {
+            ChunkGroup group = groups.computeIfAbsent(key, ignore -> new ChunkGroup());
+            if (group.state == GroupState.LOADED) {
+                // Chunk was loaded by an earlier teleport of this group, no need to wait
+                group.running++;
+                toStart = List.of(slot);
+            } else {
+                group.waiting.add(slot);
+                toStart = drain();
+            }
+        }
+        toStart.forEach(this::start);
+        return slot;
+    }
+
+    private void release(Slot slot) {
+        List<Slot> toStart;
+        synchronized (this) {
+            if (slot.released) {
+                return;
+            }
+            slot.released = true;
+            ChunkGroup group = groups.get(slot.key);
+            if (group == null) {
+                return;
+            }
+            List<Slot> followers = new ArrayList<>();
+            if (slot.leader) {
+                loadingGroups--;
+                group.state = GroupState.LOADED;
+                followers.addAll(group.waiting);
+                group.waiting.clear();
+                group.running += followers.size();
+            } else {
+                group.running--;
+            }
+            if (group.state == GroupState.LOADED && group.running == 0 && group.waiting.isEmpty()) {
+                groups.remove(slot.key);
+            }
+            toStart = drain();
+            toStart.addAll(0, followers);
+        }
+        if (!toStart.isEmpty()) {
+            onMainThread(() -> toStart.forEach(this::start));
+        }
+    }
+
+    /**
+     * Picks the next groups to load while under the limit. Must be called while holding the lock.
+     */
+    private List<Slot> drain() {
+        List<Slot> toStart = new ArrayList<>();
+        int limit = Math.max(1, config.getConcurrentTeleportLimit());
+        Iterator<ChunkGroup> iterator = groups.values().iterator();
+        while (loadingGroups < limit && iterator.hasNext()) {
+            ChunkGroup group = iterator.next();
+            if (group.state != GroupState.QUEUED || group.waiting.isEmpty()) {
+                continue;
+            }
+            Slot leader = group.waiting.remove(0);
+            leader.leader = true;
+            group.state = GroupState.LOADING;
+            loadingGroups++;
+            toStart.add(leader);
+        }
+        if (toStart.isEmpty() && loadingGroups >= limit) {
+            LazyLogging.finer("Teleport queue is full with %d chunks loading", loadingGroups);
+        }
+        return toStart;
+    }
+
+    private void start(Slot slot) {
+        slot.started.complete(null);
+    }
+
+    private void onMainThread(Runnable runnable) {
+        if (Bukkit.isPrimaryThread()) {
+            runnable.run();
+            return;
+        }
+        Try.run(() -> Bukkit.getScheduler().runTask(plugin, runnable))
+                .onFailure(exception -> {
+                    Logging.warning("Failed to schedule queued teleports: %s", exception.getMessage());
+                    runnable.run();
+                });
+    }
+
+    private enum GroupState {
+        /**
+         * Waiting for a free slot to load the chunk.
+         */
+        QUEUED,
+
+        /**
+         * The first teleport of the group is loading the chunk.
+         */
+        LOADING,
+
+        /**
+         * The chunk has been loaded, teleports in the group start right away.
+         */
+        LOADED
+    }
+
+    private record ChunkKey(UUID worldUid, int chunkX, int chunkZ) {
+        static ChunkKey of(Location location) {
+            UUID worldUid = location.getWorld() == null ? null : location.getWorld().getUID();
+            return new ChunkKey(worldUid, location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        }
+    }
+
+    private static final class ChunkGroup {
+        private final List<Slot> waiting = new ArrayList<>();
+        private GroupState state = GroupState.QUEUED;
+        private int running;
+    }
+
+    private static final class Slot {
+        private final ChunkKey key;
+        private final CompletableFuture<Void> started = new CompletableFuture<>();
+        private boolean leader;
+        private boolean released;
+
+        private Slot(ChunkKey key) {
+            this.key = key;
+        }
+    }
+}
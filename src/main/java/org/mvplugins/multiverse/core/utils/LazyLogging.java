@@ -0,0 +1,163 @@
+package org.mvplugins.multiverse.core.utils;
+
+import java.util.function.Supplier;
+
+import com.dumptruckman.minecraft.util.Logging;
+
+/**
+ * Debug logging for hot paths such as event listeners and teleports. Every method checks a cached debug level first,
+ * so when debugging is off a call costs a single field read, with no string building, {@code toString()} calls or
+ * argument arrays.
+ * <br/>
+ * Pass values as format arguments or build the message in a {@link Supplier}, never concatenate the message at the
+ * call site. The debug level must be changed through {@link #setDebugLevel(int)} so that the cache is kept in sync.
+ */
+public final class LazyLogging {
+
+    private static final int FINE = 1;
+    private static final int FINER = 2;
+    private static final int FINEST = 3;
+
+    private static volatile int debugLevel = Logging.getDebugLevel();
+
+    private LazyLogging() {
+        // no instance
+    }
+
+    /**
+     * Sets the global debug level, both for {@link Logging} and the cached level here.
+     *
+     * @param level The debug level, from 0 (off) to 3 (finest).
+     */
+    public static void setDebugLevel(int level) {
+        Logging.setDebugLevel(level);
+        debugLevel = level;
+    }
+
+    /**
+     * Reloads the cached debug level from {@link Logging}, e.g. after it was re-initialised.
+     */
+    public static void refreshDebugLevel() {
+        debugLevel = Logging.getDebugLevel();
+    }
+
+    public static boolean isFineEnabled() {
+        return debugLevel >= FINE;
+    }
+
+    public static boolean isFinerEnabled() {
+        return debugLevel >= FINER;
+    }
+
+    public static boolean isFinestEnabled() {
+        return debugLevel >= FINEST;
+    }
+
+    public static void fine(String message) {
+        if (debugLevel >= FINE) {
+            Logging.fine(message);
+        }
+    }
+
+    public static void fine(Supplier<String> message) {
+        if (debugLevel >= FINE) {
+            Logging.fine(message.get());
+        }
+    }
+
+    public static void fine(String format, Object arg) {
+        if (debugLevel >= FINE) {
+            Logging.fine(format, arg);
+        }
+    }
+
+    public static void fine(String format, Object arg1, Object arg2) {
+        if (debugLevel >= FINE) {
+            Logging.fine(format, arg1, arg2);
+        }
+    }
+
+    public static void fine(String format, Object arg1, Object arg2, Object arg3) {
+        if (debugLevel >= FINE) {
+            Logging.fine(format, arg1, arg2, arg3);
+        }
+    }
+
+    public static void fine(String format, Object... args) {
+        if (debugLevel >= FINE) {
+            Logging.fine(format, args);
+        }
+    }
+
+    public static void finer(String message) {
+        if (debugLevel >= FINER) {
+            Logging.finer(message);
+        }
+    }
+
+    public static void finer(Supplier<String> message) {
+        if (debugLevel >= FINER) {
+            Logging.finer(message.get());
+        }
+    }
+
+    public static void finer(String format, Object arg) {
+        if (debugLevel >= FINER) {
+            Logging.finer(format, arg);
+        }
+    }
+
+    public static void finer(String format, Object arg1, Object arg2) {
+        if (debugLevel >= FINER) {
+            Logging.finer(format, arg1, arg2);
+        }
+    }
+
+    public static void finer(String format, Object arg1, Object arg2, Object arg3) {
+        if (debugLevel >= FINER) {
+            Logging.finer(format, arg1, arg2, arg3);
+        }
+    }
+
+    public static void finer(String format, Object... args) {
+        if (debugLevel >= FINER) {
+            Logging.finer(format, args);
+        }
+    }
+
+    public static void finest(String message) {
+        if (debugLevel >= FINEST) {
+            Logging.finest(message);
+        }
+    }
+
+    public static void finest(Supplier<String> message) {
+        if (debugLevel >= FINEST) {
+            Logging.finest(message.get());
+        }
+    }
+
+    public static void finest(String format, Object arg) {
+        if (debugLevel >= FINEST) {
+            Logging.finest(format, arg);
+        }
+    }
+
+    public static void finest(String format, Object arg1, Object arg2) {
+        if (debugLevel >= FINEST) {
+            Logging.finest(format, arg1, arg2);
+        }
+    }
+
+    public static void finest(String format, Object arg1, Object arg2, Object arg3) {
+        if (debugLevel >= FINEST) {
+            Logging.finest(format, arg1, arg2, arg3);
+        }
+    }
+
+    public static void finest(String format, Object... args) {
+        if (debugLevel >= FINEST) {
+            Logging.finest(format, args);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.mvplugins.multiverse.core.utils.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Try;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Writes files so that a crash or power loss in the middle of a write never leaves a partially written file behind.
+ * <br/>
+ * The data is written to a temporary file next to the target, forced to disk, and only then moved over the target.
+ */
+public final class AtomicFileWriter {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private AtomicFileWriter() {
+        // no instance
+    }
+
+    /**
+     * Gets the temporary file used while writing the given target.
+     *
+     * @param target    The file being written.
+     * @return The temporary file path.
+     */
+    public static @NotNull Path getTempFile(@NotNull Path target) {
+        return target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+    }
+
+    /**
+     * Atomically replaces the content of a file.
+     *
+     * @param target    The file to write.
+     * @param data      The new content of the file.
+     * @return Empty try if the file was written, try containing the error otherwise.
+     */
+    public static @NotNull Try<Void> write(@NotNull Path target, @NotNull String data) {
+        return write(target, data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Atomically replaces the content of a file.
+     *
+     * @param target    The file to write.
+     * @param data      The new content of the file.
+     * @return Empty try if the file was written, try containing the error otherwise.
+     */
+    public static @NotNull Try<Void> write(@NotNull Path target, byte @NotNull [] data) {
+        Path tempFile = getTempFile(target);
+        return Try.run(() -> {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            moveIntoPlace(tempFile, target);
+        }).onFailure(e -> Try.run(() -> Files.deleteIfExists(tempFile)));
+    }
+
+    /**
+     * Deletes the temporary file of a target left behind by a write that never finished, e.g. because the server
+     * crashed. The target itself is never touched by such a write, so it is still the last complete version.
+     *
+     * @param target    The file that was being written.
+     * @return True if a leftover temporary file was deleted.
+     */
+    public static boolean deleteStaleTempFile(@NotNull Path target) {
+        Path tempFile = getTempFile(target);
+        if (!Files.exists(tempFile)) {
+            return false;
+        }
+        return Try.of(() -> Files.deleteIfExists(tempFile))
+                .onSuccess(deleted -> Logging.warning(
+                        "Discarded %s left behind by an unfinished write, using the last complete %s",
+                        tempFile.getFileName(), target.getFileName()))
+                .onFailure(e -> Logging.warning("Failed to delete %s: %s", tempFile.getFileName(), e.getMessage()))
+                .getOrElse(false);
+    }
+
+    private static void moveIntoPlace(Path tempFile, Path target) throws IOException {
+        try {
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Logging.finer("Atomic move not supported for %s, falling back to a plain replace.", target);
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
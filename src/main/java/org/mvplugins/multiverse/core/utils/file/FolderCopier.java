@@ -0,0 +1,218 @@
+package org.mvplugins.multiverse.core.utils.file;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.dumptruckman.minecraft.util.Logging;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jvnet.hk2.annotations.Service;
+
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+
+/**
+ * Copies folder trees with the files copied in parallel on a small bounded pool, so that large worlds can be copied
+ * without holding up the main thread.
+ * <br/>
+ * The source tree is walked once to create the target folders and collect the files, then the files are copied
+ * largest first. Each file is copied with {@link Files#copy}, which lets the JVM use kernel side copies and, where the
+ * runtime and filesystem support it, reflinks. If that fails the file is streamed over instead.
+ */
+@Service
+public final class FolderCopier {
+
+    private static final int MAX_COPY_THREADS = 4;
+
+    private @Nullable ThreadPoolExecutor copyExecutor;
+
+    /**
+     * Copies the content of the given folder to the given target folder, except the files with the excluded names.
+     *
+     * @param sourceDir         The folder to copy.
+     * @param targetDir         The target folder to copy to.
+     * @param excludeFiles      The names of files to exclude from copying.
+     * @param mode              How the files should be copied.
+     * @param progressListener  Optional listener for copy progress, called from the copy threads.
+     * @return A future that completes when all files are copied, or exceptionally with the first copy error.
+     */
+    public @NotNull CompletableFuture<Void> copyFolder(
+            @NotNull Path sourceDir,
+            @NotNull Path targetDir,
+            @NotNull Collection<String> excludeFiles,
+            @NotNull CopyMode mode,
+            @Nullable Consumer<CopyProgress> progressListener) {
+        Executor executor = getCopyExecutor();
+        return CompletableFuture.supplyAsync(() -> walk(sourceDir, targetDir, excludeFiles), executor)
+                .thenCompose(files -> copyFiles(files, mode, progressListener, executor));
+    }
+
+    private List<FileCopy> walk(Path sourceDir, Path targetDir, Collection<String> excludeFiles) {
+        List<FileCopy> files = new ArrayList<>();
+        try {
+            Files.walkFileTree(sourceDir, new SimpleFileVisitor<>() {
+                @Override
+                public @NotNull FileVisitResult preVisitDirectory(
+                        @NotNull Path dir, @NotNull BasicFileAttributes attrs) throws IOException {
+                    Path newDir = targetDir.resolve(sourceDir.relativize(dir));
+                    if (!Files.isDirectory(newDir)) {
+                        Files.createDirectory(newDir);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public @NotNull FileVisitResult visitFile(@NotNull Path file, @NotNull BasicFileAttributes attrs) {
+                    if (excludeFiles.contains(file.getFileName().toString())) {
+                        Logging.finest("Ignoring file: " + file.getFileName());
+                        return FileVisitResult.CONTINUE;
+                    }
+                    files.add(new FileCopy(file, targetDir.resolve(sourceDir.relativize(file)), attrs.size()));
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new FolderCopyException("Failed to walk folder: " + sourceDir.toAbsolutePath(), e);
+        }
+        // Region files dominate the copy time, start them first so they spread over the pool
+        files.sort(Comparator.comparingLong(FileCopy::size).reversed());
+        return files;
+    }
+
+    private CompletableFuture<Void> copyFiles(
+            List<FileCopy> files,
+            CopyMode mode,
+            @Nullable Consumer<CopyProgress> progressListener,
+            Executor executor) {
+        long totalBytes = files.stream().mapToLong(FileCopy::size).sum();
+        AtomicInteger filesCopied = new AtomicInteger();
+        AtomicLong bytesCopied = new AtomicLong();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[files.size()];
+        for (int i = 0; i < files.size(); i++) {
+            FileCopy file = files.get(i);
+            futures[i] = CompletableFuture.runAsync(() -> {
+                copyFile(file, mode);
+                long bytes = bytesCopied.addAndGet(file.size());
+                int count = filesCopied.incrementAndGet();
+                if (progressListener != null) {
+                    progressListener.accept(new CopyProgress(count, files.size(), bytes, totalBytes));
+                }
+            }, executor);
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    private void copyFile(FileCopy file, CopyMode mode) {
+        if (mode == CopyMode.HARD_LINK && tryHardLink(file)) {
+            return;
+        }
+        try {
+            Files.copy(file.source(), file.target(), COPY_ATTRIBUTES);
+        } catch (FileAlreadyExistsException e) {
+            throw new FolderCopyException("Refusing to copy over existing file: " + file.target().toAbsolutePath(), e);
+        } catch (IOException e) {
+            Logging.finer("Falling back to streamed copy for %s: %s", file.source(), e.getMessage());
+            streamCopy(file);
+        }
+    }
+
+    private boolean tryHardLink(FileCopy file) {
+        try {
+            Files.createLink(file.target(), file.source());
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            Logging.finest("Unable to hard link %s, copying instead: %s", file.source(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void streamCopy(FileCopy file) {
+        try {
+            // CREATE_NEW fails instead of overwriting a file that is already at the target
+            try (FileChannel in = FileChannel.open(file.source(), StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(file.target(),
+                         StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long size = in.size();
+                long position = 0;
+                while (position < size) {
+                    position += in.transferTo(position, size - position, out);
+                }
+            }
+            Files.setLastModifiedTime(file.target(), Files.getLastModifiedTime(file.source()));
+        } catch (IOException e) {
+            throw new FolderCopyException("Failed to copy file: " + file.source().toAbsolutePath(), e);
+        }
+    }
+
+    private synchronized Executor getCopyExecutor() {
+        if (copyExecutor == null) {
+            int threads = Math.max(1, Math.min(MAX_COPY_THREADS, Runtime.getRuntime().availableProcessors() / 2));
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "Multiverse-FolderCopier");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            copyExecutor = executor;
+        }
+        return copyExecutor;
+    }
+
+    /**
+     * How files are copied to the target folder.
+     */
+    public enum CopyMode {
+        /**
+         * Copies the content of every file.
+         */
+        COPY,
+
+        /**
+         * Hard links every file to the source where the filesystem allows it, copying otherwise. Only use this when
+         * neither the source nor the target files will be written to afterwards, as they share the same data.
+         */
+        HARD_LINK
+    }
+
+    /**
+     * Progress of a folder copy.
+     *
+     * @param filesCopied   Number of files copied so far.
+     * @param totalFiles    Number of files to copy.
+     * @param bytesCopied   Number of bytes copied so far.
+     * @param totalBytes    Number of bytes to copy.
+     */
+    public record CopyProgress(int filesCopied, int totalFiles, long bytesCopied, long totalBytes) {
+    }
+
+    private record FileCopy(Path source, Path target, long size) {
+    }
+
+    /**
+     * Thrown when a file in a folder could not be copied.
+     */
+    public static final class FolderCopyException extends RuntimeException {
+        FolderCopyException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
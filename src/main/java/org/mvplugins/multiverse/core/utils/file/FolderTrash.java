@@ -0,0 +1,268 @@
+package org.mvplugins.multiverse.core.utils.file;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Try;
+import jakarta.inject.Inject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.utils.FileUtils;
+
+/**
+ * Deletes folders by renaming them into a trash folder next to them and deleting the trash in the background.
+ * <br/>
+ * The rename is a single filesystem operation, so the original folder name can be reused straight away no matter how
+ * big the folder is. If the folder cannot be renamed, e.g. the trash folder is on another filesystem, the folder is
+ * deleted in place instead. If kept files cannot be moved back out of the trash, the folder is moved back and deleted
+ * in place, so kept files never stay in the trash. Trash left behind by a crash or shutdown is purged with
+ * {@link #purgeTrash(Path)}.
+ */
+@Service
+public final class FolderTrash {
+
+    /**
+     * Name of the trash folder, created in the same parent folder as the folders being deleted.
+     */
+    public static final String TRASH_FOLDER_NAME = ".multiverse-trash";
+
+    private static final int MAX_DELETE_THREADS = 4;
+
+    private final FileUtils fileUtils;
+    private final FolderMover folderMover;
+    private final Map<Path, CompletableFuture<Void>> pendingDeletions = new ConcurrentHashMap<>();
+    private final Set<Path> purgedTrashFolders = ConcurrentHashMap.newKeySet();
+    private @Nullable ThreadPoolExecutor deleteExecutor;
+
+    @Inject
+    FolderTrash(@NotNull FileUtils fileUtils) {
+        this(fileUtils, (source, target) -> Files.move(source, target, StandardCopyOption.ATOMIC_MOVE));
+    }
+
+    FolderTrash(@NotNull FileUtils fileUtils, @NotNull FolderMover folderMover) {
+        this.fileUtils = fileUtils;
+        this.folderMover = folderMover;
+    }
+
+    /**
+     * Deletes the given folder, except files with the given names which are left at the same place in the folder.
+     * Returns once the folder is out of the way, the content may still be in the trash being deleted.
+     *
+     * @param folder    The folder to delete.
+     * @param keepFiles The names of files to keep.
+     * @return A {@link Try} that will contain {@code null} if the folder was deleted or moved to trash successfully,
+     *         or an exception if the folder could not be deleted.
+     */
+    public Try<Void> deleteFolder(@NotNull Path folder, @NotNull Collection<String> keepFiles) {
+        Path trashFolder = getTrashFolder(folder.getParent());
+        Path trashedFolder = trashFolder.resolve(folder.getFileName() + "-" + UUID.randomUUID());
+        try {
+            Files.createDirectories(trashFolder);
+            folderMover.move(folder, trashedFolder);
+        } catch (AtomicMoveNotSupportedException e) {
+            Logging.fine("Unable to move %s to trash, deleting in place: %s", folder, e.getMessage());
+            return fileUtils.deleteFolder(folder, keepFiles);
+        } catch (IOException e) {
+            Logging.warning("Unable to move %s to trash, deleting in place: %s", folder, e.getMessage());
+            return fileUtils.deleteFolder(folder, keepFiles);
+        }
+        Logging.finer("Moved %s to trash %s", folder, trashedFolder);
+        Try<Void> restoreResult = restoreKeptFiles(trashedFolder, folder, keepFiles);
+        if (restoreResult.isFailure()) {
+            return moveBack(trashedFolder, folder)
+                    .onFailure(e -> Logging.severe(
+                            "Failed to move %s back from trash %s, kept files are left there: %s",
+                            folder, trashedFolder, e.getMessage()))
+                    .flatMap(ignore -> fileUtils.deleteFolder(folder, keepFiles));
+        }
+        deleteInBackground(trashedFolder);
+        return restoreResult;
+    }
+
+    /**
+     * Deletes everything left in the trash folder of the given parent folder in the background. Only the first call
+     * for a parent folder does anything, so trash is purged once on startup and not again on reloads. Folders still
+     * being deleted are skipped.
+     *
+     * @param parentFolder  The folder that contains the trash folder, usually the world container.
+     */
+    public void purgeTrash(@NotNull Path parentFolder) {
+        Path trashFolder = getTrashFolder(parentFolder);
+        if (!purgedTrashFolders.add(trashFolder.toAbsolutePath()) || !Files.isDirectory(trashFolder)) {
+            return;
+        }
+        try (DirectoryStream<Path> trashedFolders = Files.newDirectoryStream(trashFolder)) {
+            for (Path trashedFolder : trashedFolders) {
+                if (pendingDeletions.containsKey(trashedFolder)) {
+                    continue;
+                }
+                Logging.fine("Purging leftover trash: %s", trashedFolder);
+                deleteInBackground(trashedFolder);
+            }
+        } catch (IOException e) {
+            Logging.warning("Unable to purge trash folder %s: %s", trashFolder, e.getMessage());
+        }
+    }
+
+    /**
+     * Gets a future that completes when all background deletions started so far are done.
+     *
+     * @return The future.
+     */
+    CompletableFuture<Void> awaitPendingDeletions() {
+        return CompletableFuture.allOf(pendingDeletions.values().toArray(CompletableFuture[]::new));
+    }
+
+    static Path getTrashFolder(Path parentFolder) {
+        return parentFolder.resolve(TRASH_FOLDER_NAME);
+    }
+
+    private Try<Void> restoreKeptFiles(Path trashedFolder, Path folder, Collection<String> keepFiles) {
+        if (keepFiles.isEmpty()) {
+            return Try.success(null);
+        }
+        return Try.run(() -> Files.walkFileTree(trashedFolder, new SimpleFileVisitor<>() {
+            @Override
+            public @NotNull FileVisitResult visitFile(@NotNull Path file, @NotNull BasicFileAttributes attrs)
+                    throws IOException {
+                if (keepFiles.contains(file.getFileName().toString())) {
+                    Path keptFile = folder.resolve(trashedFolder.relativize(file));
+                    Files.createDirectories(keptFile.getParent());
+                    folderMover.move(file, keptFile);
+                    Logging.finest("Keeping file: " + keptFile);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        })).onFailure(e -> Logging.warning("Failed to restore kept files to %s, deleting in place instead: %s",
+                folder, e.getMessage()));
+    }
+
+    /**
+     * Moves a trashed folder back to where it was. Files already restored to the folder are left as they are.
+     */
+    private Try<Void> moveBack(Path trashedFolder, Path folder) {
+        if (!Files.exists(folder)) {
+            return Try.run(() -> folderMover.move(trashedFolder, folder));
+        }
+        return Try.run(() -> Files.walkFileTree(trashedFolder, new SimpleFileVisitor<>() {
+            @Override
+            public @NotNull FileVisitResult visitFile(@NotNull Path file, @NotNull BasicFileAttributes attrs)
+                    throws IOException {
+                Path target = folder.resolve(trashedFolder.relativize(file));
+                if (!Files.exists(target)) {
+                    Files.createDirectories(target.getParent());
+                    folderMover.move(file, target);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        })).andThen(() -> deleteInBackground(trashedFolder));
+    }
+
+    private void deleteInBackground(Path trashedFolder) {
+        Executor executor = getDeleteExecutor();
+        CompletableFuture<Void> deletion = CompletableFuture
+                .supplyAsync(() -> collectTree(trashedFolder), executor)
+                .thenCompose(tree -> deleteTree(tree, executor))
+                .whenComplete((ignore, exception) -> {
+                    if (exception != null) {
+                        Logging.warning("Failed to delete trash %s, it will be purged on next startup: %s",
+                                trashedFolder, exception.getMessage());
+                    } else {
+                        Logging.finer("Deleted trash %s", trashedFolder);
+                    }
+                });
+        pendingDeletions.put(trashedFolder, deletion);
+        deletion.whenComplete((ignore, exception) -> pendingDeletions.remove(trashedFolder, deletion));
+    }
+
+    private FolderTree collectTree(Path root) {
+        FolderTree tree = new FolderTree(new ArrayList<>(), new ArrayList<>());
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public @NotNull FileVisitResult visitFile(@NotNull Path file, @NotNull BasicFileAttributes attrs) {
+                    tree.files().add(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public @NotNull FileVisitResult postVisitDirectory(@NotNull Path dir, @Nullable IOException exc) {
+                    // Post order, so children always come before their parent
+                    tree.folders().add(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to list trash " + root, e);
+        }
+        return tree;
+    }
+
+    private CompletableFuture<Void> deleteTree(FolderTree tree, Executor executor) {
+        int threads = MAX_DELETE_THREADS;
+        int batchSize = Math.max(1, (tree.files().size() + threads - 1) / threads);
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int start = 0; start < tree.files().size(); start += batchSize) {
+            List<Path> batch = tree.files().subList(start, Math.min(start + batchSize, tree.files().size()));
+            batches.add(CompletableFuture.runAsync(() -> batch.forEach(this::deletePath), executor));
+        }
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenRun(() -> tree.folders().forEach(this::deletePath));
+    }
+
+    private void deletePath(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to delete " + path, e);
+        }
+    }
+
+    private synchronized Executor getDeleteExecutor() {
+        if (deleteExecutor == null) {
+            int threads = Math.max(1, Math.min(MAX_DELETE_THREADS, Runtime.getRuntime().availableProcessors() / 2));
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "Multiverse-FolderTrash");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            deleteExecutor = executor;
+        }
+        return deleteExecutor;
+    }
+
+    /**
+     * Moves a folder to its place in the trash.
+     */
+    @FunctionalInterface
+    interface FolderMover {
+        void move(Path source, Path target) throws IOException;
+    }
+
+    private record FolderTree(List<Path> files, List<Path> folders) {
+    }
+}
@@ -0,0 +1,181 @@
+package org.mvplugins.multiverse.core.utils.file;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Try;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Coalesces save requests of a single file and writes it off the main thread.
+ * <br/>
+ * Save requests made within the delay window are merged into one write. The content is always serialized on the
+ * main thread, so the writer thread never touches live config objects, and written with {@link AtomicFileWriter}.
+ * Writes of the same file never overlap and are applied in request order.
+ */
+public final class WriteBehindSaver {
+
+    private final Plugin plugin;
+    private final Path file;
+    private final Supplier<String> serializer;
+    private final long delayTicks;
+    private final @Nullable Consumer<String> afterWrite;
+    private final ExecutorService writer;
+    private final AtomicLong requestedSaves = new AtomicLong();
+    private final AtomicLong completedWrites = new AtomicLong();
+
+    private @Nullable BukkitTask pendingTask;
+    private volatile CompletableFuture<Void> lastWrite = CompletableFuture.completedFuture(null);
+
+    /**
+     * Creates a new saver for a file.
+     *
+     * @param plugin        The plugin used to schedule the delayed serialization.
+     * @param file          The file to save to.
+     * @param serializer    Serializes the current content of the file. Always called on the main thread.
+     * @param delayTicks    How long to wait for more save requests before writing.
+     */
+    public WriteBehindSaver(
+            @NotNull Plugin plugin,
+            @NotNull Path file,
+            @NotNull Supplier<String> serializer,
+            long delayTicks) {
+        this(plugin, file, serializer, delayTicks, null);
+    }
+
+    /**
+     * Creates a new saver for a file, which runs a callback after each successful write.
+     *
+     * @param plugin        The plugin used to schedule the delayed serialization.
+     * @param file          The file to save to.
+     * @param serializer    Serializes the current content of the file. Always called on the main thread.
+     * @param delayTicks    How long to wait for more save requests before writing.
+     * @param afterWrite    Called with the written content after the file was written, always on the writer thread.
+     */
+    public WriteBehindSaver(
+            @NotNull Plugin plugin,
+            @NotNull Path file,
+            @NotNull Supplier<String> serializer,
+            long delayTicks,
+            @Nullable Consumer<String> afterWrite) {
+        this.plugin = plugin;
+        this.file = file;
+        this.serializer = serializer;
+        this.delayTicks = delayTicks;
+        this.afterWrite = afterWrite;
+        this.writer = new ThreadPoolExecutor(0, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "Multiverse-Save-" + file.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests the file to be saved. Requests are merged until the delay window passes, then the content is
+     * serialized on the main thread and written asynchronously. Must be called from the main thread.
+     */
+    public void requestSave() {
+        requestedSaves.incrementAndGet();
+        if (pendingTask != null) {
+            return;
+        }
+        if (!plugin.isEnabled()) {
+            flush();
+            return;
+        }
+        pendingTask = Bukkit.getScheduler().runTaskLater(plugin, this::writeSnapshot, delayTicks);
+    }
+
+    private void writeSnapshot() {
+        pendingTask = null;
+        Try.of(serializer::get)
+                .onSuccess(data -> lastWrite = lastWrite.thenRunAsync(
+                        () -> writeToFile(data).onSuccess(ignore -> runAfterWrite(data)), writer))
+                .onFailure(e -> Logging.severe("Failed to serialize %s: %s", file.getFileName(), e.getMessage()));
+    }
+
+    private Try<Void> writeToFile(String data) {
+        return AtomicFileWriter.write(file, data)
+                .onSuccess(ignore -> completedWrites.incrementAndGet())
+                .onFailure(e -> Logging.severe("Failed to write %s: %s", file.getFileName(), e.getMessage()));
+    }
+
+    private void runAfterWrite(String data) {
+        if (afterWrite == null) {
+            return;
+        }
+        // The file itself was written, so a failing callback does not fail the save
+        Try.run(() -> afterWrite.accept(data))
+                .onFailure(e -> Logging.warning("Failed to run post-write task for %s: %s",
+                        file.getFileName(), e.getMessage()));
+    }
+
+    /**
+     * Cancels any pending delayed save and writes the current content synchronously, after all earlier writes have
+     * finished. The post-write callback still runs on the writer thread, see {@link #flushPending()} to wait for it.
+     * Must be called from the main thread.
+     *
+     * @return Empty try if the file was written, try containing the error otherwise.
+     */
+    public @NotNull Try<Void> flush() {
+        if (pendingTask != null) {
+            pendingTask.cancel();
+            pendingTask = null;
+        }
+        return Try.of(serializer::get)
+                .andThenTry(ignore -> lastWrite.join())
+                .flatMap(data -> writeToFile(data)
+                        .andThen(() -> lastWrite = CompletableFuture.runAsync(() -> runAfterWrite(data), writer)));
+    }
+
+    /**
+     * Writes a pending save synchronously if there is one, and waits for earlier writes and their post-write
+     * callbacks to finish. Unlike {@link #flush()}, the file is left alone if no save was requested since the last
+     * write, so changes made to it by hand are kept, e.g. before it is reloaded. Must be called from the main thread.
+     *
+     * @return Empty try if nothing was pending or the file was written, try containing the error otherwise.
+     */
+    public @NotNull Try<Void> flushPending() {
+        Try<Void> pendingWrite = pendingTask != null ? flush() : Try.success(null);
+        return pendingWrite.andThenTry(() -> lastWrite.join());
+    }
+
+    /**
+     * Gets whether a save has been requested but not serialized yet.
+     *
+     * @return True if a save is pending.
+     */
+    public boolean isSavePending() {
+        return pendingTask != null;
+    }
+
+    /**
+     * Gets the number of save requests made, including the ones merged into another write.
+     *
+     * @return The number of save requests.
+     */
+    public long getRequestedSaves() {
+        return requestedSaves.get();
+    }
+
+    /**
+     * Gets the number of times the file was actually written.
+     *
+     * @return The number of completed writes.
+     */
+    public long getCompletedWrites() {
+        return completedWrites.get();
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * This package contains utilities for persisting files safely.
+ */
+package org.mvplugins.multiverse.core.utils.file;
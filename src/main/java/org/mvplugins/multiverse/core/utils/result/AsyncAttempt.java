@@ -169,6 +169,16 @@ public final class AsyncAttempt<T, F extends FailureReason> {
         return new AsyncAttempt<>(future.thenApply(attempt -> attempt.onSuccess(runnable)));
     }
 
+    /**
+     * Executes a consumer with the result if this {@link AsyncAttempt} is successful.
+     *
+     * @param consumer The consumer to process the result.
+     * @return A new {@link AsyncAttempt} instance.
+     */
+    public AsyncAttempt<T, F> onSuccess(Consumer<T> consumer) {
+        return new AsyncAttempt<>(future.thenApply(attempt -> attempt.onSuccess(consumer)));
+    }
+
     /**
      * Executes a runnable if this {@link AsyncAttempt} fails.
      *
@@ -199,6 +209,17 @@ public final class AsyncAttempt<T, F extends FailureReason> {
         return new AsyncAttempt<>(future.thenApply(attempt -> attempt.onFailureReason(consumer)));
     }
 
+    /**
+     * Executes a runnable once this {@link AsyncAttempt} completes, whether it succeeded, failed or completed
+     * exceptionally.
+     *
+     * @param runnable The action to execute on completion.
+     * @return A new {@link AsyncAttempt} instance.
+     */
+    public AsyncAttempt<T, F> whenComplete(Runnable runnable) {
+        return new AsyncAttempt<>(future.whenComplete((attempt, exception) -> runnable.run()));
+    }
+
     /**
      * Blocks until the asynchronous attempt completes and returns the corresponding {@link Attempt}.
      *
@@ -1,7 +1,10 @@
 package org.mvplugins.multiverse.core.world;
 
+import java.lang.ref.WeakReference;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.dumptruckman.minecraft.util.Logging;
 import io.vavr.control.Option;
@@ -17,6 +20,7 @@ import org.mvplugins.multiverse.core.config.CoreConfig;
 import org.mvplugins.multiverse.core.teleportation.BlockSafety;
 import org.mvplugins.multiverse.core.teleportation.LocationManipulation;
 import org.mvplugins.multiverse.core.world.entity.EntityPurger;
+import org.mvplugins.multiverse.core.world.helpers.WorldPlayerTracker;
 import org.mvplugins.multiverse.core.world.location.NullSpawnLocation;
 import org.mvplugins.multiverse.core.world.location.SpawnLocation;
 
@@ -26,10 +30,13 @@ import org.mvplugins.multiverse.core.world.location.SpawnLocation;
 public final class LoadedMultiverseWorld extends MultiverseWorld {
 
     private final UUID worldUid;
+    private volatile WeakReference<World> bukkitWorldRef;
+    private final AtomicLong bukkitWorldCacheMisses;
 
     private final BlockSafety blockSafety;
     private final LocationManipulation locationManipulation;
     private final EntityPurger entityPurger;
+    private final WorldPlayerTracker worldPlayerTracker;
 
     LoadedMultiverseWorld(
             @NotNull World world,
@@ -37,13 +44,17 @@ public final class LoadedMultiverseWorld extends MultiverseWorld {
             @NotNull CoreConfig config,
             @NotNull BlockSafety blockSafety,
             @NotNull LocationManipulation locationManipulation,
-            @NotNull EntityPurger entityPurger
+            @NotNull EntityPurger entityPurger,
+            @NotNull WorldPlayerTracker worldPlayerTracker
     ) {
         super(world.getName(), worldConfig, config);
         this.worldUid = world.getUID();
+        this.bukkitWorldRef = new WeakReference<>(world);
+        this.bukkitWorldCacheMisses = new AtomicLong();
         this.blockSafety = blockSafety;
         this.locationManipulation = locationManipulation;
         this.entityPurger = entityPurger;
+        this.worldPlayerTracker = worldPlayerTracker;
 
         setupWorldConfig(world);
         setupSpawnLocation(world);
@@ -110,7 +121,9 @@ public final class LoadedMultiverseWorld extends MultiverseWorld {
 
     private void purgeEntitiesOnLoad() {
         if (config.isAutoPurgeEntities()) {
-            entityPurger.purgeEntities(this);
+            entityPurger.purgeEntitiesIncrementally(this, null).getResult()
+                    .onSuccess(result -> Logging.fine("Purged %d entities in world %s on load",
+                            result.entitiesPurged(), getName()));
         }
     }
 
@@ -129,7 +142,35 @@ public final class LoadedMultiverseWorld extends MultiverseWorld {
      * @return Bukkit world object.
      */
     public Option<World> getBukkitWorld() {
-        return Option.of(Bukkit.getWorld(worldUid));
+        World world = bukkitWorldRef.get();
+        if (world != null) {
+            return Option.of(world);
+        }
+        long misses = bukkitWorldCacheMisses.incrementAndGet();
+        Logging.finest("Bukkit world cache miss for '%s' (%d misses)", worldName, misses);
+        world = Bukkit.getWorld(worldUid);
+        if (world != null) {
+            bukkitWorldRef = new WeakReference<>(world);
+        }
+        return Option.of(world);
+    }
+
+    /**
+     * Clears the cached Bukkit world object when the world is unloaded, either by Multiverse or by bukkit's
+     * WorldUnloadEvent. Only for internal use.
+     */
+    void invalidateBukkitWorld() {
+        bukkitWorldRef.clear();
+    }
+
+    /**
+     * Gets the number of times {@link #getBukkitWorld()} had to look up the Bukkit world by its UID because the
+     * cached world object was missing. Mainly for debugging.
+     *
+     * @return The number of cache misses.
+     */
+    public long getBukkitWorldCacheMisses() {
+        return bukkitWorldCacheMisses.get();
     }
 
     /**
@@ -160,6 +201,25 @@ public final class LoadedMultiverseWorld extends MultiverseWorld {
         return getBukkitWorld().map(World::getPlayers);
     }
 
+    /**
+     * Gets the number of players in this world, without creating a list of them. Safe to call from any thread.
+     *
+     * @return The number of players currently residing in this world
+     */
+    public int getPlayerCount() {
+        return worldPlayerTracker.getPlayerCount(worldUid);
+    }
+
+    /**
+     * Gets a read-only view of the players in this world, which follows players joining and leaving the world. Safe
+     * to iterate from any thread.
+     *
+     * @return The players currently residing in this world
+     */
+    public Set<Player> getOnlinePlayers() {
+        return worldPlayerTracker.getPlayers(worldUid);
+    }
+
     /**
      * Get the world border configuration for this world.
      *
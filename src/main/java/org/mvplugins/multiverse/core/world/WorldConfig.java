@@ -14,7 +14,6 @@ import org.bukkit.configuration.ConfigurationSection;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import org.mvplugins.multiverse.core.MultiverseCore;
 import org.mvplugins.multiverse.core.config.handle.MemoryConfigurationHandle;
 import org.mvplugins.multiverse.core.config.handle.StringPropertyHandle;
 import org.mvplugins.multiverse.core.config.migration.action.BooleanMigratorAction;
@@ -33,29 +32,45 @@ import org.mvplugins.multiverse.core.world.entity.EntitySpawnConfig;
 
 /**
  * Represents a world configuration.
+ * <br/>
+ * The {@link WorldConfigNodes} and {@link ConfigMigrator} are shared by all world configs, only the values are
+ * stored per world.
  */
 final class WorldConfig {
 
     private final String worldName;
     private final WorldConfigNodes configNodes;
+    private final ConfigMigrator migrator;
     private final MemoryConfigurationHandle configHandle;
     private final StringPropertyHandle stringPropertyHandle;
+    private @Nullable MultiverseWorld world;
 
     WorldConfig(
             @NotNull String worldName,
             @NotNull ConfigurationSection configSection,
-            @NotNull MultiverseCore multiverseCore) {
+            @NotNull WorldConfigNodes configNodes,
+            @NotNull ConfigMigrator migrator) {
         this.worldName = worldName;
-        this.configNodes = new WorldConfigNodes(multiverseCore);
+        this.configNodes = configNodes;
+        this.migrator = migrator;
         this.configHandle = MemoryConfigurationHandle.builder(configSection, configNodes.getNodes())
                 .logger(Logging.getLogger())
-                .migrator(migrator())
+                .migrator(migrator)
+                .valueChangeListener((node, oldValue, newValue) ->
+                        configNodes.onSetValue(world, node, oldValue, newValue))
+                .defaultValueProvider(node -> configNodes.getDefaultValue(getEnvironment(), node))
                 .build();
         this.stringPropertyHandle = new StringPropertyHandle(configHandle);
         load();
     }
 
-    private ConfigMigrator migrator() {
+    /**
+     * Creates the migrator for world configs. It holds no per-world state and can be shared by all world configs.
+     *
+     * @param configNodes   The shared world config nodes.
+     * @return The migrator.
+     */
+    static ConfigMigrator migrator(@NotNull WorldConfigNodes configNodes) {
         return ConfigMigrator.builder(configNodes.version)
                 .addVersionMigrator(VersionMigrator.builder(1.0)
                         .addAction(MoveMigratorAction.of("adjustSpawn", "adjust-spawn"))
@@ -132,6 +147,20 @@ final class WorldConfig {
         return configHandle.save();
     }
 
+    /**
+     * Whether the config changed since it was last saved. Changes made to the spawning config are included.
+     *
+     * @return True if the config has unsaved changes.
+     */
+    boolean isDirty() {
+        EntitySpawnConfig entitySpawnConfig = getEntitySpawnConfig();
+        return configHandle.isDirty() || (entitySpawnConfig != null && entitySpawnConfig.isDirty());
+    }
+
+    int getLastSavedNodeCount() {
+        return configHandle.getLastSavedNodeCount();
+    }
+
     ConfigurationSection getConfigurationSection() {
         return configHandle.getConfig();
     }
@@ -145,7 +174,7 @@ final class WorldConfig {
     }
 
     boolean getAdjustSpawn() {
-        return configHandle.get(configNodes.adjustSpawn);
+        return configHandle.getBoolean(configNodes.adjustSpawn);
     }
 
     Try<Void> setAdjustSpawn(boolean adjustSpawn) {
@@ -161,7 +190,7 @@ final class WorldConfig {
     }
 
     boolean isAllowAdvancementGrant() {
-        return configHandle.get(configNodes.allowAdvancementGrant);
+        return configHandle.getBoolean(configNodes.allowAdvancementGrant);
     }
 
     Try<Void> setAllowAdvancementGrant(boolean allowAdvancementGrant) {
@@ -169,7 +198,7 @@ final class WorldConfig {
     }
 
     boolean isAllowFlight() {
-        return configHandle.get(configNodes.allowFlight);
+        return configHandle.getBoolean(configNodes.allowFlight);
     }
 
     Try<Void> setAllowFlight(boolean allowFlight) {
@@ -177,14 +206,14 @@ final class WorldConfig {
     }
 
     boolean isAllowWeather() {
-        return configHandle.get(configNodes.allowWeather);
+        return configHandle.getBoolean(configNodes.allowWeather);
     }
 
     Try<Void> setAllowWeather(boolean allowWeather) {
         return configHandle.set(configNodes.allowWeather, allowWeather);
     }
     boolean getAnchorRespawn() {
-        return configHandle.get(configNodes.anchorRespawn);
+        return configHandle.getBoolean(configNodes.anchorRespawn);
     }
 
     Try<Void> setAnchorSpawn(boolean anchorSpawn) {
@@ -192,7 +221,7 @@ final class WorldConfig {
     }
 
     boolean getAutoHeal() {
-        return configHandle.get(configNodes.autoHeal);
+        return configHandle.getBoolean(configNodes.autoHeal);
     }
 
     Try<Void> setAutoHeal(boolean autoHeal) {
@@ -200,7 +229,7 @@ final class WorldConfig {
     }
 
     boolean isAutoLoad() {
-        return configHandle.get(configNodes.autoLoad);
+        return configHandle.getBoolean(configNodes.autoLoad);
     }
 
     Try<Void> setAutoLoad(boolean autoLoad) {
@@ -216,7 +245,7 @@ final class WorldConfig {
     }
 
     boolean getBedRespawn() {
-        return configHandle.get(configNodes.bedRespawn);
+        return configHandle.getBoolean(configNodes.bedRespawn);
     }
 
     Try<Void> setBedRespawn(boolean bedRespawn) {
@@ -232,7 +261,7 @@ final class WorldConfig {
     }
 
     boolean isEntryFeeEnabled() {
-        return configHandle.get(configNodes.entryFeeEnabled);
+        return configHandle.getBoolean(configNodes.entryFeeEnabled);
     }
 
     Try<Void> setEntryFeeEnabled(boolean entryFeeEnabled) {
@@ -240,7 +269,7 @@ final class WorldConfig {
     }
 
     double getEntryFeeAmount() {
-        return configHandle.get(configNodes.entryFeeAmount);
+        return configHandle.getDouble(configNodes.entryFeeAmount);
     }
 
     Try<Void> setEntryFeeAmount(double entryFeeAmount) {
@@ -280,7 +309,7 @@ final class WorldConfig {
     }
 
     boolean isHidden() {
-        return configHandle.get(configNodes.hidden);
+        return configHandle.getBoolean(configNodes.hidden);
     }
 
     Try<Void> setHidden(boolean hidden) {
@@ -288,14 +317,14 @@ final class WorldConfig {
     }
 
     boolean isHunger() {
-        return configHandle.get(configNodes.hunger);
+        return configHandle.getBoolean(configNodes.hunger);
     }
 
     Try<Void> setHunger(boolean hunger) {
         return configHandle.set(configNodes.hunger, hunger);
     }
     boolean isKeepSpawnInMemory() {
-        return configHandle.get(configNodes.keepSpawnInMemory);
+        return configHandle.getBoolean(configNodes.keepSpawnInMemory);
     }
 
     Try<Void> setKeepSpawnInMemory(boolean keepSpawnInMemory) {
@@ -303,7 +332,7 @@ final class WorldConfig {
     }
 
     int getPlayerLimit() {
-        return configHandle.get(configNodes.playerLimit);
+        return configHandle.getInt(configNodes.playerLimit);
     }
 
     Try<Void> setPlayerLimit(int playerLimit) {
@@ -319,7 +348,7 @@ final class WorldConfig {
     }
 
     boolean getPvp() {
-        return configHandle.get(configNodes.pvp);
+        return configHandle.getBoolean(configNodes.pvp);
     }
 
     Try<Void> setPvp(boolean pvp) {
@@ -335,7 +364,7 @@ final class WorldConfig {
     }
 
     double getScale() {
-        return configHandle.get(configNodes.scale);
+        return configHandle.getDouble(configNodes.scale);
     }
 
     Try<Void> setScale(double scale) {
@@ -375,15 +404,33 @@ final class WorldConfig {
     }
 
     void setMVWorld(@NotNull MultiverseWorld world) {
-        configNodes.setWorld(world);
+        this.world = world;
     }
 
     boolean isLoadedWorld() {
-        return configNodes.getWorld() instanceof LoadedMultiverseWorld;
+        return world instanceof LoadedMultiverseWorld;
     }
 
     void deferenceMVWorld() {
-        configNodes.setWorld(null);
+        this.world = null;
+    }
+
+    /**
+     * Gets the shared nodes of this world config. Only for internal use.
+     *
+     * @return The world config nodes.
+     */
+    WorldConfigNodes getConfigNodes() {
+        return configNodes;
+    }
+
+    /**
+     * Gets the shared migrator of this world config. Only for internal use.
+     *
+     * @return The world config migrator.
+     */
+    ConfigMigrator getMigrator() {
+        return migrator;
     }
 
     /**
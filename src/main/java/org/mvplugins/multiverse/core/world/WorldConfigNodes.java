@@ -1,7 +1,9 @@
 package org.mvplugins.multiverse.core.world;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import com.dumptruckman.minecraft.util.Logging;
@@ -14,6 +16,7 @@ import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.MemoryConfiguration;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import org.mvplugins.multiverse.core.MultiverseCore;
 import org.mvplugins.multiverse.core.config.node.serializer.NodeSerializer;
@@ -21,6 +24,7 @@ import org.mvplugins.multiverse.core.event.world.MVWorldPropertyChangedEvent;
 import org.mvplugins.multiverse.core.config.node.ConfigNode;
 import org.mvplugins.multiverse.core.config.node.ListConfigNode;
 import org.mvplugins.multiverse.core.config.node.NodeGroup;
+import org.mvplugins.multiverse.core.config.node.ValueNode;
 import org.mvplugins.multiverse.core.economy.MVEconomist;
 import org.mvplugins.multiverse.core.utils.MaterialConverter;
 import org.mvplugins.multiverse.core.world.helpers.EnforcementHandler;
@@ -30,48 +34,93 @@ import org.mvplugins.multiverse.core.world.entity.EntitySpawnConfig;
 
 /**
  * Represents nodes in a world configuration.
+ * <br/>
+ * The nodes hold no per-world state, so a single instance is shared by every {@link WorldConfig}. Actions that
+ * affect a world are registered per node and receive the owning world when its {@link WorldConfig} sets a value.
  */
 final class WorldConfigNodes {
     private static final double CONFIG_VERSION = 1.0;
 
     private final NodeGroup nodes = new NodeGroup();
+    private final Map<ValueNode<?>, WorldValueAction<?>> worldActions = new HashMap<>();
     private WorldManager worldManager;
     private EnforcementHandler enforcementHandler;
-    private MultiverseWorld world = null;
 
     WorldConfigNodes(@NotNull MultiverseCore multiverseCore) {
         this.worldManager = multiverseCore.getServiceLocator().getService(WorldManager.class);
         this.enforcementHandler = multiverseCore.getServiceLocator().getService(EnforcementHandler.class);
     }
 
-    MultiverseWorld getWorld() {
-        return world;
+    NodeGroup getNodes() {
+        return nodes;
     }
 
-    void setWorld(MultiverseWorld world) {
-        this.world = world;
+    /**
+     * Runs the world action of a node and fires {@link MVWorldPropertyChangedEvent} for the given world.
+     *
+     * @param world     The world whose config value was set, or null if the config is not attached to a world.
+     * @param node      The node that was set.
+     * @param oldValue  The previous value.
+     * @param newValue  The new value.
+     */
+    @SuppressWarnings("unchecked")
+    void onSetValue(@Nullable MultiverseWorld world, @NotNull ValueNode<?> node, Object oldValue, Object newValue) {
+        WorldValueAction<Object> worldAction = (WorldValueAction<Object>) worldActions.get(node);
+        if (worldAction != null) {
+            worldAction.accept(world, oldValue, newValue);
+        }
+
+        if (Objects.equals(oldValue, newValue)) return;
+        if (world == null) return;
+        String name = node.getName().getOrElse(node::getPath);
+        MVWorldPropertyChangedEvent<?> mvWorldPropertyChangeEvent = new MVWorldPropertyChangedEvent<>(
+                world, name, oldValue, newValue);
+        Bukkit.getPluginManager().callEvent(mvWorldPropertyChangeEvent);
+        Logging.finer("MVWorldPropertyChangeEvent fired for world '%s' with name '%s' and value '%s'",
+                world.getName(), node.getPath(), newValue);
     }
 
-    NodeGroup getNodes() {
-        return nodes;
+    /**
+     * Gets the default value of a node for a world, as some defaults depend on the world environment.
+     *
+     * @param environment   The environment of the world, or null if it is not known yet.
+     * @param node          The node to get the default value of.
+     * @return The default value.
+     */
+    @Nullable Object getDefaultValue(@Nullable World.Environment environment, @NotNull ValueNode<?> node) {
+        if (node == scale) {
+            if (environment == null) return 1.0;
+            return switch (environment) {
+                case NETHER -> 8.0;
+                case THE_END -> 16.0;
+                default -> 1.0;
+            };
+        }
+        return node.getDefaultValue();
     }
 
     private <T> ConfigNode<T> node(ConfigNode.Builder<T, ?> nodeBuilder) {
-        nodeBuilder.onSetValue((oldValue, newValue) -> {
-            if (Objects.equals(oldValue, newValue)) return;
-            if (world == null) return;
-            MVWorldPropertyChangedEvent<?> mvWorldPropertyChangeEvent = new MVWorldPropertyChangedEvent<>(
-                    world, Option.of(nodeBuilder.name()).getOrElse(nodeBuilder.path()), oldValue, newValue);
-            Bukkit.getPluginManager().callEvent(mvWorldPropertyChangeEvent);
-            Logging.finer("MVWorldPropertyChangeEvent fired for world '%s' with name '%s' and value '%s'",
-                    world.getName(), nodeBuilder.path(), newValue);
-        });
-
         ConfigNode<T> node = nodeBuilder.build();
         nodes.add(node);
         return node;
     }
 
+    private <T> ConfigNode<T> node(ConfigNode.Builder<T, ?> nodeBuilder, WorldValueAction<T> worldAction) {
+        ConfigNode<T> node = node(nodeBuilder);
+        worldActions.put(node, worldAction);
+        return node;
+    }
+
+    /**
+     * Action run when a node value of a specific world is set.
+     *
+     * @param <T>   The type of the node value.
+     */
+    @FunctionalInterface
+    private interface WorldValueAction<T> {
+        void accept(@Nullable MultiverseWorld world, T oldValue, T newValue);
+    }
+
     // BEGIN CHECKSTYLE-SUPPRESSION: Javadoc
     // BEGIN CHECKSTYLE-SUPPRESSION: VisibilityModifier
 
@@ -79,33 +128,36 @@ final class WorldConfigNodes {
             .defaultValue(false));
 
     final ConfigNode<String> alias = node(ConfigNode.builder("alias", String.class)
-            .defaultValue("")
-            .onSetValue((oldValue, newValue) -> {
+            .defaultValue(""),
+            (world, oldValue, newValue) -> {
                 if (world == null) return;
                 world.updateColourlessAlias();
-            }));
+                if (worldManager != null) {
+                    worldManager.updateWorldAlias(world);
+                }
+            });
 
     final ConfigNode<Boolean> allowAdvancementGrant = node(ConfigNode.builder("allow-advancement-grant", Boolean.class)
             .defaultValue(true));
 
     final ConfigNode<Boolean> allowFlight = node(ConfigNode.builder("allow-flight", Boolean.class)
-            .defaultValue(false)
-            .onSetValue((oldValue, newValue) -> {
+            .defaultValue(false),
+            (world, oldValue, newValue) -> {
                 if (!(world instanceof LoadedMultiverseWorld loadedWorld)) return;
                 enforcementHandler.handleAllFlightEnforcement(loadedWorld);
-            }));
+            });
 
     final ConfigNode<Boolean> allowWeather = node(ConfigNode.builder("allow-weather", Boolean.class)
-            .defaultValue(true)
-            .onSetValue((oldValue, newValue) -> {
+            .defaultValue(true),
+            (world, oldValue, newValue) -> {
                 if (!(world instanceof LoadedMultiverseWorld loadedWorld)) return;
-                loadedWorld.getBukkitWorld().peek(world -> {
-                    if (!world.isClearWeather() && !newValue) {
-                        world.setThundering(false);
-                        world.setStorm(false);
+                loadedWorld.getBukkitWorld().peek(bukkitWorld -> {
+                    if (!bukkitWorld.isClearWeather() && !newValue) {
+                        bukkitWorld.setThundering(false);
+                        bukkitWorld.setStorm(false);
                     }
                 });
-            }));
+            });
 
     final ConfigNode<Boolean> anchorRespawn = node(ConfigNode.builder("anchor-respawn", Boolean.class)
             .defaultValue(true));
@@ -124,11 +176,11 @@ final class WorldConfigNodes {
             .hidden());
 
     final ConfigNode<Difficulty> difficulty = node(ConfigNode.builder("difficulty", Difficulty.class)
-            .defaultValue(Difficulty.NORMAL)
-            .onSetValue((oldValue, newValue) -> {
+            .defaultValue(Difficulty.NORMAL),
+            (world, oldValue, newValue) -> {
                 if (!(world instanceof LoadedMultiverseWorld loadedWorld)) return;
                 loadedWorld.getBukkitWorld().peek(bukkitWorld -> bukkitWorld.setDifficulty(newValue));
-            }));
+            });
 
     final ConfigNode<Boolean> entryFeeEnabled = node(ConfigNode.builder("entry-fee.enabled", Boolean.class)
             .defaultValue(false)
@@ -171,11 +223,11 @@ final class WorldConfigNodes {
             .hidden());
 
     final ConfigNode<GameMode> gamemode = node(ConfigNode.builder("gamemode", GameMode.class)
-            .defaultValue(GameMode.SURVIVAL)
-            .onSetValue((oldValue, newValue) -> {
+            .defaultValue(GameMode.SURVIVAL),
+            (world, oldValue, newValue) -> {
                 if (!(world instanceof LoadedMultiverseWorld loadedWorld)) return;
                 enforcementHandler.handleAllGameModeEnforcement(loadedWorld);
-            }));
+            });
 
     final ConfigNode<String> generator = node(ConfigNode.builder("generator", String.class)
             // this should be set on world creation, if @error is shown in config, something went wrong
@@ -190,11 +242,11 @@ final class WorldConfigNodes {
 
     final ConfigNode<Boolean> keepSpawnInMemory = node(ConfigNode
             .builder("keep-spawn-in-memory", Boolean.class)
-            .defaultValue(true)
-            .onSetValue((oldValue, newValue) -> {
+            .defaultValue(true),
+            (world, oldValue, newValue) -> {
                 if (!(world instanceof LoadedMultiverseWorld loadedWorld)) return;
                 loadedWorld.getBukkitWorld().peek(bukkitWorld -> bukkitWorld.setKeepSpawnInMemory(newValue));
-            }));
+            });
 
     final ConfigNode<Integer> playerLimit = node(ConfigNode.builder("player-limit", Integer.class)
             .defaultValue(-1));
@@ -204,11 +256,11 @@ final class WorldConfigNodes {
             .defaultValue(AllowedPortalType.ALL));
 
     final ConfigNode<Boolean> pvp = node(ConfigNode.builder("pvp", Boolean.class)
-            .defaultValue(true)
-            .onSetValue((oldValue, newValue) -> {
+            .defaultValue(true),
+            (world, oldValue, newValue) -> {
                 if (!(world instanceof LoadedMultiverseWorld loadedWorld)) return;
                 loadedWorld.getBukkitWorld().peek(bukkitWorld -> bukkitWorld.setPVP(newValue));
-            }));
+            });
 
     final ConfigNode<String> respawnWorld = node(ConfigNode.builder("respawn-world", String.class)
             .defaultValue("")
@@ -217,15 +269,9 @@ final class WorldConfigNodes {
                 return worldManager.getWorlds().stream().map(MultiverseWorld::getName).toList();
             }));
 
+    // Default depends on the world environment, see getDefaultValue
     final ConfigNode<Double> scale = node(ConfigNode.builder("scale", Double.class)
-            .defaultValue(() -> {
-                if (world == null) return 1.0;
-                return switch (world.getEnvironment()) {
-                    case NETHER -> 8.0;
-                    case THE_END -> 16.0;
-                    default -> 1.0;
-                };
-            }));
+            .defaultValue(1.0));
 
     final ConfigNode<Long> seed = node(ConfigNode.builder("seed", Long.class)
             .defaultValue(Long.MIN_VALUE)
@@ -233,15 +279,15 @@ final class WorldConfigNodes {
 
     final ConfigNode<SpawnLocation> spawnLocation = node(ConfigNode.builder("spawn-location", SpawnLocation.class)
             .defaultValue(NullSpawnLocation.get())
-            .hidden()
-            .onSetValue((oldValue, newValue) -> {
+            .hidden(),
+            (world, oldValue, newValue) -> {
                 if (!(world instanceof LoadedMultiverseWorld loadedWorld)) return;
                 if (newValue == null || newValue instanceof NullSpawnLocation) return;
                 loadedWorld.getBukkitWorld().peek(bukkitWorld -> {
                     bukkitWorld.setSpawnLocation(newValue.getBlockX(), newValue.getBlockY(), newValue.getBlockZ());
                     newValue.setWorld(bukkitWorld);
                 });
-            }));
+            });
 
     final ConfigNode<EntitySpawnConfig> enititySpawnConfig = node(ConfigNode.builder("spawning", EntitySpawnConfig.class)
             .defaultValue(() -> EntitySpawnConfig.fromSection(new MemoryConfiguration()))
@@ -259,11 +305,11 @@ final class WorldConfigNodes {
                 public Object serialize(EntitySpawnConfig object, Class<EntitySpawnConfig> type) {
                     return object.toSection();
                 }
-            })
-            .onSetValue((oldValue, newValue) -> {
+            }),
+            (world, oldValue, newValue) -> {
                 newValue.setWorldRef(world);
                 newValue.applyConfigToWorld();
-            }));
+            });
 
     final ConfigNode<List<String>> worldBlacklist = node(ListConfigNode.listBuilder("world-blacklist", String.class));
 
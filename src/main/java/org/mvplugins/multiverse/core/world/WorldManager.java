@@ -4,13 +4,17 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.dumptruckman.minecraft.util.Logging;
@@ -18,18 +22,21 @@ import com.google.common.base.Strings;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.WorldCreator;
 import org.bukkit.WorldType;
 import org.bukkit.plugin.PluginManager;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jvnet.hk2.annotations.Service;
 
+import org.mvplugins.multiverse.core.MultiverseCore;
 import org.mvplugins.multiverse.core.config.CoreConfig;
+import org.mvplugins.multiverse.core.destination.DestinationsProvider;
 import org.mvplugins.multiverse.core.event.world.MVWorldClonedEvent;
 import org.mvplugins.multiverse.core.event.world.MVWorldCreatedEvent;
 import org.mvplugins.multiverse.core.event.world.MVWorldDeleteEvent;
@@ -46,16 +53,21 @@ import org.mvplugins.multiverse.core.permissions.CorePermissions;
 import org.mvplugins.multiverse.core.teleportation.BlockSafety;
 import org.mvplugins.multiverse.core.teleportation.LocationManipulation;
 import org.mvplugins.multiverse.core.utils.ServerProperties;
+import org.mvplugins.multiverse.core.utils.file.FolderCopier;
+import org.mvplugins.multiverse.core.utils.file.FolderTrash;
+import org.mvplugins.multiverse.core.utils.result.AsyncAttempt;
 import org.mvplugins.multiverse.core.utils.result.Attempt;
 import org.mvplugins.multiverse.core.utils.result.FailureReason;
-import org.mvplugins.multiverse.core.utils.FileUtils;
 import org.mvplugins.multiverse.core.world.biomeprovider.BiomeProviderFactory;
 import org.mvplugins.multiverse.core.world.entity.EntityPurger;
 import org.mvplugins.multiverse.core.world.generators.GeneratorProvider;
 import org.mvplugins.multiverse.core.world.helpers.DataStore.GameRulesStore;
 import org.mvplugins.multiverse.core.world.helpers.DataTransfer;
 import org.mvplugins.multiverse.core.world.helpers.DimensionFinder.DimensionFormat;
+import org.mvplugins.multiverse.core.world.helpers.WorldFolderIndex;
 import org.mvplugins.multiverse.core.world.helpers.WorldNameChecker;
+import org.mvplugins.multiverse.core.world.helpers.WorldNameChecker.FolderStatus;
+import org.mvplugins.multiverse.core.world.helpers.WorldPlayerTracker;
 import org.mvplugins.multiverse.core.world.options.CloneWorldOptions;
 import org.mvplugins.multiverse.core.world.options.CreateWorldOptions;
 import org.mvplugins.multiverse.core.world.options.DeleteWorldOptions;
@@ -84,15 +96,17 @@ public final class WorldManager {
     private static final DimensionFormat DEFAULT_NETHER_FORMAT = new DimensionFormat("%overworld%_nether");
     private static final DimensionFormat DEFAULT_END_FORMAT = new DimensionFormat("%overworld%_the_end");
 
-    private final Map<String, MultiverseWorld> worldsMap;
-    private final Map<String, LoadedMultiverseWorld> loadedWorldsMap;
+    private volatile WorldRegistrySnapshot registry;
     private final List<String> unloadTracker;
     private final List<String> loadTracker;
+    private final List<String> cloneTracker;
     private final WorldsConfigManager worldsConfigManager;
     private final WorldNameChecker worldNameChecker;
+    private final WorldFolderIndex worldFolderIndex;
     private final BiomeProviderFactory biomeProviderFactory;
     private final GeneratorProvider generatorProvider;
-    private final FileUtils fileUtils;
+    private final FolderTrash folderTrash;
+    private final FolderCopier folderCopier;
     private final BlockSafety blockSafety;
     private final LocationManipulation locationManipulation;
     private final PluginManager pluginManager;
@@ -100,26 +114,36 @@ public final class WorldManager {
     private final ServerProperties serverProperties;
     private final CoreConfig config;
     private final EntityPurger entityPurger;
+    private final WorldPlayerTracker worldPlayerTracker;
+    private final Provider<DestinationsProvider> destinationsProvider;
+    private final MultiverseCore plugin;
 
     @Inject
     WorldManager(
             @NotNull WorldsConfigManager worldsConfigManager,
             @NotNull WorldNameChecker worldNameChecker,
+            @NotNull WorldFolderIndex worldFolderIndex,
             @NotNull BiomeProviderFactory biomeProviderFactory,
             @NotNull GeneratorProvider generatorProvider,
-            @NotNull FileUtils fileUtils,
+            @NotNull FolderTrash folderTrash,
+            @NotNull FolderCopier folderCopier,
             @NotNull BlockSafety blockSafety,
             @NotNull LocationManipulation locationManipulation,
             @NotNull PluginManager pluginManager,
             @NotNull CorePermissions corePermissions,
             @NotNull ServerProperties serverProperties,
             @NotNull CoreConfig config,
-            @NotNull EntityPurger entityPurger) {
+            @NotNull EntityPurger entityPurger,
+            @NotNull WorldPlayerTracker worldPlayerTracker,
+            @NotNull Provider<DestinationsProvider> destinationsProvider,
+            @NotNull MultiverseCore plugin) {
         this.worldsConfigManager = worldsConfigManager;
         this.worldNameChecker = worldNameChecker;
+        this.worldFolderIndex = worldFolderIndex;
         this.biomeProviderFactory = biomeProviderFactory;
         this.generatorProvider = generatorProvider;
-        this.fileUtils = fileUtils;
+        this.folderTrash = folderTrash;
+        this.folderCopier = folderCopier;
         this.blockSafety = blockSafety;
         this.locationManipulation = locationManipulation;
         this.pluginManager = pluginManager;
@@ -127,23 +151,62 @@ public final class WorldManager {
         this.serverProperties = serverProperties;
         this.config = config;
         this.entityPurger = entityPurger;
+        this.worldPlayerTracker = worldPlayerTracker;
+        this.destinationsProvider = destinationsProvider;
+        this.plugin = plugin;
 
-        this.worldsMap = new HashMap<>();
-        this.loadedWorldsMap = new HashMap<>();
+        this.registry = WorldRegistrySnapshot.EMPTY;
         this.unloadTracker = new ArrayList<>();
         this.loadTracker = new ArrayList<>();
+        this.cloneTracker = new ArrayList<>();
     }
 
     /**
      * Loads all worlds from the worlds config.
+     * <br/>
+     * Startup runs in stages: reading and parsing worlds.yml and probing the world folders are done in parallel,
+     * then the worlds are imported and loaded on the main thread, as bukkit requires. The time taken by each stage
+     * is logged once done.
      *
      * @return The result of the load.
      */
     public Try<Void> initAllWorlds() {
-        return updateWorldsFromConfig().andThenTry(() -> {
-            importExistingWorlds();
-            autoLoadWorlds();
-        }).flatMap(ignore -> saveWorldsConfig());
+        Map<String, Long> stageTimings = new LinkedHashMap<>();
+        folderTrash.purgeTrash(Bukkit.getWorldContainer().toPath());
+        return timeStage(stageTimings, "config", this::updateWorldsFromConfig).andThenTry(() -> {
+            Map<String, FolderStatus> folderStatuses = timeStage(stageTimings, "folders", this::scanImportFolders);
+            runStage(stageTimings, "import", () -> importExistingWorlds(folderStatuses));
+            runStage(stageTimings, "load", this::autoLoadWorlds);
+            verifyWorldNameIndex();
+        }).flatMap(ignore -> timeStage(stageTimings, "save", this::saveWorldsConfig))
+                .andThen(() -> logStageTimings(stageTimings));
+    }
+
+    private <T> T timeStage(Map<String, Long> stageTimings, String stage, Supplier<T> action) {
+        long startTime = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            stageTimings.put(stage, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        }
+    }
+
+    private void runStage(Map<String, Long> stageTimings, String stage, Runnable action) {
+        timeStage(stageTimings, stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void logStageTimings(Map<String, Long> stageTimings) {
+        long totalTime = stageTimings.values().stream().mapToLong(Long::longValue).sum();
+        Logging.info("Initialized %d worlds (%d loaded) in %dms: %s",
+                registry.getWorlds().size(),
+                registry.getLoadedWorlds().size(),
+                totalTime,
+                stageTimings.entrySet().stream()
+                        .map(entry -> entry.getKey() + " " + entry.getValue() + "ms")
+                        .collect(Collectors.joining(", ")));
     }
 
     /**
@@ -155,14 +218,25 @@ public final class WorldManager {
         return worldsConfigManager.load().mapTry(result -> {
             loadNewWorldConfigs(result.newWorlds());
             removeWorldsNotInConfigs(result.removedWorlds());
+            // Aliases of existing worlds may have been changed in the reloaded config
+            publishRegistry(registry.toBuilder().updateAllAliases());
             return null;
         });
     }
 
     private void loadNewWorldConfigs(Collection<WorldConfig> newWorldConfigs) {
-        newWorldConfigs.forEach(worldConfig -> Option.of(worldsMap.get(worldConfig.getWorldName()))
+        // Publish all new worlds in one snapshot instead of copying the registry once per world
+        WorldRegistrySnapshot.Builder builder = registry.toBuilder();
+        List<MultiverseWorld> newWorlds = new ArrayList<>();
+        newWorldConfigs.forEach(worldConfig -> Option.of(builder.getWorld(worldConfig.getWorldName()))
                 .peek(unloadedWorld ->  unloadedWorld.setWorldConfig(worldConfig))
-                .onEmpty(() -> newMultiverseWorld(worldConfig.getWorldName(), worldConfig)));
+                .onEmpty(() -> {
+                    MultiverseWorld mvWorld = new MultiverseWorld(worldConfig.getWorldName(), worldConfig, config);
+                    builder.putWorld(mvWorld);
+                    newWorlds.add(mvWorld);
+                }));
+        publishRegistry(builder);
+        newWorlds.forEach(corePermissions::addWorldPermissions);
     }
 
     private void removeWorldsNotInConfigs(Collection<String> removedWorlds) {
@@ -171,10 +245,24 @@ public final class WorldManager {
                 .onSuccess(success -> Logging.fine("Unloaded world %s as it was removed from config", worldName)));
     }
 
+    /**
+     * Probes the folders of worlds loaded by bukkit that are not known to Multiverse yet, in parallel.
+     *
+     * @return The folder status of each world that may be imported.
+     */
+    private Map<String, FolderStatus> scanImportFolders() {
+        return worldNameChecker.checkFolders(Bukkit.getWorlds().stream()
+                .map(World::getName)
+                .filter(worldName -> !isWorld(worldName))
+                .toList());
+    }
+
     /**
      * Load worlds that are already loaded by bukkit before Multiverse-Core is loaded.
+     *
+     * @param folderStatuses    The folder status of each world that may be imported.
      */
-    private void importExistingWorlds() {
+    private void importExistingWorlds(Map<String, FolderStatus> folderStatuses) {
         Map<String, World> bukkitWorlds = Bukkit.getWorlds()
                 .stream()
                 .collect(Collectors.toMap(World::getName, Function.identity()));
@@ -185,24 +273,28 @@ public final class WorldManager {
             World end = bukkitWorlds.remove(DEFAULT_END_FORMAT.replaceOverworld(overworldName));
 
             if (config.getAutoImportDefaultWorlds()) {
-                importExistingBukkitWorld(overworld);
-                importExistingBukkitWorld(nether);
-                importExistingBukkitWorld(end);
+                importExistingBukkitWorld(overworld, folderStatuses);
+                importExistingBukkitWorld(nether, folderStatuses);
+                importExistingBukkitWorld(end, folderStatuses);
             }
         });
 
         if (config.getAutoImport3rdPartyWorlds()) {
-            bukkitWorlds.values().forEach(this::importExistingBukkitWorld);
+            bukkitWorlds.values().forEach(bukkitWorld -> importExistingBukkitWorld(bukkitWorld, folderStatuses));
         }
     }
 
-    private void importExistingBukkitWorld(World bukkitWorld) {
+    private void importExistingBukkitWorld(World bukkitWorld, Map<String, FolderStatus> folderStatuses) {
         if (bukkitWorld == null || isWorld(bukkitWorld.getName())) {
             return;
         }
-        importWorld(ImportWorldOptions.worldName(bukkitWorld.getName())
+        ImportWorldOptions options = ImportWorldOptions.worldName(bukkitWorld.getName())
                 .environment(bukkitWorld.getEnvironment())
-                .generator(generatorProvider.getDefaultGeneratorForWorld(bukkitWorld.getName())))
+                .generator(generatorProvider.getDefaultGeneratorForWorld(bukkitWorld.getName()));
+        FolderStatus folderStatus = Option.of(folderStatuses.get(bukkitWorld.getName()))
+                .getOrElse(() -> worldNameChecker.checkFolder(bukkitWorld.getName()));
+        validateImportWorldOptions(options, folderStatus)
+                .mapAttempt(this::doImportWorld)
                 .onFailure(failure ->
                         Logging.severe("Failed to import world %s: %s", bukkitWorld.getName(), failure))
                 .onSuccess(success ->
@@ -242,6 +334,9 @@ public final class WorldManager {
             return worldActionResult(CreateFailureReason.WORLD_EXIST_UNLOADED, options.worldName());
         } else if (options.doFolderCheck() && worldNameChecker.hasWorldFolder(options.worldName())) {
             return worldActionResult(CreateFailureReason.WORLD_EXIST_FOLDER, options.worldName());
+        } else if (cloneTracker.contains(options.worldName())) {
+            // A clone is still copying its folder under this name
+            return worldActionResult(CreateFailureReason.WORLD_EXIST_FOLDER, options.worldName());
         }
         return worldActionResult(options);
     }
@@ -284,10 +379,16 @@ public final class WorldManager {
 
     private Attempt<ImportWorldOptions, ImportFailureReason> validateImportWorldOptions(
             ImportWorldOptions options) {
+        return validateImportWorldOptions(options, worldFolderIndex.checkFolder(options.worldName()));
+    }
+
+    private Attempt<ImportWorldOptions, ImportFailureReason> validateImportWorldOptions(
+            ImportWorldOptions options, FolderStatus folderStatus) {
         String worldName = options.worldName();
         if (!worldNameChecker.isValidWorldName(worldName)) {
             return worldActionResult(ImportFailureReason.INVALID_WORLDNAME, worldName);
-        } else if (!worldNameChecker.isValidWorldFolder(worldName)) {
+        } else if (folderStatus != FolderStatus.VALID || cloneTracker.contains(worldName)) {
+            // A folder a clone is still copying to is not complete yet
             return worldActionResult(ImportFailureReason.WORLD_FOLDER_INVALID, worldName);
         } else if (isLoadedWorld(worldName)) {
             return worldActionResult(ImportFailureReason.WORLD_EXIST_LOADED, worldName);
@@ -320,7 +421,7 @@ public final class WorldManager {
 
     private MultiverseWorld newMultiverseWorld(String worldName, WorldConfig worldConfig) {
         MultiverseWorld mvWorld = new MultiverseWorld(worldName, worldConfig, config);
-        worldsMap.put(mvWorld.getName(), mvWorld);
+        publishRegistry(registry.toBuilder().putWorld(mvWorld));
         corePermissions.addWorldPermissions(mvWorld);
         return mvWorld;
     }
@@ -347,11 +448,12 @@ public final class WorldManager {
                 config,
                 blockSafety,
                 locationManipulation,
-                entityPurger
+                entityPurger,
+                worldPlayerTracker
         );
         setDefaultEnvironmentScale(mvWorld);
-        loadedWorldsMap.put(loadedWorld.getName(), loadedWorld);
-        saveWorldsConfig();
+        publishRegistry(registry.toBuilder().putLoadedWorld(loadedWorld));
+        requestWorldsConfigSave();
         pluginManager.callEvent(new MVWorldLoadedEvent(loadedWorld));
         return loadedWorld;
     }
@@ -427,10 +529,11 @@ public final class WorldManager {
                 config,
                 blockSafety,
                 locationManipulation,
-                entityPurger
+                entityPurger,
+                worldPlayerTracker
         );
-        loadedWorldsMap.put(loadedWorld.getName(), loadedWorld);
-        saveWorldsConfig();
+        publishRegistry(registry.toBuilder().putLoadedWorld(loadedWorld));
+        requestWorldsConfigSave();
         pluginManager.callEvent(new MVWorldLoadedEvent(loadedWorld));
         return Attempt.success(loadedWorld);
     }
@@ -464,12 +567,17 @@ public final class WorldManager {
     }
 
     private Attempt<MultiverseWorld, UnloadFailureReason> removeLoadedMultiverseWorld(@NotNull LoadedMultiverseWorld world) {
-        MultiverseWorld mvWorld = Objects.requireNonNull(loadedWorldsMap.remove(world.getName()),
+        WorldRegistrySnapshot.Builder builder = registry.toBuilder();
+        MultiverseWorld mvWorld = Objects.requireNonNull(builder.getLoadedWorld(world.getName()),
                 "For some reason, the loaded world isn't in the map... BUGGG");
-        Logging.fine("Removed MultiverseWorld from map: " + world.getName());
-        var unloadedWorld = Objects.requireNonNull(worldsMap.get(world.getName()),
+        var unloadedWorld = Objects.requireNonNull(builder.getWorld(world.getName()),
                 "For some reason, the unloaded world isn't in the map... BUGGG");
+        world.invalidateBukkitWorld();
         mvWorld.getWorldConfig().setMVWorld(unloadedWorld);
+        // Alias may have been changed while the world was loaded
+        unloadedWorld.updateColourlessAlias();
+        publishRegistry(builder.removeLoadedWorld(world.getName()).updateAlias(unloadedWorld));
+        Logging.fine("Removed MultiverseWorld from map: " + world.getName());
         pluginManager.callEvent(new MVWorldUnloadedEvent(mvWorld));
         return worldActionResult(unloadedWorld);
     }
@@ -522,10 +630,10 @@ public final class WorldManager {
      */
     private Attempt<String, RemoveFailureReason> removeWorldFromConfig(@NotNull MultiverseWorld world) {
         // Remove world from config
-        worldsMap.remove(world.getName());
+        publishRegistry(registry.toBuilder().removeWorld(world.getName()));
         world.getWorldConfig().deferenceMVWorld();
         worldsConfigManager.deleteWorldConfig(world.getName());
-        saveWorldsConfig();
+        requestWorldsConfigSave();
         corePermissions.removeWorldPermissions(world);
         pluginManager.callEvent(new MVWorldRemovedEvent(world));
         return worldActionResult(world.getName());
@@ -564,7 +672,7 @@ public final class WorldManager {
                             : Attempt.success(null);
                 })
                 .mapAttempt(() -> removeWorld(world).transform(DeleteFailureReason.REMOVE_FAILED))
-                .mapAttempt(() -> fileUtils.deleteFolder(worldFolder.get(), options.keepFiles()).fold(
+                .mapAttempt(() -> folderTrash.deleteFolder(worldFolder.get().toPath(), options.keepFiles()).fold(
                         exception -> worldActionResult(DeleteFailureReason.FAILED_TO_DELETE_FOLDER,
                                 world.getName(), exception),
                         success -> worldActionResult(world.getName())));
@@ -589,21 +697,27 @@ public final class WorldManager {
     public Attempt<LoadedMultiverseWorld, CloneFailureReason> cloneWorld(@NotNull CloneWorldOptions options) {
         return cloneWorldValidateWorld(options)
                 .mapAttempt(this::cloneWorldCopyFolder)
-                .mapAttempt(validatedOptions -> {
-                    ImportWorldOptions importWorldOptions = ImportWorldOptions
-                            .worldName(validatedOptions.newWorldName())
-                            .biome(validatedOptions.world().getBiome())
-                            .environment(validatedOptions.world().getEnvironment())
-                            .generator(validatedOptions.world().getGenerator());
-                    return importWorld(importWorldOptions).transform(CloneFailureReason.IMPORT_FAILED);
-                })
-                .onSuccess(newWorld -> {
-                    cloneWorldTransferData(options, newWorld);
-                    if (options.keepWorldConfig()) {
-                        newWorld.setSpawnLocation(options.world().getSpawnLocation());
-                    }
-                    saveWorldsConfig();
-                    pluginManager.callEvent(new MVWorldClonedEvent(newWorld, options.world()));
+                .mapAttempt(this::cloneWorldImport)
+                .onSuccess(newWorld -> cloneWorldFinish(options, newWorld));
+    }
+
+    /**
+     * Clones an existing multiverse world, copying the world folder off the main thread. Only importing the new world
+     * is done on the main thread, so the returned attempt completes on the main thread.
+     *
+     * @param options           The options for customizing the cloning of a world.
+     * @param progressListener  Optional listener for the world folder copy progress, called off the main thread.
+     * @return The result of the clone.
+     */
+    public AsyncAttempt<LoadedMultiverseWorld, CloneFailureReason> cloneWorldAsync(
+            @NotNull CloneWorldOptions options,
+            @Nullable Consumer<FolderCopier.CopyProgress> progressListener) {
+        return AsyncAttempt.fromAttempt(cloneWorldValidateWorld(options))
+                .mapAsyncAttempt(validatedOptions -> cloneWorldCopyFolderAsync(validatedOptions, progressListener))
+                .mapAttempt(this::cloneWorldImport)
+                .map(newWorld -> {
+                    cloneWorldFinish(options, newWorld);
+                    return newWorld;
                 });
     }
 
@@ -622,23 +736,115 @@ public final class WorldManager {
             Logging.severe("World already exist unloaded: " + newWorldName);
             return worldActionResult(CloneFailureReason.WORLD_EXIST_UNLOADED, newWorldName);
         }
-        if (worldNameChecker.hasWorldFolder(newWorldName)) {
+        if (worldNameChecker.hasWorldFolder(newWorldName) || cloneTracker.contains(newWorldName)) {
             return worldActionResult(CloneFailureReason.WORLD_EXIST_FOLDER, newWorldName);
         }
         return worldActionResult(options);
     }
 
     private Attempt<CloneWorldOptions, CloneFailureReason> cloneWorldCopyFolder(@NotNull CloneWorldOptions options) {
+        return AsyncAttempt.of(cloneWorldCopy(options, null, true), cloneWorldCopyFailed(options)).toAttempt();
+    }
+
+    private AsyncAttempt<CloneWorldOptions, CloneFailureReason> cloneWorldCopyFolderAsync(
+            @NotNull CloneWorldOptions options,
+            @Nullable Consumer<FolderCopier.CopyProgress> progressListener) {
+        return AsyncAttempt.of(cloneWorldCopy(options, progressListener, false), cloneWorldCopyFailed(options));
+    }
+
+    /**
+     * Copies the world folder of the source world. Autosave of the source world is turned off until the copy is done,
+     * so no region or level.dat file is written while it is copied, and the new world name is reserved so no other
+     * clone, create or import can use the folder in the meantime. The returned future completes on the main thread.
+     */
+    private CompletableFuture<CloneWorldOptions> cloneWorldCopy(
+            @NotNull CloneWorldOptions options,
+            @Nullable Consumer<FolderCopier.CopyProgress> progressListener,
+            boolean waitForCopy) {
+        World sourceWorld = options.world().getBukkitWorld().get();
+        boolean autoSave = sourceWorld.isAutoSave();
+        sourceWorld.setAutoSave(false);
         if (options.saveBukkitWorld()) {
             Logging.finer("Saving bukkit world before cloning: " + options.world().getName());
-            options.world().getBukkitWorld().peek(World::save);
+            sourceWorld.save();
         }
-        File worldFolder = options.world().getBukkitWorld().map(World::getWorldFolder).get();
+        cloneTracker.add(options.newWorldName());
         File newWorldFolder = new File(Bukkit.getWorldContainer(), options.newWorldName());
-        return fileUtils.copyFolder(worldFolder, newWorldFolder, CLONE_IGNORE_FILES).fold(
-                exception -> worldActionResult(CloneFailureReason.COPY_FAILED,
-                        options.world().getName(), exception),
-                success -> worldActionResult(options));
+        CompletableFuture<Void> copy = folderCopier.copyFolder(
+                sourceWorld.getWorldFolder().toPath(),
+                newWorldFolder.toPath(),
+                CLONE_IGNORE_FILES,
+                FolderCopier.CopyMode.COPY,
+                progressListener);
+        if (waitForCopy) {
+            // The following import must run on the calling thread, so block until the parallel copy is done
+            Try.run(copy::join);
+        }
+        return onMainThread(copy)
+                .whenComplete((ignore, exception) -> {
+                    sourceWorld.setAutoSave(autoSave);
+                    if (exception != null) {
+                        cloneTracker.remove(options.newWorldName());
+                    }
+                })
+                .thenApply(ignore -> options);
+    }
+
+    private Function<Throwable, Attempt<CloneWorldOptions, CloneFailureReason>> cloneWorldCopyFailed(
+            @NotNull CloneWorldOptions options) {
+        return exception -> {
+            Throwable cause = exception instanceof CompletionException ? exception.getCause() : exception;
+            Logging.severe("Failed to copy folder of world %s: %s", options.world().getName(), cause.getMessage());
+            cause.printStackTrace();
+            return worldActionResult(CloneFailureReason.COPY_FAILED, options.world().getName(), cause);
+        };
+    }
+
+    private Attempt<LoadedMultiverseWorld, CloneFailureReason> cloneWorldImport(@NotNull CloneWorldOptions options) {
+        // The copy is done, so the name is released right before the world is imported on the main thread
+        cloneTracker.remove(options.newWorldName());
+        ImportWorldOptions importWorldOptions = ImportWorldOptions
+                .worldName(options.newWorldName())
+                .biome(options.world().getBiome())
+                .environment(options.world().getEnvironment())
+                .generator(options.world().getGenerator());
+        return importWorld(importWorldOptions).transform(CloneFailureReason.IMPORT_FAILED);
+    }
+
+    private void cloneWorldFinish(@NotNull CloneWorldOptions options, @NotNull LoadedMultiverseWorld newWorld) {
+        cloneWorldTransferData(options, newWorld);
+        if (options.keepWorldConfig()) {
+            newWorld.setSpawnLocation(options.world().getSpawnLocation());
+        }
+        requestWorldsConfigSave();
+        pluginManager.callEvent(new MVWorldClonedEvent(newWorld, options.world()));
+    }
+
+    /**
+     * Completes the returned future on the main thread once the given future completes, so that the following steps
+     * can use the bukkit api. When already on the main thread, e.g. the copy was waited on, nothing is scheduled.
+     */
+    private <T> CompletableFuture<T> onMainThread(@NotNull CompletableFuture<T> future) {
+        if (Bukkit.isPrimaryThread() && future.isDone()) {
+            return future;
+        }
+        CompletableFuture<T> mainThreadFuture = new CompletableFuture<>();
+        future.whenComplete((result, exception) -> {
+            Runnable complete = () -> {
+                if (exception != null) {
+                    mainThreadFuture.completeExceptionally(exception);
+                } else {
+                    mainThreadFuture.complete(result);
+                }
+            };
+            if (Bukkit.isPrimaryThread()) {
+                complete.run();
+                return;
+            }
+            Try.run(() -> Bukkit.getScheduler().runTask(plugin, complete))
+                    .onFailure(mainThreadFuture::completeExceptionally);
+        });
+        return mainThreadFuture;
     }
 
     private void cloneWorldTransferData(@NotNull CloneWorldOptions options, @NotNull LoadedMultiverseWorld newWorld) {
@@ -694,7 +900,7 @@ public final class WorldManager {
                         // different seed.
                         newWorld.setSpawnLocation(spawnLocation);
                     }
-                    saveWorldsConfig();
+                    requestWorldsConfigSave();
                     pluginManager.callEvent(new MVWorldRegeneratedEvent(newWorld));
                 });
     }
@@ -802,19 +1008,14 @@ public final class WorldManager {
 
     /**
      * Gets a list of all potential worlds that can be loaded from the server folders.
-     * Checks based on folder contents and name.
+     * Checks based on folder contents and name, from an index of the world container that is kept up to date in the
+     * background.
      *
      * @return A list of all potential worlds.
      */
     public List<String> getPotentialWorlds() {
-        File[] files = Bukkit.getWorldContainer().listFiles();
-        if (files == null) {
-            return Collections.emptyList();
-        }
-        return Arrays.stream(files)
-                .filter(file -> !isWorld(file.getName()))
-                .filter(worldNameChecker::isValidWorldFolder)
-                .map(File::getName)
+        return worldFolderIndex.getValidWorldFolders().stream()
+                .filter(worldName -> !isWorld(worldName))
                 .toList();
     }
 
@@ -837,7 +1038,7 @@ public final class WorldManager {
      * @return The world if it exists.
      */
     public Option<MultiverseWorld> getWorld(@Nullable String worldName) {
-        return getLoadedWorld(worldName).fold(() -> getUnloadedWorld(worldName), Option::of);
+        return registry.getWorld(worldName);
     }
 
     /**
@@ -848,8 +1049,7 @@ public final class WorldManager {
      * @return The world if it exists.
      */
     public Option<MultiverseWorld> getWorldByNameOrAlias(@Nullable String worldNameOrAlias) {
-        return getLoadedWorldByNameOrAlias(worldNameOrAlias)
-                .fold(() -> getUnloadedWorldByNameOrAlias(worldNameOrAlias), Option::of);
+        return registry.getWorldByNameOrAlias(worldNameOrAlias);
     }
 
     /**
@@ -859,13 +1059,12 @@ public final class WorldManager {
      * <p>If you want only unloaded worlds, use {@link #getUnloadedWorlds()}. If you want only loaded worlds, use
      * {@link #getLoadedWorlds()}.</p>
      *
+     * <p>The returned list is a read-only snapshot and is safe to use from any thread.</p>
+     *
      * @return A list of all worlds that may or may not be loaded.
      */
     public Collection<MultiverseWorld> getWorlds() {
-        return worldsMap.values().stream()
-                .map(world -> getLoadedWorld(world)
-                        .fold(() -> world, loadedWorld -> loadedWorld))
-                .toList();
+        return registry.getWorlds();
     }
 
     /**
@@ -875,7 +1074,7 @@ public final class WorldManager {
      * @return True if the world is a world is known to multiverse, but may or may not be loaded.
      */
     public boolean isWorld(@Nullable String worldName) {
-        return worldsMap.containsKey(worldName);
+        return registry.isWorld(worldName);
     }
 
     /**
@@ -885,7 +1084,7 @@ public final class WorldManager {
      * @return The world if it exists.
      */
     public Option<MultiverseWorld> getUnloadedWorld(@Nullable String worldName) {
-        return isLoadedWorld(worldName) ? Option.none() : Option.of(worldsMap.get(worldName));
+        return registry.getUnloadedWorld(worldName);
     }
 
     /**
@@ -895,25 +1094,16 @@ public final class WorldManager {
      * @return The world if it exists.
      */
     public Option<MultiverseWorld> getUnloadedWorldByNameOrAlias(@Nullable String worldNameOrAlias) {
-        return getUnloadedWorld(worldNameOrAlias).orElse(() -> getUnloadedWorldByAlias(worldNameOrAlias));
-    }
-
-    private Option<MultiverseWorld> getUnloadedWorldByAlias(@Nullable String alias) {
-        return Option.ofOptional(worldsMap.values().stream()
-                .filter(world -> !world.isLoaded())
-                .filter(world -> world.getColourlessAlias().equalsIgnoreCase(ChatColor.stripColor(alias)))
-                .findFirst());
+        return registry.getUnloadedWorldByNameOrAlias(worldNameOrAlias);
     }
 
     /**
-     * Get a list of all worlds that are not loaded.
+     * Get a list of all worlds that are not loaded. The returned list is a read-only snapshot.
      *
      * @return A list of all worlds that are not loaded.
      */
     public Collection<MultiverseWorld> getUnloadedWorlds() {
-        return worldsMap.values().stream()
-                .filter(world -> !world.isLoaded())
-                .toList();
+        return registry.getUnloadedWorlds();
     }
 
     /**
@@ -923,7 +1113,8 @@ public final class WorldManager {
      * @return True if the world is a world that is not loaded.
      */
     public boolean isUnloadedWorld(@Nullable String worldName) {
-        return !isLoadedWorld(worldName) && isWorld(worldName);
+        WorldRegistrySnapshot snapshot = registry;
+        return !snapshot.isLoadedWorld(worldName) && snapshot.isWorld(worldName);
     }
 
     /**
@@ -933,7 +1124,19 @@ public final class WorldManager {
      * @return The multiverse world if it exists.
      */
     public Option<LoadedMultiverseWorld> getLoadedWorld(@Nullable World world) {
-        return world == null ? Option.none() : Option.of((LoadedMultiverseWorld) loadedWorldsMap.get(world.getName()));
+        return world == null ? Option.none() : registry.getLoadedWorld(world.getName());
+    }
+
+    /**
+     * Get a multiverse world that is loaded, without wrapping it in an {@link Option}. Only meant for hot paths such
+     * as entity spawn handling, where avoiding the allocation matters.
+     *
+     * @param world The bukkit world that should be loaded.
+     * @return The multiverse world if it exists, else null.
+     */
+    @ApiStatus.Internal
+    public @Nullable LoadedMultiverseWorld getLoadedWorldOrNull(@Nullable World world) {
+        return world == null ? null : registry.getLoadedWorldOrNull(world.getName());
     }
 
     /**
@@ -943,7 +1146,7 @@ public final class WorldManager {
      * @return The multiverse world if it exists.
      */
     public Option<LoadedMultiverseWorld> getLoadedWorld(@Nullable MultiverseWorld world) {
-        return world == null ? Option.none() : Option.of((LoadedMultiverseWorld) loadedWorldsMap.get(world.getName()));
+        return world == null ? Option.none() : registry.getLoadedWorld(world.getName());
     }
 
     /**
@@ -953,7 +1156,7 @@ public final class WorldManager {
      * @return The multiverse world if it exists.
      */
     public Option<LoadedMultiverseWorld> getLoadedWorld(@Nullable String worldName) {
-        return Option.of((LoadedMultiverseWorld) loadedWorldsMap.get(worldName));
+        return registry.getLoadedWorld(worldName);
     }
 
     /**
@@ -963,26 +1166,61 @@ public final class WorldManager {
      * @return The multiverse world if it exists.
      */
     public Option<LoadedMultiverseWorld> getLoadedWorldByNameOrAlias(@Nullable String worldNameOrAlias) {
-        return getLoadedWorld(worldNameOrAlias)
-                .orElse(() -> getLoadedWorldByAlias(worldNameOrAlias));
+        return registry.getLoadedWorldByNameOrAlias(worldNameOrAlias);
     }
 
-    private Option<LoadedMultiverseWorld> getLoadedWorldByAlias(@Nullable String alias) {
-        return Option.ofOptional(loadedWorldsMap.values().stream()
-                .filter(world -> world.getColourlessAlias().equalsIgnoreCase(ChatColor.stripColor(alias)))
-                .map(world -> (LoadedMultiverseWorld) world)
-                .findFirst());
+    /**
+     * Re-indexes the alias of a world after it was changed. Only for internal use.
+     *
+     * @param world The world whose alias was changed.
+     */
+    void updateWorldAlias(@NotNull MultiverseWorld world) {
+        if (isWorld(world.getName())) {
+            publishRegistry(registry.toBuilder().updateAlias(world));
+        }
+    }
+
+    /**
+     * Checks that the world name and alias index matches the worlds known to Multiverse. Only for internal use.
+     *
+     * @return A description of every inconsistency found, empty if the index is consistent.
+     */
+    List<String> checkWorldNameIndex() {
+        return registry.checkNameIndex();
+    }
+
+    private void verifyWorldNameIndex() {
+        List<String> problems = checkWorldNameIndex();
+        if (problems.isEmpty()) {
+            return;
+        }
+        problems.forEach(problem -> Logging.warning("World name index inconsistent: %s", problem));
+        Logging.warning("Rebuilding world name index...");
+        publishRegistry(registry.toBuilder().rebuildNameIndex());
+    }
+
+    /**
+     * Builds and atomically publishes the next world registry snapshot. Must be called on the main thread.
+     *
+     * @param builder   The builder containing the changes.
+     */
+    private void publishRegistry(WorldRegistrySnapshot.Builder builder) {
+        List<World> bukkitWorlds = Bukkit.getWorlds();
+        registry = builder.build(
+                serverProperties.getLevelName().getOrNull(),
+                bukkitWorlds.isEmpty() ? null : bukkitWorlds.get(0).getName());
+        // Parsed destinations may hold world instances or resolved aliases that are now outdated
+        destinationsProvider.get().invalidateParsedDestinations();
     }
 
     /**
-     * Get a read-only list of all multiverse worlds that are loaded.
+     * Get a read-only list of all multiverse worlds that are loaded. The returned list is a snapshot and is safe to
+     * use from any thread.
      *
      * @return A list of all multiverse worlds that are loaded.
      */
     public Collection<LoadedMultiverseWorld> getLoadedWorlds() {
-        return loadedWorldsMap.values().stream()
-                .map(world -> (LoadedMultiverseWorld) world)
-                .toList();
+        return registry.getLoadedWorlds();
     }
 
     /**
@@ -1012,7 +1250,7 @@ public final class WorldManager {
      * @return True if the world is a multiverse world that is loaded.
      */
     public boolean isLoadedWorld(@Nullable String worldName) {
-        return loadedWorldsMap.containsKey(worldName);
+        return registry.isLoadedWorld(worldName);
     }
 
     /**
@@ -1024,12 +1262,21 @@ public final class WorldManager {
      * @return The default world.
      */
     public Option<LoadedMultiverseWorld> getDefaultWorld() {
-        return serverProperties.getLevelName().flatMap(this::getLoadedWorld)
-                .orElse(getLoadedWorld(Bukkit.getWorlds().get(0)));
+        return registry.getDefaultWorld();
+    }
+
+    /**
+     * Requests the worlds.yml config to be saved to disk. Requests made in quick succession are merged into a single
+     * write, which happens off the main thread. Use {@link #saveWorldsConfig()} if the file must be written
+     * immediately.
+     */
+    public void requestWorldsConfigSave() {
+        worldsConfigManager.requestSave();
     }
 
     /**
-     * Saves the worlds.yml config to disk.
+     * Saves the worlds.yml config to disk immediately, including any pending save requested with
+     * {@link #requestWorldsConfigSave()}.
      *
      * @return A successful try if the file is saved to disk, else the exception object throw.
      */
@@ -0,0 +1,201 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lookup index of world names and colourless aliases, so that name or alias resolution does not need to scan
+ * every world known to Multiverse.
+ * <br/>
+ * Both keys are case-insensitive. When more than one world shares the same key, the world that was indexed
+ * first takes priority, and the next one takes over once it is removed.
+ */
+final class WorldNameIndex {
+
+    private final Map<String, Set<String>> namesByLowercaseName;
+    private final Map<String, Set<String>> namesByAliasKey;
+    private final Map<String, String> aliasKeyByName;
+
+    WorldNameIndex() {
+        this.namesByLowercaseName = new HashMap<>();
+        this.namesByAliasKey = new HashMap<>();
+        this.aliasKeyByName = new HashMap<>();
+    }
+
+    /**
+     * Creates a deep copy of another index, keeping the index order of colliding keys.
+     *
+     * @param other The index to copy.
+     */
+    WorldNameIndex(@NotNull WorldNameIndex other) {
+        this.namesByLowercaseName = copyBuckets(other.namesByLowercaseName);
+        this.namesByAliasKey = copyBuckets(other.namesByAliasKey);
+        this.aliasKeyByName = new HashMap<>(other.aliasKeyByName);
+    }
+
+    private static Map<String, Set<String>> copyBuckets(Map<String, Set<String>> index) {
+        Map<String, Set<String>> copy = new HashMap<>(index.size());
+        index.forEach((key, bucket) -> copy.put(key, new LinkedHashSet<>(bucket)));
+        return copy;
+    }
+
+    /**
+     * Normalizes a name or alias into its index key, i.e. colour codes stripped and lowercased. Only '§' colour
+     * codes are stripped, a literal '&' is kept, the same way alias lookups compared aliases before the index.
+     *
+     * @param nameOrAlias   The name or alias to normalize.
+     * @return The index key.
+     */
+    static @NotNull String normalize(@NotNull String nameOrAlias) {
+        String colourless = ChatColor.stripColor(nameOrAlias);
+        return colourless == null ? "" : colourless.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adds a world to the index, or updates its alias key if it is already indexed.
+     *
+     * @param worldName         The name of the world to index.
+     * @param colourlessAlias   The colourless alias of the world, see {@link MultiverseWorld#getColourlessAlias()}.
+     */
+    void add(@NotNull String worldName, @NotNull String colourlessAlias) {
+        namesByLowercaseName.computeIfAbsent(worldName.toLowerCase(Locale.ROOT), key -> new LinkedHashSet<>())
+                .add(worldName);
+        updateAlias(worldName, colourlessAlias);
+    }
+
+    /**
+     * Re-indexes the alias of a world after it has been changed.
+     *
+     * @param worldName         The name of the world whose alias changed.
+     * @param colourlessAlias   The new colourless alias of the world.
+     */
+    void updateAlias(@NotNull String worldName, @NotNull String colourlessAlias) {
+        String newAliasKey = normalize(colourlessAlias);
+        String oldAliasKey = aliasKeyByName.put(worldName, newAliasKey);
+        if (Objects.equals(oldAliasKey, newAliasKey)) {
+            return;
+        }
+        if (oldAliasKey != null) {
+            removeFromBucket(namesByAliasKey, oldAliasKey, worldName);
+        }
+        namesByAliasKey.computeIfAbsent(newAliasKey, key -> new LinkedHashSet<>()).add(worldName);
+    }
+
+    /**
+     * Removes a world from the index.
+     *
+     * @param worldName The name of the world to remove.
+     */
+    void remove(@NotNull String worldName) {
+        removeFromBucket(namesByLowercaseName, worldName.toLowerCase(Locale.ROOT), worldName);
+        String aliasKey = aliasKeyByName.remove(worldName);
+        if (aliasKey != null) {
+            removeFromBucket(namesByAliasKey, aliasKey, worldName);
+        }
+    }
+
+    /**
+     * Removes all worlds from the index.
+     */
+    void clear() {
+        namesByLowercaseName.clear();
+        namesByAliasKey.clear();
+        aliasKeyByName.clear();
+    }
+
+    private void removeFromBucket(Map<String, Set<String>> index, String key, String worldName) {
+        Set<String> bucket = index.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(worldName);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Gets the names of all worlds with the given name, ignoring case. Names indexed earlier come first.
+     *
+     * @param worldName The world name to look up.
+     * @return The matching world names.
+     */
+    @NotNull Collection<String> getNamesIgnoreCase(@Nullable String worldName) {
+        if (worldName == null) {
+            return Collections.emptySet();
+        }
+        return bucketOrEmpty(namesByLowercaseName.get(worldName.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Gets the names of all worlds with the given alias, ignoring case and colour codes. Names indexed earlier
+     * come first.
+     *
+     * @param alias The alias to look up.
+     * @return The matching world names.
+     */
+    @NotNull Collection<String> getNamesByAlias(@Nullable String alias) {
+        if (alias == null) {
+            return Collections.emptySet();
+        }
+        return bucketOrEmpty(namesByAliasKey.get(normalize(alias)));
+    }
+
+    private Collection<String> bucketOrEmpty(@Nullable Set<String> bucket) {
+        return bucket == null ? Collections.emptySet() : Collections.unmodifiableSet(bucket);
+    }
+
+    /**
+     * Gets the number of worlds in the index.
+     *
+     * @return The number of worlds.
+     */
+    int size() {
+        return aliasKeyByName.size();
+    }
+
+    /**
+     * Checks that this index exactly describes the given worlds.
+     *
+     * @param worlds    The colourless aliases of the worlds that should be indexed, by world name.
+     * @return A description of every inconsistency found, empty if the index is consistent.
+     */
+    @NotNull List<String> checkConsistency(@NotNull Map<String, String> worlds) {
+        List<String> problems = new ArrayList<>();
+        worlds.forEach((worldName, colourlessAlias) -> {
+            String expectedAliasKey = normalize(colourlessAlias);
+            if (!getNamesIgnoreCase(worldName).contains(worldName)) {
+                problems.add("World '" + worldName + "' is missing from the name index");
+            }
+            if (!Objects.equals(aliasKeyByName.get(worldName), expectedAliasKey)) {
+                problems.add("World '" + worldName + "' is indexed under alias '" + aliasKeyByName.get(worldName)
+                        + "' instead of '" + expectedAliasKey + "'");
+            }
+            if (!getNamesByAlias(expectedAliasKey).contains(worldName)) {
+                problems.add("World '" + worldName + "' is missing from the alias index");
+            }
+        });
+        aliasKeyByName.keySet().stream()
+                .filter(worldName -> !worlds.containsKey(worldName))
+                .forEach(worldName -> problems.add("World '" + worldName + "' is indexed but no longer exists"));
+        long indexedNames = namesByLowercaseName.values().stream().mapToLong(Set::size).sum();
+        long indexedAliases = namesByAliasKey.values().stream().mapToLong(Set::size).sum();
+        if (indexedNames != worlds.size() || indexedAliases != worlds.size()) {
+            problems.add("Index holds " + indexedNames + " names and " + indexedAliases + " aliases for "
+                    + worlds.size() + " worlds");
+        }
+        return problems;
+    }
+}
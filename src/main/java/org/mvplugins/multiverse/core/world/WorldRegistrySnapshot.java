@@ -0,0 +1,252 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.vavr.control.Option;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable view of every world known to {@link WorldManager} at one point in time.
+ * <br/>
+ * Snapshots are never modified after they are built. {@link WorldManager} builds a new snapshot on every change and
+ * publishes it atomically, so readers off the main thread, such as async chat and tab completion, always see a
+ * consistent set of worlds without locking.
+ */
+final class WorldRegistrySnapshot {
+
+    static final WorldRegistrySnapshot EMPTY = new Builder(
+            Collections.emptyMap(), Collections.emptyMap(), new WorldNameIndex()).build(null, null);
+
+    private final Map<String, MultiverseWorld> worlds;
+    private final Map<String, LoadedMultiverseWorld> loadedWorlds;
+    private final WorldNameIndex nameIndex;
+    private final @Nullable LoadedMultiverseWorld defaultWorld;
+    private final Collection<MultiverseWorld> worldsView;
+    private final Collection<LoadedMultiverseWorld> loadedWorldsView;
+    private final Collection<MultiverseWorld> unloadedWorldsView;
+
+    private WorldRegistrySnapshot(
+            Map<String, MultiverseWorld> worlds,
+            Map<String, LoadedMultiverseWorld> loadedWorlds,
+            WorldNameIndex nameIndex,
+            @Nullable LoadedMultiverseWorld defaultWorld) {
+        this.worlds = Collections.unmodifiableMap(worlds);
+        this.loadedWorlds = Collections.unmodifiableMap(loadedWorlds);
+        this.nameIndex = nameIndex;
+        this.defaultWorld = defaultWorld;
+
+        List<MultiverseWorld> allWorlds = new ArrayList<>(worlds.size());
+        List<MultiverseWorld> unloadedWorlds = new ArrayList<>(worlds.size() - loadedWorlds.size());
+        worlds.forEach((worldName, world) -> {
+            LoadedMultiverseWorld loadedWorld = loadedWorlds.get(worldName);
+            allWorlds.add(loadedWorld == null ? world : loadedWorld);
+            if (loadedWorld == null) {
+                unloadedWorlds.add(world);
+            }
+        });
+        this.worldsView = Collections.unmodifiableList(allWorlds);
+        this.loadedWorldsView = Collections.unmodifiableList(new ArrayList<>(loadedWorlds.values()));
+        this.unloadedWorldsView = Collections.unmodifiableList(unloadedWorlds);
+    }
+
+    /**
+     * Starts building the next snapshot from a copy of this one.
+     *
+     * @return A new builder.
+     */
+    @NotNull Builder toBuilder() {
+        return new Builder(worlds, loadedWorlds, nameIndex);
+    }
+
+    @NotNull Option<MultiverseWorld> getWorld(@Nullable String worldName) {
+        return getLoadedWorld(worldName).fold(() -> getUnloadedWorld(worldName), Option::of);
+    }
+
+    @NotNull Option<MultiverseWorld> getWorldByNameOrAlias(@Nullable String worldNameOrAlias) {
+        return getLoadedWorldByNameOrAlias(worldNameOrAlias)
+                .fold(() -> getUnloadedWorldByNameOrAlias(worldNameOrAlias), Option::of);
+    }
+
+    @NotNull Collection<MultiverseWorld> getWorlds() {
+        return worldsView;
+    }
+
+    boolean isWorld(@Nullable String worldName) {
+        return worldName != null && worlds.containsKey(worldName);
+    }
+
+    @NotNull Option<MultiverseWorld> getUnloadedWorld(@Nullable String worldName) {
+        return worldName == null || isLoadedWorld(worldName) ? Option.none() : Option.of(worlds.get(worldName));
+    }
+
+    @NotNull Option<MultiverseWorld> getUnloadedWorldByNameOrAlias(@Nullable String worldNameOrAlias) {
+        return getUnloadedWorld(worldNameOrAlias)
+                .orElse(() -> getUnloadedWorldFromNames(nameIndex.getNamesByAlias(worldNameOrAlias)))
+                .orElse(() -> getUnloadedWorldFromNames(nameIndex.getNamesIgnoreCase(worldNameOrAlias)));
+    }
+
+    private Option<MultiverseWorld> getUnloadedWorldFromNames(Collection<String> worldNames) {
+        for (String worldName : worldNames) {
+            if (!isLoadedWorld(worldName)) {
+                return Option.of(worlds.get(worldName));
+            }
+        }
+        return Option.none();
+    }
+
+    /**
+     * Gets the {@link MultiverseWorld} instance used while the world is unloaded, regardless of whether the world is
+     * currently loaded.
+     *
+     * @param worldName The name of the world.
+     * @return The unloaded world instance if the world exists.
+     */
+    @NotNull Option<MultiverseWorld> getUnloadedWorldInstance(@Nullable String worldName) {
+        return worldName == null ? Option.none() : Option.of(worlds.get(worldName));
+    }
+
+    @NotNull Collection<MultiverseWorld> getUnloadedWorlds() {
+        return unloadedWorldsView;
+    }
+
+    @NotNull Option<LoadedMultiverseWorld> getLoadedWorld(@Nullable String worldName) {
+        return worldName == null ? Option.none() : Option.of(loadedWorlds.get(worldName));
+    }
+
+    @Nullable LoadedMultiverseWorld getLoadedWorldOrNull(@Nullable String worldName) {
+        return worldName == null ? null : loadedWorlds.get(worldName);
+    }
+
+    @NotNull Option<LoadedMultiverseWorld> getLoadedWorldByNameOrAlias(@Nullable String worldNameOrAlias) {
+        return getLoadedWorld(worldNameOrAlias)
+                .orElse(() -> getLoadedWorldFromNames(nameIndex.getNamesByAlias(worldNameOrAlias)))
+                .orElse(() -> getLoadedWorldFromNames(nameIndex.getNamesIgnoreCase(worldNameOrAlias)));
+    }
+
+    private Option<LoadedMultiverseWorld> getLoadedWorldFromNames(Collection<String> worldNames) {
+        for (String worldName : worldNames) {
+            LoadedMultiverseWorld loadedWorld = loadedWorlds.get(worldName);
+            if (loadedWorld != null) {
+                return Option.of(loadedWorld);
+            }
+        }
+        return Option.none();
+    }
+
+    @NotNull Collection<LoadedMultiverseWorld> getLoadedWorlds() {
+        return loadedWorldsView;
+    }
+
+    boolean isLoadedWorld(@Nullable String worldName) {
+        return worldName != null && loadedWorlds.containsKey(worldName);
+    }
+
+    @NotNull Option<LoadedMultiverseWorld> getDefaultWorld() {
+        return Option.of(defaultWorld);
+    }
+
+    /**
+     * Checks that the name and alias index of this snapshot matches its worlds.
+     *
+     * @return A description of every inconsistency found, empty if the index is consistent.
+     */
+    @NotNull List<String> checkNameIndex() {
+        Map<String, String> colourlessAliases = new HashMap<>();
+        worldsView.forEach(world -> colourlessAliases.put(world.getName(), world.getColourlessAlias()));
+        return nameIndex.checkConsistency(colourlessAliases);
+    }
+
+    /**
+     * Mutable copy of a snapshot, used to build the next snapshot. Never shared between threads.
+     */
+    static final class Builder {
+        private final Map<String, MultiverseWorld> worlds;
+        private final Map<String, LoadedMultiverseWorld> loadedWorlds;
+        private final WorldNameIndex nameIndex;
+
+        private Builder(
+                Map<String, MultiverseWorld> worlds,
+                Map<String, LoadedMultiverseWorld> loadedWorlds,
+                WorldNameIndex nameIndex) {
+            this.worlds = new LinkedHashMap<>(worlds);
+            this.loadedWorlds = new LinkedHashMap<>(loadedWorlds);
+            this.nameIndex = new WorldNameIndex(nameIndex);
+        }
+
+        @Nullable MultiverseWorld getWorld(@NotNull String worldName) {
+            return worlds.get(worldName);
+        }
+
+        @Nullable LoadedMultiverseWorld getLoadedWorld(@NotNull String worldName) {
+            return loadedWorlds.get(worldName);
+        }
+
+        @NotNull Builder putWorld(@NotNull MultiverseWorld world) {
+            worlds.put(world.getName(), world);
+            nameIndex.add(world.getName(), world.getColourlessAlias());
+            return this;
+        }
+
+        @NotNull Builder removeWorld(@NotNull String worldName) {
+            worlds.remove(worldName);
+            loadedWorlds.remove(worldName);
+            nameIndex.remove(worldName);
+            return this;
+        }
+
+        @NotNull Builder putLoadedWorld(@NotNull LoadedMultiverseWorld loadedWorld) {
+            loadedWorlds.put(loadedWorld.getName(), loadedWorld);
+            return updateAlias(loadedWorld);
+        }
+
+        @NotNull Builder removeLoadedWorld(@NotNull String worldName) {
+            loadedWorlds.remove(worldName);
+            return this;
+        }
+
+        @NotNull Builder updateAlias(@NotNull MultiverseWorld world) {
+            if (worlds.containsKey(world.getName())) {
+                nameIndex.updateAlias(world.getName(), world.getColourlessAlias());
+            }
+            return this;
+        }
+
+        @NotNull Builder updateAllAliases() {
+            worlds.forEach((worldName, world) -> updateAlias(Option.<MultiverseWorld>of(loadedWorlds.get(worldName))
+                    .getOrElse(world)));
+            return this;
+        }
+
+        @NotNull Builder rebuildNameIndex() {
+            nameIndex.clear();
+            worlds.forEach((worldName, world) -> {
+                MultiverseWorld current = Option.<MultiverseWorld>of(loadedWorlds.get(worldName)).getOrElse(world);
+                nameIndex.add(worldName, current.getColourlessAlias());
+            });
+            return this;
+        }
+
+        /**
+         * Builds the immutable snapshot.
+         *
+         * @param levelName             The name of the server's main world, if known.
+         * @param firstBukkitWorldName  The name of the first world loaded by bukkit, used when the main world is
+         *                              not loaded by Multiverse.
+         * @return The new snapshot.
+         */
+        @NotNull WorldRegistrySnapshot build(@Nullable String levelName, @Nullable String firstBukkitWorldName) {
+            LoadedMultiverseWorld defaultWorld = levelName == null ? null : loadedWorlds.get(levelName);
+            if (defaultWorld == null && firstBukkitWorldName != null) {
+                defaultWorld = loadedWorlds.get(firstBukkitWorldName);
+            }
+            return new WorldRegistrySnapshot(worlds, loadedWorlds, nameIndex, defaultWorld);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package org.mvplugins.multiverse.core.world;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import org.mvplugins.multiverse.core.utils.file.AtomicFileWriter;
+
+/**
+ * Binary copy of the worlds.yml content, so it can be loaded on startup without parsing the YAML.
+ * <br/>
+ * The cache is keyed by a hash of the worlds.yml file it was written with and the plugin version. If either does not
+ * match, e.g. because worlds.yml was edited by hand, the cache is ignored and worlds.yml is parsed as usual. Values
+ * are stored the way they would come out of the YAML parser, so both ways of loading give the same configuration.
+ * <br/>
+ * Only the YAML parsing is skipped. The world configs are still migrated and deserialized from the loaded sections.
+ */
+final class WorldsConfigCache {
+
+    private static final int MAGIC = 0x4D565743;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_SECTION = 1;
+    private static final byte TAG_STRING = 2;
+    private static final byte TAG_BOOLEAN = 3;
+    private static final byte TAG_INT = 4;
+    private static final byte TAG_LONG = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_LIST = 7;
+    private static final byte TAG_MAP = 8;
+    private static final byte TAG_SERIALIZABLE = 9;
+
+    private final Path cacheFile;
+    private final String pluginVersion;
+    private volatile @Nullable String currentContent;
+
+    WorldsConfigCache(@NotNull Path cacheFile, @NotNull String pluginVersion) {
+        this.cacheFile = cacheFile;
+        this.pluginVersion = pluginVersion;
+    }
+
+    /**
+     * Loads the cached configuration if it was written for the given worlds.yml content.
+     *
+     * @param yamlContent   The current content of worlds.yml.
+     * @return The cached configuration, or empty option if there is no matching cache.
+     */
+    @NotNull Option<YamlConfiguration> load(byte @NotNull [] yamlContent) {
+        AtomicFileWriter.deleteStaleTempFile(cacheFile);
+        if (!Files.exists(cacheFile)) {
+            return Option.none();
+        }
+        return Try.of(() -> {
+                    try (DataInputStream in = new DataInputStream(
+                            new ByteArrayInputStream(Files.readAllBytes(cacheFile)))) {
+                        readHeader(in, hash(yamlContent));
+                        YamlConfiguration config = new YamlConfiguration();
+                        readSection(in, config);
+                        currentContent = new String(yamlContent, StandardCharsets.UTF_8);
+                        return config;
+                    }
+                })
+                .onFailure(e -> Logging.fine("Not using %s: %s", cacheFile.getFileName(), e.getMessage()))
+                .toOption();
+    }
+
+    private void readHeader(DataInputStream in, byte[] expectedHash) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("unknown format");
+        }
+        if (!pluginVersion.equals(readString(in))) {
+            throw new IOException("written by another plugin version");
+        }
+        byte[] hash = new byte[in.readUnsignedShort()];
+        in.readFully(hash);
+        if (!Arrays.equals(expectedHash, hash)) {
+            throw new IOException("worlds.yml has changed");
+        }
+    }
+
+    /**
+     * Encodes the worlds.yml content. The sections must not be changed while they are encoded.
+     *
+     * @param root  The worlds.yml configuration.
+     * @return The encoded content, or empty option if the configuration holds a value the cache cannot store.
+     */
+    @NotNull Option<byte[]> encode(@NotNull ConfigurationSection root) {
+        return Try.of(() -> {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    try (DataOutputStream out = new DataOutputStream(bytes)) {
+                        writeSection(out, root);
+                    }
+                    return bytes.toByteArray();
+                })
+                .onFailure(e -> Logging.fine("Not writing %s: %s", cacheFile.getFileName(), e.getMessage()))
+                .toOption();
+    }
+
+    /**
+     * Writes the cache for the given worlds.yml content.
+     *
+     * @param yamlContent   The content that was written to worlds.yml.
+     * @param encoded       The same content encoded with {@link #encode(ConfigurationSection)}.
+     * @return Empty try if the cache was written, try containing the error otherwise.
+     */
+    @NotNull Try<Void> write(@NotNull String yamlContent, byte @NotNull [] encoded) {
+        return Try.of(() -> {
+                    byte[] hash = hash(yamlContent.getBytes(StandardCharsets.UTF_8));
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream(encoded.length + 128);
+                    try (DataOutputStream out = new DataOutputStream(bytes)) {
+                        out.writeInt(MAGIC);
+                        out.writeInt(FORMAT_VERSION);
+                        writeString(out, pluginVersion);
+                        out.writeShort(hash.length);
+                        out.write(hash);
+                        out.write(encoded);
+                    }
+                    return bytes.toByteArray();
+                })
+                .flatMap(data -> AtomicFileWriter.write(cacheFile, data))
+                .onSuccess(ignore -> currentContent = yamlContent)
+                .onFailure(e -> Logging.warning("Failed to write %s: %s", cacheFile.getFileName(), e.getMessage()));
+    }
+
+    /**
+     * Gets whether the cache file was last loaded or written for the given worlds.yml content, so writing it again
+     * would not change it.
+     *
+     * @param yamlContent   The content written to worlds.yml.
+     * @return Whether the cache is up to date for the content.
+     */
+    boolean isCurrentFor(@NotNull String yamlContent) {
+        return yamlContent.equals(currentContent) && Files.exists(cacheFile);
+    }
+
+    private static byte[] hash(byte[] content) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(content);
+    }
+
+    private static void writeSection(DataOutputStream out, ConfigurationSection section) throws IOException {
+        var keys = section.getKeys(false);
+        out.writeInt(keys.size());
+        for (String key : keys) {
+            writeString(out, key);
+            writeValue(out, section.get(key));
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        // Numbers are narrowed and widened the same way the YAML parser reads them back
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof ConfigurationSection section) {
+            out.writeByte(TAG_SECTION);
+            writeSection(out, section);
+        } else if (value instanceof String string) {
+            out.writeByte(TAG_STRING);
+            writeString(out, string);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean(bool);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(TAG_INT);
+            out.writeInt(((Number) value).intValue());
+        } else if (value instanceof Long longValue) {
+            if (longValue == longValue.intValue()) {
+                out.writeByte(TAG_INT);
+                out.writeInt(longValue.intValue());
+            } else {
+                out.writeByte(TAG_LONG);
+                out.writeLong(longValue);
+            }
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Float floatValue) {
+            // Floats are written to YAML as their shortest decimal form, which is read back as a double
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(Double.parseDouble(floatValue.toString()));
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeInt(list.size());
+            for (Object item : list) {
+                writeValue(out, item);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(TAG_MAP);
+            writeMap(out, map);
+        } else if (value instanceof ConfigurationSerializable serializable) {
+            out.writeByte(TAG_SERIALIZABLE);
+            writeString(out, ConfigurationSerialization.getAlias(serializable.getClass()));
+            writeMap(out, serializable.serialize());
+        } else {
+            throw new IOException("unsupported value type " + value.getClass().getName());
+        }
+    }
+
+    private static void writeMap(DataOutputStream out, Map<?, ?> map) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!(entry.getKey() instanceof String key)) {
+                throw new IOException("unsupported map key " + entry.getKey());
+            }
+            writeString(out, key);
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void readSection(DataInputStream in, ConfigurationSection section) throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            byte tag = in.readByte();
+            if (tag == TAG_SECTION) {
+                readSection(in, section.createSection(key));
+            } else {
+                section.set(key, readValue(in, tag));
+            }
+        }
+    }
+
+    private static Object readValue(DataInputStream in, byte tag) throws IOException {
+        return switch (tag) {
+            case TAG_NULL -> null;
+            // Sections nested in lists or maps are read back by the YAML parser as plain maps
+            case TAG_SECTION, TAG_MAP -> readMap(in);
+            case TAG_STRING -> readString(in);
+            case TAG_BOOLEAN -> in.readBoolean();
+            case TAG_INT -> in.readInt();
+            case TAG_LONG -> in.readLong();
+            case TAG_DOUBLE -> in.readDouble();
+            case TAG_LIST -> {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in, in.readByte()));
+                }
+                yield list;
+            }
+            case TAG_SERIALIZABLE -> {
+                String alias = readString(in);
+                Map<String, Object> map = readMap(in);
+                map.put(ConfigurationSerialization.SERIALIZED_TYPE_KEY, alias);
+                ConfigurationSerializable object = ConfigurationSerialization.deserializeObject(map);
+                if (object == null) {
+                    throw new IOException("could not deserialize " + alias);
+                }
+                yield object;
+            }
+            default -> throw new IOException("unknown value tag " + tag);
+        };
+    }
+
+    private static Map<String, Object> readMap(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            map.put(key, readValue(in, in.readByte()));
+        }
+        return map;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("truncated cache");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
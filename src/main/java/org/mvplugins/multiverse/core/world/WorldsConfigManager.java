@@ -2,9 +2,12 @@ package org.mvplugins.multiverse.core.world;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.dumptruckman.minecraft.util.Logging;
 import io.vavr.control.Option;
@@ -17,19 +20,35 @@ import org.jetbrains.annotations.NotNull;
 import org.jvnet.hk2.annotations.Service;
 
 import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.config.migration.ConfigMigrator;
+import org.mvplugins.multiverse.core.utils.file.WriteBehindSaver;
 
 import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
 
 /**
  * Manages the worlds.yml file.
+ * <br/>
+ * After each write of worlds.yml, a binary copy of its content is written next to it with {@link WorldsConfigCache}.
+ * On load, the copy is used instead of parsing worlds.yml when the file has not changed since. The copy only saves
+ * the YAML parsing, world configs are migrated and deserialized from it the same way.
  */
 @Service
 final class WorldsConfigManager {
     private static final String CONFIG_FILENAME = "worlds.yml";
+    private static final String CACHE_FILENAME = CONFIG_FILENAME + ".cache";
+    private static final long SAVE_DELAY_TICKS = 20;
+    private static final int PARALLEL_PARSE_THRESHOLD = 16;
 
     private final SortedMap<String, WorldConfig> worldConfigMap;
     private final File worldConfigFile;
+    private final WriteBehindSaver worldConfigSaver;
+    private final WorldsConfigCache worldsConfigCache;
+    private final AtomicLong cacheWrites = new AtomicLong();
+    private boolean loadedFromCache;
     private YamlConfiguration worldsConfig;
+    private WorldConfigNodes worldConfigNodes;
+    private ConfigMigrator worldConfigMigrator;
+    private SaveStats lastSaveStats = new SaveStats(0, 0, 0, 0L);
 
     private final MultiverseCore multiverseCore;
 
@@ -37,6 +56,10 @@ final class WorldsConfigManager {
     WorldsConfigManager(@NotNull MultiverseCore core, @NotNull MultiverseCore multiverseCore) {
         worldConfigMap = new TreeMap<>();
         worldConfigFile = core.getDataFolder().toPath().resolve(CONFIG_FILENAME).toFile();
+        worldConfigSaver = new WriteBehindSaver(
+                core, worldConfigFile.toPath(), this::serializeWorldsConfig, SAVE_DELAY_TICKS, this::writeCache);
+        worldsConfigCache = new WorldsConfigCache(
+                core.getDataFolder().toPath().resolve(CACHE_FILENAME), core.getDescription().getVersion());
 
         this.multiverseCore = multiverseCore;
     }
@@ -69,8 +92,18 @@ final class WorldsConfigManager {
         if (exists) {
             migrateRemoveOldConfigSerializable();
         }
-        worldsConfig = new YamlConfiguration();
-        worldsConfig.load(worldConfigFile);
+        long startTime = System.nanoTime();
+        byte[] content = Files.readAllBytes(worldConfigFile.toPath());
+        YamlConfiguration cachedConfig = worldsConfigCache.load(content).getOrNull();
+        loadedFromCache = cachedConfig != null;
+        if (loadedFromCache) {
+            worldsConfig = cachedConfig;
+        } else {
+            worldsConfig = new YamlConfiguration();
+            worldsConfig.loadFromString(new String(content, StandardCharsets.UTF_8));
+        }
+        Logging.fine("Read worlds.yml %s in %d us", loadedFromCache ? "from cache" : "as YAML",
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
     }
 
     private void migrateRemoveOldConfigSerializable() {
@@ -117,28 +150,26 @@ final class WorldsConfigManager {
 
     /**
      * Parses the worlds.yml file and creates a WorldConfig for each world in the file if it doesn't already exist.
+     * <br/>
+     * Existing world configs are reloaded on the main thread as they may apply changes to loaded worlds. New world
+     * configs are not attached to any world yet, so they are parsed in parallel when there are many of them.
      *
      * @return A tuple containing a list of the new WorldConfigs added and a list of the worlds removed from the config.
      */
     private NewAndRemovedWorlds parseNewAndRemovedWorlds() {
         Set<String> allWorldsInConfig = worldsConfig.getKeys(false);
-        List<WorldConfig> newWorldsAdded = new ArrayList<>();
+        Map<String, ConfigurationSection> newWorldSections = new LinkedHashMap<>();
 
         for (String worldName : allWorldsInConfig) {
             getWorldConfig(worldName)
                     .peek(config -> config.load(getWorldConfigSection(worldName)))
-                    .orElse(() -> {
-                        WorldConfig newWorldConfig = new WorldConfig(
-                                worldName,
-                                getWorldConfigSection(worldName),
-                                multiverseCore);
-                        worldConfigMap.put(worldName, newWorldConfig);
-                        newWorldsAdded.add(newWorldConfig);
-                        return Option.of(newWorldConfig);
-                    })
-                    .peek(WorldConfig::save);
+                    .peek(WorldConfig::save)
+                    .onEmpty(() -> newWorldSections.put(worldName, getWorldConfigSection(worldName)));
         }
 
+        List<WorldConfig> newWorldsAdded = parseNewWorldConfigs(newWorldSections);
+        newWorldsAdded.forEach(worldConfig -> worldConfigMap.put(worldConfig.getWorldName(), worldConfig));
+
         List<String> worldsRemoved = worldConfigMap.keySet().stream()
                 .filter(worldName -> !allWorldsInConfig.contains(worldName))
                 .toList();
@@ -150,6 +181,25 @@ final class WorldsConfigManager {
         return new NewAndRemovedWorlds(newWorldsAdded, worldsRemoved);
     }
 
+    /**
+     * Creates the world configs of worlds new to worlds.yml. Only the deserialization of each section may run on
+     * other threads, as it touches nothing but that section and the shared nodes. Saving the configs back into their
+     * sections is done afterwards on the calling thread.
+     *
+     * @param newWorldSections  The sections of the new worlds, by world name.
+     * @return The new world configs, in the order of the sections.
+     */
+    private List<WorldConfig> parseNewWorldConfigs(Map<String, ConfigurationSection> newWorldSections) {
+        ensureWorldConfigNodes();
+        var sections = newWorldSections.entrySet().stream().toList();
+        var stream = sections.size() >= PARALLEL_PARSE_THRESHOLD ? sections.parallelStream() : sections.stream();
+        List<WorldConfig> worldConfigs = stream
+                .map(entry -> new WorldConfig(entry.getKey(), entry.getValue(), worldConfigNodes, worldConfigMigrator))
+                .toList();
+        worldConfigs.forEach(WorldConfig::save);
+        return worldConfigs;
+    }
+
     /**
      * Whether the worlds.yml file has been loaded.
      *
@@ -160,26 +210,122 @@ final class WorldsConfigManager {
     }
 
     /**
-     * Saves the worlds.yml file.
+     * Saves the worlds.yml file immediately, including any pending save requested with {@link #requestSave()}.
      *
      * @return Whether the save was successful or the error that occurred.
      */
     public Try<Void> save() {
-        return Try.run(() -> {
-            if (!isLoaded()) {
-                throw new IllegalStateException("WorldsConfigManager is not loaded!");
-            }
-            worldsConfig = new YamlConfiguration();
-            worldConfigMap.forEach((worldName, worldConfig) -> {
+        return worldConfigSaver.flush().onFailure(e -> {
+            Logging.severe("Failed to save worlds.yml file: %s", e.getMessage());
+        });
+    }
+
+    /**
+     * Requests the worlds.yml file to be saved. Requests made in quick succession are merged into a single write,
+     * which happens off the main thread.
+     */
+    public void requestSave() {
+        worldConfigSaver.requestSave();
+    }
+
+    /**
+     * Gets the saver that writes the worlds.yml file. Only for internal use.
+     *
+     * @return The worlds.yml saver.
+     */
+    WriteBehindSaver getWorldConfigSaver() {
+        return worldConfigSaver;
+    }
+
+    /**
+     * Gets whether the last load read the worlds.yml content from the cache instead of parsing it. Only for internal
+     * use.
+     *
+     * @return Whether the cache was used.
+     */
+    boolean isLoadedFromCache() {
+        return loadedFromCache;
+    }
+
+    /**
+     * Gets the number of times the worlds.yml cache was encoded and written. Mainly for debugging.
+     *
+     * @return The number of cache writes.
+     */
+    long getCacheWrites() {
+        return cacheWrites.get();
+    }
+
+    /**
+     * Gets the statistics of the last worlds.yml save. Only for internal use.
+     *
+     * @return The save statistics.
+     */
+    SaveStats getLastSaveStats() {
+        return lastSaveStats;
+    }
+
+    /**
+     * Rebuilds the worlds.yml content from all world configs. Must be called on the main thread.
+     * <br/>
+     * Only world configs that changed since the last save are serialized again, the sections of the others are
+     * reused as they are.
+     *
+     * @return The serialized worlds.yml content.
+     */
+    private String serializeWorldsConfig() {
+        if (!isLoaded()) {
+            throw new IllegalStateException("WorldsConfigManager is not loaded!");
+        }
+        long startTime = System.nanoTime();
+        int worldsWritten = 0;
+        int nodesWritten = 0;
+        // Rebuilt so worlds stay sorted and removed worlds are dropped, which is cheap as the sections are reused
+        worldsConfig = new YamlConfiguration();
+        for (Map.Entry<String, WorldConfig> entry : worldConfigMap.entrySet()) {
+            String worldName = entry.getKey();
+            WorldConfig worldConfig = entry.getValue();
+            if (worldConfig.isDirty()) {
                 worldConfig.save().onFailure(e -> {
                     throw new RuntimeException("Failed to save world config: " + worldName, e);
                 });
-                worldsConfig.set(worldName, worldConfig.getConfigurationSection());
-            });
-            worldsConfig.save(worldConfigFile);
-        }).onFailure(e -> {
-            Logging.severe("Failed to save worlds.yml file: %s", e.getMessage());
-        });
+                worldsWritten++;
+                nodesWritten += worldConfig.getLastSavedNodeCount();
+            }
+            worldsConfig.set(worldName, worldConfig.getConfigurationSection());
+        }
+        lastSaveStats = new SaveStats(worldConfigMap.size(), worldsWritten, nodesWritten,
+                System.nanoTime() - startTime);
+        Logging.fine("Serialized %d of %d world configs (%d nodes) in %d us", worldsWritten,
+                worldConfigMap.size(), nodesWritten, TimeUnit.NANOSECONDS.toMicros(lastSaveStats.durationNanos()));
+        return worldsConfig.saveToString();
+    }
+
+    /**
+     * Writes the cache after worlds.yml was written. Called on the writer thread, so the content is parsed and
+     * encoded off the main thread.
+     * <br/>
+     * The cache is built from the written content alone, never from the live world configs, and worlds.yml writes
+     * and their cache writes run one after another on the same thread. So the cache always matches the worlds.yml
+     * content it is written for, and the last cache written belongs to the last worlds.yml written. Writes that did
+     * not change the content leave the cache as it is.
+     *
+     * @param content   The content written to worlds.yml.
+     */
+    private void writeCache(String content) {
+        if (worldsConfigCache.isCurrentFor(content)) {
+            return;
+        }
+        cacheWrites.incrementAndGet();
+        Try.of(() -> {
+                    YamlConfiguration writtenConfig = new YamlConfiguration();
+                    writtenConfig.loadFromString(content);
+                    return writtenConfig;
+                })
+                .onFailure(e -> Logging.fine("Not writing worlds.yml cache: %s", e.getMessage()))
+                .toOption()
+                .flatMap(worldsConfigCache::encode)
+                .forEach(encoded -> worldsConfigCache.write(content, encoded));
     }
 
     /**
@@ -202,11 +348,30 @@ final class WorldsConfigManager {
         if (worldConfigMap.containsKey(worldName)) {
             throw new IllegalArgumentException("WorldConfig for world " + worldName + " already exists.");
         }
-        WorldConfig worldConfig = new WorldConfig(worldName, getWorldConfigSection(worldName), multiverseCore);
+        WorldConfig worldConfig = newWorldConfig(worldName);
         worldConfigMap.put(worldName, worldConfig);
         return worldConfig;
     }
 
+    /**
+     * Creates a {@link WorldConfig} for the given world. All world configs share the same nodes and migrator, which
+     * are created with the first world config.
+     *
+     * @param worldName The name of the world.
+     * @return The new {@link WorldConfig} instance.
+     */
+    private WorldConfig newWorldConfig(String worldName) {
+        ensureWorldConfigNodes();
+        return new WorldConfig(worldName, getWorldConfigSection(worldName), worldConfigNodes, worldConfigMigrator);
+    }
+
+    private void ensureWorldConfigNodes() {
+        if (worldConfigNodes == null) {
+            worldConfigNodes = new WorldConfigNodes(multiverseCore);
+            worldConfigMigrator = WorldConfig.migrator(worldConfigNodes);
+        }
+    }
+
     /**
      * Deletes the world config for the given world.
      *
@@ -230,6 +395,17 @@ final class WorldsConfigManager {
                 : worldsConfig.createSection(worldName);
     }
 
+    /**
+     * Statistics of a worlds.yml save.
+     *
+     * @param worldCount    The number of worlds in the file.
+     * @param worldsWritten The number of world configs that were serialized again.
+     * @param nodesWritten  The number of nodes serialized across those world configs.
+     * @param durationNanos The time taken to serialize the world configs, in nanoseconds.
+     */
+    record SaveStats(int worldCount, int worldsWritten, int nodesWritten, long durationNanos) {
+    }
+
     private static final class ConfigMigratedException extends RuntimeException {
         private ConfigMigratedException() {
             super("Config migrated");
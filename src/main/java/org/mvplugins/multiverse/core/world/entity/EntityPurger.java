@@ -1,16 +1,48 @@
 package org.mvplugins.multiverse.core.world.entity;
 
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Try;
+import jakarta.inject.Inject;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
 import org.bukkit.entity.SpawnCategory;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jvnet.hk2.annotations.Service;
+import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.config.CoreConfig;
+import org.mvplugins.multiverse.core.locale.message.MessageReplacement.Replace;
+import org.mvplugins.multiverse.core.utils.result.AsyncAttempt;
+import org.mvplugins.multiverse.core.utils.result.Attempt;
 import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld;
+import org.mvplugins.multiverse.core.world.reasons.PurgeFailureReason;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @Service
 public final class EntityPurger {
 
+    private final MultiverseCore plugin;
+    private final CoreConfig config;
+    private final Map<String, PurgeTask> activePurges = new ConcurrentHashMap<>();
+
+    @Inject
+    EntityPurger(@NotNull MultiverseCore plugin, @NotNull CoreConfig config) {
+        this.plugin = plugin;
+        this.config = config;
+    }
+
     public int purgeEntities(LoadedMultiverseWorld world) {
         AtomicInteger purgeCount = new AtomicInteger(0);
         world.getBukkitWorld().peek(bukkitWorld -> {
@@ -61,4 +93,243 @@ public final class EntityPurger {
         });
         return purgeCount.get();
     }
+
+    /**
+     * Purges entities that are not allowed by the world's entity spawn config, spread over as many ticks as needed
+     * to stay within the configured tick budget.
+     *
+     * @param world             The world to purge.
+     * @param progressListener  Optional listener called after each tick of purging.
+     * @return The running purge.
+     */
+    public PurgeTask purgeEntitiesIncrementally(
+            @NotNull LoadedMultiverseWorld world,
+            @Nullable Consumer<PurgeProgress> progressListener) {
+        return startPurge(world, entity -> !world.getEntitySpawnConfig().shouldAllowSpawn(entity), progressListener);
+    }
+
+    /**
+     * Purges entities of the given spawn categories, spread over as many ticks as needed to stay within the
+     * configured tick budget.
+     *
+     * @param world             The world to purge.
+     * @param spawnCategories   The spawn categories to purge.
+     * @param progressListener  Optional listener called after each tick of purging.
+     * @return The running purge.
+     */
+    public PurgeTask purgeEntitiesIncrementally(
+            @NotNull LoadedMultiverseWorld world,
+            @NotNull SpawnCategory[] spawnCategories,
+            @Nullable Consumer<PurgeProgress> progressListener) {
+        Set<SpawnCategory> spawnCategoriesSet = Set.of(spawnCategories);
+        return startPurge(world, entity -> spawnCategoriesSet.contains(entity.getSpawnCategory()), progressListener);
+    }
+
+    /**
+     * Purges all entities except players, spread over as many ticks as needed to stay within the configured tick
+     * budget.
+     *
+     * @param world             The world to purge.
+     * @param progressListener  Optional listener called after each tick of purging.
+     * @return The running purge.
+     */
+    public PurgeTask purgeAllEntitiesIncrementally(
+            @NotNull LoadedMultiverseWorld world,
+            @Nullable Consumer<PurgeProgress> progressListener) {
+        return startPurge(world, entity -> true, progressListener);
+    }
+
+    /**
+     * Cancels the running purge of a world, if any.
+     *
+     * @param world The world.
+     * @return True if a purge was cancelled, else false.
+     */
+    public boolean cancelPurge(@NotNull LoadedMultiverseWorld world) {
+        PurgeTask purgeTask = activePurges.get(world.getName());
+        return purgeTask != null && purgeTask.cancel();
+    }
+
+    PurgeTask startPurge(
+            @NotNull LoadedMultiverseWorld world,
+            @NotNull Predicate<Entity> filter,
+            @Nullable Consumer<PurgeProgress> progressListener) {
+        PurgeTask purgeTask = new PurgeTask(world, filter, progressListener);
+        PurgeTask previous = activePurges.put(world.getName(), purgeTask);
+        if (previous != null) {
+            Logging.fine("Replacing running entity purge in world %s", world.getName());
+            previous.cancel();
+        }
+        purgeTask.start();
+        return purgeTask;
+    }
+
+    /**
+     * A purge that goes through the loaded chunks of a world a few at a time each tick.
+     */
+    public final class PurgeTask {
+
+        private final LoadedMultiverseWorld world;
+        private final Predicate<Entity> filter;
+        private final @Nullable Consumer<PurgeProgress> progressListener;
+        private final CompletableFuture<PurgeResult> future = new CompletableFuture<>();
+        private final AsyncAttempt<PurgeResult, PurgeFailureReason> result;
+
+        private Chunk[] chunks;
+        private int cursor;
+        private int entitiesPurged;
+        private @Nullable BukkitTask bukkitTask;
+
+        private PurgeTask(
+                LoadedMultiverseWorld world,
+                Predicate<Entity> filter,
+                @Nullable Consumer<PurgeProgress> progressListener) {
+            this.world = world;
+            this.filter = filter;
+            this.progressListener = progressListener;
+            this.result = AsyncAttempt.of(future, (purgeResult, exception) -> exception == null
+                    ? Attempt.<PurgeResult, PurgeFailureReason>success(purgeResult)
+                    : Attempt.<PurgeResult, PurgeFailureReason>failure(
+                            stopReason(exception), Replace.WORLD.with(world.getName())));
+        }
+
+        /**
+         * Gets the result of the purge, completed on the main thread once every chunk is purged.
+         *
+         * @return The result of the purge.
+         */
+        public AsyncAttempt<PurgeResult, PurgeFailureReason> getResult() {
+            return result;
+        }
+
+        /**
+         * Stops the purge. Entities already purged are not restored.
+         *
+         * @return True if the purge was still running, else false.
+         */
+        public boolean cancel() {
+            return stop(PurgeFailureReason.CANCELLED);
+        }
+
+        /**
+         * Checks if the purge has finished, was cancelled or failed.
+         *
+         * @return True if the purge is no longer running.
+         */
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        private void start() {
+            if (Bukkit.isPrimaryThread() && runSlice()) {
+                return;
+            }
+            Try.run(() -> bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, this::runSlice, 1, 1))
+                    .onFailure(exception -> {
+                        Logging.warning("Failed to schedule entity purge in world %s: %s",
+                                world.getName(), exception.getMessage());
+                        stop(PurgeFailureReason.WORLD_NOT_LOADED);
+                    });
+        }
+
+        /**
+         * Purges chunks from the cursor until the tick budget is used up.
+         *
+         * @return True if the purge is done.
+         */
+        private boolean runSlice() {
+            if (future.isDone()) {
+                return true;
+            }
+            World bukkitWorld = world.getBukkitWorld().getOrNull();
+            if (bukkitWorld == null) {
+                return stop(PurgeFailureReason.WORLD_NOT_LOADED);
+            }
+            if (chunks == null) {
+                chunks = bukkitWorld.getLoadedChunks();
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getEntityPurgeTickBudget());
+            while (cursor < chunks.length) {
+                purgeChunk(chunks[cursor++]);
+                if (System.nanoTime() >= deadline) {
+                    break;
+                }
+            }
+            if (progressListener != null) {
+                progressListener.accept(new PurgeProgress(cursor, chunks.length, entitiesPurged));
+            }
+            if (cursor < chunks.length) {
+                return false;
+            }
+            Logging.finer("Purged %d entities from %d chunks in world %s",
+                    entitiesPurged, chunks.length, world.getName());
+            finish();
+            future.complete(new PurgeResult(entitiesPurged, chunks.length));
+            return true;
+        }
+
+        private void purgeChunk(Chunk chunk) {
+            if (!chunk.isLoaded()) {
+                return;
+            }
+            for (Entity entity : chunk.getEntities()) {
+                if (entity instanceof Player || !entity.isValid() || !filter.test(entity)) {
+                    continue;
+                }
+                entity.remove();
+                entitiesPurged++;
+            }
+        }
+
+        private boolean stop(PurgeFailureReason reason) {
+            if (future.isDone()) {
+                return false;
+            }
+            finish();
+            future.completeExceptionally(new PurgeStoppedException(reason));
+            return true;
+        }
+
+        private void finish() {
+            if (bukkitTask != null) {
+                bukkitTask.cancel();
+            }
+            activePurges.remove(world.getName(), this);
+        }
+
+        private PurgeFailureReason stopReason(Throwable exception) {
+            Throwable cause = exception.getCause() != null ? exception.getCause() : exception;
+            return cause instanceof PurgeStoppedException stopped
+                    ? stopped.reason
+                    : PurgeFailureReason.WORLD_NOT_LOADED;
+        }
+    }
+
+    /**
+     * Progress of a running purge.
+     *
+     * @param chunksProcessed   Number of chunks purged so far.
+     * @param totalChunks       Number of chunks to purge.
+     * @param entitiesPurged    Number of entities purged so far.
+     */
+    public record PurgeProgress(int chunksProcessed, int totalChunks, int entitiesPurged) {
+    }
+
+    /**
+     * Result of a finished purge.
+     *
+     * @param entitiesPurged    Number of entities purged.
+     * @param chunksProcessed   Number of chunks purged.
+     */
+    public record PurgeResult(int entitiesPurged, int chunksProcessed) {
+    }
+
+    private static final class PurgeStoppedException extends RuntimeException {
+        private final PurgeFailureReason reason;
+
+        private PurgeStoppedException(PurgeFailureReason reason) {
+            super(reason.name(), null, false, false);
+            this.reason = reason;
+        }
+    }
 }
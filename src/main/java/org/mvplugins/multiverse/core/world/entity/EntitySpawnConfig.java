@@ -5,29 +5,90 @@ import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.MemoryConfiguration;
 import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
 import org.bukkit.entity.SpawnCategory;
 import org.jetbrains.annotations.ApiStatus;
 import org.mvplugins.multiverse.core.utils.StringFormatter;
 import org.mvplugins.multiverse.core.world.MultiverseWorld;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 public final class EntitySpawnConfig {
 
+    private static final int SPAWN_CATEGORY_COUNT = SpawnCategory.values().length;
+    private static final int WORDS_PER_CATEGORY = (EntityType.values().length + Long.SIZE - 1) / Long.SIZE;
+
     private final Map<SpawnCategory, SpawnCategoryConfig> spawnCategoriesConfig;
+    private MultiverseWorld world;
+
+    /**
+     * Whether each entity type may spawn, one bit per {@link EntityType#ordinal()} in a block of
+     * {@link #WORDS_PER_CATEGORY} longs for each {@link SpawnCategory#ordinal()}. Rebuilt whenever a spawn rule
+     * changes, so spawn events only need a single bit test.
+     */
+    private volatile long[] spawnTable;
+
+    private boolean categoriesChanged;
 
     EntitySpawnConfig(Map<SpawnCategory, SpawnCategoryConfig> spawnCategoriesConfig) {
         this.spawnCategoriesConfig = spawnCategoriesConfig;
+        spawnCategoriesConfig.values().forEach(spawnCategoryConfig -> spawnCategoryConfig.setSpawnConfigRef(this));
+        rebuildSpawnTable();
     }
 
     public SpawnCategoryConfig getSpawnCategoryConfig(SpawnCategory spawnCategory) {
-        return spawnCategoriesConfig.computeIfAbsent(spawnCategory,
-                computeSpawnCategory -> new SpawnCategoryConfig(computeSpawnCategory, new MemoryConfiguration()));
+        return spawnCategoriesConfig.computeIfAbsent(spawnCategory, computeSpawnCategory -> {
+            SpawnCategoryConfig spawnCategoryConfig = new SpawnCategoryConfig(
+                    computeSpawnCategory, new MemoryConfiguration());
+            spawnCategoryConfig.setSpawnConfigRef(this);
+            spawnCategoryConfig.setWorldRef(world);
+            categoriesChanged = true;
+            return spawnCategoryConfig;
+        });
     }
 
     public boolean shouldAllowSpawn(Entity entity) {
-        return getSpawnCategoryConfig(entity.getSpawnCategory()).shouldAllowSpawn(entity);
+        return shouldAllowSpawn(entity.getSpawnCategory(), entity.getType());
+    }
+
+    /**
+     * Checks if an entity type may spawn under the given spawn category. Does not allocate, so it is safe to call
+     * for every spawn event.
+     *
+     * @param spawnCategory The spawn category of the entity.
+     * @param entityType    The type of the entity.
+     * @return True if the entity may spawn, else false.
+     */
+    public boolean shouldAllowSpawn(SpawnCategory spawnCategory, EntityType entityType) {
+        int typeIndex = entityType.ordinal();
+        long word = spawnTable[spawnCategory.ordinal() * WORDS_PER_CATEGORY + (typeIndex >>> 6)];
+        return (word & (1L << typeIndex)) != 0;
+    }
+
+    void rebuildSpawnTable() {
+        long[] table = new long[SPAWN_CATEGORY_COUNT * WORDS_PER_CATEGORY];
+        // Categories without config allow everything
+        Arrays.fill(table, -1L);
+        spawnCategoriesConfig.forEach((spawnCategory, spawnCategoryConfig) -> {
+            int offset = spawnCategory.ordinal() * WORDS_PER_CATEGORY;
+            boolean spawn = spawnCategoryConfig.isSpawn();
+            Arrays.fill(table, offset, offset + WORDS_PER_CATEGORY, spawn ? -1L : 0L);
+            for (EntityType entityType : spawnCategoryConfig.getExceptions()) {
+                if (entityType == null) {
+                    continue;
+                }
+                int typeIndex = entityType.ordinal();
+                int wordIndex = offset + (typeIndex >>> 6);
+                if (spawn) {
+                    table[wordIndex] &= ~(1L << typeIndex);
+                } else {
+                    table[wordIndex] |= 1L << typeIndex;
+                }
+            }
+        });
+        spawnTable = table;
     }
 
     public void applyConfigToWorld() {
@@ -42,8 +103,20 @@ public final class EntitySpawnConfig {
                 '}';
     }
 
+    /**
+     * Whether any spawn category changed since the config was last turned into a section.
+     *
+     * @return True if the config has unsaved changes.
+     */
+    @ApiStatus.Internal
+    public boolean isDirty() {
+        return categoriesChanged
+                || spawnCategoriesConfig.values().stream().anyMatch(SpawnCategoryConfig::isDirty);
+    }
+
     @ApiStatus.Internal
     public ConfigurationSection toSection() {
+        categoriesChanged = false;
         MemoryConfiguration section = new MemoryConfiguration();
         spawnCategoriesConfig.forEach((spawnCategory, spawnCategoryConfig) -> {
             section.set(spawnCategory.toString().toLowerCase(), spawnCategoryConfig.saveSection());
@@ -67,6 +140,7 @@ public final class EntitySpawnConfig {
 
     @ApiStatus.Internal
     public void setWorldRef(MultiverseWorld world) {
+        this.world = world;
         spawnCategoriesConfig.forEach((spawnCategory, spawnCategoryConfig) -> {
             spawnCategoryConfig.setWorldRef(world);
         });
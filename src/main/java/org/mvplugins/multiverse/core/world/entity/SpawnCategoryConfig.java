@@ -27,6 +27,7 @@ public final class SpawnCategoryConfig {
     private final Nodes nodes;
 
     private MultiverseWorld world;
+    private EntitySpawnConfig spawnConfig;
 
     SpawnCategoryConfig(SpawnCategory spawnCategory, ConfigurationSection section) {
         this.spawnCategory = spawnCategory;
@@ -44,10 +45,25 @@ public final class SpawnCategoryConfig {
         return handle.getConfig();
     }
 
+    boolean isDirty() {
+        return handle.isDirty();
+    }
+
     void setWorldRef(MultiverseWorld world) {
         this.world = world;
     }
 
+    void setSpawnConfigRef(EntitySpawnConfig spawnConfig) {
+        this.spawnConfig = spawnConfig;
+    }
+
+    private void onSpawnRuleChanged() {
+        if (spawnConfig != null) {
+            spawnConfig.rebuildSpawnTable();
+        }
+        applyConfigToWorld();
+    }
+
     void applyConfigToWorld() {
         if (spawnCategory == SpawnCategory.MISC) {
             // Cannot control misc spawn with setTicksPerSpawns
@@ -83,7 +99,7 @@ public final class SpawnCategoryConfig {
     }
 
     public boolean isSpawn() {
-        return handle.get(nodes.spawn);
+        return handle.getBoolean(nodes.spawn);
     }
 
     public Try<Void> setSpawn(boolean spawn) {
@@ -91,7 +107,7 @@ public final class SpawnCategoryConfig {
     }
 
     public int getTickRate() {
-        return handle.get(nodes.tickRate);
+        return handle.getInt(nodes.tickRate);
     }
 
     public Try<Void> setTickRate(int tickRate) {
@@ -99,7 +115,7 @@ public final class SpawnCategoryConfig {
     }
 
     public int getSpawnLimit() {
-        return handle.get(nodes.spawnLimit);
+        return handle.getInt(nodes.spawnLimit);
     }
 
     public Try<Void> setSpawnLimit(int spawnLimit) {
@@ -142,7 +158,7 @@ public final class SpawnCategoryConfig {
 
         final ConfigNode<Boolean> spawn = node(ConfigNode.builder("spawn", Boolean.class)
                 .defaultValue(true)
-                .onSetValue((oldValue, newValue) -> applyConfigToWorld())
+                .onSetValue((oldValue, newValue) -> onSpawnRuleChanged())
                 .build());
 
         final ConfigNode<Integer> tickRate = node(ConfigNode.builder("tick-rate", Integer.class)
@@ -162,7 +178,8 @@ public final class SpawnCategoryConfig {
                 .itemSuggester(input -> SpawnCategoryMapper.getEntityTypes(spawnCategory).stream()
                         .map(EntityType::name)
                         .toList())
-                .onSetValue((oldValue, newValue) -> applyConfigToWorld())
+                .onSetValue((oldValue, newValue) -> onSpawnRuleChanged())
+                .onSetItemValue((oldItem, newItem) -> onSpawnRuleChanged())
                 .build());
     }
 }
@@ -1,9 +1,6 @@
 package org.mvplugins.multiverse.core.world.entrycheck;
 
-import java.util.Collection;
-
 import org.bukkit.Material;
-import org.bukkit.World;
 import org.bukkit.command.BlockCommandSender;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.ConsoleCommandSender;
@@ -103,10 +100,7 @@ public final class WorldEntryChecker {
         if (permissionsChecker.hasPlayerLimitBypassPermission(sender, world)) {
             return Result.success(PlayerLimitResult.Success.BYPASS_PLAYERLIMIT);
         }
-        int numberOfPlayersInWorld = world.getBukkitWorld().map(World::getPlayers)
-                .map(Collection::size)
-                .getOrElse(0);
-        return playerLimit > numberOfPlayersInWorld
+        return playerLimit > world.getPlayerCount()
                 ? Result.success(PlayerLimitResult.Success.WITHIN_PLAYERLIMIT)
                 : Result.failure(PlayerLimitResult.Failure.EXCEED_PLAYERLIMIT);
     }
@@ -0,0 +1,232 @@
+package org.mvplugins.multiverse.core.world.helpers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.dumptruckman.minecraft.util.Logging;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import org.bukkit.Bukkit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.world.helpers.WorldNameChecker.FolderStatus;
+
+/**
+ * In-memory index of the folders in the world container and whether they look like worlds, so that tab completion
+ * and import checks do not need to list the world container on every call.
+ * <br/>
+ * The index is built on first use. A {@link WatchService} on the world container keeps it up to date from a worker
+ * thread. Only the world container is watched, so worlds saving their files do not cause any work. Folders created
+ * while watching that do not look like worlds yet, e.g. because level.dat is still being copied, are checked on disk
+ * again on next use until they do. If the watch service is not available or loses events, the whole world container
+ * is rescanned instead, at most once every {@link #RESCAN_INTERVAL_MILLIS} when the watch service is not available.
+ * <br/>
+ * The watcher is only started on the main thread. Rescans and updates from the watcher are serialized, and each
+ * rescan swaps in a new map, so readers never see a partly rebuilt index.
+ */
+@Service
+public final class WorldFolderIndex {
+
+    static final long RESCAN_INTERVAL_MILLIS = 5000;
+
+    private final WorldNameChecker worldNameChecker;
+    private final Set<String> unsettledFolders = ConcurrentHashMap.newKeySet();
+
+    private volatile Map<String, FolderStatus> folders = new ConcurrentHashMap<>();
+    private volatile @Nullable File worldContainer;
+    private volatile @Nullable WatchService watchService;
+    private volatile long lastScanMillis;
+    private volatile boolean needsRescan = true;
+
+    @Inject
+    WorldFolderIndex(@NotNull WorldNameChecker worldNameChecker) {
+        this.worldNameChecker = worldNameChecker;
+    }
+
+    /**
+     * Gets the names of all folders in the world container that look like worlds.
+     *
+     * @return The world folder names.
+     */
+    public @NotNull List<String> getValidWorldFolders() {
+        ensureIndexed();
+        checkUnsettledFolders();
+        return folders.entrySet().stream()
+                .filter(entry -> entry.getValue() == FolderStatus.VALID)
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Checks the folder status of a world name. A folder that is indexed as a valid world is trusted as long as its
+     * level.dat is still there, anything else is checked on disk as the folder may have just been created or changed.
+     *
+     * @param worldName The world name to check on.
+     * @return The resulting folder status.
+     */
+    public @NotNull FolderStatus checkFolder(@Nullable String worldName) {
+        if (worldName == null) {
+            return FolderStatus.DOES_NOT_EXIST;
+        }
+        ensureIndexed();
+        if (folders.get(worldName) == FolderStatus.VALID
+                && new File(new File(Bukkit.getWorldContainer(), worldName), "level.dat").isFile()) {
+            return FolderStatus.VALID;
+        }
+        FolderStatus status = worldNameChecker.checkFolder(worldName);
+        if (!worldName.contains("/") && !worldName.contains(File.separator)) {
+            updateFolder(worldName, status);
+        }
+        return status;
+    }
+
+    /**
+     * Drops the index so that it is rebuilt from disk on next use.
+     */
+    public void invalidate() {
+        needsRescan = true;
+    }
+
+    private void ensureIndexed() {
+        File currentContainer = Bukkit.getWorldContainer();
+        if (!currentContainer.equals(worldContainer)) {
+            // World container changed, e.g. a new server instance in tests
+            stopWatching();
+            worldContainer = currentContainer;
+            needsRescan = true;
+        }
+        if (watchService == null) {
+            if (Bukkit.isPrimaryThread()) {
+                // Async callers such as tab completion rely on rescans until the main thread starts the watcher
+                startWatching(currentContainer);
+            }
+            if (watchService == null
+                    && System.currentTimeMillis() - lastScanMillis > RESCAN_INTERVAL_MILLIS) {
+                needsRescan = true;
+            }
+        }
+        if (needsRescan) {
+            rescan();
+        }
+    }
+
+    private synchronized void rescan() {
+        if (!needsRescan) {
+            return;
+        }
+        needsRescan = false;
+        lastScanMillis = System.currentTimeMillis();
+        File container = worldContainer;
+        File[] files = container == null ? null : container.listFiles(File::isDirectory);
+        Map<String, FolderStatus> scanned = new ConcurrentHashMap<>();
+        if (files != null) {
+            for (File file : files) {
+                scanned.put(file.getName(), worldNameChecker.checkFolder(file));
+            }
+        }
+        unsettledFolders.clear();
+        folders = scanned;
+        Logging.finer("Indexed %d folders in world container.", scanned.size());
+    }
+
+    private void checkUnsettledFolders() {
+        File container = worldContainer;
+        if (container == null || unsettledFolders.isEmpty()) {
+            return;
+        }
+        for (String folderName : unsettledFolders) {
+            updateFolder(folderName, worldNameChecker.checkFolder(new File(container, folderName)));
+        }
+    }
+
+    private synchronized void updateFolder(String folderName, FolderStatus status) {
+        if (status == FolderStatus.DOES_NOT_EXIST) {
+            folders.remove(folderName);
+        } else {
+            folders.put(folderName, status);
+        }
+        if (status == FolderStatus.INVALID) {
+            unsettledFolders.add(folderName);
+        } else {
+            unsettledFolders.remove(folderName);
+        }
+    }
+
+    private synchronized void startWatching(File container) {
+        if (watchService != null) {
+            return;
+        }
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            container.toPath().register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+            watchService = service;
+            needsRescan = true;
+            Thread thread = new Thread(() -> processEvents(service, container), "Multiverse-WorldFolderIndex");
+            thread.setDaemon(true);
+            thread.start();
+        } catch (IOException | UnsupportedOperationException e) {
+            Logging.finer("Unable to watch world container, using rescans instead: %s", e.getMessage());
+        }
+    }
+
+    private void processEvents(WatchService service, File container) {
+        Path containerPath = container.toPath();
+        while (watchService == service) {
+            WatchKey key;
+            try {
+                key = service.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            if (key == null) {
+                continue;
+            }
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    needsRescan = true;
+                    continue;
+                }
+                String folderName = ((Path) event.context()).getFileName().toString();
+                File folder = containerPath.resolve(folderName).toFile();
+                if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE || folder.isDirectory()) {
+                    updateFolder(folderName, worldNameChecker.checkFolder(folder));
+                }
+            }
+            if (!key.reset()) {
+                // The world container itself is no longer watchable, start over on next use
+                stopWatching();
+                needsRescan = true;
+            }
+        }
+    }
+
+    @PreDestroy
+    synchronized void stopWatching() {
+        WatchService service = watchService;
+        watchService = null;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                Logging.finest("Unable to close world folder watcher: %s", e.getMessage());
+            }
+        }
+    }
+}
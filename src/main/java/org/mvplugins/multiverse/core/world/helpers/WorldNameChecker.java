@@ -1,8 +1,12 @@
 package org.mvplugins.multiverse.core.world.helpers;
 
 import java.io.File;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import io.vavr.control.Option;
 import org.bukkit.Bukkit;
@@ -105,6 +109,23 @@ public final class WorldNameChecker {
         return checkFolder(worldFolder);
     }
 
+    /**
+     * Checks the current folder status of many world names at once. The folders are probed in parallel, so this
+     * is much faster than calling {@link #checkFolder(String)} for each name when there are many worlds.
+     *
+     * @param worldNames    The world names to check on.
+     * @return The resulting folder status of each world name.
+     */
+    @NotNull
+    public Map<String, FolderStatus> checkFolders(@NotNull Collection<String> worldNames) {
+        File worldContainer = Bukkit.getWorldContainer();
+        return worldNames.parallelStream()
+                .distinct()
+                .collect(Collectors.toConcurrentMap(
+                        Function.identity(),
+                        worldName -> checkFolder(new File(worldContainer, worldName))));
+    }
+
     /**
      * Checks the current folder status.
      *
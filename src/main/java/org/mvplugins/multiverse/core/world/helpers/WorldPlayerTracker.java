@@ -0,0 +1,189 @@
+package org.mvplugins.multiverse.core.world.helpers;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.dumptruckman.minecraft.util.Logging;
+import io.vavr.control.Try;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jvnet.hk2.annotations.Service;
+
+import org.mvplugins.multiverse.core.MultiverseCore;
+import org.mvplugins.multiverse.core.utils.LazyLogging;
+
+/**
+ * Keeps track of the online players in each world, so that player counts can be read without asking bukkit for a
+ * new list of players every time.
+ * <br/>
+ * The sets are updated from player join, quit, teleport and world change events on the main thread, and checked
+ * against bukkit every {@link #RECONCILE_INTERVAL_TICKS} ticks to fix any drift, e.g. from a teleport that was
+ * cancelled after the event. They can be read from any thread, but while a player moves they may briefly be seen in
+ * neither world.
+ */
+@Service
+public final class WorldPlayerTracker {
+
+    /**
+     * How often the tracked players are checked against bukkit, in ticks.
+     */
+    static final long RECONCILE_INTERVAL_TICKS = 600L;
+
+    private final MultiverseCore plugin;
+    private final Server server;
+    private final Map<UUID, Set<Player>> worldPlayers = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> playerWorlds = new ConcurrentHashMap<>();
+    private @Nullable BukkitTask reconcileTask;
+
+    @Inject
+    WorldPlayerTracker(@NotNull MultiverseCore plugin, @NotNull Server server) {
+        this.plugin = plugin;
+        this.server = server;
+    }
+
+    @PostConstruct
+    void startReconciling() {
+        // Picks up players that were already online, e.g. after a reload
+        reconcile();
+        reconcileTask = Try.of(() -> server.getScheduler()
+                        .runTaskTimer(plugin, this::reconcile, RECONCILE_INTERVAL_TICKS, RECONCILE_INTERVAL_TICKS))
+                .onFailure(e -> Logging.warning("Unable to schedule world player reconcile: %s", e.getMessage()))
+                .getOrNull();
+    }
+
+    @PreDestroy
+    void stopReconciling() {
+        if (reconcileTask != null) {
+            reconcileTask.cancel();
+            reconcileTask = null;
+        }
+    }
+
+    /**
+     * Gets the number of players in the given world.
+     *
+     * @param world The world.
+     * @return The number of players in the world.
+     */
+    public int getPlayerCount(@NotNull World world) {
+        return getPlayerCount(world.getUID());
+    }
+
+    /**
+     * Gets the number of players in the world with the given uid.
+     *
+     * @param worldUid  The uid of the world.
+     * @return The number of players in the world.
+     */
+    public int getPlayerCount(@NotNull UUID worldUid) {
+        Set<Player> players = worldPlayers.get(worldUid);
+        return players == null ? 0 : players.size();
+    }
+
+    /**
+     * Gets a read-only view of the players in the world with the given uid. The view follows players joining and
+     * leaving the world, copy it if a fixed list is needed.
+     *
+     * @param worldUid  The uid of the world.
+     * @return The players in the world.
+     */
+    public @NotNull Set<Player> getPlayers(@NotNull UUID worldUid) {
+        return Collections.unmodifiableSet(getOrCreatePlayers(worldUid));
+    }
+
+    /**
+     * Records the player as being in the given world, removing them from the world they were in before.
+     *
+     * @param player    The player.
+     * @param world     The world the player is in or is going to.
+     */
+    public void trackPlayer(@NotNull Player player, @NotNull World world) {
+        UUID worldUid = world.getUID();
+        UUID previousWorldUid = playerWorlds.put(player.getUniqueId(), worldUid);
+        if (previousWorldUid != null && !previousWorldUid.equals(worldUid)) {
+            removeFromWorld(player, previousWorldUid);
+        }
+        getOrCreatePlayers(worldUid).add(player);
+    }
+
+    /**
+     * Stops tracking the player, e.g. when they quit.
+     *
+     * @param player    The player.
+     */
+    public void untrackPlayer(@NotNull Player player) {
+        UUID worldUid = playerWorlds.remove(player.getUniqueId());
+        if (worldUid != null) {
+            removeFromWorld(player, worldUid);
+        }
+    }
+
+    /**
+     * Checks the tracked players against the players bukkit has online and fixes any difference. Must be called on
+     * the main thread.
+     *
+     * @return The number of corrections made.
+     */
+    int reconcile() {
+        int corrections = 0;
+        Map<UUID, Player> onlinePlayers = new HashMap<>();
+        for (Player player : server.getOnlinePlayers()) {
+            onlinePlayers.put(player.getUniqueId(), player);
+            UUID worldUid = player.getWorld().getUID();
+            Set<Player> players = worldPlayers.get(worldUid);
+            boolean tracked = worldUid.equals(playerWorlds.get(player.getUniqueId()))
+                    && players != null && players.contains(player);
+            if (!tracked) {
+                trackPlayer(player, player.getWorld());
+                corrections++;
+            }
+        }
+        for (Iterator<Map.Entry<UUID, UUID>> iterator = playerWorlds.entrySet().iterator(); iterator.hasNext(); ) {
+            if (!onlinePlayers.containsKey(iterator.next().getKey())) {
+                iterator.remove();
+                corrections++;
+            }
+        }
+        for (Map.Entry<UUID, Set<Player>> entry : worldPlayers.entrySet()) {
+            for (Iterator<Player> iterator = entry.getValue().iterator(); iterator.hasNext(); ) {
+                Player player = iterator.next();
+                Player onlinePlayer = onlinePlayers.get(player.getUniqueId());
+                if (onlinePlayer == null || !entry.getKey().equals(onlinePlayer.getWorld().getUID())) {
+                    iterator.remove();
+                    corrections++;
+                }
+            }
+            if (entry.getValue().isEmpty() && server.getWorld(entry.getKey()) == null) {
+                // The world was unloaded
+                worldPlayers.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        if (corrections > 0) {
+            LazyLogging.fine("Corrected %d drifted world player entries", corrections);
+        }
+        return corrections;
+    }
+
+    private Set<Player> getOrCreatePlayers(UUID worldUid) {
+        return worldPlayers.computeIfAbsent(worldUid, ignore -> ConcurrentHashMap.newKeySet());
+    }
+
+    private void removeFromWorld(Player player, UUID worldUid) {
+        Set<Player> players = worldPlayers.get(worldUid);
+        if (players != null) {
+            players.remove(player);
+        }
+    }
+}
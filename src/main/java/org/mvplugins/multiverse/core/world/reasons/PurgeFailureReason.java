@@ -0,0 +1,36 @@
+package org.mvplugins.multiverse.core.world.reasons;
+
+import co.aikar.locales.MessageKey;
+import co.aikar.locales.MessageKeyProvider;
+
+import org.mvplugins.multiverse.core.locale.MVCorei18n;
+import org.mvplugins.multiverse.core.utils.result.FailureReason;
+
+/**
+ * Result of an entity purge operation.
+ */
+public enum PurgeFailureReason implements FailureReason {
+    /**
+     * The world is not loaded, or was unloaded during the purge.
+     */
+    WORLD_NOT_LOADED(MVCorei18n.PURGEENTITIES_WORLDNOTLOADED),
+
+    /**
+     * The purge was cancelled before it went through all chunks.
+     */
+    CANCELLED(MVCorei18n.PURGEENTITIES_CANCELLED);
+
+    private final MessageKeyProvider message;
+
+    PurgeFailureReason(MessageKeyProvider message) {
+        this.message = message;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MessageKey getMessageKey() {
+        return message.getMessageKey();
+    }
+}
@@ -1,12 +1,12 @@
 package org.mvplugins.multiverse.core
 
-import com.dumptruckman.minecraft.util.Logging
 import org.bukkit.Location
 import org.bukkit.configuration.MemorySection
 import org.bukkit.configuration.file.YamlConfiguration
 import org.mockbukkit.mockbukkit.MockBukkit
 import org.mvplugins.multiverse.core.inject.PluginServiceLocator
 import org.mvplugins.multiverse.core.mock.MVServerMock
+import org.mvplugins.multiverse.core.utils.LazyLogging
 import kotlin.test.*
 
 /**
@@ -23,7 +23,7 @@ abstract class TestWithMockBukkit {
         TestingMode.enable()
         server = MockBukkit.mock(MVServerMock())
         multiverseCore = MockBukkit.load(MultiverseCore::class.java)
-        Logging.setDebugLevel(3)
+        LazyLogging.setDebugLevel(3)
         serviceLocator = multiverseCore.serviceLocator
         assertNotNull(server.commandMap)
     }
@@ -0,0 +1,87 @@
+package org.mvplugins.multiverse.core
+
+import org.bukkit.Difficulty
+import org.bukkit.event.server.PluginEnableEvent
+import org.bukkit.event.server.ServiceRegisterEvent
+import org.bukkit.plugin.RegisteredServiceProvider
+import org.bukkit.plugin.ServicePriority
+import org.mvplugins.multiverse.core.event.MVConfigReloadEvent
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld
+import org.mvplugins.multiverse.core.world.WorldManager
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import org.mvplugins.multiverse.core.world.options.UnloadWorldOptions
+import kotlin.test.*
+
+class WorldPlaceholderResolverTest : TestWithMockBukkit() {
+
+    private lateinit var worldManager: WorldManager
+    private lateinit var resolver: WorldPlaceholderResolver
+    private lateinit var world: LoadedMultiverseWorld
+
+    @BeforeTest
+    fun setUp() {
+        worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+        resolver = serviceLocator.getActiveService(WorldPlaceholderResolver::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldPlaceholderResolver is not available as a service") }
+        world = worldManager.createWorld(CreateWorldOptions.worldName("world")).get()
+    }
+
+    @Test
+    fun `Placeholders resolve to world values`() {
+        val player = server.addPlayer()
+        assertEquals("world", resolver.resolve(player, "name"))
+        assertEquals("world", resolver.resolve(null, "NAME_world"))
+        assertEquals(world.seed.toString(), resolver.resolve(null, "seed_world"))
+        assertEquals(world.environment.toString().lowercase(), resolver.resolve(player, "environment"))
+        assertNull(resolver.resolve(null, "name"))
+        assertNull(resolver.resolve(player, "unknown"))
+        assertNull(resolver.resolve(player, "name_notaworld"))
+    }
+
+    @Test
+    fun `Cached values follow property changes and unload`() {
+        assertEquals("world", resolver.resolve(null, "alias_world"))
+        world.setAlias("Fancy")
+        assertEquals("Fancy", resolver.resolve(null, "alias_world"))
+
+        world.setDifficulty(Difficulty.HARD)
+        assertEquals(Difficulty.HARD.toString(), resolver.resolve(null, "difficulty_world"))
+
+        assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(world)).isSuccess)
+        assertNull(resolver.resolve(null, "alias_world"))
+    }
+
+    @Test
+    fun `Cached values are computed once until invalidated`() {
+        val params = listOf("alias_world", "pvp_world", "gamemode_world", "entryfee_world", "seed_world", "difficulty_world")
+        resolver.invalidateAll()
+        val missesBefore = resolver.cacheMisses
+        repeat(1000) { i -> assertNotNull(resolver.resolve(null, params[i % params.size])) }
+        assertEquals(missesBefore + params.size, resolver.cacheMisses)
+
+        // Non-cacheable placeholders are computed on every request
+        repeat(10) { assertNotNull(resolver.resolve(null, "time_world")) }
+        assertEquals(missesBefore + params.size, resolver.cacheMisses)
+    }
+
+    @Test
+    fun `Config reload drops cached values`() {
+        assertEquals("world", resolver.resolve(null, "alias_world"))
+        val missesBefore = resolver.cacheMisses
+        server.pluginManager.callEvent(MVConfigReloadEvent(mutableListOf("config.yml")))
+        assertEquals("world", resolver.resolve(null, "alias_world"))
+        assertEquals(missesBefore + 1, resolver.cacheMisses)
+    }
+
+    @Test
+    fun `Unrelated plugins and services keep cached values`() {
+        assertEquals("world", resolver.resolve(null, "alias_world"))
+        val missesBefore = resolver.cacheMisses
+        server.pluginManager.callEvent(PluginEnableEvent(multiverseCore))
+        server.pluginManager.callEvent(ServiceRegisterEvent(
+            RegisteredServiceProvider(Runnable::class.java, Runnable {}, ServicePriority.Normal, multiverseCore)))
+        assertEquals("world", resolver.resolve(null, "alias_world"))
+        assertEquals(missesBefore, resolver.cacheMisses)
+    }
+}
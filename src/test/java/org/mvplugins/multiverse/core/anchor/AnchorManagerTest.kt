@@ -1,7 +1,11 @@
 package org.mvplugins.multiverse.core.anchor
 
 import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.bukkit.Location
+import org.bukkit.configuration.file.YamlConfiguration
 import org.mvplugins.multiverse.core.world.location.UnloadedWorldLocation
+import java.util.function.Predicate
+import kotlin.random.Random
 import kotlin.test.*
 
 class AnchorManagerTest : TestWithMockBukkit() {
@@ -45,6 +49,7 @@ class AnchorManagerTest : TestWithMockBukkit() {
         anchorManager.setAnchor("a3", newLocation)
         assertLocationEquals(newLocation, anchorManager.getAnchor("a3").orNull?.location)
 
+        assertTrue(anchorManager.saveAllAnchors().isSuccess)
         assertConfigEquals("/anchors/anchors_saved.yml", "anchors.yml")
     }
 
@@ -55,4 +60,160 @@ class AnchorManagerTest : TestWithMockBukkit() {
         anchorManager.deleteAnchor(a1)
         assertNull(anchorManager.getAnchor("a1").orNull)
     }
-}
\ No newline at end of file
+
+    @Test
+    fun `Burst of anchor changes is written once`() {
+        val saver = anchorManager.anchorsSaver
+        val writesBefore = saver.completedWrites
+
+        for (i in 0 until 200) {
+            val location = UnloadedWorldLocation("w1", i.toDouble(), 64.0, 0.0)
+            assertTrue(anchorManager.setAnchor("burst$i", location).isSuccess)
+        }
+        assertTrue(saver.isSavePending)
+        assertEquals(writesBefore, saver.completedWrites)
+
+        server.scheduler.performTicks(20)
+        assertFalse(saver.isSavePending)
+        val deadline = System.currentTimeMillis() + 5000
+        while (saver.completedWrites == writesBefore && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10)
+        }
+        assertEquals(writesBefore + 1, saver.completedWrites)
+
+        val saved = YamlConfiguration.loadConfiguration(anchorsFile())
+        assertEquals(202, saved.getConfigurationSection("anchors")?.getKeys(false)?.size)
+    }
+
+    @Test
+    fun `Flush writes the latest change after a background write`() {
+        assertTrue(anchorManager.setAnchor("a1", UnloadedWorldLocation("w1", 1.0, 1.0, 1.0)).isSuccess)
+        server.scheduler.performTicks(20)
+        assertTrue(anchorManager.setAnchor("a1", UnloadedWorldLocation("w1", 2.0, 2.0, 2.0)).isSuccess)
+        assertTrue(anchorManager.saveAllAnchors().isSuccess)
+        assertFalse(anchorManager.anchorsSaver.isSavePending)
+
+        val saved = YamlConfiguration.loadConfiguration(anchorsFile())
+        assertEquals("w1:2.00,2.00,2.00:0.00:0.00", saved.getString("anchors.a1"))
+    }
+
+    @Test
+    fun `Pending changes are written before anchors are loaded again`() {
+        assertTrue(anchorManager.setAnchor("a3", UnloadedWorldLocation("w3", 3.0, 3.0, 3.0)).isSuccess)
+        assertTrue(anchorManager.loadAnchors().isSuccess)
+        assertNotNull(anchorManager.getAnchor("a3").orNull)
+        assertEquals(3, anchorManager.allAnchors.size)
+    }
+
+    @Test
+    fun `Truncated temp file from an interrupted write is ignored`() {
+        val tempFile = multiverseCore.dataFolder.toPath().resolve("anchors.yml.tmp").toFile()
+        tempFile.writeText("anchors:\n  a1: w1:0.50,70.0")
+
+        assertTrue(anchorManager.loadAnchors().isSuccess)
+        assertFalse(tempFile.exists())
+        assertEquals(2, anchorManager.allAnchors.size)
+        assertNotNull(anchorManager.getAnchor("a2").orNull)
+    }
+
+    @Test
+    fun `Anchors are indexed by world`() {
+        assertEquals(listOf("a1"), anchorManager.getAnchorsInWorld("w1").map { it.name })
+        assertEquals(listOf("a2"), anchorManager.getAnchorsInWorld("w2").map { it.name })
+        assertTrue(anchorManager.getAnchorsInWorld("w3").isEmpty())
+    }
+
+    @Test
+    fun `Index follows anchors being moved and deleted`() {
+        val origin = UnloadedWorldLocation("w1", 0.0, 70.0, 0.0)
+        assertEquals("a1", anchorManager.getNearestAnchor(origin) { true }.orNull?.name)
+
+        assertTrue(anchorManager.setAnchor("a1", UnloadedWorldLocation("w2", 1000.0, 70.0, 1000.0)).isSuccess)
+        assertTrue(anchorManager.getNearestAnchor(origin) { true }.isEmpty)
+        assertEquals(setOf("a1", "a2"), anchorManager.getAnchorsInWorld("w2").map { it.name }.toSet())
+
+        assertTrue(anchorManager.setAnchor("a3", UnloadedWorldLocation("w1", 5000.0, 70.0, -5000.0)).isSuccess)
+        assertEquals("a3", anchorManager.getNearestAnchor(origin) { true }.orNull?.name)
+
+        assertTrue(anchorManager.deleteAnchor(anchorManager.getAnchor("a3").get()).isSuccess)
+        assertTrue(anchorManager.getNearestAnchor(origin) { true }.isEmpty)
+        assertTrue(anchorManager.getAnchorsInWorld("w1").isEmpty())
+    }
+
+    @Test
+    fun `Nearest anchor skips anchors not matching the filter`() {
+        assertTrue(anchorManager.setAnchor("close", UnloadedWorldLocation("w1", 1.0, 70.0, 1.0)).isSuccess)
+        val origin = UnloadedWorldLocation("w1", 0.0, 70.0, 0.0)
+        assertEquals("close", anchorManager.getNearestAnchor(origin) { true }.orNull?.name)
+        assertEquals("a1", anchorManager.getNearestAnchor(origin) { it.name != "close" }.orNull?.name)
+        assertTrue(anchorManager.getNearestAnchor(origin) { false }.isEmpty)
+    }
+
+    @Test
+    fun `Nearest anchor and radius queries match a full scan`() {
+        val random = Random(42)
+        for (i in 0 until 2000) {
+            // Mix of a dense cluster and anchors spread far out, including negative coordinates
+            val spread = if (i % 4 == 0) 100_000.0 else 300.0
+            val location = UnloadedWorldLocation(
+                if (i % 3 == 0) "w2" else "w1",
+                random.nextDouble(-spread, spread),
+                random.nextDouble(0.0, 256.0),
+                random.nextDouble(-spread, spread))
+            assertTrue(anchorManager.setAnchor("r$i", location).isSuccess)
+        }
+        val filter = Predicate<MultiverseAnchor> { anchor -> anchor.name.hashCode() % 5 != 0 }
+
+        repeat(300) {
+            val spread = if (it % 2 == 0) 500.0 else 200_000.0
+            val query = UnloadedWorldLocation(
+                if (it % 3 == 0) "w2" else "w1",
+                random.nextDouble(-spread, spread),
+                random.nextDouble(0.0, 256.0),
+                random.nextDouble(-spread, spread))
+            val radius = random.nextDouble(0.0, 400.0)
+            val inWorld = anchorManager.allAnchors
+                .filter { anchor -> anchor.locationWorldName == query.worldName && filter.test(anchor) }
+
+            val expectedNearest = inWorld.minOf { distanceSquared(it, query) }
+            val nearest = anchorManager.getNearestAnchor(query, filter).orNull
+            assertNotNull(nearest)
+            assertEquals(expectedNearest, distanceSquared(nearest, query))
+
+            val expectedInRadius = inWorld.filter { distanceSquared(it, query) <= radius * radius }
+                .sortedBy { distanceSquared(it, query) }
+            assertEquals(
+                expectedInRadius.map { it.name },
+                anchorManager.getAnchorsWithinRadius(query, radius, filter).map { it.name })
+        }
+    }
+
+    @Test
+    fun `Nearest anchor lookups with 50000 anchors only check nearby anchors`() {
+        val random = Random(7)
+        val index = AnchorSpatialIndex()
+        val allAnchors = (0 until 50_000).map {
+            val location = UnloadedWorldLocation(
+                "w1", random.nextDouble(-20_000.0, 20_000.0), 64.0, random.nextDouble(-20_000.0, 20_000.0))
+            MultiverseAnchor("anchor$it", location).also(index::add)
+        }
+        val queries = (0 until 1000).map {
+            UnloadedWorldLocation(
+                "w1", random.nextDouble(-20_000.0, 20_000.0), 64.0, random.nextDouble(-20_000.0, 20_000.0))
+        }
+
+        queries.forEach { query ->
+            val scanned = allAnchors.minBy { distanceSquared(it, query) }
+            val indexed = index.nearest("w1", query.x, query.y, query.z) { true }.get()
+            assertEquals(distanceSquared(scanned, query), distanceSquared(indexed, query))
+        }
+        // A full scan would check all 50000 anchors for every lookup
+        val checkedPerLookup = index.nearestAnchorsChecked / queries.size
+        assertTrue(checkedPerLookup < 500, "Expected few anchors to be checked per lookup, got $checkedPerLookup")
+    }
+
+    private fun distanceSquared(anchor: MultiverseAnchor, location: Location) =
+        anchor.distanceSquared(location.x, location.y, location.z)
+
+    private fun anchorsFile() = multiverseCore.dataFolder.toPath().resolve("anchors.yml").toFile()
+}
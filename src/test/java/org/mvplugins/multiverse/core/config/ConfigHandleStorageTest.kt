@@ -0,0 +1,146 @@
+package org.mvplugins.multiverse.core.config
+
+import org.bukkit.configuration.MemoryConfiguration
+import org.mvplugins.multiverse.core.config.handle.MemoryConfigurationHandle
+import org.mvplugins.multiverse.core.config.node.ConfigHeaderNode
+import org.mvplugins.multiverse.core.config.node.ConfigNode
+import org.mvplugins.multiverse.core.config.node.NodeGroup
+import kotlin.test.*
+
+class ConfigHandleStorageTest {
+
+    private val header = ConfigHeaderNode.builder("header").build()
+    private val flag = ConfigNode.builder("flag", Boolean::class.javaObjectType).build()
+    private val count = ConfigNode.builder("count", Int::class.javaObjectType).build()
+    private val amount = ConfigNode.builder("amount", Double::class.javaObjectType).build()
+    private val label = ConfigNode.builder("label", String::class.java).build()
+
+    private lateinit var nodes: NodeGroup
+    private lateinit var section: MemoryConfiguration
+
+    @BeforeTest
+    fun setUp() {
+        nodes = NodeGroup()
+        nodes.addAll(listOf(header, flag, count, amount, label))
+        section = MemoryConfiguration()
+        section.set("flag", true)
+        section.set("count", 42)
+        section.set("amount", 2.5)
+        section.set("label", "hello")
+    }
+
+    private fun loadHandle(group: NodeGroup = nodes): MemoryConfigurationHandle {
+        val handle = MemoryConfigurationHandle.builder(section, group).build()
+        assertTrue(handle.load().isSuccess)
+        return handle
+    }
+
+    @Test
+    fun `Value nodes get dense slots in the order they are added`() {
+        assertEquals(-1, nodes.getSlot(ConfigNode.builder("other", String::class.java).build()))
+        assertEquals(listOf(0, 1, 2, 3), listOf(flag, count, amount, label).map { nodes.getSlot(it) })
+        assertEquals(4, nodes.slotCount)
+    }
+
+    @Test
+    fun `Loaded values can be read boxed and as primitives`() {
+        val handle = loadHandle()
+        assertTrue(handle.isLoaded)
+        assertEquals(true, handle.get(flag))
+        assertTrue(handle.getBoolean(flag))
+        assertEquals(42, handle.get(count))
+        assertEquals(42, handle.getInt(count))
+        assertEquals(2.5, handle.get(amount))
+        assertEquals(2.5, handle.getDouble(amount))
+        assertEquals("hello", handle.get(label))
+    }
+
+    @Test
+    fun `Set values are seen by both getters`() {
+        val handle = loadHandle()
+        assertTrue(handle.set(flag, false).isSuccess)
+        assertTrue(handle.set(count, 7).isSuccess)
+        assertTrue(handle.set(amount, -1.25).isSuccess)
+        assertFalse(handle.getBoolean(flag))
+        assertEquals(false, handle.get(flag))
+        assertEquals(7, handle.getInt(count))
+        assertEquals(-1.25, handle.getDouble(amount))
+    }
+
+    @Test
+    fun `Saved values survive a reload`() {
+        val handle = loadHandle()
+        assertTrue(handle.set(count, 99).isSuccess)
+        assertTrue(handle.set(label, "changed").isSuccess)
+        assertTrue(handle.save().isSuccess)
+        section = handle.config as MemoryConfiguration
+
+        val reloaded = loadHandle()
+        assertEquals(99, reloaded.getInt(count))
+        assertEquals("changed", reloaded.get(label))
+    }
+
+    @Test
+    fun `Node shared between groups has a slot in each`() {
+        val otherGroup = NodeGroup()
+        otherGroup.add(label)
+        otherGroup.add(count)
+        assertEquals(0, otherGroup.getSlot(label))
+        assertEquals(1, otherGroup.getSlot(count))
+        assertEquals(3, nodes.getSlot(label))
+
+        val handle = loadHandle(otherGroup)
+        assertEquals("hello", handle.get(label))
+        assertEquals(42, handle.getInt(count))
+        assertNull(handle.get(flag))
+    }
+
+    @Test
+    fun `Nodes not in the group cannot be set`() {
+        val handle = loadHandle()
+        val unknown = ConfigNode.builder("unknown", Int::class.javaObjectType).build()
+        assertTrue(handle.set(unknown, 1).isFailure)
+        assertNull(handle.get(unknown))
+        assertEquals(0, handle.getInt(unknown))
+    }
+
+    @Test
+    fun `Nodes added after the handle is created can be used`() {
+        val handle = loadHandle()
+        val late = ConfigNode.builder("late", Boolean::class.javaObjectType).build()
+        nodes.add(late)
+        assertNull(handle.get(late))
+        assertTrue(handle.set(late, true).isSuccess)
+        assertTrue(handle.getBoolean(late))
+        assertEquals(42, handle.getInt(count))
+    }
+
+    @Test
+    fun `Save only writes the nodes that changed`() {
+        val handle = loadHandle()
+        assertTrue(handle.isDirty)
+        assertTrue(handle.save().isSuccess)
+        assertEquals(4, handle.lastSavedNodeCount)
+        assertFalse(handle.isDirty)
+
+        assertTrue(handle.save().isSuccess)
+        assertEquals(0, handle.lastSavedNodeCount)
+
+        assertTrue(handle.set(count, 5).isSuccess)
+        assertTrue(handle.isDirty)
+        assertTrue(handle.save().isSuccess)
+        assertEquals(1, handle.lastSavedNodeCount)
+        assertEquals(5, handle.config.get("count"))
+        assertEquals("hello", handle.config.get("label"))
+    }
+
+    @Test
+    fun `Load makes the next save write every node`() {
+        val handle = loadHandle()
+        assertTrue(handle.save().isSuccess)
+        assertTrue(handle.load().isSuccess)
+        assertTrue(handle.isDirty)
+        assertTrue(handle.save().isSuccess)
+        assertEquals(4, handle.lastSavedNodeCount)
+    }
+}
@@ -1,15 +1,22 @@
 package org.mvplugins.multiverse.core.destination
 
 import org.bukkit.Location
+import org.mvplugins.multiverse.core.config.CoreConfig
 import org.mockbukkit.mockbukkit.entity.PlayerMock
 import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.anchor.AnchorManager
 import org.mvplugins.multiverse.core.destination.core.*
+import org.mvplugins.multiverse.core.event.MVConfigReloadEvent
+import org.mvplugins.multiverse.core.permissions.PermissionDecisionCache
 import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld
 import org.mvplugins.multiverse.core.world.WorldManager
 import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import org.spigotmc.event.player.PlayerSpawnLocationEvent
 import kotlin.test.BeforeTest
 import kotlin.test.Test
 import kotlin.test.assertEquals
+import kotlin.test.assertNotSame
+import kotlin.test.assertSame
 import kotlin.test.assertTrue
 
 class DestinationTest : TestWithMockBukkit() {
@@ -115,6 +122,33 @@ class DestinationTest : TestWithMockBukkit() {
         assertEquals("w:world", destination.toString())
     }
 
+    @Test
+    fun `Nearest anchor destination instance`() {
+        val anchorManager = serviceLocator.getActiveService(AnchorManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("AnchorManager is not available as a service") }
+        val bukkitWorld = world.bukkitWorld.orNull
+        assertTrue(anchorManager.setAnchor("far", Location(bukkitWorld, 500.0, 70.0, 500.0)).isSuccess)
+        assertTrue(anchorManager.setAnchor("near", Location(bukkitWorld, 20.0, 70.0, -10.0)).isSuccess)
+
+        val attachment = player.addAttachment(multiverseCore)
+        attachment.setPermission("multiverse.teleport.self.a.far", true)
+        attachment.setPermission("multiverse.teleport.self.a.near", true)
+
+        val destination = destinationsProvider.parseDestination("a:@nearest").orNull
+        assertTrue(destination is AnchorDestinationInstance)
+        player.teleport(Location(bukkitWorld, 0.0, 70.0, 0.0))
+        assertEquals(Location(bukkitWorld, 20.0, 70.0, -10.0), destination.getLocation(player).orNull)
+        player.teleport(Location(bukkitWorld, 450.0, 70.0, 450.0))
+        assertEquals(Location(bukkitWorld, 500.0, 70.0, 500.0), destination.getLocation(player).orNull)
+        assertEquals("a:@nearest", destination.toString())
+
+        // Anchors the player has no finer teleport permission for are skipped
+        attachment.setPermission("multiverse.teleport.self.a.near", false)
+        serviceLocator.getActiveService(PermissionDecisionCache::class.java)?.invalidate(player)
+        player.teleport(Location(bukkitWorld, 0.0, 70.0, 0.0))
+        assertEquals(Location(bukkitWorld, 500.0, 70.0, 500.0), destination.getLocation(player).orNull)
+    }
+
     @Test
     fun `Invalid destination instance`() {
         assertTrue(destinationsProvider.parseDestination("").isFailure)
@@ -128,4 +162,72 @@ class DestinationTest : TestWithMockBukkit() {
         // todo: should we make invalid yaw for WorldDestination fail?
         // assertTrue(destinationsProvider.parseDestination("w:world:f").isEmpty)
     }
+
+    @Test
+    fun `Parsed destinations are reused until worlds change`() {
+        val destination = destinationsProvider.parseDestination("w:world").orNull
+        assertSame(destination, destinationsProvider.parseDestination("w:world").orNull)
+
+        world.setAlias("cachedalias")
+        assertNotSame(destination, destinationsProvider.parseDestination("w:world").orNull)
+        assertTrue(destinationsProvider.parseDestination("cachedalias").isSuccess)
+
+        world.setAlias("")
+        assertTrue(destinationsProvider.parseDestination("cachedalias").isFailure)
+    }
+
+    @Test
+    fun `Parsed destinations are dropped when the config changes`() {
+        val config = serviceLocator.getActiveService(CoreConfig::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("CoreConfig is not available as a service") }
+        world.setAlias("configalias")
+        assertTrue(destinationsProvider.parseDestination("configalias").isSuccess)
+
+        assertTrue(config.setResolveAliasName(false).isSuccess)
+        assertTrue(destinationsProvider.parseDestination("configalias").isFailure)
+        assertTrue(config.setResolveAliasName(true).isSuccess)
+
+        val destination = destinationsProvider.parseDestination("w:world").orNull
+        server.pluginManager.callEvent(MVConfigReloadEvent(listOf()))
+        assertNotSame(destination, destinationsProvider.parseDestination("w:world").orNull)
+    }
+
+    @Test
+    fun `Player destinations are not cached`() {
+        val destination = destinationsProvider.parseDestination("pl:benji_0224").orNull
+        assertNotSame(destination, destinationsProvider.parseDestination("pl:benji_0224").orNull)
+    }
+
+    @Test
+    fun `Join destination with 1000 players`() {
+        val config = serviceLocator.getActiveService(CoreConfig::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("CoreConfig is not available as a service") }
+        config.setFirstSpawnOverride(true)
+        config.setFirstSpawnLocation("w:world")
+        config.setEnableJoinDestination(true)
+        config.setJoinDestination("w:world")
+        val spawnLocation = world.spawnLocation
+        val players = (0 until 1000).map { server.addPlayer("joiner$it") }
+
+        fun joinAll(invalidate: Boolean) {
+            players.forEach { joiner ->
+                if (invalidate) destinationsProvider.invalidateParsedDestinations()
+                val event = PlayerSpawnLocationEvent(joiner, Location(world.bukkitWorld.orNull, 0.0, 5.0, 0.0))
+                server.pluginManager.callEvent(event)
+                assertEquals(spawnLocation, event.spawnLocation)
+            }
+        }
+
+        destinationsProvider.invalidateParsedDestinations()
+        val missesBefore = destinationsProvider.parsedDestinationCacheMisses
+        joinAll(false)
+        // Only the first join parses the destinations, every other join reuses the cached instances
+        val cachedMisses = destinationsProvider.parsedDestinationCacheMisses - missesBefore
+        assertTrue(cachedMisses in 1..2)
+
+        val uncachedMissesBefore = destinationsProvider.parsedDestinationCacheMisses
+        joinAll(true)
+        assertEquals(cachedMisses * players.size,
+            destinationsProvider.parsedDestinationCacheMisses - uncachedMissesBefore)
+    }
 }
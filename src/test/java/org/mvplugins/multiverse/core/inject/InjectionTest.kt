@@ -65,7 +65,7 @@ class InjectionTest : TestWithMockBukkit() {
     @Test
     fun `CoreListener(s) is available as a service`() {
         val listeners = assertNotNull(serviceLocator.getAllServices(CoreListener::class.java))
-        assertEquals(7, listeners.size)
+        assertEquals(9, listeners.size)
     }
 
     @Test
@@ -0,0 +1,56 @@
+package org.mvplugins.multiverse.core.listeners
+
+import net.kyori.adventure.text.Component
+import net.kyori.adventure.text.TextReplacementConfig
+import net.kyori.adventure.text.format.NamedTextColor
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer
+import org.bukkit.ChatColor
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertSame
+
+class ChatPrefixFormatTest {
+
+    private val formats = listOf(
+        "[%world%]%chat%",
+        "&f[%world%&f]%chat%",
+        "&a[%world%&a]&r %chat%",
+        "&l&c%world% &7&o> %chat%",
+        "%chat% @ %world%",
+        "%chat%",
+    )
+
+    @Test
+    fun `Compiled format renders the same as replacing placeholders`() {
+        val world = Component.text("world")
+        val chat = Component.text("<player> hello", NamedTextColor.YELLOW)
+        for (format in formats) {
+            val expected = LegacyComponentSerializer.legacyAmpersand().deserialize(format)
+                .replaceText(TextReplacementConfig.builder().matchLiteral("%world%").replacement(world).build())
+                .replaceText(TextReplacementConfig.builder().matchLiteral("%chat%").replacement(chat).build())
+            val actual = ChatPrefixFormat.compile(format).render(world, chat)
+            assertEquals(legacy(expected), legacy(actual), "Format: $format")
+        }
+    }
+
+    @Test
+    fun `Legacy format renders the same as translating the whole format`() {
+        for (format in formats) {
+            val expected = ChatColor.translateAlternateColorCodes('&',
+                format.replace("%world%", "&bworld").replace("%chat%", "<%1\$s> %2\$s"))
+            val actual = ChatPrefixFormat.compile(format).renderLegacy("&bworld", "<%1\$s> %2\$s")
+            assertEquals(expected, actual, "Format: $format")
+        }
+    }
+
+    @Test
+    fun `World names are rendered once per alias`() {
+        val prefixFormat = ChatPrefixFormat.compile("[%world%]%chat%")
+        val alias = prefixFormat.worldNameComponent("&aFancy")
+        assertSame(alias, prefixFormat.worldNameComponent("&aFancy"))
+        assertEquals("§aFancy", LegacyComponentSerializer.legacySection().serialize(alias))
+        assertEquals(Component.empty(), prefixFormat.worldNameComponent(""))
+    }
+
+    private fun legacy(component: Component) = LegacyComponentSerializer.legacySection().serialize(component)
+}
@@ -0,0 +1,86 @@
+package org.mvplugins.multiverse.core.permissions
+
+import org.bukkit.event.player.PlayerQuitEvent
+import org.mockbukkit.mockbukkit.entity.PlayerMock
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.world.WorldManager
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import kotlin.test.*
+
+class PermissionDecisionCacheTest : TestWithMockBukkit() {
+
+    private lateinit var worldManager: WorldManager
+    private lateinit var permissionsChecker: CorePermissionsChecker
+    private lateinit var decisionCache: PermissionDecisionCache
+    private lateinit var player: PlayerMock
+
+    @BeforeTest
+    fun setUp() {
+        worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+        permissionsChecker = serviceLocator.getActiveService(CorePermissionsChecker::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("CorePermissionsChecker is not available as a service") }
+        decisionCache = serviceLocator.getActiveService(PermissionDecisionCache::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("PermissionDecisionCache is not available as a service") }
+
+        for (i in 0 until 10) {
+            assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world$i")).isSuccess)
+        }
+        player = server.addPlayer("benwoo1110")
+        val attachment = player.addAttachment(multiverseCore)
+        attachment.setPermission("multiverse.access.world3", true)
+        attachment.setPermission("multiverse.exempt.world5", true)
+        attachment.setPermission("multiverse.core.spawn.self.world7", true)
+        attachment.setPermission("multiverse.teleport.self.w", true)
+        attachment.setPermission("multiverse.teleport.self.w.world3", true)
+    }
+
+    @Test
+    fun `Cached decisions match the uncached path`() {
+        repeat(3) {
+            worldManager.worlds.forEach { world ->
+                assertEquals(player.hasPermission("multiverse.access.${world.name}"),
+                    permissionsChecker.hasWorldAccessPermission(player, world))
+                assertEquals(player.hasPermission("multiverse.exempt.${world.name}"),
+                    permissionsChecker.hasWorldExemptPermission(player, world))
+                assertEquals(player.hasPermission("mv.bypass.playerlimit.${world.name}"),
+                    permissionsChecker.hasPlayerLimitBypassPermission(player, world))
+                CorePermissionsChecker.Scope.values().forEach { scope ->
+                    assertEquals(player.hasPermission("multiverse.core.spawn.${scope.scope}.${world.name}"),
+                        permissionsChecker.checkSpawnPermission(player, scope, world))
+                }
+            }
+            assertTrue(permissionsChecker.hasAnySpawnPermission(player))
+            assertTrue(permissionsChecker.hasAnyTeleportPermission(player))
+            assertFalse(permissionsChecker.hasAnyTeleportPermission(player, CorePermissionsChecker.Scope.OTHER))
+        }
+        assertTrue(decisionCache.hits > 0)
+        assertTrue(decisionCache.hits > decisionCache.misses)
+    }
+
+    @Test
+    fun `Invalidation picks up permission changes`() {
+        val world = worldManager.getLoadedWorld("world1").get()
+        assertFalse(permissionsChecker.hasWorldAccessPermission(player, world))
+
+        player.addAttachment(multiverseCore).setPermission("multiverse.access.world1", true)
+        assertFalse(permissionsChecker.hasWorldAccessPermission(player, world))
+
+        decisionCache.invalidate(player)
+        assertTrue(permissionsChecker.hasWorldAccessPermission(player, world))
+    }
+
+    @Test
+    fun `Quit and world changes drop cached decisions`() {
+        permissionsChecker.hasWorldAccessPermission(player, worldManager.getLoadedWorld("world1").get())
+        assertEquals(1, decisionCache.cachedPlayerCount)
+
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("newworld")).isSuccess)
+        assertEquals(0, decisionCache.cachedPlayerCount)
+
+        permissionsChecker.hasWorldAccessPermission(player, worldManager.getLoadedWorld("world1").get())
+        assertEquals(1, decisionCache.cachedPlayerCount)
+        server.pluginManager.callEvent(PlayerQuitEvent(player, "quit"))
+        assertEquals(0, decisionCache.cachedPlayerCount)
+    }
+}
@@ -0,0 +1,50 @@
+package org.mvplugins.multiverse.core.teleportation
+
+import org.bukkit.Location
+import org.bukkit.Material
+import org.bukkit.World
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import kotlin.test.*
+
+class BlockSafetyTest : TestWithMockBukkit() {
+
+    private lateinit var blockSafety: BlockSafety
+    private lateinit var world: World
+
+    @BeforeTest
+    fun setUp() {
+        blockSafety = serviceLocator.getActiveService(BlockSafety::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("BlockSafety is not available as a service") }
+        world = server.addSimpleWorld("safety")
+    }
+
+    @Test
+    fun `Async search finds the same location as sync search`() {
+        for (x in -4..4) for (z in -4..4) {
+            world.getBlockAt(x, 4, z).type = Material.STONE
+        }
+        // Wall the origin in so the search has to spiral outwards
+        for (x in -2..2) for (z in -2..2) for (y in 5..7) {
+            world.getBlockAt(x, y, z).type = Material.STONE
+        }
+        world.getBlockAt(3, 5, -1).type = Material.FIRE
+
+        for (origin in listOf(Location(world, 0.0, 5.0, 0.0, 90f, 10f), Location(world, 1.0, 6.0, 1.0))) {
+            val expected = blockSafety.findSafeSpawnLocation(origin)
+            val actual = blockSafety.findSafeSpawnLocationAsync(origin).toAttempt()
+            assertNotNull(expected)
+            assertTrue(actual.isSuccess)
+            assertEquals(expected, actual.get())
+        }
+    }
+
+    @Test
+    fun `Async search fails when there is no safe location`() {
+        for (x in -1..1) for (z in -1..1) for (y in 3..8) {
+            world.getBlockAt(x, y, z).type = Material.STONE
+        }
+        val attempt = blockSafety.findSafeSpawnLocationAsync(Location(world, 0.0, 5.0, 0.0), 1, 1).toAttempt()
+        assertTrue(attempt.isFailure)
+        assertEquals(TeleportFailureReason.UNSAFE_LOCATION, attempt.failureReason)
+    }
+}
@@ -0,0 +1,152 @@
+package org.mvplugins.multiverse.core.teleportation
+
+import org.bukkit.Location
+import org.bukkit.World
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.config.CoreConfig
+import org.mvplugins.multiverse.core.utils.result.AsyncAttempt
+import org.mvplugins.multiverse.core.utils.result.AsyncAttemptsAggregate
+import org.mvplugins.multiverse.core.utils.result.Attempt
+import org.mvplugins.multiverse.core.world.WorldManager
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.test.*
+
+class TeleportSchedulerTest : TestWithMockBukkit() {
+
+    private lateinit var scheduler: TeleportScheduler
+    private lateinit var config: CoreConfig
+    private lateinit var world: World
+
+    /**
+     * Mocked async teleports that only complete when the test says so.
+     */
+    private val pending = mutableListOf<CompletableFuture<Boolean>>()
+    private val started = AtomicInteger()
+
+    @BeforeTest
+    fun setUp() {
+        scheduler = serviceLocator.getActiveService(TeleportScheduler::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("TeleportScheduler is not available as a service") }
+        config = serviceLocator.getActiveService(CoreConfig::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("CoreConfig is not available as a service") }
+        val worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("tpworld")).isSuccess)
+        world = worldManager.getLoadedWorld("tpworld").get().bukkitWorld.get()
+        pending.clear()
+        started.set(0)
+    }
+
+    private fun mockTeleport(): AsyncAttempt<Void, TeleportFailureReason> {
+        started.incrementAndGet()
+        val future = CompletableFuture<Boolean>()
+        pending.add(future)
+        return AsyncAttempt.of(future) { _ -> Attempt.failure(TeleportFailureReason.TELEPORT_FAILED_EXCEPTION) }
+            .map { null }
+    }
+
+    private fun chunkLocation(chunkX: Int) = Location(world, chunkX * 16 + 8.0, 64.0, 8.0)
+
+    private fun completeNext() {
+        pending.first { !it.isDone }.complete(true)
+    }
+
+    @Test
+    fun `Chunk loads in flight are capped at the limit`() {
+        assertTrue(config.setConcurrentTeleportLimit(3).isSuccess)
+        val attempts = (0 until 10).map { chunkX -> scheduler.schedule(chunkLocation(chunkX)) { mockTeleport() } }
+
+        assertEquals(3, started.get())
+        assertEquals(7, scheduler.queuedCount)
+
+        completeNext()
+        assertEquals(4, started.get())
+        assertEquals(6, scheduler.queuedCount)
+
+        while (pending.any { !it.isDone }) {
+            assertTrue(pending.count { !it.isDone } <= 3)
+            completeNext()
+        }
+        assertEquals(10, started.get())
+        assertEquals(0, scheduler.queuedCount)
+        assertTrue(attempts.all { it.toAttempt().isSuccess })
+    }
+
+    @Test
+    fun `Teleports to the same chunk wait for the first one and then start together`() {
+        assertTrue(config.setConcurrentTeleportLimit(1).isSuccess)
+        val sameChunk = (0 until 5).map { i ->
+            scheduler.schedule(Location(world, 8.0 + i, 64.0, 8.0)) { mockTeleport() }
+        }
+        val otherChunk = scheduler.schedule(chunkLocation(5)) { mockTeleport() }
+
+        // Only the first teleport loads the chunk
+        assertEquals(1, started.get())
+
+        completeNext()
+        // The rest of the group starts at once, and the other chunk gets the free slot
+        assertEquals(6, started.get())
+        assertEquals(0, scheduler.queuedCount)
+
+        pending.forEach { it.complete(true) }
+        assertTrue(sameChunk.all { it.toAttempt().isSuccess })
+        assertTrue(otherChunk.toAttempt().isSuccess)
+    }
+
+    @Test
+    fun `Loaded chunk does not take a slot for new teleports`() {
+        assertTrue(config.setConcurrentTeleportLimit(1).isSuccess)
+        scheduler.schedule(chunkLocation(0)) { mockTeleport() }
+        scheduler.schedule(chunkLocation(0)) { mockTeleport() }
+        completeNext()
+        assertEquals(2, started.get())
+
+        // Chunk 0 is loaded and still has a teleport running, so this one starts without waiting
+        scheduler.schedule(chunkLocation(0)) { mockTeleport() }
+        assertEquals(3, started.get())
+        // Chunk 1 has the only loading slot to itself
+        scheduler.schedule(chunkLocation(1)) { mockTeleport() }
+        assertEquals(4, started.get())
+        pending.forEach { it.complete(true) }
+    }
+
+    @Test
+    fun `Failed teleports free their slot`() {
+        assertTrue(config.setConcurrentTeleportLimit(1).isSuccess)
+        val failed = scheduler.schedule(chunkLocation(0)) { mockTeleport() }
+        val queued = scheduler.schedule(chunkLocation(1)) { mockTeleport() }
+        assertEquals(1, started.get())
+
+        pending[0].completeExceptionally(IllegalStateException("Chunk failed to load"))
+        assertEquals(TeleportFailureReason.TELEPORT_FAILED_EXCEPTION, failed.toAttempt().failureReason)
+        assertEquals(2, started.get())
+
+        pending[1].complete(true)
+        assertTrue(queued.toAttempt().isSuccess)
+    }
+
+    @Test
+    fun `Aggregate completes once every queued teleport is done`() {
+        assertTrue(config.setConcurrentTeleportLimit(2).isSuccess)
+        val aggregate = AsyncAttemptsAggregate.allOf((0 until 6).map { chunkX ->
+            scheduler.schedule(chunkLocation(chunkX)) { mockTeleport() }
+        })
+        val successCount = AtomicInteger(-1)
+        aggregate.onSuccessCount { successCount.set(it) }
+        assertEquals(-1, successCount.get())
+
+        while (pending.any { !it.isDone }) {
+            completeNext()
+        }
+        assertEquals(6, successCount.get())
+    }
+
+    @Test
+    fun `Limit must be positive`() {
+        assertTrue(config.setConcurrentTeleportLimit(0).isFailure)
+        assertTrue(config.setConcurrentTeleportLimit(-1).isFailure)
+    }
+}
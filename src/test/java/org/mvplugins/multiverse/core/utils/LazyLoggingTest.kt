@@ -0,0 +1,147 @@
+package org.mvplugins.multiverse.core.utils
+
+import com.dumptruckman.minecraft.util.Logging
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.config.CoreConfig
+import java.io.File
+import kotlin.test.AfterTest
+import kotlin.test.Test
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+import kotlin.test.fail
+
+class LazyLoggingTest : TestWithMockBukkit() {
+
+    @AfterTest
+    fun resetDebugLevel() {
+        LazyLogging.setDebugLevel(3)
+    }
+
+    @Test
+    fun `Suppliers are not called below their debug level`() {
+        LazyLogging.setDebugLevel(1)
+        var calls = 0
+        LazyLogging.fine { calls++; "fine" }
+        LazyLogging.finer { calls++; "finer" }
+        LazyLogging.finest { calls++; "finest" }
+        assertEquals(1, calls)
+
+        LazyLogging.setDebugLevel(0)
+        LazyLogging.fine { calls++; "fine" }
+        assertEquals(1, calls)
+
+        LazyLogging.setDebugLevel(3)
+        LazyLogging.finest { calls++; "finest" }
+        assertEquals(2, calls)
+    }
+
+    @Test
+    fun `Format arguments are not stringified below their debug level`() {
+        LazyLogging.setDebugLevel(2)
+        var calls = 0
+        val arg = object {
+            override fun toString(): String {
+                calls++
+                return "arg"
+            }
+        }
+        LazyLogging.finest("Value: %s", arg)
+        LazyLogging.finest("Values: %s %s %s %s", arg, arg, arg, arg)
+        assertEquals(0, calls)
+        LazyLogging.finer("Value: %s", arg)
+        assertEquals(1, calls)
+    }
+
+    @Test
+    fun `Debug level set from config is cached`() {
+        val config = serviceLocator.getActiveService(CoreConfig::class.java) ?: fail("CoreConfig is not available")
+        assertTrue(config.setGlobalDebug(0).isSuccess)
+        assertEquals(0, Logging.getDebugLevel())
+        assertFalse(LazyLogging.isFineEnabled())
+
+        assertTrue(config.setGlobalDebug(2).isSuccess)
+        assertTrue(LazyLogging.isFinerEnabled())
+        assertFalse(LazyLogging.isFinestEnabled())
+    }
+
+    @Test
+    fun `Hot path packages only use lazy debug logging without concatenation`() {
+        val sourceFiles = HOT_PATH_PACKAGES.flatMap { packageName ->
+            val packageDir = File(SOURCE_ROOT, packageName)
+            assertTrue(packageDir.isDirectory, "Source folder not found: ${packageDir.absolutePath}")
+            packageDir.walkTopDown().filter { file -> file.extension == "java" }.toList()
+        }
+        assertTrue(sourceFiles.isNotEmpty(), "No java sources found to check in $SOURCE_ROOT")
+        val violations = sourceFiles.flatMap { file -> findViolations(file) }
+        if (violations.isNotEmpty()) {
+            fail("Debug logging in hot paths must use LazyLogging with format arguments or a supplier:\n"
+                    + violations.joinToString("\n"))
+        }
+    }
+
+    private fun findViolations(file: File): List<String> {
+        val source = file.readText()
+        val violations = mutableListOf<String>()
+        DIRECT_DEBUG_CALL.findAll(source).forEach { match ->
+            violations.add("${file.name}:${lineOf(source, match.range.first)} calls Logging.${match.groupValues[1]} directly")
+        }
+        LAZY_DEBUG_CALL.findAll(source).forEach { match ->
+            val arguments = readArguments(source, match.range.last + 1)
+            if (hasConcatenation(arguments)) {
+                violations.add("${file.name}:${lineOf(source, match.range.first)} concatenates its log message")
+            }
+        }
+        return violations
+    }
+
+    /**
+     * Reads the arguments of a call up to its closing parenthesis, with string literals replaced by a marker.
+     */
+    private fun readArguments(source: String, start: Int): String {
+        val arguments = StringBuilder()
+        var depth = 1
+        var index = start
+        while (index < source.length && depth > 0) {
+            val char = source[index]
+            when {
+                char == '"' -> {
+                    index++
+                    while (index < source.length && source[index] != '"') {
+                        if (source[index] == '\\') index++
+                        index++
+                    }
+                    arguments.append(STRING_MARKER)
+                }
+                char == '(' -> { depth++; arguments.append(char) }
+                char == ')' -> { depth--; if (depth > 0) arguments.append(char) }
+                !char.isWhitespace() -> arguments.append(char)
+            }
+            index++
+        }
+        return arguments.toString()
+    }
+
+    /**
+     * Joining string literals is resolved at compile time, any other `+` builds the message at runtime.
+     */
+    private fun hasConcatenation(arguments: String): Boolean {
+        var collapsed = arguments
+        while (true) {
+            val next = collapsed.replace("$STRING_MARKER+$STRING_MARKER", STRING_MARKER.toString())
+            if (next == collapsed) break
+            collapsed = next
+        }
+        return collapsed.replace("++", "").contains('+')
+    }
+
+    private fun lineOf(source: String, offset: Int) = source.substring(0, offset).count { it == '\n' } + 1
+
+    private companion object {
+        const val SOURCE_ROOT = "src/main/java/org/mvplugins/multiverse/core"
+        const val STRING_MARKER = '§'
+        val HOT_PATH_PACKAGES = listOf("listeners", "teleportation")
+        val DIRECT_DEBUG_CALL = Regex("""(?<![\w.])Logging\.(fine|finer|finest)\(""")
+        val LAZY_DEBUG_CALL = Regex("""LazyLogging\.(fine|finer|finest)\(""")
+    }
+}
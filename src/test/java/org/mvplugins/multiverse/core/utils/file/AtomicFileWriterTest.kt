@@ -0,0 +1,53 @@
+package org.mvplugins.multiverse.core.utils.file
+
+import java.nio.file.Files
+import java.nio.file.Path
+import kotlin.io.path.createDirectory
+import kotlin.io.path.exists
+import kotlin.io.path.readText
+import kotlin.io.path.writeText
+import kotlin.test.*
+
+class AtomicFileWriterTest {
+
+    private lateinit var directory: Path
+    private lateinit var target: Path
+
+    @BeforeTest
+    fun setUp() {
+        directory = Files.createTempDirectory("mv-atomic-write")
+        target = directory.resolve("worlds.yml")
+        target.writeText("original: true\n")
+    }
+
+    @AfterTest
+    fun tearDown() {
+        directory.toFile().deleteRecursively()
+    }
+
+    @Test
+    fun `Write replaces the file and removes the temp file`() {
+        assertTrue(AtomicFileWriter.write(target, "updated: true\n").isSuccess)
+        assertEquals("updated: true\n", target.readText())
+        assertFalse(AtomicFileWriter.getTempFile(target).exists())
+    }
+
+    @Test
+    fun `Partial temp file left by a crash never replaces the real file`() {
+        // A crash between writing the temp file and moving it leaves only a partial temp file behind
+        AtomicFileWriter.getTempFile(target).writeText("partial: tr")
+        assertEquals("original: true\n", target.readText())
+
+        assertTrue(AtomicFileWriter.write(target, "updated: true\n").isSuccess)
+        assertEquals("updated: true\n", target.readText())
+        assertFalse(AtomicFileWriter.getTempFile(target).exists())
+    }
+
+    @Test
+    fun `Failed write keeps the original file`() {
+        // The temp file path being a directory makes writing the temp file fail
+        AtomicFileWriter.getTempFile(target).createDirectory()
+        assertTrue(AtomicFileWriter.write(target, "updated: true\n").isFailure)
+        assertEquals("original: true\n", target.readText())
+    }
+}
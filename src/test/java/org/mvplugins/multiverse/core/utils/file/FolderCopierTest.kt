@@ -0,0 +1,115 @@
+package org.mvplugins.multiverse.core.utils.file
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ConcurrentLinkedQueue
+import kotlin.io.path.createDirectories
+import kotlin.io.path.exists
+import kotlin.io.path.readBytes
+import kotlin.io.path.readText
+import kotlin.io.path.writeBytes
+import kotlin.io.path.writeText
+import kotlin.random.Random
+import kotlin.test.*
+
+class FolderCopierTest {
+
+    private lateinit var directory: Path
+    private lateinit var source: Path
+    private lateinit var target: Path
+    private val folderCopier = FolderCopier()
+
+    @BeforeTest
+    fun setUp() {
+        directory = Files.createTempDirectory("mv-folder-copy")
+        source = directory.resolve("world")
+        target = directory.resolve("cloneworld")
+        val random = Random(1234)
+        source.resolve("region").createDirectories()
+        for (i in 0 until 8) {
+            source.resolve("region/r.$i.0.mca").writeBytes(random.nextBytes(64 * 1024 + i))
+        }
+        source.resolve("data/nested").createDirectories()
+        source.resolve("data/nested/raids.dat").writeBytes(random.nextBytes(512))
+        source.resolve("empty").createDirectories()
+        source.resolve("level.dat").writeBytes(random.nextBytes(2048))
+        source.resolve("uid.dat").writeBytes(random.nextBytes(16))
+        source.resolve("session.lock").writeText("lock")
+    }
+
+    @AfterTest
+    fun tearDown() {
+        directory.toFile().deleteRecursively()
+    }
+
+    @Test
+    fun `Copy produces byte identical files and skips ignored files`() {
+        folderCopier.copyFolder(source, target, listOf("uid.dat", "session.lock"),
+            FolderCopier.CopyMode.COPY, null).join()
+
+        assertTreeCopied()
+        assertFalse(target.resolve("uid.dat").exists())
+        assertFalse(target.resolve("session.lock").exists())
+    }
+
+    @Test
+    fun `Hard link mode produces byte identical files`() {
+        folderCopier.copyFolder(source, target, listOf("uid.dat", "session.lock"),
+            FolderCopier.CopyMode.HARD_LINK, null).join()
+
+        assertTreeCopied()
+        assertFalse(target.resolve("uid.dat").exists())
+    }
+
+    @Test
+    fun `Progress reports every copied file`() {
+        val progress = ConcurrentLinkedQueue<FolderCopier.CopyProgress>()
+        folderCopier.copyFolder(source, target, listOf("uid.dat", "session.lock"),
+            FolderCopier.CopyMode.COPY, progress::add).join()
+
+        assertEquals(10, progress.size)
+        val last = progress.maxBy { it.filesCopied }
+        assertEquals(10, last.filesCopied)
+        assertEquals(10, last.totalFiles)
+        assertEquals(last.totalBytes, last.bytesCopied)
+    }
+
+    @Test
+    fun `Copy fails when the source does not exist`() {
+        val exception = assertFailsWith<CompletionException> {
+            folderCopier.copyFolder(directory.resolve("missing"), target, emptyList(),
+                FolderCopier.CopyMode.COPY, null).join()
+        }
+        assertIs<FolderCopier.FolderCopyException>(exception.cause)
+    }
+
+    @Test
+    fun `Copy does not overwrite files already at the target`() {
+        target.createDirectories()
+        target.resolve("level.dat").writeText("existing")
+
+        val exception = assertFailsWith<CompletionException> {
+            folderCopier.copyFolder(source, target, listOf("uid.dat", "session.lock"),
+                FolderCopier.CopyMode.COPY, null).join()
+        }
+        assertIs<FolderCopier.FolderCopyException>(exception.cause)
+        assertEquals("existing", target.resolve("level.dat").readText())
+    }
+
+    private fun assertTreeCopied() {
+        Files.walk(source).use { paths ->
+            paths.forEach { path ->
+                val name = path.fileName.toString()
+                if (name == "uid.dat" || name == "session.lock") {
+                    return@forEach
+                }
+                val copied = target.resolve(source.relativize(path))
+                assertTrue(copied.exists(), "Missing $copied")
+                if (Files.isRegularFile(path)) {
+                    assertContentEquals(path.readBytes(), copied.readBytes())
+                }
+            }
+        }
+    }
+}
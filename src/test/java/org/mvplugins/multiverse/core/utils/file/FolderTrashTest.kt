@@ -0,0 +1,125 @@
+package org.mvplugins.multiverse.core.utils.file
+
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.utils.FileUtils
+import java.nio.file.AtomicMoveNotSupportedException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.util.concurrent.TimeUnit
+import kotlin.io.path.createDirectories
+import kotlin.io.path.exists
+import kotlin.io.path.listDirectoryEntries
+import kotlin.io.path.readText
+import kotlin.io.path.writeText
+import kotlin.test.*
+
+class FolderTrashTest : TestWithMockBukkit() {
+
+    private lateinit var fileUtils: FileUtils
+    private lateinit var directory: Path
+    private lateinit var worldFolder: Path
+
+    @BeforeTest
+    fun setUp() {
+        fileUtils = serviceLocator.getActiveService(FileUtils::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("FileUtils is not available as a service") }
+        directory = Files.createTempDirectory("mv-folder-trash")
+        worldFolder = directory.resolve("world")
+        worldFolder.resolve("region").createDirectories()
+        for (i in 0 until 20) {
+            worldFolder.resolve("region/r.$i.0.mca").writeText("region $i")
+        }
+        worldFolder.resolve("level.dat").writeText("level")
+        worldFolder.resolve("paper-world.yml").writeText("keep me")
+    }
+
+    @AfterTest
+    fun tearDown() {
+        directory.toFile().deleteRecursively()
+    }
+
+    @Test
+    fun `Folder is moved to trash and deleted in the background`() {
+        val folderTrash = FolderTrash(fileUtils)
+        assertTrue(folderTrash.deleteFolder(worldFolder, emptyList()).isSuccess)
+
+        // Name can be reused straight away
+        assertFalse(worldFolder.exists())
+        worldFolder.createDirectories()
+
+        folderTrash.awaitPendingDeletions().get(10, TimeUnit.SECONDS)
+        assertTrue(FolderTrash.getTrashFolder(directory).listDirectoryEntries().isEmpty())
+        assertTrue(worldFolder.exists())
+    }
+
+    @Test
+    fun `Kept files stay in the folder`() {
+        val folderTrash = FolderTrash(fileUtils)
+        assertTrue(folderTrash.deleteFolder(worldFolder, listOf("paper-world.yml")).isSuccess)
+        folderTrash.awaitPendingDeletions().get(10, TimeUnit.SECONDS)
+
+        assertEquals("keep me", worldFolder.resolve("paper-world.yml").readText())
+        assertFalse(worldFolder.resolve("level.dat").exists())
+        assertFalse(worldFolder.resolve("region").exists())
+        assertTrue(FolderTrash.getTrashFolder(directory).listDirectoryEntries().isEmpty())
+    }
+
+    @Test
+    fun `Folder is deleted in place when it cannot be moved across devices`() {
+        val folderTrash = FolderTrash(fileUtils) { source, target ->
+            throw AtomicMoveNotSupportedException(source.toString(), target.toString(), "cross-device link")
+        }
+        assertTrue(folderTrash.deleteFolder(worldFolder, listOf("paper-world.yml")).isSuccess)
+
+        assertEquals("keep me", worldFolder.resolve("paper-world.yml").readText())
+        assertFalse(worldFolder.resolve("level.dat").exists())
+        assertFalse(worldFolder.resolve("region").exists())
+        assertTrue(FolderTrash.getTrashFolder(directory).listDirectoryEntries().isEmpty())
+    }
+
+    @Test
+    fun `Leftover trash is purged`() {
+        val leftover = FolderTrash.getTrashFolder(directory).resolve("oldworld-crashed")
+        leftover.resolve("region").createDirectories()
+        leftover.resolve("region/r.0.0.mca").writeText("region")
+
+        val folderTrash = FolderTrash(fileUtils)
+        folderTrash.purgeTrash(directory)
+        folderTrash.awaitPendingDeletions().get(10, TimeUnit.SECONDS)
+
+        assertFalse(leftover.exists())
+    }
+
+    @Test
+    fun `Folder is deleted in place when kept files cannot be restored`() {
+        var failedOnce = false
+        val folderTrash = FolderTrash(fileUtils) { source, target ->
+            if (!failedOnce && source.fileName.toString() == "paper-world.yml") {
+                failedOnce = true
+                throw java.io.IOException("disk error")
+            }
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE)
+        }
+        assertTrue(folderTrash.deleteFolder(worldFolder, listOf("paper-world.yml")).isSuccess)
+        folderTrash.awaitPendingDeletions().get(10, TimeUnit.SECONDS)
+
+        assertEquals("keep me", worldFolder.resolve("paper-world.yml").readText())
+        assertFalse(worldFolder.resolve("level.dat").exists())
+        assertFalse(worldFolder.resolve("region").exists())
+        assertTrue(FolderTrash.getTrashFolder(directory).listDirectoryEntries().isEmpty())
+    }
+
+    @Test
+    fun `Trash is purged only once`() {
+        val folderTrash = FolderTrash(fileUtils)
+        folderTrash.purgeTrash(directory)
+
+        val leftover = FolderTrash.getTrashFolder(directory).resolve("oldworld-crashed")
+        leftover.resolve("region").createDirectories()
+        folderTrash.purgeTrash(directory)
+        folderTrash.awaitPendingDeletions().get(10, TimeUnit.SECONDS)
+
+        assertTrue(leftover.exists())
+    }
+}
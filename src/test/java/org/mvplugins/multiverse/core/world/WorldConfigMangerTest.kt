@@ -1,6 +1,8 @@
 package org.mvplugins.multiverse.core.world
 
+import org.bukkit.Difficulty
 import org.bukkit.GameMode
+import org.bukkit.configuration.file.YamlConfiguration
 import org.bukkit.Material
 import org.bukkit.World.Environment
 import org.bukkit.entity.EntityType
@@ -11,6 +13,7 @@ import org.mvplugins.multiverse.core.world.location.SpawnLocation
 import java.io.File
 import java.nio.file.Path
 import kotlin.io.path.absolutePathString
+import kotlin.random.Random
 import kotlin.test.*
 
 class WorldConfigMangerTest : TestWithMockBukkit() {
@@ -116,4 +119,295 @@ class WorldConfigMangerTest : TestWithMockBukkit() {
         assertEquals(listOf("a", "1", "2"), worldConfig.worldBlacklist)
         assertEquals(listOf(EntityType.COW), worldConfig.entitySpawnConfig.getSpawnCategoryConfig(SpawnCategory.ANIMAL).exceptions)
     }
+
+    @Test
+    fun `World configs share one node graph and migrator`() {
+        val worldCount = 100
+        val worldsFile = File(Path.of(multiverseCore.dataFolder.absolutePath, "worlds.yml").absolutePathString())
+        worldsFile.writeText((0 until worldCount).joinToString("\n") { "world$it:\n  alias: world $it" })
+        assertTrue(worldConfigManager.load().isSuccess)
+
+        val worldConfigs = (0 until worldCount).map { assertNotNull(worldConfigManager.getWorldConfig("world$it").orNull) }
+        val first = worldConfigs.first()
+        worldConfigs.forEach {
+            assertSame(first.configNodes, it.configNodes)
+            assertSame(first.migrator, it.migrator)
+        }
+        assertEquals("world 99", worldConfigs.last().alias)
+        assertTrue(worldConfigs[1].setAlias("changed").isSuccess)
+        assertEquals("world 0", worldConfigs[0].alias)
+        assertEquals("changed", worldConfigs[1].alias)
+    }
+
+    @Test
+    fun `Scale default depends on the world environment`() {
+        val worldsFile = File(Path.of(multiverseCore.dataFolder.absolutePath, "worlds.yml").absolutePathString())
+        worldsFile.writeText("""
+            overworld:
+              environment: normal
+            nether:
+              environment: nether
+            end:
+              environment: the_end
+        """.trimIndent())
+        assertTrue(worldConfigManager.load().isSuccess)
+
+        val netherConfig = assertNotNull(worldConfigManager.getWorldConfig("nether").orNull)
+        assertEquals(1.0, assertNotNull(worldConfigManager.getWorldConfig("overworld").orNull).scale)
+        assertEquals(8.0, netherConfig.scale)
+        assertEquals(16.0, assertNotNull(worldConfigManager.getWorldConfig("end").orNull).scale)
+
+        assertTrue(netherConfig.setScale(2.0).isSuccess)
+        assertTrue(netherConfig.stringPropertyHandle.resetProperty("scale").isSuccess)
+        assertEquals(8.0, netherConfig.scale)
+    }
+
+    @Test
+    fun `Burst of save requests is written once`() {
+        val saver = worldConfigManager.worldConfigSaver
+        val writesBefore = saver.completedWrites
+        val worldConfig = assertNotNull(worldConfigManager.getWorldConfig("world").orNull)
+
+        for (i in 0 until 50) {
+            assertTrue(worldConfig.setAlias("alias $i").isSuccess)
+            worldConfigManager.requestSave()
+        }
+        assertTrue(saver.isSavePending)
+        assertEquals(writesBefore, saver.completedWrites)
+
+        server.scheduler.performTicks(20)
+        assertFalse(saver.isSavePending)
+        val deadline = System.currentTimeMillis() + 5000
+        while (saver.completedWrites == writesBefore && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10)
+        }
+        assertEquals(writesBefore + 1, saver.completedWrites)
+
+        val worldsFile = File(Path.of(multiverseCore.dataFolder.absolutePath, "worlds.yml").absolutePathString())
+        assertTrue(worldsFile.readText().contains("alias: alias 49"))
+    }
+
+    @Test
+    fun `Save flushes pending save requests synchronously`() {
+        val saver = worldConfigManager.worldConfigSaver
+        val worldConfig = assertNotNull(worldConfigManager.getWorldConfig("world").orNull)
+        assertTrue(worldConfig.setAlias("flushed").isSuccess)
+        worldConfigManager.requestSave()
+        assertTrue(saver.isSavePending)
+
+        assertTrue(worldConfigManager.save().isSuccess)
+        assertFalse(saver.isSavePending)
+        val worldsFile = File(Path.of(multiverseCore.dataFolder.absolutePath, "worlds.yml").absolutePathString())
+        assertTrue(worldsFile.readText().contains("alias: flushed"))
+    }
+
+    @Test
+    fun `Saving after one change only serializes the changed world`() {
+        val worldCount = 500
+        val worldsFile = File(Path.of(multiverseCore.dataFolder.absolutePath, "worlds.yml").absolutePathString())
+        worldsFile.writeText((0 until worldCount).joinToString("\n") { "world$it:\n  alias: world $it" })
+        assertTrue(worldConfigManager.load().isSuccess)
+        assertTrue(worldConfigManager.save().isSuccess)
+        // World configs are saved when they are loaded, so nothing is left to serialize
+        assertEquals(0, worldConfigManager.lastSaveStats.worldsWritten)
+
+        val worldConfigs = (0 until worldCount).map { assertNotNull(worldConfigManager.getWorldConfig("world$it").orNull) }
+        val sections = worldConfigs.map { it.configurationSection }
+        val changedConfig = worldConfigs[250]
+        assertTrue(changedConfig.setAlias("changed").isSuccess)
+        assertTrue(worldConfigManager.save().isSuccess)
+
+        val stats = worldConfigManager.lastSaveStats
+        assertEquals(worldCount, stats.worldCount)
+        assertEquals(1, stats.worldsWritten)
+        assertTrue(stats.nodesWritten < changedConfig.configNodes.nodes.slotCount,
+            "Expected fewer than all nodes to be written, got ${stats.nodesWritten}")
+        worldConfigs.forEachIndexed { index, worldConfig ->
+            assertSame(sections[index], worldConfig.configurationSection)
+            assertFalse(worldConfig.isDirty)
+        }
+
+        val savedText = worldsFile.readText()
+        assertTrue(savedText.contains("alias: changed"))
+        assertTrue(savedText.contains("alias: world 249"))
+        assertFalse(savedText.contains("alias: world 250"))
+    }
+
+    @Test
+    fun `List changed in place is saved`() {
+        val worldConfig = assertNotNull(worldConfigManager.getWorldConfig("world").orNull)
+        assertTrue(worldConfigManager.save().isSuccess)
+        assertFalse(worldConfig.isDirty)
+
+        // Reading the list is not a change
+        assertFalse(worldConfig.worldBlacklist.contains("in_place"))
+        assertFalse(worldConfig.isDirty)
+
+        worldConfig.worldBlacklist.add("in_place")
+        assertTrue(worldConfig.isDirty)
+        assertTrue(worldConfigManager.save().isSuccess)
+        assertEquals(1, worldConfigManager.lastSaveStats.worldsWritten)
+
+        assertTrue(worldConfigManager.load().isSuccess)
+        val reloadedConfig = assertNotNull(worldConfigManager.getWorldConfig("world").orNull)
+        assertTrue(reloadedConfig.worldBlacklist.contains("in_place"))
+    }
+
+    @Test
+    fun `Unchanged worlds yml is loaded from the cache`() {
+        val cacheFile = File(multiverseCore.dataFolder, "worlds.yml.cache")
+        assertTrue(worldConfigManager.getWorldConfig("world").get().setAlias("cached alias").isSuccess)
+        assertTrue(worldConfigManager.save().isSuccess)
+        awaitCacheWrite()
+        assertTrue(cacheFile.exists())
+
+        val freshManager = WorldsConfigManager(multiverseCore, multiverseCore)
+        assertTrue(freshManager.load().isSuccess)
+        assertTrue(freshManager.isLoadedFromCache)
+        assertEquals("cached alias", freshManager.getWorldConfig("world").orNull?.alias)
+        assertNotNull(freshManager.getWorldConfig("world_nether").orNull)
+
+        // Editing worlds.yml by hand makes the cache stale
+        val worldsFile = File(multiverseCore.dataFolder, "worlds.yml")
+        worldsFile.writeText(worldsFile.readText().replace("alias: cached alias", "alias: edited alias"))
+        val editedManager = WorldsConfigManager(multiverseCore, multiverseCore)
+        assertTrue(editedManager.load().isSuccess)
+        assertFalse(editedManager.isLoadedFromCache)
+        assertEquals("edited alias", editedManager.getWorldConfig("world").orNull?.alias)
+    }
+
+    @Test
+    fun `Saving unchanged worlds yml does not rewrite the cache`() {
+        assertTrue(worldConfigManager.getWorldConfig("world").get().setAlias("first alias").isSuccess)
+        assertTrue(worldConfigManager.save().isSuccess)
+        awaitCacheWrite()
+        val cacheWrites = worldConfigManager.cacheWrites
+
+        assertTrue(worldConfigManager.save().isSuccess)
+        awaitCacheWrite()
+        assertEquals(cacheWrites, worldConfigManager.cacheWrites)
+
+        assertTrue(worldConfigManager.getWorldConfig("world").get().setAlias("second alias").isSuccess)
+        assertTrue(worldConfigManager.save().isSuccess)
+        awaitCacheWrite()
+        assertEquals(cacheWrites + 1, worldConfigManager.cacheWrites)
+    }
+
+    @Test
+    fun `Corrupt cache falls back to worlds yml`() {
+        assertTrue(worldConfigManager.save().isSuccess)
+        awaitCacheWrite()
+        val cacheFile = File(multiverseCore.dataFolder, "worlds.yml.cache")
+        val cacheData = cacheFile.readBytes()
+        cacheFile.writeBytes(cacheData.copyOf(cacheData.size / 2))
+
+        val freshManager = WorldsConfigManager(multiverseCore, multiverseCore)
+        assertTrue(freshManager.load().isSuccess)
+        assertFalse(freshManager.isLoadedFromCache)
+        assertEquals("my world", freshManager.getWorldConfig("world").orNull?.alias)
+    }
+
+    @Test
+    fun `Cached and YAML loaded world configs are equal`() {
+        val random = Random(1234)
+        val aliases = listOf(
+            "", "plain", "with: colon", "'quoted'", "\"double\"", "&aColored", "ünïcødé ✓", "123", "true")
+        for (i in 0 until 100) {
+            val worldConfig = worldConfigManager.addWorldConfig("random$i")
+            assertTrue(worldConfig.setAlias(aliases[random.nextInt(aliases.size)] + i).isSuccess)
+            val seed = if (random.nextBoolean()) random.nextLong() else random.nextInt(-1000, 1000).toLong()
+            assertTrue(worldConfig.setSeed(seed).isSuccess)
+            assertTrue(worldConfig.setScale(random.nextDouble(0.01, 16.0)).isSuccess)
+            assertTrue(worldConfig.setPlayerLimit(random.nextInt(-1, 500)).isSuccess)
+            assertTrue(worldConfig.setHidden(random.nextBoolean()).isSuccess)
+            assertTrue(worldConfig.setDifficulty(Difficulty.values().random(random)).isSuccess)
+            assertTrue(worldConfig.setGameMode(GameMode.values().random(random)).isSuccess)
+            assertTrue(worldConfig.setEntryFeeAmount(random.nextDouble(0.0, 100.0)).isSuccess)
+            assertTrue(worldConfig.setWorldBlacklist(
+                (0 until random.nextInt(3)).map { "blocked${random.nextInt(1000)}" }.toMutableList()).isSuccess)
+            assertTrue(worldConfig.setSpawnLocation(SpawnLocation(
+                random.nextDouble(-1000.0, 1000.0),
+                random.nextDouble(-64.0, 320.0),
+                random.nextDouble(-1000.0, 1000.0),
+                random.nextDouble(-180.0, 180.0).toFloat(),
+                random.nextDouble(-90.0, 90.0).toFloat())).isSuccess)
+            val animalConfig = worldConfig.entitySpawnConfig.getSpawnCategoryConfig(SpawnCategory.ANIMAL)
+            animalConfig.tickRate = random.nextInt(1, 400)
+        }
+        assertTrue(worldConfigManager.save().isSuccess)
+        awaitCacheWrite()
+
+        val worldsFile = File(multiverseCore.dataFolder, "worlds.yml")
+        val cache = WorldsConfigCache(
+            File(multiverseCore.dataFolder, "worlds.yml.cache").toPath(), multiverseCore.description.version)
+        val cachedConfig = assertNotNull(cache.load(worldsFile.readBytes()).orNull)
+        val yamlConfig = YamlConfiguration()
+        yamlConfig.loadFromString(worldsFile.readText())
+        assertEquals(yamlConfig.saveToString(), cachedConfig.saveToString())
+
+        val nodes = WorldConfigNodes(multiverseCore)
+        val migrator = WorldConfig.migrator(nodes)
+        for (worldName in yamlConfig.getKeys(false)) {
+            val fromYaml = WorldConfig(worldName, yamlConfig.getConfigurationSection(worldName)!!, nodes, migrator)
+            val fromCache = WorldConfig(worldName, cachedConfig.getConfigurationSection(worldName)!!, nodes, migrator)
+            for (property in fromYaml.stringPropertyHandle.allPropertyNames) {
+                assertEquals(
+                    fromYaml.stringPropertyHandle.getProperty(property).orNull?.toString(),
+                    fromCache.stringPropertyHandle.getProperty(property).orNull?.toString(),
+                    "Property $property of $worldName differs")
+            }
+        }
+    }
+
+    @Test
+    fun `Startup with 400 worlds from the cache and from YAML`() {
+        for (i in 0 until 400) {
+            val worldConfig = worldConfigManager.addWorldConfig("many$i")
+            assertTrue(worldConfig.setAlias("many world $i").isSuccess)
+            assertTrue(worldConfig.setSpawnLocation(SpawnLocation(i.toDouble(), 64.0, -i.toDouble())).isSuccess)
+        }
+        assertTrue(worldConfigManager.save().isSuccess)
+        awaitCacheWrite()
+        val cacheFile = File(multiverseCore.dataFolder, "worlds.yml.cache")
+        val cacheData = cacheFile.readBytes()
+
+        cacheFile.delete()
+        val yamlManager = WorldsConfigManager(multiverseCore, multiverseCore)
+        assertTrue(yamlManager.load().isSuccess)
+        assertFalse(yamlManager.isLoadedFromCache)
+        cacheFile.writeBytes(cacheData)
+        val cachedManager = WorldsConfigManager(multiverseCore, multiverseCore)
+        assertTrue(cachedManager.load().isSuccess)
+        assertTrue(cachedManager.isLoadedFromCache)
+
+        assertEquals("my world", cachedManager.getWorldConfig("world").orNull?.alias)
+        for (i in 0 until 400) {
+            val fromYaml = assertNotNull(yamlManager.getWorldConfig("many$i").orNull)
+            val fromCache = assertNotNull(cachedManager.getWorldConfig("many$i").orNull)
+            assertEquals("many world $i", fromCache.alias)
+            assertEquals(fromYaml.alias, fromCache.alias)
+            assertEquals(fromYaml.spawnLocation, fromCache.spawnLocation)
+        }
+    }
+
+    @Test
+    fun `Cache is written for the content of the last save`() {
+        val worldConfig = assertNotNull(worldConfigManager.getWorldConfig("world").orNull)
+        for (i in 0 until 20) {
+            assertTrue(worldConfig.setAlias("alias $i").isSuccess)
+            worldConfigManager.requestSave()
+            server.scheduler.performTicks(20)
+        }
+        awaitCacheWrite()
+
+        val freshManager = WorldsConfigManager(multiverseCore, multiverseCore)
+        assertTrue(freshManager.load().isSuccess)
+        assertTrue(freshManager.isLoadedFromCache)
+        assertEquals("alias 19", freshManager.getWorldConfig("world").orNull?.alias)
+    }
+
+    private fun awaitCacheWrite() {
+        // The cache is written on the writer thread after worlds.yml
+        assertTrue(worldConfigManager.worldConfigSaver.flushPending().isSuccess)
+    }
 }
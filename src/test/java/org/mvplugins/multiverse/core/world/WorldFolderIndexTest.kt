@@ -0,0 +1,103 @@
+package org.mvplugins.multiverse.core.world
+
+import org.bukkit.Bukkit
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.world.helpers.WorldFolderIndex
+import org.mvplugins.multiverse.core.world.helpers.WorldNameChecker
+import java.io.File
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.*
+
+class WorldFolderIndexTest : TestWithMockBukkit() {
+
+    private lateinit var worldFolderIndex: WorldFolderIndex
+
+    @BeforeTest
+    fun setUp() {
+        worldFolderIndex = serviceLocator.getActiveService(WorldFolderIndex::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldFolderIndex is not available as a service") }
+    }
+
+    @Test
+    fun `Index only lists folders with world data`() {
+        createWorldFolder("indexworld")
+        File(Bukkit.getWorldContainer(), "notaworld").mkdir()
+        val folders = worldFolderIndex.validWorldFolders
+        assertTrue(folders.contains("indexworld"))
+        assertFalse(folders.contains("notaworld"))
+    }
+
+    @Test
+    fun `Index picks up folders created and deleted after first use`() {
+        worldFolderIndex.validWorldFolders
+        createWorldFolder("lateworld")
+        assertTrue(waitUntil { worldFolderIndex.validWorldFolders.contains("lateworld") })
+
+        File(Bukkit.getWorldContainer(), "lateworld").deleteRecursively()
+        assertTrue(waitUntil { !worldFolderIndex.validWorldFolders.contains("lateworld") })
+    }
+
+    @Test
+    fun `Folder that gets world data after it was created is picked up`() {
+        worldFolderIndex.validWorldFolders
+        File(Bukkit.getWorldContainer(), "copiedworld").mkdir()
+        Thread.sleep(200)
+        assertFalse(worldFolderIndex.validWorldFolders.contains("copiedworld"))
+
+        File(Bukkit.getWorldContainer(), "copiedworld/level.dat").createNewFile()
+        assertTrue(waitUntil { worldFolderIndex.validWorldFolders.contains("copiedworld") })
+    }
+
+    @Test
+    fun `Index can be read off the main thread`() {
+        createWorldFolder("asyncworld")
+        var folders: List<String> = emptyList()
+        val thread = Thread { folders = worldFolderIndex.validWorldFolders }
+        thread.start()
+        thread.join()
+        assertTrue(folders.contains("asyncworld"))
+    }
+
+    @Test
+    fun `Check folder re-checks disk for folders not indexed as valid`() {
+        worldFolderIndex.validWorldFolders
+        assertEquals(WorldNameChecker.FolderStatus.DOES_NOT_EXIST, worldFolderIndex.checkFolder("checkworld"))
+        createWorldFolder("checkworld")
+        assertEquals(WorldNameChecker.FolderStatus.VALID, worldFolderIndex.checkFolder("checkworld"))
+        assertTrue(worldFolderIndex.validWorldFolders.contains("checkworld"))
+    }
+
+    @Test
+    fun `Check folder notices a valid world that lost its level dat`() {
+        createWorldFolder("emptiedworld")
+        assertEquals(WorldNameChecker.FolderStatus.VALID, worldFolderIndex.checkFolder("emptiedworld"))
+        File(Bukkit.getWorldContainer(), "emptiedworld/level.dat").delete()
+        assertEquals(WorldNameChecker.FolderStatus.NOT_A_WORLD, worldFolderIndex.checkFolder("emptiedworld"))
+        assertFalse(worldFolderIndex.validWorldFolders.contains("emptiedworld"))
+    }
+
+    @Test
+    fun `Invalidate rebuilds the index from disk`() {
+        worldFolderIndex.validWorldFolders
+        createWorldFolder("invalidatedworld")
+        worldFolderIndex.invalidate()
+        assertTrue(worldFolderIndex.validWorldFolders.contains("invalidatedworld"))
+    }
+
+    private fun createWorldFolder(name: String) {
+        File(Bukkit.getWorldContainer(), name).mkdir()
+        File(Bukkit.getWorldContainer(), "$name/level.dat").createNewFile()
+    }
+
+    private fun waitUntil(condition: () -> Boolean): Boolean {
+        val deadline = System.currentTimeMillis() + 10_000
+        while (System.currentTimeMillis() < deadline) {
+            if (condition()) {
+                return true
+            }
+            Thread.sleep(50)
+        }
+        return condition()
+    }
+}
@@ -7,6 +7,7 @@ import org.hamcrest.MatcherAssert.assertThat
 import org.mockbukkit.mockbukkit.matcher.plugin.PluginManagerFiredEventClassMatcher.hasFiredEventInstance
 import org.mvplugins.multiverse.core.TestWithMockBukkit
 import org.mvplugins.multiverse.core.event.world.*
+import org.mvplugins.multiverse.core.world.helpers.WorldNameChecker
 import org.mvplugins.multiverse.core.world.options.CloneWorldOptions
 import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
 import org.mvplugins.multiverse.core.world.options.DeleteWorldOptions
@@ -16,6 +17,9 @@ import org.mvplugins.multiverse.core.world.reasons.CloneFailureReason
 import org.mvplugins.multiverse.core.world.reasons.CreateFailureReason
 import org.mvplugins.multiverse.core.world.reasons.LoadFailureReason
 import java.io.File
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicBoolean
+import kotlin.concurrent.thread
 import kotlin.test.*
 
 class WorldManagerTest : TestWithMockBukkit() {
@@ -227,6 +231,35 @@ class WorldManagerTest : TestWithMockBukkit() {
         )
     }
 
+    @Test
+    fun `Async clone reserves the target name and pauses autosave while copying`() {
+        val sourceWorld = world.bukkitWorld.get()
+        assertTrue(sourceWorld.isAutoSave)
+        val done = AtomicBoolean()
+        worldManager.cloneWorldAsync(CloneWorldOptions.fromTo(world, "asyncclone").saveBukkitWorld(false), null)
+            .whenComplete { done.set(true) }
+
+        // The copy only completes on a later tick, so it is still in flight here
+        assertFalse(sourceWorld.isAutoSave)
+        assertEquals(
+            CloneFailureReason.WORLD_EXIST_FOLDER,
+            worldManager.cloneWorld(CloneWorldOptions.fromTo(world, "asyncclone")).failureReason
+        )
+        assertEquals(
+            CreateFailureReason.WORLD_EXIST_FOLDER,
+            worldManager.createWorld(CreateWorldOptions.worldName("asyncclone").doFolderCheck(false)).failureReason
+        )
+
+        val deadline = System.currentTimeMillis() + 5000
+        while (!done.get() && System.currentTimeMillis() < deadline) {
+            server.scheduler.performOneTick()
+            Thread.sleep(10)
+        }
+        assertTrue(done.get())
+        assertTrue(sourceWorld.isAutoSave)
+        assertTrue(worldManager.getLoadedWorld("asyncclone").isDefined)
+    }
+
     @Test
     fun `Get potential worlds`() {
         File(Bukkit.getWorldContainer(), "newworld1").mkdir()
@@ -243,4 +276,137 @@ class WorldManagerTest : TestWithMockBukkit() {
         assertEquals(world, worldManager.getWorldByNameOrAlias("testalias").orNull)
         assertNull(worldManager.getUnloadedWorldByNameOrAlias("testalias").orNull)
     }
+
+    @Test
+    fun `Get world with colliding alias`() {
+        world.setAlias("&aShared")
+        world2.setAlias("shared")
+        assertEquals(world, worldManager.getLoadedWorldByNameOrAlias("SHARED").orNull)
+
+        assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(world)).isSuccess)
+        assertEquals(world2, worldManager.getLoadedWorldByNameOrAlias("shared").orNull)
+        assertEquals("world", worldManager.getUnloadedWorldByNameOrAlias("shared").orNull?.name)
+        assertEquals(emptyList(), worldManager.checkWorldNameIndex())
+    }
+
+    @Test
+    fun `Get world after alias change`() {
+        world.setAlias("oldalias")
+        world.setAlias("newalias")
+        assertNull(worldManager.getWorldByNameOrAlias("oldalias").orNull)
+        assertEquals(world, worldManager.getWorldByNameOrAlias("NewAlias").orNull)
+
+        assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(world)).isSuccess)
+        assertEquals("world", worldManager.getUnloadedWorldByNameOrAlias("newalias").orNull?.name)
+        assertEquals(emptyList(), worldManager.checkWorldNameIndex())
+    }
+
+    @Test
+    fun `Get world by name ignoring case`() {
+        world2.setAlias("somealias")
+        assertEquals(world2, worldManager.getLoadedWorldByNameOrAlias("WORLD2").orNull)
+        assertNull(worldManager.getLoadedWorld("WORLD2").orNull)
+    }
+
+    @Test
+    fun `World name index stays consistent`() {
+        assertEquals(emptyList(), worldManager.checkWorldNameIndex())
+        assertTrue(worldManager.removeWorld(world).isSuccess)
+        assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(world2)).isSuccess)
+        assertEquals(emptyList(), worldManager.checkWorldNameIndex())
+        assertTrue(worldManager.loadWorld("world2").isSuccess)
+        assertEquals(emptyList(), worldManager.checkWorldNameIndex())
+        assertNull(worldManager.getWorldByNameOrAlias("world").orNull)
+    }
+
+    @Test
+    fun `World lists are shared read-only snapshots`() {
+        val worlds = worldManager.worlds
+        assertSame(worlds, worldManager.worlds)
+        assertSame(worldManager.loadedWorlds, worldManager.loadedWorlds)
+        assertFailsWith<UnsupportedOperationException> { (worlds as MutableCollection<MultiverseWorld>).clear() }
+
+        assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(world2)).isSuccess)
+        assertEquals(2, worlds.size)
+        assertEquals(setOf("world", "world2"), worlds.map { it.name }.toSet())
+        assertEquals(listOf("world"), worldManager.loadedWorlds.map { it.name })
+        assertEquals(listOf("world2"), worldManager.unloadedWorlds.map { it.name })
+    }
+
+    @Test
+    fun `Concurrent reads during load and unload cycles`() {
+        world2.setAlias("cycling")
+        val running = AtomicBoolean(true)
+        val errors = ConcurrentLinkedQueue<Throwable>()
+        val readers = (1..4).map {
+            thread(start = true) {
+                try {
+                    while (running.get()) {
+                        val snapshot = worldManager.worlds
+                        assertEquals(2, snapshot.size)
+                        snapshot.forEach { it.name }
+                        worldManager.loadedWorlds.forEach { assertTrue(it.name == "world" || it.name == "world2") }
+                        assertEquals("world2", worldManager.getWorldByNameOrAlias("cycling").orNull?.name)
+                        assertNotNull(worldManager.getWorld("world").orNull)
+                        assertTrue(worldManager.isWorld("world2"))
+                    }
+                } catch (e: Throwable) {
+                    errors.add(e)
+                }
+            }
+        }
+
+        repeat(50) {
+            assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(worldManager.getLoadedWorld("world2").get())).isSuccess)
+            assertTrue(worldManager.loadWorld("world2").isSuccess)
+        }
+        running.set(false)
+        readers.forEach { it.join() }
+
+        assertEquals(emptyList(), errors.toList())
+        assertEquals(emptyList(), worldManager.checkWorldNameIndex())
+    }
+
+    @Test
+    fun `Bukkit world is cached until unload`() {
+        val bukkitWorld = world2.bukkitWorld.get()
+        assertSame(bukkitWorld, world2.bukkitWorld.get())
+        assertSame(Bukkit.getWorld("world2"), bukkitWorld)
+        assertEquals(0, world2.bukkitWorldCacheMisses)
+
+        assertTrue(worldManager.unloadWorld(UnloadWorldOptions.world(world2)).isSuccess)
+        assertFalse(world2.bukkitWorld.isDefined)
+        assertEquals(1, world2.bukkitWorldCacheMisses)
+    }
+
+    @Test
+    fun `Startup with 500 world folders loads every world config`() {
+        val worldCount = 500
+        val worldNames = (0 until worldCount).map { "bench_world_$it" }
+        worldNames.forEach {
+            val folder = File(Bukkit.getWorldContainer(), it)
+            assertTrue(folder.mkdirs())
+            File(folder, "level.dat").writeText("")
+        }
+        assertTrue(worldManager.saveWorldsConfig().isSuccess)
+        val worldsFile = File(multiverseCore.dataFolder, "worlds.yml")
+        worldsFile.appendText(worldNames.joinToString("") { "\n$it:\n  auto-load: false\n  environment: NORMAL\n" })
+
+        val worldNameChecker = serviceLocator.getActiveService(WorldNameChecker::class.java)
+        assertNotNull(worldNameChecker)
+        val sequentialStatuses = worldNames.associateWith { worldNameChecker.checkFolder(it) }
+        val parallelStatuses = worldNameChecker.checkFolders(worldNames)
+        assertEquals(sequentialStatuses, parallelStatuses)
+        assertTrue(parallelStatuses.values.all { it == WorldNameChecker.FolderStatus.VALID })
+
+        assertTrue(worldManager.initAllWorlds().isSuccess)
+
+        assertEquals(worldCount + 2, worldManager.worlds.size)
+        assertEquals(2, worldManager.loadedWorlds.size)
+        worldNames.forEach {
+            assertTrue(worldManager.isWorld(it))
+            assertFalse(worldManager.getWorld(it).get().isAutoLoad)
+        }
+        assertEquals(emptyList(), worldManager.checkWorldNameIndex())
+    }
 }
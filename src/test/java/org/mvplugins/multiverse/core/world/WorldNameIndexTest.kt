@@ -0,0 +1,103 @@
+package org.mvplugins.multiverse.core.world
+
+import kotlin.test.*
+
+class WorldNameIndexTest {
+
+    private lateinit var index: WorldNameIndex
+
+    @BeforeTest
+    fun setUp() {
+        index = WorldNameIndex()
+    }
+
+    @Test
+    fun `Lookup by alias ignores case and colour codes`() {
+        index.add("world", "Fancy World")
+        assertEquals(listOf("world"), index.getNamesByAlias("fancy world").toList())
+        assertEquals(listOf("world"), index.getNamesByAlias("FANCY WORLD").toList())
+        assertEquals(listOf("world"), index.getNamesByAlias("§aFancy §lWorld").toList())
+        assertTrue(index.getNamesByAlias("&aFancy World").isEmpty())
+        assertTrue(index.getNamesByAlias("world").isEmpty())
+        assertTrue(index.getNamesByAlias(null).isEmpty())
+    }
+
+    @Test
+    fun `Literal ampersand in an alias is kept`() {
+        index.add("world", "Rock & Roll")
+        index.add("world2", "&aGreen")
+        assertEquals(listOf("world"), index.getNamesByAlias("rock & roll").toList())
+        assertEquals(listOf("world2"), index.getNamesByAlias("&agreen").toList())
+        assertTrue(index.getNamesByAlias("green").isEmpty())
+    }
+
+    @Test
+    fun `Lookup by name ignores case`() {
+        index.add("World", "World")
+        assertEquals(listOf("World"), index.getNamesIgnoreCase("world").toList())
+        assertEquals(listOf("World"), index.getNamesIgnoreCase("WORLD").toList())
+        assertTrue(index.getNamesIgnoreCase("world2").isEmpty())
+        assertTrue(index.getNamesIgnoreCase(null).isEmpty())
+    }
+
+    @Test
+    fun `Colliding aliases resolve in index order`() {
+        index.add("world", "shared")
+        index.add("world2", "§cShared")
+        index.add("world3", "other")
+        assertEquals(listOf("world", "world2"), index.getNamesByAlias("shared").toList())
+
+        index.remove("world")
+        assertEquals(listOf("world2"), index.getNamesByAlias("shared").toList())
+
+        index.add("world", "shared")
+        assertEquals(listOf("world2", "world"), index.getNamesByAlias("shared").toList())
+    }
+
+    @Test
+    fun `Colliding names resolve in index order`() {
+        index.add("world", "world")
+        index.add("WORLD", "WORLD")
+        assertEquals(listOf("world", "WORLD"), index.getNamesIgnoreCase("World").toList())
+        assertEquals(listOf("world", "WORLD"), index.getNamesByAlias("World").toList())
+
+        index.remove("world")
+        assertEquals(listOf("WORLD"), index.getNamesIgnoreCase("World").toList())
+        assertEquals(listOf("WORLD"), index.getNamesByAlias("World").toList())
+    }
+
+    @Test
+    fun `Alias change moves world to new key`() {
+        index.add("world", "old")
+        index.updateAlias("world", "new")
+        assertTrue(index.getNamesByAlias("old").isEmpty())
+        assertEquals(listOf("world"), index.getNamesByAlias("new").toList())
+        assertEquals(1, index.size())
+    }
+
+    @Test
+    fun `Consistency check reports stale and missing entries`() {
+        index.add("world", "alias")
+        index.add("world2", "world2")
+        assertEquals(emptyList(), index.checkConsistency(mapOf("world" to "alias", "world2" to "world2")))
+
+        val problems = index.checkConsistency(mapOf("world" to "changed", "world3" to "world3"))
+        assertTrue(problems.any { it.contains("'world'") && it.contains("instead of 'changed'") })
+        assertTrue(problems.any { it.contains("'world2' is indexed but no longer exists") })
+        assertTrue(problems.any { it.contains("'world3' is missing from the name index") })
+    }
+
+    @Test
+    fun `Lookup only touches matching bucket with many worlds`() {
+        val worldCount = 50_000
+        for (i in 0 until worldCount) {
+            index.add("world$i", "Alias $i")
+        }
+        assertEquals(worldCount, index.size())
+
+        for (i in 0 until worldCount step 997) {
+            assertEquals(listOf("world$i"), index.getNamesByAlias("alias $i").toList())
+            assertEquals(listOf("world$i"), index.getNamesIgnoreCase("WORLD$i").toList())
+        }
+    }
+}
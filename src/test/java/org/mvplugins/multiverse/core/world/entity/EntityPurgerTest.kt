@@ -0,0 +1,120 @@
+package org.mvplugins.multiverse.core.world.entity
+
+import org.bukkit.Location
+import org.bukkit.World
+import org.bukkit.entity.Entity
+import org.bukkit.entity.EntityType
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.config.CoreConfig
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld
+import org.mvplugins.multiverse.core.world.WorldManager
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import org.mvplugins.multiverse.core.world.reasons.PurgeFailureReason
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.*
+
+class EntityPurgerTest : TestWithMockBukkit() {
+
+    private lateinit var entityPurger: EntityPurger
+    private lateinit var config: CoreConfig
+    private lateinit var world: LoadedMultiverseWorld
+    private lateinit var bukkitWorld: World
+    private lateinit var zombies: List<Entity>
+
+    @BeforeTest
+    fun setUp() {
+        entityPurger = serviceLocator.getActiveService(EntityPurger::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("EntityPurger is not available as a service") }
+        config = serviceLocator.getActiveService(CoreConfig::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("CoreConfig is not available as a service") }
+        val worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("purgeworld")).isSuccess)
+        world = worldManager.getLoadedWorld("purgeworld").get()
+        bukkitWorld = world.bukkitWorld.get()
+
+        // One zombie and one cow in each of 5 chunks
+        zombies = (0 until 5).map { chunkX ->
+            bukkitWorld.getChunkAt(chunkX, 3).load()
+            bukkitWorld.spawnEntity(Location(bukkitWorld, chunkX * 16 + 8.0, 70.0, 56.0), EntityType.COW)
+            bukkitWorld.spawnEntity(Location(bukkitWorld, chunkX * 16 + 8.0, 70.0, 56.0), EntityType.ZOMBIE)
+        }
+    }
+
+    @Test
+    fun `Purge within budget completes in the same tick`() {
+        assertTrue(config.setEntityPurgeTickBudget(1000).isSuccess)
+        val purgeTask = entityPurger.startPurge(world, { it.type == EntityType.ZOMBIE }, null)
+
+        assertTrue(purgeTask.isDone)
+        val result = purgeTask.result.toAttempt()
+        assertTrue(result.isSuccess)
+        assertEquals(5, result.get().entitiesPurged)
+        assertTrue(zombies.none { it.isValid })
+        assertEquals(5, bukkitWorld.entities.count { it.type == EntityType.COW })
+    }
+
+    @Test
+    fun `Purge is spread over ticks when over budget`() {
+        assertTrue(config.setEntityPurgeTickBudget(1).isSuccess)
+        val progress = mutableListOf<EntityPurger.PurgeProgress>()
+        val purgeTask = entityPurger.startPurge(world, { entity ->
+            // Each zombie uses up the whole tick budget
+            if (entity.type == EntityType.ZOMBIE) Thread.sleep(2)
+            entity.type == EntityType.ZOMBIE
+        }, progress::add)
+
+        assertFalse(purgeTask.isDone)
+        assertEquals(1, progress.size)
+        assertEquals(1, progress.last().entitiesPurged)
+
+        var ticks = 0
+        while (!purgeTask.isDone && ticks < 100) {
+            server.scheduler.performOneTick()
+            ticks++
+        }
+
+        assertTrue(purgeTask.isDone)
+        assertTrue(ticks >= 4, "Purge finished in $ticks ticks")
+        val result = purgeTask.result.toAttempt()
+        assertTrue(result.isSuccess)
+        assertEquals(5, result.get().entitiesPurged)
+        assertEquals(progress.last().totalChunks, progress.last().chunksProcessed)
+        assertTrue(progress.zipWithNext().all { (before, after) -> after.chunksProcessed > before.chunksProcessed })
+        assertTrue(zombies.none { it.isValid })
+    }
+
+    @Test
+    fun `Cancelled purge stops before the next tick`() {
+        assertTrue(config.setEntityPurgeTickBudget(1).isSuccess)
+        val purgeTask = entityPurger.startPurge(world, { entity ->
+            if (entity.type == EntityType.ZOMBIE) Thread.sleep(2)
+            entity.type == EntityType.ZOMBIE
+        }, null)
+        assertFalse(purgeTask.isDone)
+
+        assertTrue(entityPurger.cancelPurge(world))
+        server.scheduler.performTicks(10)
+
+        val result = purgeTask.result.toAttempt()
+        assertTrue(result.isFailure)
+        assertEquals(PurgeFailureReason.CANCELLED, result.failureReason)
+        assertEquals(4, zombies.count { it.isValid })
+        assertFalse(entityPurger.cancelPurge(world))
+    }
+
+    @Test
+    fun `Purge all entities keeps players`() {
+        assertTrue(config.setEntityPurgeTickBudget(1000).isSuccess)
+        val player = server.addPlayer()
+        player.teleport(Location(bukkitWorld, 8.0, 70.0, 56.0))
+
+        val result = entityPurger.purgeAllEntitiesIncrementally(world, null).result.toAttempt()
+
+        assertTrue(result.isSuccess)
+        assertTrue(player.isValid)
+        assertTrue(bukkitWorld.entities.none { it.type == EntityType.ZOMBIE || it.type == EntityType.COW })
+    }
+}
@@ -0,0 +1,119 @@
+package org.mvplugins.multiverse.core.world.entity
+
+import org.bukkit.configuration.MemoryConfiguration
+import org.bukkit.entity.EntityType
+import org.bukkit.entity.SpawnCategory
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import java.lang.management.ManagementFactory
+import kotlin.test.BeforeTest
+import kotlin.test.Test
+import kotlin.test.*
+
+class EntitySpawnConfigTest : TestWithMockBukkit() {
+
+    private lateinit var spawnConfig: EntitySpawnConfig
+
+    @BeforeTest
+    fun setUp() {
+        spawnConfig = EntitySpawnConfig.fromSection(MemoryConfiguration())
+    }
+
+    @Test
+    fun `Spawn table matches spawn category rules`() {
+        spawnConfig.getSpawnCategoryConfig(SpawnCategory.MONSTER).setSpawn(false)
+        spawnConfig.getSpawnCategoryConfig(SpawnCategory.MONSTER).setExceptions(listOf(EntityType.ZOMBIE))
+        spawnConfig.getSpawnCategoryConfig(SpawnCategory.ANIMAL).setExceptions(listOf(EntityType.COW, EntityType.PIG))
+        assertMatchesRules()
+
+        assertFalse(spawnConfig.shouldAllowSpawn(SpawnCategory.MONSTER, EntityType.SKELETON))
+        assertTrue(spawnConfig.shouldAllowSpawn(SpawnCategory.MONSTER, EntityType.ZOMBIE))
+        assertFalse(spawnConfig.shouldAllowSpawn(SpawnCategory.ANIMAL, EntityType.COW))
+        assertTrue(spawnConfig.shouldAllowSpawn(SpawnCategory.ANIMAL, EntityType.SHEEP))
+        assertTrue(spawnConfig.shouldAllowSpawn(SpawnCategory.WATER_AMBIENT, EntityType.COD))
+    }
+
+    @Test
+    fun `Spawn table is rebuilt when spawn rules change`() {
+        val monsterConfig = spawnConfig.getSpawnCategoryConfig(SpawnCategory.MONSTER)
+        assertTrue(spawnConfig.shouldAllowSpawn(SpawnCategory.MONSTER, EntityType.CREEPER))
+
+        monsterConfig.setSpawn(false)
+        assertFalse(spawnConfig.shouldAllowSpawn(SpawnCategory.MONSTER, EntityType.CREEPER))
+
+        monsterConfig.setExceptions(listOf(EntityType.CREEPER))
+        assertTrue(spawnConfig.shouldAllowSpawn(SpawnCategory.MONSTER, EntityType.CREEPER))
+
+        monsterConfig.setSpawn(true)
+        assertFalse(spawnConfig.shouldAllowSpawn(SpawnCategory.MONSTER, EntityType.CREEPER))
+        assertMatchesRules()
+    }
+
+    @Test
+    fun `Spawn table loaded from config matches spawn category rules`() {
+        val section = MemoryConfiguration()
+        section.set("monster.spawn", false)
+        section.set("monster.exceptions", listOf("ZOMBIE", "SPIDER"))
+        section.set("animal.exceptions", listOf("CHICKEN"))
+        spawnConfig = EntitySpawnConfig.fromSection(section)
+
+        assertTrue(spawnConfig.shouldAllowSpawn(SpawnCategory.MONSTER, EntityType.SPIDER))
+        assertFalse(spawnConfig.shouldAllowSpawn(SpawnCategory.MONSTER, EntityType.CREEPER))
+        assertFalse(spawnConfig.shouldAllowSpawn(SpawnCategory.ANIMAL, EntityType.CHICKEN))
+        assertMatchesRules()
+    }
+
+    @Test
+    fun `Spawn decisions do not allocate`() {
+        val threadBean = ManagementFactory.getThreadMXBean() as? com.sun.management.ThreadMXBean
+        if (threadBean == null || !threadBean.isThreadAllocatedMemorySupported) {
+            return
+        }
+        threadBean.isThreadAllocatedMemoryEnabled = true
+        spawnConfig.getSpawnCategoryConfig(SpawnCategory.MONSTER).setSpawn(false)
+        val categories = SpawnCategory.values()
+        val types = EntityType.values()
+
+        fun decide(iterations: Int): Int {
+            var allowed = 0
+            for (i in 0 until iterations) {
+                if (spawnConfig.shouldAllowSpawn(categories[i % categories.size], types[i % types.size])) {
+                    allowed++
+                }
+            }
+            return allowed
+        }
+
+        decide(100_000) // warm up
+        val threadId = Thread.currentThread().id
+        val before = threadBean.getThreadAllocatedBytes(threadId)
+        val allowed = decide(1_000_000)
+        val allocated = threadBean.getThreadAllocatedBytes(threadId) - before
+        assertTrue(allowed > 0)
+        assertTrue(allocated < 1024, "Allocated $allocated bytes for 1000000 spawn decisions")
+    }
+
+    @Test
+    fun `Spawn table agrees with list rules for many exceptions`() {
+        val monsterConfig = spawnConfig.getSpawnCategoryConfig(SpawnCategory.MONSTER)
+        monsterConfig.setSpawn(false)
+        val exceptions = EntityType.values().filter { it.ordinal % 3 == 0 }
+        monsterConfig.setExceptions(exceptions)
+        val types = EntityType.values()
+
+        val allowedByTable = types.count { spawnConfig.shouldAllowSpawn(SpawnCategory.MONSTER, it) }
+        val allowedByRules = types.count { monsterConfig.shouldAllowSpawn(it) }
+        assertEquals(exceptions.size, allowedByTable)
+        assertEquals(allowedByRules, allowedByTable)
+        assertMatchesRules()
+    }
+
+    private fun assertMatchesRules() {
+        SpawnCategory.values().forEach { category ->
+            val categoryConfig = spawnConfig.getSpawnCategoryConfig(category)
+            EntityType.values().forEach { type ->
+                assertEquals(categoryConfig.shouldAllowSpawn(type), spawnConfig.shouldAllowSpawn(category, type),
+                    "Spawn decision mismatch for $category $type")
+            }
+        }
+    }
+}
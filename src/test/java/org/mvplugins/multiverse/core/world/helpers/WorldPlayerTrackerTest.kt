@@ -0,0 +1,133 @@
+package org.mvplugins.multiverse.core.world.helpers
+
+import org.bukkit.World
+import org.mockbukkit.mockbukkit.entity.PlayerMock
+import org.mvplugins.multiverse.core.TestWithMockBukkit
+import org.mvplugins.multiverse.core.world.LoadedMultiverseWorld
+import org.mvplugins.multiverse.core.world.WorldManager
+import org.mvplugins.multiverse.core.world.options.CreateWorldOptions
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicBoolean
+import kotlin.concurrent.thread
+import kotlin.test.*
+
+class WorldPlayerTrackerTest : TestWithMockBukkit() {
+
+    private lateinit var tracker: WorldPlayerTracker
+    private lateinit var world1: LoadedMultiverseWorld
+    private lateinit var world2: LoadedMultiverseWorld
+    private lateinit var bukkitWorld1: World
+    private lateinit var bukkitWorld2: World
+
+    @BeforeTest
+    fun setUp() {
+        tracker = serviceLocator.getActiveService(WorldPlayerTracker::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldPlayerTracker is not available as a service") }
+        val worldManager = serviceLocator.getActiveService(WorldManager::class.java).takeIf { it != null } ?: run {
+            throw IllegalStateException("WorldManager is not available as a service") }
+
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world1")).isSuccess)
+        assertTrue(worldManager.createWorld(CreateWorldOptions.worldName("world2")).isSuccess)
+        world1 = worldManager.getLoadedWorld("world1").get()
+        world2 = worldManager.getLoadedWorld("world2").get()
+        bukkitWorld1 = world1.bukkitWorld.get()
+        bukkitWorld2 = world2.bukkitWorld.get()
+    }
+
+    @Test
+    fun `Reconcile picks up online players`() {
+        val players = (0 until 5).map { server.addPlayer() }
+        tracker.reconcile()
+
+        val world = players[0].world
+        assertEquals(5, tracker.getPlayerCount(world))
+        assertEquals(players.toSet(), tracker.getPlayers(world.uid))
+        assertEquals(0, tracker.reconcile())
+    }
+
+    @Test
+    fun `Reconcile moves players tracked in the wrong world`() {
+        val player = server.addPlayer()
+        player.setLocation(bukkitWorld1.spawnLocation)
+        tracker.reconcile()
+        assertEquals(1, world1.playerCount)
+
+        tracker.trackPlayer(player, bukkitWorld2)
+        assertEquals(0, world1.playerCount)
+        assertEquals(1, world2.playerCount)
+
+        assertTrue(tracker.reconcile() > 0)
+        assertEquals(1, world1.playerCount)
+        assertEquals(0, world2.playerCount)
+        assertEquals(setOf(player), world1.onlinePlayers)
+    }
+
+    @Test
+    fun `Reconcile removes players that are no longer online`() {
+        val ghost = PlayerMock(server, "ghost")
+        ghost.setLocation(bukkitWorld1.spawnLocation)
+        tracker.trackPlayer(ghost, bukkitWorld1)
+        assertEquals(1, world1.playerCount)
+
+        assertTrue(tracker.reconcile() > 0)
+        assertEquals(0, world1.playerCount)
+        assertTrue(world1.onlinePlayers.isEmpty())
+    }
+
+    @Test
+    fun `Reconcile adds back untracked players`() {
+        val player = server.addPlayer()
+        player.setLocation(bukkitWorld2.spawnLocation)
+        tracker.reconcile()
+        tracker.untrackPlayer(player)
+        assertEquals(0, world2.playerCount)
+
+        assertEquals(1, tracker.reconcile())
+        assertEquals(1, world2.playerCount)
+    }
+
+    @Test
+    fun `Online players view is read only`() {
+        val player = server.addPlayer()
+        player.setLocation(bukkitWorld1.spawnLocation)
+        tracker.reconcile()
+        assertFailsWith<UnsupportedOperationException> { world1.onlinePlayers.remove(player) }
+    }
+
+    @Test
+    fun `Counts can be read from other threads while players move`() {
+        val players = (0 until 20).map { server.addPlayer() }
+        players.forEach { tracker.trackPlayer(it, bukkitWorld1) }
+
+        val running = AtomicBoolean(true)
+        val started = CountDownLatch(4)
+        val errors = CopyOnWriteArrayList<Throwable>()
+        val readers = (0 until 4).map {
+            thread {
+                started.countDown()
+                try {
+                    while (running.get()) {
+                        val count = world1.playerCount + world2.playerCount
+                        assertTrue(count in 0..players.size, "Unexpected player count $count")
+                        // Iterating must not throw while the sets change
+                        world1.onlinePlayers.forEach { player -> player.name }
+                        world2.onlinePlayers.forEach { player -> player.name }
+                    }
+                } catch (e: Throwable) {
+                    errors.add(e)
+                }
+            }
+        }
+        started.await()
+        repeat(2_000) { i ->
+            players.forEach { tracker.trackPlayer(it, if (i % 2 == 0) bukkitWorld2 else bukkitWorld1) }
+        }
+        running.set(false)
+        readers.forEach { it.join() }
+
+        assertTrue(errors.isEmpty(), "Readers failed: $errors")
+        assertEquals(players.size, world1.playerCount)
+        assertEquals(0, world2.playerCount)
+    }
+}